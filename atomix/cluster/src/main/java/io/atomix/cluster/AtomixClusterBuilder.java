@@ -369,6 +369,22 @@ public class AtomixClusterBuilder implements Builder<AtomixCluster> {
     return this;
   }
 
+  /**
+   * Sets whether messages are striped over the pooled connections to a peer.
+   *
+   * <p>If enabled, every message is sent over the connection with the fewest pending requests,
+   * instead of the connection which is assigned to its type. This spreads a busy message type over
+   * all {@code connectionPoolSize} connections and their event loops, but messages of the same type
+   * may be received out of order.
+   *
+   * @param connectionStriping whether messages are striped over the pooled connections
+   * @return the cluster builder
+   */
+  public AtomixClusterBuilder withConnectionStriping(final boolean connectionStriping) {
+    config.getMessagingConfig().setConnectionStriping(connectionStriping);
+    return this;
+  }
+
   /**
    * Enables multicast communication.
    *
@@ -26,8 +26,14 @@ public class MessagingConfig implements Config {
   private List<String> interfaces = new ArrayList<>();
   private Integer port;
   private int connectionPoolSize = 8;
+  private boolean connectionStriping;
   private Duration connectTimeout = Duration.ofSeconds(10);
   private TlsConfig tlsConfig = new TlsConfig();
+  private Transport transport = Transport.AUTO;
+  private boolean epollEdgeTriggered = true;
+  private int serverEventLoopThreads;
+  private int clientEventLoopThreads;
+  private int flushConsolidationLimit;
 
   /**
    * Returns the local interfaces to which to bind the node.
@@ -89,6 +95,29 @@ public class MessagingConfig implements Config {
     return this;
   }
 
+  /**
+   * Returns whether messages are striped over the pooled connections to a node.
+   *
+   * @return whether messages are striped over the pooled connections
+   */
+  public boolean isConnectionStriping() {
+    return connectionStriping;
+  }
+
+  /**
+   * Sets whether messages are striped over the pooled connections to a node. If enabled, every
+   * message is sent over the connection with the fewest pending requests, instead of the connection
+   * which is assigned to its type, such that a busy message type is spread over all connections.
+   * Messages of the same type may then be received out of order.
+   *
+   * @param connectionStriping whether messages are striped over the pooled connections
+   * @return the messaging configuration
+   */
+  public MessagingConfig setConnectionStriping(final boolean connectionStriping) {
+    this.connectionStriping = connectionStriping;
+    return this;
+  }
+
   /**
    * Returns the Netty connection timeout.
    *
@@ -128,4 +157,127 @@ public class MessagingConfig implements Config {
     this.tlsConfig = tlsConfig;
     return this;
   }
+
+  /**
+   * Returns the Netty transport which is used for the connections.
+   *
+   * @return the Netty transport
+   */
+  public Transport getTransport() {
+    return transport;
+  }
+
+  /**
+   * Sets the Netty transport which is used for the connections.
+   *
+   * @param transport the Netty transport
+   * @return the messaging configuration
+   */
+  public MessagingConfig setTransport(final Transport transport) {
+    this.transport = transport;
+    return this;
+  }
+
+  /**
+   * Returns whether the epoll transport is used in edge-triggered mode, otherwise in
+   * level-triggered mode.
+   *
+   * @return whether the epoll transport is edge-triggered
+   */
+  public boolean isEpollEdgeTriggered() {
+    return epollEdgeTriggered;
+  }
+
+  /**
+   * Sets whether the epoll transport is used in edge-triggered mode, otherwise in level-triggered
+   * mode. It has no effect on the NIO transport.
+   *
+   * @param epollEdgeTriggered whether the epoll transport is edge-triggered
+   * @return the messaging configuration
+   */
+  public MessagingConfig setEpollEdgeTriggered(final boolean epollEdgeTriggered) {
+    this.epollEdgeTriggered = epollEdgeTriggered;
+    return this;
+  }
+
+  /**
+   * Returns the number of server event loop threads, which accept incoming connections. If zero,
+   * Netty's default of twice the number of available processors is used.
+   *
+   * @return the number of server event loop threads
+   */
+  public int getServerEventLoopThreads() {
+    return serverEventLoopThreads;
+  }
+
+  /**
+   * Sets the number of server event loop threads, which accept incoming connections. If zero,
+   * Netty's default of twice the number of available processors is used.
+   *
+   * @param serverEventLoopThreads the number of server event loop threads
+   * @return the messaging configuration
+   */
+  public MessagingConfig setServerEventLoopThreads(final int serverEventLoopThreads) {
+    this.serverEventLoopThreads = serverEventLoopThreads;
+    return this;
+  }
+
+  /**
+   * Returns the number of client event loop threads, which handle the I/O of all incoming and
+   * outgoing connections. If zero, Netty's default of twice the number of available processors is
+   * used.
+   *
+   * @return the number of client event loop threads
+   */
+  public int getClientEventLoopThreads() {
+    return clientEventLoopThreads;
+  }
+
+  /**
+   * Sets the number of client event loop threads, which handle the I/O of all incoming and
+   * outgoing connections. If zero, Netty's default of twice the number of available processors is
+   * used.
+   *
+   * @param clientEventLoopThreads the number of client event loop threads
+   * @return the messaging configuration
+   */
+  public MessagingConfig setClientEventLoopThreads(final int clientEventLoopThreads) {
+    this.clientEventLoopThreads = clientEventLoopThreads;
+    return this;
+  }
+
+  /**
+   * Returns the maximum number of flushes which are consolidated into a single write to the socket
+   * of a connection. If zero, every message is flushed on its own.
+   *
+   * @return the flush consolidation limit
+   */
+  public int getFlushConsolidationLimit() {
+    return flushConsolidationLimit;
+  }
+
+  /**
+   * Sets the maximum number of flushes which are consolidated into a single write to the socket of
+   * a connection. Messages which are sent concurrently are then written with fewer system calls, at
+   * the cost of a slightly delayed flush. If zero, every message is flushed on its own.
+   *
+   * @param flushConsolidationLimit the flush consolidation limit
+   * @return the messaging configuration
+   */
+  public MessagingConfig setFlushConsolidationLimit(final int flushConsolidationLimit) {
+    this.flushConsolidationLimit = flushConsolidationLimit;
+    return this;
+  }
+
+  /** The Netty transport which is used for the connections. */
+  public enum Transport {
+    /** Uses the native epoll transport if it is available, otherwise NIO. */
+    AUTO,
+
+    /** Uses the native epoll transport and fails to start if it is not available. */
+    EPOLL,
+
+    /** Uses the Java NIO transport. */
+    NIO
+  }
 }
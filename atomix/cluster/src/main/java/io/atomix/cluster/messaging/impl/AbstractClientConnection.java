@@ -74,6 +74,16 @@ abstract class AbstractClientConnection implements ClientConnection {
     }
   }
 
+  /**
+   * Returns the number of requests which were sent over this connection and are not yet replied to
+   * or timed out.
+   *
+   * @return the number of pending requests
+   */
+  int getPendingRequests() {
+    return callbacks.size();
+  }
+
   /**
    * Adds a reply time to the history.
    *
@@ -30,6 +30,11 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
   // Effectively MessageToByteEncoder<InternalMessage>,
   // had to specify <Object> to avoid Class Loader not being able to find some classes.
 
+  // type, message id and payload length, where the varints take up to 10 and 5 bytes
+  private static final int MAX_MESSAGE_HEADER_LENGTH = Byte.BYTES + 10 + 5;
+  // the host length or IP address (up to 16 bytes) with its length, plus the port
+  private static final int MAX_ADDRESS_LENGTH = Short.BYTES + 16 + Integer.BYTES;
+
   protected final Address address;
   private final Logger log = LoggerFactory.getLogger(getClass());
   private boolean addressWritten;
@@ -48,14 +53,11 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
   protected abstract void encodeReply(ProtocolReply reply, ByteBuf out);
 
   static void writeString(final ByteBuf buffer, final String value) {
-    final ByteBuf buf = buffer.alloc().buffer(ByteBufUtil.utf8MaxBytes(value));
-    try {
-      final int length = ByteBufUtil.writeUtf8(buf, value);
-      buffer.writeShort(length);
-      buffer.writeBytes(buf);
-    } finally {
-      buf.release();
-    }
+    // the encoded length is only known after encoding, so reserve it and write the value in place
+    final int lengthIndex = buffer.writerIndex();
+    buffer.writeShort(0);
+    final int length = ByteBufUtil.writeUtf8(buffer, value);
+    buffer.setShort(lengthIndex, length);
   }
 
   static void writeInt(final ByteBuf buf, final int value) {
@@ -159,6 +161,30 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
     return msg instanceof ProtocolMessage;
   }
 
+  /**
+   * Allocates the buffer with the size of the encoded message, such that a large payload does not
+   * grow the default sized buffer (which copies everything written so far) while it is written.
+   */
+  @Override
+  protected ByteBuf allocateBuffer(
+      final ChannelHandlerContext context, final Object rawMessage, final boolean preferDirect) {
+    final int capacity = estimateLength((ProtocolMessage) rawMessage);
+    return preferDirect ? context.alloc().ioBuffer(capacity) : context.alloc().heapBuffer(capacity);
+  }
+
+  private int estimateLength(final ProtocolMessage message) {
+    int length = MAX_MESSAGE_HEADER_LENGTH + message.payload().length;
+    if (!addressWritten) {
+      length += MAX_ADDRESS_LENGTH + ByteBufUtil.utf8MaxBytes(address.host());
+    }
+    if (message instanceof ProtocolRequest) {
+      length += Short.BYTES + ByteBufUtil.utf8MaxBytes(((ProtocolRequest) message).subject());
+    } else {
+      length += Byte.BYTES;
+    }
+    return length;
+  }
+
   @Override
   protected void encode(
       final ChannelHandlerContext context, final Object rawMessage, final ByteBuf out) {
@@ -25,20 +25,37 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Internal Netty channel pool. */
+/**
+ * Internal Netty channel pool.
+ *
+ * <p>By default, a message type is always sent over the same channel of the pool, chosen by its
+ * hash. With striping, every message is sent over the channel with the fewest pending requests
+ * instead, such that a single busy message type is spread over all channels and their event loops;
+ * another channel is only connected if all connected channels have pending requests. Messages of
+ * the same type may then be received out of order.
+ */
 class ChannelPool {
   private static final Logger LOGGER = LoggerFactory.getLogger(ChannelPool.class);
 
   private final Function<Address, CompletableFuture<Channel>> factory;
   private final int size;
+  private final boolean striping;
+  private final ToIntFunction<Channel> pendingRequests;
   private final Map<Address, List<CompletableFuture<Channel>>> channels = Maps.newConcurrentMap();
 
-  ChannelPool(final Function<Address, CompletableFuture<Channel>> factory, final int size) {
+  ChannelPool(
+      final Function<Address, CompletableFuture<Channel>> factory,
+      final int size,
+      final boolean striping,
+      final ToIntFunction<Channel> pendingRequests) {
     this.factory = factory;
     this.size = size;
+    this.striping = striping;
+    this.pendingRequests = pendingRequests;
   }
 
   /**
@@ -73,6 +90,44 @@ class ChannelPool {
     return Math.abs(messageType.hashCode() % size);
   }
 
+  /**
+   * Returns the offset of the channel with the fewest pending requests. If all connected channels
+   * have pending requests, the offset of a channel which is not connected yet is returned.
+   *
+   * @param channelPool the channel pool from which to select the channel
+   * @param messageType the message type for which to return the channel offset, if no channel is
+   *     connected
+   * @return the channel offset of the least loaded channel
+   */
+  private int getLeastLoadedChannelOffset(
+      final List<CompletableFuture<Channel>> channelPool, final String messageType) {
+    int leastLoadedOffset = -1;
+    int leastPendingRequests = Integer.MAX_VALUE;
+    int unconnectedOffset = -1;
+
+    for (int offset = 0; offset < size; offset++) {
+      final CompletableFuture<Channel> channelFuture = channelPool.get(offset);
+      if (channelFuture == null || channelFuture.isCompletedExceptionally()) {
+        unconnectedOffset = unconnectedOffset < 0 ? offset : unconnectedOffset;
+      } else if (channelFuture.isDone()) {
+        final int channelPendingRequests = pendingRequests.applyAsInt(channelFuture.join());
+        if (channelPendingRequests < leastPendingRequests) {
+          leastLoadedOffset = offset;
+          leastPendingRequests = channelPendingRequests;
+        }
+      }
+    }
+
+    if (leastLoadedOffset >= 0 && (leastPendingRequests == 0 || unconnectedOffset < 0)) {
+      return leastLoadedOffset;
+    } else if (unconnectedOffset >= 0) {
+      return unconnectedOffset;
+    }
+
+    // all channels are still connecting
+    return getChannelOffset(messageType);
+  }
+
   /**
    * Gets or creates a pooled channel to the given address for the given message type.
    *
@@ -82,7 +137,10 @@ class ChannelPool {
    */
   CompletableFuture<Channel> getChannel(final Address address, final String messageType) {
     final List<CompletableFuture<Channel>> channelPool = getChannelPool(address);
-    final int offset = getChannelOffset(messageType);
+    final int offset =
+        striping
+            ? getLeastLoadedChannelOffset(channelPool, messageType)
+            : getChannelOffset(messageType);
 
     CompletableFuture<Channel> channelFuture = channelPool.get(offset);
     if (channelFuture == null || channelFuture.isCompletedExceptionally()) {
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.prometheus.client.Gauge;
+
+/** Metrics of the connections of the {@link NettyMessagingService}. */
+final class MessagingMetrics {
+
+  private static final Gauge PENDING_REQUESTS =
+      Gauge.build()
+          .namespace("atomix")
+          .name("messaging_pending_requests")
+          .help("Number of requests which are sent over a connection and wait for their reply")
+          .labelNames("address", "connection")
+          .register();
+
+  private final String address;
+  private final String connection;
+  private final Gauge.Child pendingRequests;
+
+  MessagingMetrics(final String address, final String connection) {
+    this.address = address;
+    this.connection = connection;
+    pendingRequests = PENDING_REQUESTS.labels(address, connection);
+  }
+
+  void incrementPendingRequests() {
+    pendingRequests.inc();
+  }
+
+  void decrementPendingRequests() {
+    pendingRequests.dec();
+  }
+
+  /** Removes the metrics of the connection, once it is closed. */
+  void remove() {
+    PENDING_REQUESTS.remove(address, connection);
+  }
+}
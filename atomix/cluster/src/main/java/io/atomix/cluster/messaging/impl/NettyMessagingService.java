@@ -44,13 +44,17 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollMode;
 import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.ssl.ClientAuth;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
@@ -106,6 +110,7 @@ public class NettyMessagingService implements ManagedMessagingService {
   private EventLoopGroup clientGroup;
   private Class<? extends ServerChannel> serverChannelClass;
   private Class<? extends Channel> clientChannelClass;
+  private boolean epollTransport;
   private ScheduledExecutorService timeoutExecutor;
   private Channel serverChannel;
 
@@ -123,7 +128,12 @@ public class NettyMessagingService implements ManagedMessagingService {
     this.returnAddress = address;
     this.config = config;
     this.protocolVersion = protocolVersion;
-    this.channelPool = new ChannelPool(this::openChannel, config.getConnectionPoolSize());
+    this.channelPool =
+        new ChannelPool(
+            this::openChannel,
+            config.getConnectionPoolSize(),
+            config.isConnectionStriping(),
+            this::getPendingRequests);
   }
 
   @Override
@@ -131,6 +141,15 @@ public class NettyMessagingService implements ManagedMessagingService {
     return returnAddress;
   }
 
+  /**
+   * Returns whether messages are striped over the pooled connections to a peer.
+   *
+   * @return whether messages are striped over the pooled connections
+   */
+  public boolean isConnectionStriping() {
+    return config.isConnectionStriping();
+  }
+
   @Override
   public CompletableFuture<Void> sendAsync(
       final Address address, final String type, final byte[] payload, final boolean keepAlive) {
@@ -381,26 +400,45 @@ public class NettyMessagingService implements ManagedMessagingService {
   }
 
   private void initEventLoopGroup() {
+    final MessagingConfig.Transport transport = config.getTransport();
+    final int clientThreads = config.getClientEventLoopThreads();
+    final int serverThreads = config.getServerEventLoopThreads();
+
     // try Epoll first and if that does work, use nio.
-    try {
-      clientGroup =
-          new EpollEventLoopGroup(0, namedThreads("netty-messaging-event-epoll-client-%d", log));
-      serverGroup =
-          new EpollEventLoopGroup(0, namedThreads("netty-messaging-event-epoll-server-%d", log));
-      serverChannelClass = EpollServerSocketChannel.class;
-      clientChannelClass = EpollSocketChannel.class;
-      return;
-    } catch (final Throwable e) {
+    if (transport != MessagingConfig.Transport.NIO) {
+      if (Epoll.isAvailable()) {
+        clientGroup =
+            new EpollEventLoopGroup(
+                clientThreads, namedThreads("netty-messaging-event-epoll-client-%d", log));
+        serverGroup =
+            new EpollEventLoopGroup(
+                serverThreads, namedThreads("netty-messaging-event-epoll-server-%d", log));
+        serverChannelClass = EpollServerSocketChannel.class;
+        clientChannelClass = EpollSocketChannel.class;
+        epollTransport = true;
+        return;
+      } else if (transport == MessagingConfig.Transport.EPOLL) {
+        throw new IllegalStateException(
+            "Failed to initialize native (epoll) transport", Epoll.unavailabilityCause());
+      }
+
       log.debug(
           "Failed to initialize native (epoll) transport. " + "Reason: {}. Proceeding with nio.",
-          e.getMessage());
+          Epoll.unavailabilityCause().getMessage());
     }
     clientGroup =
-        new NioEventLoopGroup(0, namedThreads("netty-messaging-event-nio-client-%d", log));
+        new NioEventLoopGroup(
+            clientThreads, namedThreads("netty-messaging-event-nio-client-%d", log));
     serverGroup =
-        new NioEventLoopGroup(0, namedThreads("netty-messaging-event-nio-server-%d", log));
+        new NioEventLoopGroup(
+            serverThreads, namedThreads("netty-messaging-event-nio-server-%d", log));
     serverChannelClass = NioServerSocketChannel.class;
     clientChannelClass = NioSocketChannel.class;
+    epollTransport = false;
+  }
+
+  private EpollMode epollMode() {
+    return config.isEpollEdgeTriggered() ? EpollMode.EDGE_TRIGGERED : EpollMode.LEVEL_TRIGGERED;
   }
 
   /**
@@ -537,6 +575,11 @@ public class NettyMessagingService implements ManagedMessagingService {
     return future;
   }
 
+  private int getPendingRequests(final Channel channel) {
+    final RemoteClientConnection connection = connections.get(channel);
+    return connection != null ? connection.getPendingRequests() : 0;
+  }
+
   private RemoteClientConnection getOrCreateClientConnection(final Channel channel) {
     RemoteClientConnection connection = connections.get(channel);
     if (connection == null) {
@@ -593,6 +636,9 @@ public class NettyMessagingService implements ManagedMessagingService {
     bootstrap.option(ChannelOption.SO_KEEPALIVE, true);
     bootstrap.option(ChannelOption.TCP_NODELAY, true);
     bootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 1000);
+    if (epollTransport) {
+      bootstrap.option(EpollChannelOption.EPOLL_MODE, epollMode());
+    }
     bootstrap.group(clientGroup);
     // TODO: Make this faster:
     // http://normanmaurer.me/presentations/2014-facebook-eng-netty/slides.html#37.0
@@ -634,6 +680,10 @@ public class NettyMessagingService implements ManagedMessagingService {
     b.childOption(ChannelOption.SO_KEEPALIVE, true);
     b.childOption(ChannelOption.TCP_NODELAY, true);
     b.childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+    if (epollTransport) {
+      b.option(EpollChannelOption.EPOLL_MODE, epollMode());
+      b.childOption(EpollChannelOption.EPOLL_MODE, epollMode());
+    }
     b.group(serverGroup, clientGroup);
     b.channel(serverChannelClass);
     if (enableNettyTls) {
@@ -821,6 +871,13 @@ public class NettyMessagingService implements ManagedMessagingService {
         final ProtocolVersion protocolVersion) {
       final MessagingProtocol protocol = protocolVersion.createProtocol(returnAddress);
       context.pipeline().remove(this);
+      if (config.getFlushConsolidationLimit() > 0) {
+        // consolidates the flushes of messages which are written while the previous are flushed
+        context
+            .pipeline()
+            .addLast(
+                "flush", new FlushConsolidationHandler(config.getFlushConsolidationLimit(), true));
+      }
       context.pipeline().addLast("encoder", protocol.newEncoder());
       context.pipeline().addLast("decoder", protocol.newDecoder());
       context.pipeline().addLast("handler", new MessageDispatcher<>(connection));
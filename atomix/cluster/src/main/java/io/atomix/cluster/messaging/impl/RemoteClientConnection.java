@@ -24,10 +24,13 @@ import java.util.concurrent.ScheduledExecutorService;
 /** Client-side Netty remote connection. */
 final class RemoteClientConnection extends AbstractClientConnection {
   private final Channel channel;
+  private final MessagingMetrics metrics;
 
   RemoteClientConnection(final ScheduledExecutorService executorService, final Channel channel) {
     super(executorService);
     this.channel = channel;
+    this.metrics =
+        new MessagingMetrics(String.valueOf(channel.remoteAddress()), channel.id().asShortText());
   }
 
   @Override
@@ -51,6 +54,8 @@ final class RemoteClientConnection extends AbstractClientConnection {
       final ProtocolRequest message, final Duration timeout) {
     final CompletableFuture<byte[]> future = new CompletableFuture<>();
     final Callback callback = new Callback(message.id(), message.subject(), timeout, future);
+    metrics.incrementPendingRequests();
+    future.whenComplete((reply, error) -> metrics.decrementPendingRequests());
     channel
         .writeAndFlush(message)
         .addListener(
@@ -61,4 +66,10 @@ final class RemoteClientConnection extends AbstractClientConnection {
             });
     return future;
   }
+
+  @Override
+  public void close() {
+    super.close();
+    metrics.remove();
+  }
 }
@@ -32,6 +32,7 @@ public final class RaftMemberContext {
 
   private static final int MAX_APPENDS = 2;
   private static final int APPEND_WINDOW_SIZE = 8;
+  private static final int MAX_INSTALLS = 4;
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private long term;
@@ -46,7 +47,8 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int installing;
+  private boolean installingExclusively;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -66,7 +68,8 @@ public final class RaftMemberContext {
     appending = 0;
     timeStats.clear();
     configuring = false;
-    installing = false;
+    installing = 0;
+    installingExclusively = false;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -172,17 +175,34 @@ public final class RaftMemberContext {
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return !installing;
+    return installing == 0 || (!installingExclusively && installing < MAX_INSTALLS);
   }
 
-  /** Starts an install request to the member. */
-  public void startInstall() {
-    installing = true;
+  /**
+   * Returns whether any install request to the member is not completed yet.
+   *
+   * @return Indicates whether an install request is outstanding.
+   */
+  public boolean isInstalling() {
+    return installing > 0;
+  }
+
+  /**
+   * Starts an install request to the member.
+   *
+   * @param exclusive Whether no other install request can be sent until this one is completed.
+   */
+  public void startInstall(final boolean exclusive) {
+    installing++;
+    installingExclusively = exclusive;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    installing--;
+    if (installing == 0) {
+      installingExclusively = false;
+    }
   }
 
   /**
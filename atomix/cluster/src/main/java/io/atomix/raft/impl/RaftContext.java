@@ -33,6 +33,7 @@ import io.atomix.raft.RaftStateMachineFactory;
 import io.atomix.raft.cluster.RaftMember;
 import io.atomix.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.raft.cluster.impl.RaftClusterContext;
+import io.atomix.raft.metrics.RaftLogFlushMetrics;
 import io.atomix.raft.metrics.RaftRoleMetrics;
 import io.atomix.raft.protocol.RaftResponse;
 import io.atomix.raft.protocol.RaftServerProtocol;
@@ -48,6 +49,7 @@ import io.atomix.raft.roles.RaftRole;
 import io.atomix.raft.snapshot.PersistedSnapshotStore;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.atomix.raft.storage.log.RaftLogWriter;
 import io.atomix.raft.storage.log.entry.RaftLogEntry;
@@ -96,11 +98,13 @@ public class RaftContext implements AutoCloseable {
   private final RaftLog raftLog;
   private final RaftLogWriter logWriter;
   private final RaftLogReader logReader;
+  private final RaftLogFlusher logFlusher;
   private final PersistedSnapshotStore persistedSnapshotStore;
   private final RaftStateMachine stateMachine;
   private final ThreadContextFactory threadContextFactory;
   private final ThreadContext loadContext;
   private final ThreadContext stateContext;
+  private final ThreadContext snapshotContext;
   private final boolean closeOnStop;
   private volatile State state = State.ACTIVE;
   private RaftRole role = new InactiveRole(this);
@@ -144,6 +148,8 @@ public class RaftContext implements AutoCloseable {
         new SingleThreadContext(namedThreads(baseThreadName, log), this::onUncaughtException);
     this.loadContext = new SingleThreadContext(namedThreads(baseThreadName + "-load", log));
     this.stateContext = new SingleThreadContext(namedThreads(baseThreadName + "-state", log));
+    this.snapshotContext =
+        new SingleThreadContext(namedThreads(baseThreadName + "-snapshot", log));
 
     this.threadContextFactory =
         checkNotNull(threadContextFactory, "threadContextFactory cannot be null");
@@ -160,6 +166,13 @@ public class RaftContext implements AutoCloseable {
     this.raftLog = storage.openLog();
     this.logWriter = raftLog.writer();
     this.logReader = raftLog.openReader(1, RaftLogReader.Mode.ALL);
+    this.logFlusher =
+        new RaftLogFlusher(
+            logWriter,
+            threadContext,
+            storage.groupCommitWindow(),
+            storage.groupCommitMaxBytes(),
+            new RaftLogFlushMetrics(name));
 
     // Open the snapshot store.
     this.persistedSnapshotStore = storage.getPersistedSnapshotStore();
@@ -601,6 +614,7 @@ public class RaftContext implements AutoCloseable {
 
     // Close the log.
     try {
+      logFlusher.close();
       raftLog.close();
     } catch (final Exception e) {
       log.error("Failed to close raft log", e);
@@ -623,6 +637,7 @@ public class RaftContext implements AutoCloseable {
     // close thread contexts
     threadContext.close();
     loadContext.close();
+    snapshotContext.close();
 
     // Only close the thread context factory if indicated.
     if (closeOnStop) {
@@ -803,6 +818,16 @@ public class RaftContext implements AutoCloseable {
     return logWriter;
   }
 
+  /**
+   * Returns the server log flusher, which flushes appended entries in groups if group commit is
+   * enabled.
+   *
+   * @return The log flusher.
+   */
+  public RaftLogFlusher getLogFlusher() {
+    return logFlusher;
+  }
+
   /**
    * Returns the cluster service.
    *
@@ -931,6 +956,16 @@ public class RaftContext implements AutoCloseable {
     return threadContext;
   }
 
+  /**
+   * Returns the context on which received snapshot chunks are verified and written, such that the
+   * execution context is not blocked by the snapshot I/O.
+   *
+   * @return The snapshot context.
+   */
+  public ThreadContext getSnapshotContext() {
+    return snapshotContext;
+  }
+
   /**
    * Returns a boolean indicating whether this server is the current leader.
    *
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.metrics;
+
+import io.prometheus.client.Histogram;
+
+public class RaftLogFlushMetrics extends RaftMetrics {
+
+  private static final Histogram FLUSH_LATENCY =
+      Histogram.build()
+          .namespace("atomix")
+          .name("log_flush_latency")
+          .help("Latency to flush a group of appended entries to disk")
+          .labelNames("partitionGroupName", "partition")
+          .exponentialBuckets(0.0001, 2, 16)
+          .register();
+
+  private static final Histogram FLUSH_BATCH_SIZE =
+      Histogram.build()
+          .namespace("atomix")
+          .name("log_flush_batch_size")
+          .help("Number of appended entries which are flushed to disk together")
+          .labelNames("partitionGroupName", "partition")
+          .buckets(1, 2, 5, 10, 20, 50, 100, 200, 500, 1000)
+          .register();
+
+  public RaftLogFlushMetrics(final String partitionName) {
+    super(partitionName);
+  }
+
+  public void observeFlush(final long latencyNanos, final int batchSize) {
+    FLUSH_LATENCY.labels(partitionGroupName, partition).observe(latencyNanos / 1_000_000_000d);
+    FLUSH_BATCH_SIZE.labels(partitionGroupName, partition).observe(batchSize);
+  }
+}
@@ -15,12 +15,14 @@
  */
 package io.atomix.raft.metrics;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 
 public class SnapshotReplicationMetrics extends RaftMetrics {
   private static final String NAMESPACE = "atomix";
   private static final String PARTITION_GROUP_NAME_LABEL = "partitionGroupName";
   private static final String PARTITION_LABEL = "partition";
+  private static final String FOLLOWER_LABEL = "follower";
 
   private static final Gauge COUNT =
       Gauge.build()
@@ -36,6 +38,13 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
           .help("Approximate duration of replication in milliseconds")
           .name("snapshot_replication_duration_milliseconds")
           .register();
+  private static final Counter SENT_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Bytes of snapshot chunks acknowledged by a follower")
+          .name("snapshot_replication_sent_bytes")
+          .register();
 
   public SnapshotReplicationMetrics(final String partitionName) {
     super(partitionName);
@@ -56,4 +65,8 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
   public void observeDuration(final long durationMillis) {
     DURATION.labels(partitionGroupName, partition).set(durationMillis);
   }
+
+  public void observeSentBytes(final String memberId, final long bytes) {
+    SENT_BYTES.labels(memberId, partitionGroupName, partition).inc(bytes);
+  }
 }
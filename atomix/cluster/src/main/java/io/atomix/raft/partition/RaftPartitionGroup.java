@@ -35,6 +35,7 @@ import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.raft.RaftStateMachineFactory;
 import io.atomix.raft.snapshot.PersistedSnapshotStoreFactory;
 import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.ChecksumType;
 import io.atomix.utils.concurrent.BlockingAwareThreadPoolContextFactory;
 import io.atomix.utils.concurrent.Futures;
 import io.atomix.utils.concurrent.ThreadContextFactory;
@@ -283,6 +284,7 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
           .register(RaftStorageConfig.class)
           .register(RaftCompactionConfig.class)
           .register(StorageLevel.class)
+          .register(ChecksumType.class)
           .build();
     }
 
@@ -460,6 +462,40 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets the group commit window, within which appended entries are flushed together instead of
+     * flushing on every commit. A window of zero disables group commit.
+     *
+     * @param groupCommitWindow the group commit window
+     * @return the Raft partition group builder
+     */
+    public Builder withGroupCommitWindow(final Duration groupCommitWindow) {
+      config.getStorageConfig().setGroupCommitWindow(groupCommitWindow);
+      return this;
+    }
+
+    /**
+     * Sets the type of the checksum of the entries of new log segments.
+     *
+     * @param checksumType the checksum type of new log segments
+     * @return the Raft partition group builder
+     */
+    public Builder withChecksumType(final ChecksumType checksumType) {
+      config.getStorageConfig().setChecksumType(checksumType);
+      return this;
+    }
+
+    /**
+     * Sets the maximum size of the entries which are flushed together.
+     *
+     * @param groupCommitMaxSize the maximum size of a group commit
+     * @return the Raft partition group builder
+     */
+    public Builder withGroupCommitMaxSize(final MemorySize groupCommitMaxSize) {
+      config.getStorageConfig().setGroupCommitMaxSize(groupCommitMaxSize);
+      return this;
+    }
+
     /**
      * Sets the Raft state machine factory to use.
      *
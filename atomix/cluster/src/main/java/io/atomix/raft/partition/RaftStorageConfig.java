@@ -22,7 +22,9 @@ import com.esotericsoftware.kryo.serializers.FieldSerializer.Optional;
 import io.atomix.raft.snapshot.PersistedSnapshotStoreFactory;
 import io.atomix.raft.snapshot.impl.FileBasedSnapshotStoreFactory;
 import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.ChecksumType;
 import io.atomix.utils.memory.MemorySize;
+import java.time.Duration;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -32,6 +34,9 @@ public class RaftStorageConfig {
   private static final int DEFAULT_MAX_SEGMENT_SIZE = 1024 * 1024 * 32;
   private static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
   private static final boolean DEFAULT_FLUSH_ON_COMMIT = false;
+  private static final long DEFAULT_GROUP_COMMIT_WINDOW = 0;
+  private static final long DEFAULT_GROUP_COMMIT_MAX_SIZE = 1024 * 1024 * 4;
+  private static final ChecksumType DEFAULT_CHECKSUM_TYPE = ChecksumType.CRC32;
   private static final PersistedSnapshotStoreFactory DEFAULT_SNAPSHOT_STORE_FACTORY =
       new FileBasedSnapshotStoreFactory();
 
@@ -40,6 +45,9 @@ public class RaftStorageConfig {
   private int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+  private long groupCommitWindow = DEFAULT_GROUP_COMMIT_WINDOW;
+  private long groupCommitMaxSize = DEFAULT_GROUP_COMMIT_MAX_SIZE;
+  private ChecksumType checksumType = DEFAULT_CHECKSUM_TYPE;
 
   @Optional("SnapshotStoreFactory")
   private PersistedSnapshotStoreFactory persistedSnapshotStoreFactory =
@@ -137,6 +145,69 @@ public class RaftStorageConfig {
     return this;
   }
 
+  /**
+   * Returns the group commit window, within which appended entries are flushed together.
+   *
+   * @return the group commit window, zero if group commit is disabled
+   */
+  public Duration getGroupCommitWindow() {
+    return Duration.ofMillis(groupCommitWindow);
+  }
+
+  /**
+   * Sets the group commit window, within which appended entries are flushed together instead of
+   * flushing on every commit. A window of zero disables group commit.
+   *
+   * @param groupCommitWindow the group commit window, in millisecond precision
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setGroupCommitWindow(final Duration groupCommitWindow) {
+    this.groupCommitWindow = groupCommitWindow.toMillis();
+    return this;
+  }
+
+  /**
+   * Returns the maximum size of the entries which are flushed together.
+   *
+   * @return the maximum size of a group commit
+   */
+  public MemorySize getGroupCommitMaxSize() {
+    return MemorySize.from(groupCommitMaxSize);
+  }
+
+  /**
+   * Sets the maximum size of the entries which are flushed together; once it is exceeded, the log
+   * is flushed before the group commit window elapses.
+   *
+   * @param groupCommitMaxSize the maximum size of a group commit
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setGroupCommitMaxSize(final MemorySize groupCommitMaxSize) {
+    this.groupCommitMaxSize = groupCommitMaxSize.bytes();
+    return this;
+  }
+
+  /**
+   * Returns the type of the checksum of the entries of new log segments.
+   *
+   * @return the checksum type of new log segments
+   */
+  public ChecksumType getChecksumType() {
+    return checksumType;
+  }
+
+  /**
+   * Sets the type of the checksum of the entries of new log segments. Existing segments are read
+   * with the checksum type they were written with.
+   *
+   * @param checksumType the checksum type of new log segments
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setChecksumType(final ChecksumType checksumType) {
+    this.checksumType = checkNotNull(checksumType, "checksumType cannot be null");
+    return this;
+  }
+
   /**
    * Sets the partition data directory.
    *
@@ -300,6 +300,9 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
         .withMaxSegmentSize((int) storageConfig.getSegmentSize().bytes())
         .withMaxEntrySize((int) storageConfig.getMaxEntrySize().bytes())
         .withFlushOnCommit(storageConfig.isFlushOnCommit())
+        .withGroupCommitWindow(storageConfig.getGroupCommitWindow())
+        .withGroupCommitMaxBytes((int) storageConfig.getGroupCommitMaxSize().bytes())
+        .withChecksumType(storageConfig.getChecksumType())
         .withDynamicCompaction(compactionConfig.isDynamic())
         .withFreeDiskBuffer(compactionConfig.getFreeDiskBuffer())
         .withFreeMemoryBuffer(compactionConfig.getFreeMemoryBuffer())
@@ -16,19 +16,32 @@
  */
 package io.atomix.raft.protocol;
 
+import static com.google.common.base.MoreObjects.toStringHelper;
+
 import io.atomix.raft.RaftError;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Besides indicating whether or not the request was successful, the response can
+ * provide the {@link #nextChunkId()} to continue with, if the receiver does not need the chunks in
+ * between (e.g. because it already has the rest of a file).
  */
 public class InstallResponse extends AbstractRaftResponse {
 
+  private final ByteBuffer nextChunkId;
+
   public InstallResponse(final Status status, final RaftError error) {
+    this(status, error, null);
+  }
+
+  public InstallResponse(
+      final Status status, final RaftError error, final ByteBuffer nextChunkId) {
     super(status, error);
+    this.nextChunkId = nextChunkId;
   }
 
   /**
@@ -40,13 +53,65 @@ public class InstallResponse extends AbstractRaftResponse {
     return new Builder();
   }
 
+  /**
+   * Returns the ID of the next chunk which should be sent, if it differs from the next chunk of the
+   * request.
+   *
+   * @return The ID of the next chunk to send, or {@code null} to continue with the next chunk of
+   *     the request.
+   */
+  public ByteBuffer nextChunkId() {
+    return nextChunkId;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), status, nextChunkId);
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (object instanceof InstallResponse) {
+      final InstallResponse response = (InstallResponse) object;
+      return response.status == status
+          && Objects.equals(response.error, error)
+          && Objects.equals(response.nextChunkId, nextChunkId);
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    if (status == Status.OK) {
+      return toStringHelper(this)
+          .add("status", status)
+          .add("nextChunkId", nextChunkId)
+          .toString();
+    } else {
+      return toStringHelper(this).add("status", status).add("error", error).toString();
+    }
+  }
+
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
 
+    private ByteBuffer nextChunkId;
+
+    /**
+     * Sets the ID of the next chunk which should be sent.
+     *
+     * @param nextChunkId The ID of the next chunk, or {@code null} to continue as requested.
+     * @return The install response builder.
+     */
+    public Builder withNextChunkId(final ByteBuffer nextChunkId) {
+      this.nextChunkId = nextChunkId;
+      return this;
+    }
+
     @Override
     public InstallResponse build() {
       validate();
-      return new InstallResponse(status, error);
+      return new InstallResponse(status, error, nextChunkId);
     }
   }
 }
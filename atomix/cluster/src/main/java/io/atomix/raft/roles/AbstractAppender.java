@@ -23,6 +23,7 @@ import io.atomix.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.raft.cluster.impl.RaftMemberContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.LeaderMetrics;
+import io.atomix.raft.metrics.SnapshotReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
 import io.atomix.raft.protocol.ConfigureRequest;
@@ -55,6 +56,7 @@ abstract class AbstractAppender implements AutoCloseable {
   protected boolean open = true;
 
   private final LeaderMetrics metrics;
+  private final SnapshotReplicationMetrics snapshotReplicationMetrics;
 
   AbstractAppender(final RaftContext raft) {
     this.raft = checkNotNull(raft, "context cannot be null");
@@ -62,6 +64,7 @@ abstract class AbstractAppender implements AutoCloseable {
         ContextualLoggerFactory.getLogger(
             getClass(), LoggerContext.builder(RaftServer.class).addValue(raft.getName()).build());
     this.metrics = new LeaderMetrics(raft.getName());
+    this.snapshotReplicationMetrics = new SnapshotReplicationMetrics(raft.getName());
   }
 
   /**
@@ -450,49 +453,74 @@ abstract class AbstractAppender implements AutoCloseable {
     // This prevents infinite loops when cluster configurations fail.
   }
 
-  /** Builds an install request for the given member. */
-  protected InstallRequest buildInstallRequest(
+  /**
+   * Sends the next chunks of the snapshot to the member, as many as the member's install window
+   * allows. The first and the last chunk, as well as the first chunk of a file which spans several
+   * chunks, are sent exclusively: the member creates the pending snapshot on the first chunk,
+   * persists it on the last one, and may skip the rest of a file it already has.
+   */
+  protected void sendInstallRequests(
       final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunk(null);
     }
 
-    final InstallRequest request;
     // Open a new snapshot reader.
     try (final SnapshotChunkReader reader = persistedSnapshot.newChunkReader()) {
       reader.seek(member.getNextSnapshotChunk());
-      final SnapshotChunk chunk = reader.next();
-
-      // Create the install request, indicating whether this is the last chunk of data based on
-      // the number
-      // of bytes remaining in the buffer.
-      final DefaultRaftMember leader = raft.getLeader();
-      request =
-          InstallRequest.builder()
-              .withCurrentTerm(raft.getTerm())
-              .withLeader(leader.memberId())
-              .withIndex(persistedSnapshot.getIndex())
-              .withTerm(persistedSnapshot.getTerm())
-              .withTimestamp(persistedSnapshot.getTimestamp().unixTimestamp())
-              .withVersion(persistedSnapshot.version())
-              .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
-              .withChunkId(ByteBuffer.wrap(chunk.getChunkName().getBytes()))
-              .withInitial(member.getNextSnapshotChunk() == null)
-              .withComplete(!reader.hasNext())
-              .withNextChunkId(reader.nextId())
-              .build();
-    } catch (final Exception e) {
-      throw new RuntimeException(e);
+      while (member.canInstall() && reader.hasNext()) {
+        final boolean initial = member.getNextSnapshotChunk() == null;
+        final ByteBuffer chunkId = reader.nextId();
+        final SnapshotChunk chunk = reader.next();
+        final boolean complete = !reader.hasNext();
+        final boolean exclusive = initial || complete || isFirstOfSeveralChunks(chunk);
+        if (exclusive && member.isInstalling()) {
+          return;
+        }
+
+        final InstallRequest request =
+            buildInstallRequest(persistedSnapshot, chunkId, chunk, initial, complete, reader);
+        member.setNextSnapshotChunk(reader.nextId());
+        sendInstallRequest(member, request, exclusive);
+      }
     }
+  }
 
-    return request;
+  private static boolean isFirstOfSeveralChunks(final SnapshotChunk chunk) {
+    return chunk.getFileBlockPosition() == 0
+        && chunk.getTotalFileSize() > chunk.getContent().length;
+  }
+
+  /** Builds an install request for the given chunk. */
+  protected InstallRequest buildInstallRequest(
+      final PersistedSnapshot persistedSnapshot,
+      final ByteBuffer chunkId,
+      final SnapshotChunk chunk,
+      final boolean initial,
+      final boolean complete,
+      final SnapshotChunkReader reader) {
+    final DefaultRaftMember leader = raft.getLeader();
+    return InstallRequest.builder()
+        .withCurrentTerm(raft.getTerm())
+        .withLeader(leader.memberId())
+        .withIndex(persistedSnapshot.getIndex())
+        .withTerm(persistedSnapshot.getTerm())
+        .withTimestamp(persistedSnapshot.getTimestamp().unixTimestamp())
+        .withVersion(persistedSnapshot.version())
+        .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
+        .withChunkId(chunkId)
+        .withInitial(initial)
+        .withComplete(complete)
+        .withNextChunkId(reader.nextId())
+        .build();
   }
 
   /** Connects to the member and sends a snapshot request. */
-  protected void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
+  protected void sendInstallRequest(
+      final RaftMemberContext member, final InstallRequest request, final boolean exclusive) {
     // Start the install to the member.
-    member.startInstall();
+    member.startInstall(exclusive);
 
     final long timestamp = System.currentTimeMillis();
 
@@ -551,6 +579,9 @@ abstract class AbstractAppender implements AutoCloseable {
     // Reset the member failure count and update the member's status if necessary.
     succeedAttempt(member);
 
+    snapshotReplicationMetrics.observeSentBytes(
+        member.getMember().memberId().id(), request.data().remaining());
+
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
@@ -559,9 +590,11 @@ abstract class AbstractAppender implements AutoCloseable {
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
-    // If more install requests remain, increment the member's snapshot offset.
-    else {
-      member.setNextSnapshotChunk(request.nextChunkId());
+    // The member can skip chunks which it doesn't need. The next snapshot chunk was already
+    // advanced when the request was sent, and since such a request is sent exclusively, no later
+    // chunk was sent in the meantime.
+    else if (response.nextChunkId() != null && member.getNextSnapshotIndex() == request.index()) {
+      member.setNextSnapshotChunk(response.nextChunkId());
     }
 
     // Recursively append entries to the member.
@@ -51,6 +51,7 @@ final class LeaderAppender extends AbstractAppender {
   private final Map<Long, CompletableFuture<Long>> appendFutures = new HashMap<>();
   private final List<TimestampedFuture<Long>> heartbeatFutures = new ArrayList<>();
   private final long heartbeatTime;
+  private boolean awaitingFlush;
 
   LeaderAppender(final LeaderRole leader) {
     super(leader.raft);
@@ -82,11 +83,19 @@ final class LeaderAppender extends AbstractAppender {
     // If there are no other active members in the cluster, update the commit index and complete the
     // commit.
     // The updated commit index will be sent to passive/reserve members on heartbeats.
+    // With group commit, the index can only be committed once the leader has flushed it.
     if (raft.getCluster().getActiveMemberStates().isEmpty()) {
-      final long previousCommitIndex = raft.getCommitIndex();
-      raft.setCommitIndex(index);
-      completeCommits(previousCommitIndex, index);
-      return CompletableFuture.completedFuture(index);
+      return raft.getLogFlusher()
+          .awaitFlush(index)
+          .thenApply(
+              flushed -> {
+                final long previousCommitIndex = raft.getCommitIndex();
+                if (index > previousCommitIndex) {
+                  raft.setCommitIndex(index);
+                  completeCommits(previousCommitIndex, index);
+                }
+                return index;
+              });
     }
 
     // Only send entry-specific AppendRequests to active members of the cluster.
@@ -299,7 +308,7 @@ final class LeaderAppender extends AbstractAppender {
           "Replicating snapshot {} to {}",
           persistedSnapshot.getIndex(),
           member.getMember().memberId());
-      sendInstallRequest(member, buildInstallRequest(member, persistedSnapshot));
+      sendInstallRequests(member, persistedSnapshot);
     } else if (member.canAppend()) {
       sendAppendRequest(member, buildAppendRequest(member, -1));
     }
@@ -472,7 +481,7 @@ final class LeaderAppender extends AbstractAppender {
     // request/response)
     // ensure all commit futures are completed and cleared.
     if (members.isEmpty()) {
-      final long commitIndex = raft.getLogWriter().getLastIndex();
+      final long commitIndex = raft.getLogFlusher().getFlushedIndex();
       final long previousCommitIndex = raft.setCommitIndex(commitIndex);
       if (commitIndex > previousCommitIndex) {
         log.trace("Committed entries up to {}", commitIndex);
@@ -481,8 +490,13 @@ final class LeaderAppender extends AbstractAppender {
       return;
     }
 
-    // Calculate the current commit index as the median matchIndex.
-    final long commitIndex = members.get(getQuorumIndex()).getMatchIndex();
+    // Calculate the current commit index as the median matchIndex. The leader counts itself only
+    // for the entries it has flushed, which with group commit may lag behind its last entry.
+    final long quorumMatchIndex = members.get(getQuorumIndex()).getMatchIndex();
+    final long commitIndex = Math.min(quorumMatchIndex, raft.getLogFlusher().getFlushedIndex());
+    if (commitIndex < quorumMatchIndex) {
+      commitEntriesOnFlush(quorumMatchIndex);
+    }
 
     // If the commit index has increased then update the commit index. Note that in order to ensure
     // the leader completeness property holds, we verify that the commit index is greater than or
@@ -498,6 +512,27 @@ final class LeaderAppender extends AbstractAppender {
     }
   }
 
+  /**
+   * Commits the entries again once the leader has flushed up to the given index, in case the
+   * followers acknowledged them before. Otherwise, the commit would wait for the next response.
+   */
+  private void commitEntriesOnFlush(final long index) {
+    if (awaitingFlush) {
+      return;
+    }
+
+    awaitingFlush = true;
+    raft.getLogFlusher()
+        .awaitFlush(index)
+        .whenComplete(
+            (flushed, error) -> {
+              awaitingFlush = false;
+              if (open && error == null) {
+                commitEntries();
+              }
+            });
+  }
+
   private long computeResponseTime() {
     final int quorumIndex = getQuorumIndex();
     if (quorumIndex >= 0) {
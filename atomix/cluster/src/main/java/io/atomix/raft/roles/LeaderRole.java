@@ -43,6 +43,7 @@ import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
 import io.atomix.raft.snapshot.PersistedSnapshotListener;
+import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.raft.storage.log.entry.ConfigurationEntry;
 import io.atomix.raft.storage.log.entry.InitializeEntry;
 import io.atomix.raft.storage.log.entry.RaftLogEntry;
@@ -615,6 +616,7 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
     try {
       final Indexed<E> indexedEntry = raft.getLogWriter().append(entry);
       log.trace("Appended {}", indexedEntry);
+      raft.getLogFlusher().onAppend(indexedEntry);
       resultingFuture = CompletableFuture.completedFuture(indexedEntry);
     } catch (final StorageException.TooLarge e) {
 
@@ -671,10 +673,20 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
       return;
     }
 
+    // with group commit, the entry is only reported as written once it is flushed
+    final RaftLogFlusher flusher = raft.getLogFlusher();
     append(entry)
+        .thenCompose(indexed -> flusher.awaitFlush(indexed.index()).thenApply(v -> indexed))
         .whenComplete(
-            (indexed, error) -> {
-              if (error != null) {
+            (indexed, failure) -> {
+              final Throwable error =
+                  failure instanceof CompletionException ? failure.getCause() : failure;
+              if (error == null && !isRunning()) {
+                // the leader stepped down while waiting for the flush
+                appendListener.onWriteError(
+                    new IllegalStateException(
+                        "LeaderRole is closed and cannot be used as appender"));
+              } else if (error != null) {
                 appendListener.onWriteError(Throwables.getRootCause(error));
                 if (!(error instanceof StorageException)) {
                   // step down. Otherwise the following event can get appended resulting in gaps
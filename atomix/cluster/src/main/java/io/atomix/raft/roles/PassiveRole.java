@@ -38,6 +38,7 @@ import io.atomix.raft.protocol.VoteResponse;
 import io.atomix.raft.snapshot.PersistedSnapshot;
 import io.atomix.raft.snapshot.PersistedSnapshotListener;
 import io.atomix.raft.snapshot.ReceivedSnapshot;
+import io.atomix.raft.snapshot.SnapshotChunk;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.atomix.raft.storage.log.RaftLogWriter;
@@ -46,6 +47,7 @@ import io.atomix.storage.StorageException;
 import io.atomix.storage.journal.Indexed;
 import io.atomix.utils.concurrent.ThreadContext;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -82,7 +84,7 @@ public class PassiveRole extends InactiveRole {
   private void truncateUncommittedEntries() {
     if (role() == RaftServer.Role.PASSIVE) {
       final RaftLogWriter writer = raft.getLogWriter();
-      writer.truncate(raft.getCommitIndex());
+      truncate(writer, raft.getCommitIndex());
     }
   }
 
@@ -193,75 +195,104 @@ public class PassiveRole extends InactiveRole {
           raft.getPersistedSnapshotStore().newReceivedSnapshot(snapshotChunk.getSnapshotId());
       pendingSnapshotStartTimestamp = System.currentTimeMillis();
       snapshotReplicationMetrics.incrementCount();
-    } else {
+    } else if (pendingSnapshot.containsChunk(request.chunkId())) {
       // skip if we already have this chunk
-      if (pendingSnapshot.containsChunk(request.chunkId())) {
-        return CompletableFuture.completedFuture(
-            logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
-      }
+      return CompletableFuture.completedFuture(
+          logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
+    }
 
-      // fail the request if this is not the expected next chunk
-      if (!pendingSnapshot.isExpectedChunk(request.chunkId())) {
-        return CompletableFuture.completedFuture(
-            logResponse(
-                InstallResponse.builder()
-                    .withStatus(RaftResponse.Status.ERROR)
-                    .withError(
-                        RaftError.Type.ILLEGAL_MEMBER_STATE,
-                        "Request chunk is was received out of order")
-                    .build()));
+    // the leader sends several chunks without awaiting their responses, so they are not
+    // necessarily received in order; they are verified and written on the snapshot context, to not
+    // block the raft thread while doing so
+    final var receivedSnapshot = pendingSnapshot;
+    return CompletableFuture.supplyAsync(
+            () -> applySnapshotChunk(receivedSnapshot, snapshotChunk, request),
+            raft.getSnapshotContext())
+        .thenApplyAsync(
+            result -> onSnapshotChunkApplied(receivedSnapshot, request, result),
+            raft.getThreadContext())
+        .thenApply(this::logResponse);
+  }
+
+  /**
+   * Applies the chunk to the received snapshot, and persists the snapshot if the chunk is the last
+   * one. Is executed on the snapshot context, such that the chunks are applied one after another.
+   */
+  private SnapshotChunkResult applySnapshotChunk(
+      final ReceivedSnapshot receivedSnapshot,
+      final SnapshotChunk snapshotChunk,
+      final InstallRequest request) {
+    if (receivedSnapshot.containsChunk(request.chunkId())) {
+      return SnapshotChunkResult.APPLIED;
+    }
+
+    try {
+      if (!receivedSnapshot.apply(snapshotChunk)) {
+        return SnapshotChunkResult.APPLY_FAILED;
       }
+    } catch (final Exception e) {
+      log.error("Failed to write pending snapshot chunk {}, rolling back", receivedSnapshot, e);
+      return SnapshotChunkResult.APPLY_FAILED;
     }
 
-    boolean snapshotChunkConsumptionFailed;
+    if (!request.complete()) {
+      // the leader can skip chunks if we already have their content
+      return new SnapshotChunkResult(receivedSnapshot.getSkipToChunkId());
+    }
+
+    log.debug("Committing snapshot {}", receivedSnapshot);
     try {
-      snapshotChunkConsumptionFailed = !pendingSnapshot.apply(snapshotChunk);
+      receivedSnapshot.persist();
     } catch (final Exception e) {
-      log.error("Failed to write pending snapshot chunk {}, rolling back", pendingSnapshot, e);
-      snapshotChunkConsumptionFailed = true;
+      log.error("Failed to commit pending snapshot {}, rolling back", receivedSnapshot, e);
+      return SnapshotChunkResult.PERSIST_FAILED;
     }
 
-    if (snapshotChunkConsumptionFailed) {
+    return SnapshotChunkResult.APPLIED;
+  }
+
+  private InstallResponse onSnapshotChunkApplied(
+      final ReceivedSnapshot receivedSnapshot,
+      final InstallRequest request,
+      final SnapshotChunkResult result) {
+    if (receivedSnapshot != pendingSnapshot) {
+      return InstallResponse.builder()
+          .withStatus(RaftResponse.Status.ERROR)
+          .withError(
+              RaftError.Type.ILLEGAL_MEMBER_STATE,
+              "Pending snapshot was aborted while applying the snapshot chunk")
+          .build();
+    }
+
+    if (result == SnapshotChunkResult.APPLY_FAILED) {
       abortPendingSnapshots();
-      return CompletableFuture.completedFuture(
-          logResponse(
-              InstallResponse.builder()
-                  .withStatus(RaftResponse.Status.ERROR)
-                  .withError(
-                      RaftError.Type.APPLICATION_ERROR, "Failed to write pending snapshot chunk")
-                  .build()));
+      return InstallResponse.builder()
+          .withStatus(RaftResponse.Status.ERROR)
+          .withError(RaftError.Type.APPLICATION_ERROR, "Failed to write pending snapshot chunk")
+          .build();
     }
 
-    // If the snapshot is complete, store the snapshot and reset state, otherwise update the next
-    // snapshot offset.
+    if (result == SnapshotChunkResult.PERSIST_FAILED) {
+      abortPendingSnapshots();
+      return InstallResponse.builder()
+          .withStatus(RaftResponse.Status.ERROR)
+          .withError(RaftError.Type.APPLICATION_ERROR, "Failed to commit pending snapshot")
+          .build();
+    }
+
+    // If the snapshot is complete, reset the state
     if (request.complete()) {
       final long elapsed = System.currentTimeMillis() - pendingSnapshotStartTimestamp;
-
-      log.debug("Committing snapshot {}", pendingSnapshot);
-      try {
-        pendingSnapshot.persist();
-      } catch (final Exception e) {
-        log.error("Failed to commit pending snapshot {}, rolling back", pendingSnapshot, e);
-        abortPendingSnapshots();
-        return CompletableFuture.completedFuture(
-            logResponse(
-                InstallResponse.builder()
-                    .withStatus(RaftResponse.Status.ERROR)
-                    .withError(
-                        RaftError.Type.APPLICATION_ERROR, "Failed to commit pending snapshot")
-                    .build()));
-      }
-
       pendingSnapshot = null;
       pendingSnapshotStartTimestamp = 0L;
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
-    } else {
-      pendingSnapshot.setNextExpected(request.nextChunkId());
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
+    return InstallResponse.builder()
+        .withStatus(RaftResponse.Status.OK)
+        .withNextChunkId(result.skipToChunkId)
+        .build();
   }
 
   @Override
@@ -373,19 +404,29 @@ public class PassiveRole extends InactiveRole {
   }
 
   private void abortPendingSnapshots() {
-    if (pendingSnapshot != null) {
-      log.debug("Rolling back snapshot {}", pendingSnapshot);
-      try {
-        pendingSnapshot.abort();
-      } catch (final Exception e) {
-        log.error("Failed to abort pending snapshot, clearing status anyway", e);
-      }
+    final ReceivedSnapshot abortedSnapshot = pendingSnapshot;
+    if (abortedSnapshot != null) {
+      log.debug("Rolling back snapshot {}", abortedSnapshot);
       pendingSnapshot = null;
       pendingSnapshotStartTimestamp = 0L;
 
       snapshotReplicationMetrics.decrementCount();
     }
 
+    // chunks of the aborted snapshot may still be queued on the snapshot context; the directories
+    // are deleted after them, as a queued chunk would otherwise recreate the directory
+    raft.getSnapshotContext().execute(() -> deletePendingSnapshots(abortedSnapshot));
+  }
+
+  private void deletePendingSnapshots(final ReceivedSnapshot abortedSnapshot) {
+    if (abortedSnapshot != null) {
+      try {
+        abortedSnapshot.abort();
+      } catch (final Exception e) {
+        log.error("Failed to abort pending snapshot {}", abortedSnapshot, e);
+      }
+    }
+
     // as a safe guard, we clean up any orphaned pending snapshots
     try {
       raft.getPersistedSnapshotStore().purgePendingSnapshots();
@@ -550,6 +591,7 @@ public class PassiveRole extends InactiveRole {
       if (request.prevLogTerm() == 0) {
         log.debug("Reset first index to {}", request.prevLogIndex() + 1);
         writer.reset(request.prevLogIndex() + 1);
+        raft.getLogFlusher().onTruncate(request.prevLogIndex());
       }
 
       // Iterate through entries and append them.
@@ -582,8 +624,19 @@ public class PassiveRole extends InactiveRole {
       raft.getServiceManager().applyAll(commitIndex);
     }
 
-    // Return a successful append response.
-    succeedAppend(lastLogIndex, future);
+    // Return a successful append response, once the appended entries are flushed.
+    final long appendedIndex = lastLogIndex;
+    raft.getLogFlusher()
+        .awaitFlush(appendedIndex)
+        .whenComplete(
+            (flushed, error) -> {
+              if (error == null) {
+                succeedAppend(appendedIndex, future);
+              } else {
+                log.error("Failed to flush appended entries up to {}", appendedIndex, error);
+                failAppend(raft.getLogFlusher().getFlushedIndex(), future);
+              }
+            });
   }
 
   private boolean tryToAppend(
@@ -606,7 +659,7 @@ public class PassiveRole extends InactiveRole {
         // If the last entry term doesn't match the leader's term for the same entry, truncate
         // the log and append the leader's entry.
         if (lastEntry.entry().term() != entry.term()) {
-          writer.truncate(index - 1);
+          truncate(writer, index - 1);
           failedToAppend = !appendEntry(index, entry, writer, future);
         }
       } else { // Otherwise, this entry is being appended at the end of the log.
@@ -659,7 +712,7 @@ public class PassiveRole extends InactiveRole {
     // truncate
     // the log and append the leader's entry.
     if (existingEntry.entry().term() != entry.term()) {
-      writer.truncate(index - 1);
+      truncate(writer, index - 1);
       if (!appendEntry(index, entry, writer, future)) {
         return false;
       }
@@ -667,6 +720,12 @@ public class PassiveRole extends InactiveRole {
     return true;
   }
 
+  /** Truncates the log after the given index; the truncated entries are not flushed anymore. */
+  private void truncate(final RaftLogWriter writer, final long index) {
+    writer.truncate(index);
+    raft.getLogFlusher().onTruncate(index);
+  }
+
   /**
    * Attempts to append an entry, returning {@code false} if the append fails due to an {@link
    * StorageException.OutOfDiskSpace} exception.
@@ -679,6 +738,7 @@ public class PassiveRole extends InactiveRole {
     try {
       final Indexed<RaftLogEntry> indexed = writer.append(entry);
       log.trace("Appended {}", indexed);
+      raft.getLogFlusher().onAppend(indexed);
     } catch (final StorageException.TooLarge e) {
       log.warn(
           "Entry size exceeds maximum allowed bytes. Ensure Raft storage configuration is consistent on all nodes!");
@@ -779,4 +839,16 @@ public class PassiveRole extends InactiveRole {
           });
     }
   }
+
+  private static final class SnapshotChunkResult {
+    private static final SnapshotChunkResult APPLIED = new SnapshotChunkResult(null);
+    private static final SnapshotChunkResult APPLY_FAILED = new SnapshotChunkResult(null);
+    private static final SnapshotChunkResult PERSIST_FAILED = new SnapshotChunkResult(null);
+
+    private final ByteBuffer skipToChunkId;
+
+    private SnapshotChunkResult(final ByteBuffer skipToChunkId) {
+      this.skipToChunkId = skipToChunkId;
+    }
+  }
 }
@@ -19,8 +19,9 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 
 /**
- * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
- * persisted after all chunks have been received and consumed.
+ * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. The chunks can be
+ * applied in any order, and the snapshot can be persisted after all chunks have been received and
+ * consumed.
  */
 public interface ReceivedSnapshot extends PersistableSnapshot {
 
@@ -40,19 +41,12 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
   boolean containsChunk(ByteBuffer chunkId);
 
   /**
-   * Returns true if the chunk identified by chunkId is the expected next chunk, false otherwise.
+   * Returns the ID of the chunk which should be received next, if the last applied chunk allowed to
+   * skip the following chunks, e.g. because the rest of its file was already present.
    *
-   * @param chunkId the ID of the new chunk
-   * @return true if is expected, false otherwise
+   * @return the ID of the next chunk to receive, or null if no chunk can be skipped
    */
-  boolean isExpectedChunk(ByteBuffer chunkId);
-
-  /**
-   * Sets that the next expected chunk ID is the one with the given {@code nextChunkId}.
-   *
-   * @param nextChunkId the next expected chunk ID
-   */
-  void setNextExpected(ByteBuffer nextChunkId);
+  ByteBuffer getSkipToChunkId();
 
   /**
    * Applies the next {@link SnapshotChunk} to the snapshot. Based on the implementation the chunk
@@ -23,12 +23,27 @@ public interface SnapshotChunk {
   /** @return a unique snapshot identifier * */
   String getSnapshotId();
 
-  /** @return the total count of snapshot chunks, which correspond to the same snapshot */
+  /**
+   * @return the total count of snapshot chunks, which correspond to the same snapshot; a file can
+   *     be split into multiple chunks
+   */
   int getTotalCount();
 
   /** @return the name of the current chunk (e.g. file name) */
   String getChunkName();
 
+  /** @return the position of the content in the file which the chunk belongs to */
+  long getFileBlockPosition();
+
+  /** @return the size of the whole file which the chunk belongs to */
+  long getTotalFileSize();
+
+  /**
+   * @return the checksum of the whole file which the chunk belongs to, can be used to reuse a file
+   *     which is already present
+   */
+  long getFileChecksum();
+
   /** @return the checksum of the content, can be use to verify the integrity of the content */
   long getChecksum();
 
@@ -15,8 +15,6 @@
  */
 package io.atomix.raft.snapshot.impl;
 
-import static java.nio.file.StandardOpenOption.CREATE_NEW;
-
 import io.atomix.raft.snapshot.PersistedSnapshot;
 import io.atomix.raft.snapshot.ReceivedSnapshot;
 import io.atomix.raft.snapshot.SnapshotChunk;
@@ -27,11 +25,15 @@ import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -45,10 +47,15 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private final Path directory;
   private final FileBasedSnapshotStore snapshotStore;
 
-  private ByteBuffer expectedId;
   private final FileBasedSnapshotMetadata metadata;
   private long expectedSnapshotChecksum;
   private int expectedTotalCount;
+  // the ids of the chunks which were written, a file can consist of many chunks; chunks can be
+  // applied on a different thread than the one checking whether they are contained
+  private final Set<String> appliedChunkIds = ConcurrentHashMap.newKeySet();
+  // the names of the files which were linked from the latest snapshot instead of being written
+  private final Set<String> reusedFiles = new HashSet<>();
+  private ByteBuffer skipToChunkId;
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotMetadata metadata,
@@ -68,20 +75,12 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
   @Override
   public boolean containsChunk(final ByteBuffer chunkId) {
-    return Files.exists(directory.resolve(getFile(chunkId)));
-  }
-
-  @Override
-  public boolean isExpectedChunk(final ByteBuffer chunkId) {
-    if (expectedId == null) {
-      return chunkId == null;
-    }
-
-    return expectedId.equals(chunkId);
+    return appliedChunkIds.contains(getFile(chunkId));
   }
 
   @Override
   public boolean apply(final SnapshotChunk snapshotChunk) throws IOException {
+    skipToChunkId = null;
     final var currentSnapshotChecksum = snapshotChunk.getSnapshotChecksum();
 
     if (isSnapshotIdInvalid(snapshotChunk.getSnapshotId())) {
@@ -125,15 +124,80 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     FileUtil.ensureDirectoryExists(tmpSnapshotDirectory);
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
-    if (Files.exists(snapshotFile)) {
-      LOGGER.debug("Received a snapshot snapshotChunk which already exist '{}'.", snapshotFile);
+    final var chunkId =
+        SnapshotChunkUtil.createChunkId(chunkName, snapshotChunk.getFileBlockPosition());
+    if (reusedFiles.contains(chunkName)) {
+      LOGGER.trace("Skip snapshot snapshotChunk {}, because its file was reused.", chunkId);
+      appliedChunkIds.add(chunkId);
+      return SUCCESS;
+    }
+
+    if (!appliedChunkIds.add(chunkId)) {
+      LOGGER.debug("Received a snapshot snapshotChunk which already exist '{}'.", chunkId);
       return FAILED;
     }
 
+    if (snapshotChunk.getFileBlockPosition() == 0 && tryToReuseFile(snapshotChunk, snapshotFile)) {
+      LOGGER.debug("Reused file {} of the latest snapshot for snapshot {}", chunkName, snapshotId);
+      return SUCCESS;
+    }
+
     LOGGER.debug("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     return writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
   }
 
+  /**
+   * Links the file of the chunk from the latest snapshot, if it is present there with the same
+   * size and checksum. Consecutive snapshots share most of their (immutable) files, so only the
+   * first and the last chunk of such a file have to be received. Files which consist of a single
+   * chunk are always written, since nothing can be skipped.
+   *
+   * @return true if the file was reused
+   */
+  private boolean tryToReuseFile(final SnapshotChunk snapshotChunk, final Path snapshotFile) {
+    final var chunkName = snapshotChunk.getChunkName();
+    final long fileSize = snapshotChunk.getTotalFileSize();
+    final int chunkSize = snapshotChunk.getContent().length;
+    if (chunkSize == 0
+        || fileSize <= chunkSize
+        || snapshotChunk.getFileChecksum() == SnapshotChunkDecoder.fileChecksumNullValue()) {
+      return false;
+    }
+
+    final var latestSnapshot = snapshotStore.getLatestSnapshot();
+    if (latestSnapshot.isEmpty() || !(latestSnapshot.get() instanceof FileBasedSnapshot)) {
+      return false;
+    }
+
+    final var existingFile =
+        ((FileBasedSnapshot) latestSnapshot.get()).getDirectory().resolve(chunkName);
+    try {
+      if (!Files.exists(existingFile)
+          || Files.size(existingFile) != fileSize
+          || ChecksumUtil.createChecksum(existingFile) != snapshotChunk.getFileChecksum()) {
+        return false;
+      }
+
+      Files.createLink(snapshotFile, existingFile);
+    } catch (final IOException | UnsupportedOperationException e) {
+      // the latest snapshot can be deleted concurrently, then the file is received as usual
+      LOGGER.debug("Failed to reuse file {} of the latest snapshot", existingFile, e);
+      return false;
+    }
+
+    // every chunk but the last one is skipped, the last one is still received such that the
+    // sender always finishes the snapshot with a regular chunk
+    final long lastChunkPosition = ((fileSize - 1) / chunkSize) * chunkSize;
+    for (long position = chunkSize; position < lastChunkPosition; position += chunkSize) {
+      appliedChunkIds.add(SnapshotChunkUtil.createChunkId(chunkName, position));
+    }
+    reusedFiles.add(chunkName);
+
+    final var nextChunkId = SnapshotChunkUtil.createChunkId(chunkName, lastChunkPosition);
+    skipToChunkId = ByteBuffer.wrap(nextChunkId.getBytes(FileBasedSnapshotChunkReader.ID_CHARSET));
+    return true;
+  }
+
   private boolean isSnapshotChecksumInvalid(final long currentSnapshotChecksum) {
     if (expectedSnapshotChecksum == Long.MIN_VALUE) {
       this.expectedSnapshotChecksum = currentSnapshotChecksum;
@@ -171,14 +235,24 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
   private boolean writeReceivedSnapshotChunk(
       final SnapshotChunk snapshotChunk, final Path snapshotFile) throws IOException {
-    Files.write(snapshotFile, snapshotChunk.getContent(), CREATE_NEW, StandardOpenOption.WRITE);
-    LOGGER.trace("Wrote replicated snapshot chunk to file {}", snapshotFile);
+    // the chunks of a file can be received in any order, so each one is written at its position
+    final var content = ByteBuffer.wrap(snapshotChunk.getContent());
+    final long position = snapshotChunk.getFileBlockPosition();
+    try (final var fileChannel =
+        FileChannel.open(snapshotFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+      while (content.hasRemaining()) {
+        fileChannel.write(content, position + content.position());
+      }
+    }
+
+    LOGGER.trace(
+        "Wrote replicated snapshot chunk to file {} at position {}", snapshotFile, position);
     return SUCCESS;
   }
 
   @Override
-  public void setNextExpected(final ByteBuffer nextChunkId) {
-    expectedId = nextChunkId;
+  public ByteBuffer getSkipToChunkId() {
+    return skipToChunkId;
   }
 
   @Override
@@ -191,11 +265,11 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     final var files = directory.toFile().listFiles();
     Objects.requireNonNull(files, "No chunks have been applied yet");
 
-    if (files.length != expectedTotalCount) {
+    if (appliedChunkIds.size() != expectedTotalCount) {
       throw new IllegalStateException(
           String.format(
-              "Expected '%d' chunk files for this snapshot, but found '%d'. Files are: %s.",
-              expectedSnapshotChecksum, files.length, Arrays.toString(files)));
+              "Expected '%d' chunks for this snapshot, but applied '%d'. Files are: %s.",
+              expectedTotalCount, appliedChunkIds.size(), Arrays.toString(files)));
     }
 
     final var filePaths =
@@ -243,8 +317,6 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         + directory
         + ", snapshotStore="
         + snapshotStore
-        + ", expectedId="
-        + expectedId
         + ", metadata="
         + metadata
         + '}';
@@ -27,6 +27,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.SortedMap;
 import org.slf4j.Logger;
 
 public final class FileBasedSnapshot implements PersistedSnapshot {
@@ -36,10 +37,15 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
 
   private final Path directory;
   private final FileBasedSnapshotMetadata metadata;
+  private final int maxChunkSize;
+  // computed by the first chunk reader, such that replicating the snapshot reads the files once
+  private volatile SortedMap<String, Long> fileChecksums;
 
-  FileBasedSnapshot(final Path directory, final FileBasedSnapshotMetadata metadata) {
+  FileBasedSnapshot(
+      final Path directory, final FileBasedSnapshotMetadata metadata, final int maxChunkSize) {
     this.directory = directory;
     this.metadata = metadata;
+    this.maxChunkSize = maxChunkSize;
   }
 
   public FileBasedSnapshotMetadata getMetadata() {
@@ -73,7 +79,10 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   @Override
   public SnapshotChunkReader newChunkReader() {
     try {
-      return new FileBasedSnapshotChunkReader(directory);
+      if (fileChecksums == null) {
+        fileChecksums = FileBasedSnapshotChunkReader.createFileChecksums(directory);
+      }
+      return new FileBasedSnapshotChunkReader(directory, maxChunkSize, fileChecksums);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -23,12 +23,19 @@ import io.zeebe.util.ChecksumUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 import org.agrona.AsciiSequenceView;
@@ -36,37 +43,71 @@ import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /**
- * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
- * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
- * the directory once this is created.
+ * Implements a chunk reader where each chunk is a block of a file in a root directory. Files are
+ * ordered lexicographically and split into blocks of at most the max chunk size, which are read
+ * one at a time such that a file never has to fit in memory. The files are assumed to be
+ * immutable, i.e. no more are added to the directory once this is created.
+ *
+ * <p>The id of the first chunk of a file is the file name, the id of any following chunk is the
+ * file name with the position of its block, see {@link SnapshotChunkUtil#createChunkId(String,
+ * long)}.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
 
   private final Path directory;
+  private final int maxChunkSize;
   private final NavigableSet<CharSequence> chunks;
   private final CharSequenceView chunkIdView;
 
   private NavigableSet<CharSequence> chunksView;
+  // the position of the next block in the first file of the view
+  private long fileBlockPosition;
   private final int totalCount;
+  // file name => checksum of the whole file, ordered by file name
+  private final SortedMap<String, Long> fileChecksums;
   private final long snapshotChecksum;
   private final String snapshotID;
 
-  FileBasedSnapshotChunkReader(final Path directory) throws IOException {
+  FileBasedSnapshotChunkReader(final Path directory, final int maxChunkSize) throws IOException {
+    this(directory, maxChunkSize, createFileChecksums(directory));
+  }
+
+  FileBasedSnapshotChunkReader(
+      final Path directory, final int maxChunkSize, final SortedMap<String, Long> fileChecksums)
+      throws IOException {
     this.directory = directory;
+    this.maxChunkSize = maxChunkSize;
     this.chunks = collectChunks(directory);
-    this.totalCount = chunks.size();
+    this.totalCount = countChunks(directory, chunks, maxChunkSize);
     this.chunksView = this.chunks;
     this.chunkIdView = new CharSequenceView();
 
-    try (final var fileStream = Files.list(directory).sorted()) {
-      this.snapshotChecksum =
-          ChecksumUtil.createCombinedChecksum(fileStream.collect(Collectors.toList()));
-    }
+    this.fileChecksums = fileChecksums;
+    this.snapshotChecksum = ChecksumUtil.combineChecksums(new ArrayList<>(fileChecksums.values()));
 
     this.snapshotID = directory.getFileName().toString();
   }
 
+  /**
+   * Computes the checksums of all files in the directory. Since the files are immutable, they can
+   * be computed once and shared by all readers of the same directory.
+   *
+   * @return the checksum of each file by its name
+   */
+  static SortedMap<String, Long> createFileChecksums(final Path directory) throws IOException {
+    final List<Path> files;
+    try (final var fileStream = Files.list(directory)) {
+      files = fileStream.collect(Collectors.toList());
+    }
+
+    final SortedMap<String, Long> fileChecksums = new TreeMap<>();
+    for (final Path file : files) {
+      fileChecksums.put(file.getFileName().toString(), ChecksumUtil.createChecksum(file));
+    }
+    return Collections.unmodifiableSortedMap(fileChecksums);
+  }
+
   private NavigableSet<CharSequence> collectChunks(final Path directory) throws IOException {
     final var set = new TreeSet<>(CharSequence::compare);
     try (final var stream = Files.list(directory).sorted()) {
@@ -75,14 +116,26 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     return set;
   }
 
+  private static int countChunks(
+      final Path directory, final NavigableSet<CharSequence> files, final int maxChunkSize)
+      throws IOException {
+    int count = 0;
+    for (final CharSequence file : files) {
+      final long fileSize = Files.size(directory.resolve(file.toString()));
+      count += SnapshotChunkUtil.getChunkCount(fileSize, maxChunkSize);
+    }
+    return count;
+  }
+
   @Override
   public void seek(final ByteBuffer id) {
     if (id == null) {
       return;
     }
 
-    final var path = decodeChunkId(id);
-    chunksView = chunks.tailSet(path, true);
+    final var chunkId = decodeChunkId(id).toString();
+    chunksView = chunks.tailSet(SnapshotChunkUtil.getFileName(chunkId), true);
+    fileBlockPosition = SnapshotChunkUtil.getFileBlockPosition(chunkId);
   }
 
   @Override
@@ -91,7 +144,8 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       return null;
     }
 
-    return encodeChunkId(chunksView.first());
+    return encodeChunkId(
+        SnapshotChunkUtil.createChunkId(chunksView.first().toString(), fileBlockPosition));
   }
 
   @Override
@@ -107,19 +161,38 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public SnapshotChunk next() {
-    final var chunkName = chunksView.pollFirst();
-    if (chunkName == null) {
+    if (chunksView.isEmpty()) {
       throw new NoSuchElementException();
     }
 
-    final var path = directory.resolve(chunkName.toString());
-
-    try {
-      return SnapshotChunkUtil.createSnapshotChunkFromFile(
-          path.toFile(), snapshotID, totalCount, snapshotChecksum);
+    final var chunkName = chunksView.first().toString();
+    final var path = directory.resolve(chunkName);
+
+    final SnapshotChunk chunk;
+    final long fileSize;
+    try (final var fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+      fileSize = fileChannel.size();
+      chunk =
+          SnapshotChunkUtil.createSnapshotChunkFromFileBlock(
+              fileChannel,
+              chunkName,
+              fileBlockPosition,
+              maxChunkSize,
+              fileChecksums.get(chunkName),
+              snapshotID,
+              totalCount,
+              snapshotChecksum);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
+
+    fileBlockPosition += chunk.getContent().length;
+    if (fileBlockPosition >= fileSize) {
+      chunksView.pollFirst();
+      fileBlockPosition = 0;
+    }
+
+    return chunk;
   }
 
   private ByteBuffer encodeChunkId(final CharSequence path) {
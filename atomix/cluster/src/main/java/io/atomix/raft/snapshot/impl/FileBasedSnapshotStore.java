@@ -53,6 +53,8 @@ public final class FileBasedSnapshotStore implements PersistedSnapshotStore {
   private final Set<PersistedSnapshotListener> listeners;
 
   private final SnapshotMetrics snapshotMetrics;
+  // the maximum size of a chunk when reading a snapshot, larger files are split into many chunks
+  private final int maxChunkSize;
 
   private final AtomicReference<PersistedSnapshot> currentPersistedSnapshotRef;
   // used to write concurrently received snapshots in different pending directories
@@ -62,9 +64,22 @@ public final class FileBasedSnapshotStore implements PersistedSnapshotStore {
       final SnapshotMetrics snapshotMetrics,
       final Path snapshotsDirectory,
       final Path pendingDirectory) {
+    this(
+        snapshotMetrics,
+        snapshotsDirectory,
+        pendingDirectory,
+        FileBasedSnapshotStoreFactory.DEFAULT_MAX_CHUNK_SIZE);
+  }
+
+  public FileBasedSnapshotStore(
+      final SnapshotMetrics snapshotMetrics,
+      final Path snapshotsDirectory,
+      final Path pendingDirectory,
+      final int maxChunkSize) {
     this.snapshotsDirectory = snapshotsDirectory;
     this.pendingDirectory = pendingDirectory;
     this.snapshotMetrics = snapshotMetrics;
+    this.maxChunkSize = maxChunkSize;
     this.receivingSnapshotStartCount = new AtomicLong();
 
     this.listeners = new CopyOnWriteArraySet<>();
@@ -89,7 +104,7 @@ public final class FileBasedSnapshotStore implements PersistedSnapshotStore {
     final var optionalMeta = FileBasedSnapshotMetadata.ofPath(path);
     if (optionalMeta.isPresent()) {
       final var metadata = optionalMeta.get();
-      return new FileBasedSnapshot(path, metadata);
+      return new FileBasedSnapshot(path, metadata, maxChunkSize);
     } else {
       LOGGER.warn("Expected snapshot file format to be %d-%d-%d-%d, but was {}", path);
     }
@@ -267,7 +282,7 @@ public final class FileBasedSnapshotStore implements PersistedSnapshotStore {
       throw new UncheckedIOException(e);
     }
 
-    final var newPersistedSnapshot = new FileBasedSnapshot(destination, metadata);
+    final var newPersistedSnapshot = new FileBasedSnapshot(destination, metadata, maxChunkSize);
     final var failed =
         !currentPersistedSnapshotRef.compareAndSet(currentPersistedSnapshot, newPersistedSnapshot);
     if (failed) {
@@ -34,6 +34,26 @@ import org.agrona.IoUtil;
 public final class FileBasedSnapshotStoreFactory implements PersistedSnapshotStoreFactory {
   public static final String SNAPSHOTS_DIRECTORY = "snapshots";
   public static final String PENDING_DIRECTORY = "pending";
+  public static final int DEFAULT_MAX_CHUNK_SIZE = 1024 * 1024;
+
+  private final int maxChunkSize;
+
+  public FileBasedSnapshotStoreFactory() {
+    this(DEFAULT_MAX_CHUNK_SIZE);
+  }
+
+  /**
+   * @param maxChunkSize the maximum size of a snapshot chunk in bytes; snapshot files which are
+   *     larger are replicated in multiple chunks
+   */
+  public FileBasedSnapshotStoreFactory(final int maxChunkSize) {
+    if (maxChunkSize <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected the max chunk size to be positive, but was %d", maxChunkSize));
+    }
+
+    this.maxChunkSize = maxChunkSize;
+  }
 
   @Override
   public PersistedSnapshotStore createSnapshotStore(final Path root, final String partitionName) {
@@ -44,6 +64,6 @@ public final class FileBasedSnapshotStoreFactory implements PersistedSnapshotSto
     IoUtil.ensureDirectoryExists(pendingDirectory.toFile(), "Pending snapshot directory");
 
     return new FileBasedSnapshotStore(
-        new SnapshotMetrics(partitionName), snapshotDirectory, pendingDirectory);
+        new SnapshotMetrics(partitionName), snapshotDirectory, pendingDirectory, maxChunkSize);
   }
 }
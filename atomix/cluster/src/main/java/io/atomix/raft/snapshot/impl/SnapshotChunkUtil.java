@@ -8,13 +8,17 @@
 package io.atomix.raft.snapshot.impl;
 
 import io.atomix.raft.snapshot.SnapshotChunk;
-import java.io.File;
+import java.io.EOFException;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.zip.CRC32;
 
 final class SnapshotChunkUtil {
 
+  // separates the file name and the position of a block in a chunk id, e.g. '000012.sst#1048576'
+  private static final char CHUNK_ID_POSITION_SEPARATOR = '#';
+
   private SnapshotChunkUtil() {}
 
   static long createChecksum(final byte[] content) {
@@ -23,17 +27,71 @@ final class SnapshotChunkUtil {
     return crc32.getValue();
   }
 
-  static SnapshotChunk createSnapshotChunkFromFile(
-      final File snapshotChunkFile,
+  /**
+   * Reads the block of the file which starts at the given position, using a positional read such
+   * that the channel can be shared.
+   *
+   * @param fileChannel the channel of the file to read from
+   * @param fileName the name of the file, which is the name of the chunk
+   * @param position the position of the block in the file
+   * @param maxChunkSize the maximum length of the block
+   * @param fileChecksum the checksum of the whole file
+   */
+  static SnapshotChunk createSnapshotChunkFromFileBlock(
+      final FileChannel fileChannel,
+      final String fileName,
+      final long position,
+      final int maxChunkSize,
+      final long fileChecksum,
       final String snapshotId,
       final int totalCount,
       final long snapshotChecksum)
       throws IOException {
-    final byte[] content;
-    content = Files.readAllBytes(snapshotChunkFile.toPath());
+    final long fileSize = fileChannel.size();
+    final int length = (int) Math.min(maxChunkSize, fileSize - position);
+    final byte[] content = new byte[length];
+
+    final ByteBuffer buffer = ByteBuffer.wrap(content);
+    while (buffer.hasRemaining()) {
+      final int read = fileChannel.read(buffer, position + buffer.position());
+      if (read < 0) {
+        throw new EOFException(
+            String.format(
+                "Expected to read %d bytes of file %s at position %d, but reached the end after %d",
+                length, fileName, position, buffer.position()));
+      }
+    }
+
     final long checksum = createChecksum(content);
     return new SnapshotChunkImpl(
-        snapshotId, totalCount, snapshotChunkFile.getName(), checksum, content, snapshotChecksum);
+        snapshotId,
+        totalCount,
+        fileName,
+        checksum,
+        content,
+        snapshotChecksum,
+        position,
+        fileSize,
+        fileChecksum);
+  }
+
+  /** @return the number of chunks the file is split into, which is at least one */
+  static int getChunkCount(final long fileSize, final int maxChunkSize) {
+    return (int) Math.max(1, (fileSize + maxChunkSize - 1) / maxChunkSize);
+  }
+
+  static String createChunkId(final String fileName, final long position) {
+    return position == 0 ? fileName : fileName + CHUNK_ID_POSITION_SEPARATOR + position;
+  }
+
+  static String getFileName(final String chunkId) {
+    final int separatorIndex = chunkId.lastIndexOf(CHUNK_ID_POSITION_SEPARATOR);
+    return separatorIndex < 0 ? chunkId : chunkId.substring(0, separatorIndex);
+  }
+
+  static long getFileBlockPosition(final String chunkId) {
+    final int separatorIndex = chunkId.lastIndexOf(CHUNK_ID_POSITION_SEPARATOR);
+    return separatorIndex < 0 ? 0 : Long.parseLong(chunkId.substring(separatorIndex + 1));
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -43,6 +101,9 @@ final class SnapshotChunkUtil {
     private final byte[] content;
     private final long snapshotChecksum;
     private final long checksum;
+    private final long fileBlockPosition;
+    private final long totalFileSize;
+    private final long fileChecksum;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -50,13 +111,19 @@ final class SnapshotChunkUtil {
         final String chunkName,
         final long checksum,
         final byte[] content,
-        final long snapshotChecksum) {
+        final long snapshotChecksum,
+        final long fileBlockPosition,
+        final long totalFileSize,
+        final long fileChecksum) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
       this.checksum = checksum;
       this.content = content;
       this.snapshotChecksum = snapshotChecksum;
+      this.fileBlockPosition = fileBlockPosition;
+      this.totalFileSize = totalFileSize;
+      this.fileChecksum = fileChecksum;
     }
 
     @Override
@@ -74,6 +141,21 @@ final class SnapshotChunkUtil {
       return chunkName;
     }
 
+    @Override
+    public long getFileBlockPosition() {
+      return fileBlockPosition;
+    }
+
+    @Override
+    public long getTotalFileSize() {
+      return totalFileSize;
+    }
+
+    @Override
+    public long getFileChecksum() {
+      return fileChecksum;
+    }
+
     @Override
     public long getChecksum() {
       return checksum;
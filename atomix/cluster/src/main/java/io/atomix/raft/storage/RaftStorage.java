@@ -28,6 +28,7 @@ import io.atomix.raft.storage.system.MetaStore;
 import io.atomix.storage.StorageException;
 import io.atomix.storage.StorageLevel;
 import io.atomix.storage.buffer.FileBuffer;
+import io.atomix.storage.journal.ChecksumType;
 import io.atomix.storage.journal.JournalSegmentDescriptor;
 import io.atomix.storage.journal.JournalSegmentFile;
 import io.atomix.storage.journal.index.JournalIndex;
@@ -37,6 +38,7 @@ import io.atomix.utils.serializer.Serializer;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -71,6 +73,9 @@ public final class RaftStorage {
   private final double freeDiskBuffer;
   private final double freeMemoryBuffer;
   private final boolean flushOnCommit;
+  private final Duration groupCommitWindow;
+  private final int groupCommitMaxBytes;
+  private final ChecksumType checksumType;
   private final boolean retainStaleSnapshots;
   private final StorageStatistics statistics;
   private final PersistedSnapshotStore persistedSnapshotStore;
@@ -88,6 +93,9 @@ public final class RaftStorage {
       final double freeDiskBuffer,
       final double freeMemoryBuffer,
       final boolean flushOnCommit,
+      final Duration groupCommitWindow,
+      final int groupCommitMaxBytes,
+      final ChecksumType checksumType,
       final boolean retainStaleSnapshots,
       final StorageStatistics storageStatistics,
       final PersistedSnapshotStore persistedSnapshotStore,
@@ -103,6 +111,9 @@ public final class RaftStorage {
     this.freeDiskBuffer = freeDiskBuffer;
     this.freeMemoryBuffer = freeMemoryBuffer;
     this.flushOnCommit = flushOnCommit;
+    this.groupCommitWindow = groupCommitWindow;
+    this.groupCommitMaxBytes = groupCommitMaxBytes;
+    this.checksumType = checksumType;
     this.retainStaleSnapshots = retainStaleSnapshots;
     this.statistics = storageStatistics;
     this.persistedSnapshotStore = persistedSnapshotStore;
@@ -318,7 +329,9 @@ public final class RaftStorage {
         .withMaxSegmentSize(maxSegmentSize)
         .withMaxEntrySize(maxEntrySize)
         .withMaxEntriesPerSegment(maxEntriesPerSegment)
-        .withFlushOnCommit(flushOnCommit)
+        // with group commit, the log is flushed by the RaftLogFlusher instead
+        .withFlushOnCommit(flushOnCommit && groupCommitWindow.isZero())
+        .withChecksumType(checksumType)
         .withJournalIndexFactory(journalIndexFactory)
         .build();
   }
@@ -331,7 +344,10 @@ public final class RaftStorage {
    * memory.
    */
   public void deleteLog() {
-    deleteFiles(f -> JournalSegmentFile.isSegmentFile(prefix, f));
+    deleteFiles(
+        f ->
+            JournalSegmentFile.isSegmentFile(prefix, f)
+                || JournalSegmentFile.isOffsetsFile(prefix, f));
   }
 
   @Override
@@ -361,6 +377,35 @@ public final class RaftStorage {
     return flushOnCommit;
   }
 
+  /**
+   * Returns the type of the checksum of the entries of new log segments.
+   *
+   * @return The checksum type of new log segments.
+   */
+  public ChecksumType checksumType() {
+    return checksumType;
+  }
+
+  /**
+   * Returns the group commit window, within which appended entries are flushed together. If it is
+   * zero, group commit is disabled.
+   *
+   * @return The group commit window.
+   */
+  public Duration groupCommitWindow() {
+    return groupCommitWindow;
+  }
+
+  /**
+   * Returns the maximum number of appended bytes after which the log is flushed, even if the group
+   * commit window has not elapsed yet.
+   *
+   * @return The maximum number of bytes of a group commit.
+   */
+  public int groupCommitMaxBytes() {
+    return groupCommitMaxBytes;
+  }
+
   /**
    * Returns a boolean value indicating whether to retain stale snapshots on disk.
    *
@@ -402,6 +447,8 @@ public final class RaftStorage {
     private static final double DEFAULT_FREE_DISK_BUFFER = .2;
     private static final double DEFAULT_FREE_MEMORY_BUFFER = .2;
     private static final boolean DEFAULT_FLUSH_ON_COMMIT = true;
+    private static final Duration DEFAULT_GROUP_COMMIT_WINDOW = Duration.ZERO;
+    private static final int DEFAULT_GROUP_COMMIT_MAX_BYTES = 1024 * 1024 * 4;
     private static final boolean DEFAULT_RETAIN_STALE_SNAPSHOTS = false;
 
     private String prefix = DEFAULT_PREFIX;
@@ -415,6 +462,9 @@ public final class RaftStorage {
     private double freeDiskBuffer = DEFAULT_FREE_DISK_BUFFER;
     private double freeMemoryBuffer = DEFAULT_FREE_MEMORY_BUFFER;
     private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+    private Duration groupCommitWindow = DEFAULT_GROUP_COMMIT_WINDOW;
+    private int groupCommitMaxBytes = DEFAULT_GROUP_COMMIT_MAX_BYTES;
+    private ChecksumType checksumType = ChecksumType.CRC32;
     private boolean retainStaleSnapshots = DEFAULT_RETAIN_STALE_SNAPSHOTS;
     private StorageStatistics storageStatistics;
     private PersistedSnapshotStore persistedSnapshotStore;
@@ -635,6 +685,57 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets the group commit window, returning the builder for method chaining.
+     *
+     * <p>When a window is set, the log is not flushed on every commit anymore. Instead, all entries
+     * appended within the window are flushed together, and appends are only acknowledged once they
+     * are flushed. The window is scheduled with millisecond precision. By default, it is zero,
+     * which disables group commit.
+     *
+     * @param groupCommitWindow The group commit window.
+     * @return The storage builder.
+     * @throws IllegalArgumentException if the {@code groupCommitWindow} is negative
+     */
+    public Builder withGroupCommitWindow(final Duration groupCommitWindow) {
+      checkNotNull(groupCommitWindow, "groupCommitWindow cannot be null");
+      checkArgument(!groupCommitWindow.isNegative(), "groupCommitWindow must not be negative");
+      this.groupCommitWindow = groupCommitWindow;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of appended bytes after which the log is flushed, even if the group
+     * commit window has not elapsed yet, returning the builder for method chaining.
+     *
+     * <p>By default, the maximum is {@code 1024 * 1024 * 4}.
+     *
+     * @param groupCommitMaxBytes The maximum number of bytes of a group commit.
+     * @return The storage builder.
+     * @throws IllegalArgumentException if the {@code groupCommitMaxBytes} is not positive
+     */
+    public Builder withGroupCommitMaxBytes(final int groupCommitMaxBytes) {
+      checkArgument(groupCommitMaxBytes > 0, "groupCommitMaxBytes must be positive");
+      this.groupCommitMaxBytes = groupCommitMaxBytes;
+      return this;
+    }
+
+    /**
+     * Sets the type of the checksum of the entries of new log segments, returning the builder for
+     * method chaining.
+     *
+     * <p>By default, the checksum type is {@link ChecksumType#CRC32}. Existing segments are read
+     * with the checksum type they were written with.
+     *
+     * @param checksumType The checksum type of new segments.
+     * @return The storage builder.
+     * @throws NullPointerException if the {@code checksumType} is null
+     */
+    public Builder withChecksumType(final ChecksumType checksumType) {
+      this.checksumType = checkNotNull(checksumType, "checksumType cannot be null");
+      return this;
+    }
+
     /**
      * Enables retaining stale snapshots on disk, returning the builder for method chaining.
      *
@@ -714,6 +815,9 @@ public final class RaftStorage {
           freeDiskBuffer,
           freeMemoryBuffer,
           flushOnCommit,
+          groupCommitWindow,
+          groupCommitMaxBytes,
+          checksumType,
           retainStaleSnapshots,
           Optional.ofNullable(storageStatistics).orElse(new StorageStatistics(directory)),
           persistedSnapshotStore,
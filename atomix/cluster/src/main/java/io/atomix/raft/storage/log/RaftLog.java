@@ -18,6 +18,7 @@ package io.atomix.raft.storage.log;
 
 import io.atomix.raft.storage.log.entry.RaftLogEntry;
 import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.ChecksumType;
 import io.atomix.storage.journal.DelegatingJournal;
 import io.atomix.storage.journal.JournalReader;
 import io.atomix.storage.journal.SegmentedJournal;
@@ -254,6 +255,18 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
       return this;
     }
 
+    /**
+     * Sets the type of the checksum of the entries of new segments, returning the builder for
+     * method chaining.
+     *
+     * @param checksumType The checksum type of new segments.
+     * @return The log builder.
+     */
+    public Builder withChecksumType(final ChecksumType checksumType) {
+      journalBuilder.withChecksumType(checksumType);
+      return this;
+    }
+
     public Builder withJournalIndexFactory(final Supplier<JournalIndex> journalIndexFactory) {
       journalBuilder.withJournalIndexFactory(journalIndexFactory);
       return this;
@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.raft.metrics.RaftLogFlushMetrics;
+import io.atomix.storage.journal.Indexed;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.ThreadContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Flushes the Raft log to disk in groups (group commit). Instead of flushing on every commit, all
+ * entries appended within the group commit window are flushed together, or earlier if they exceed
+ * the max bytes. Callers wait for the flush which covers their entries with {@link
+ * #awaitFlush(long)}, e.g. before acknowledging an append.
+ *
+ * <p>If the window is zero, group commit is disabled: the log is flushed on commit by the journal
+ * (if configured), and flushes are not awaited.
+ *
+ * <p>This class is not thread safe; it must only be used from the Raft thread context, on which
+ * the scheduled flushes are executed as well.
+ */
+public final class RaftLogFlusher implements AutoCloseable {
+
+  private final RaftLogWriter writer;
+  private final ThreadContext threadContext;
+  private final Duration window;
+  private final int maxBytes;
+  private final RaftLogFlushMetrics metrics;
+
+  private List<CompletableFuture<Void>> pendingFlushes = new ArrayList<>();
+  private Scheduled scheduledFlush;
+  private long flushedIndex;
+  private int unflushedEntries;
+  private long unflushedBytes;
+
+  public RaftLogFlusher(
+      final RaftLogWriter writer,
+      final ThreadContext threadContext,
+      final Duration window,
+      final int maxBytes,
+      final RaftLogFlushMetrics metrics) {
+    this.writer = writer;
+    this.threadContext = threadContext;
+    this.window = window;
+    this.maxBytes = maxBytes;
+    this.metrics = metrics;
+    this.flushedIndex = writer.getLastIndex();
+  }
+
+  /** @return true if the log is flushed in groups */
+  public boolean isEnabled() {
+    return !window.isZero();
+  }
+
+  /**
+   * Records an appended entry which is not flushed yet. If the unflushed entries exceed the max
+   * bytes, the log is flushed immediately; otherwise a flush is scheduled at the end of the
+   * window, if there is none yet.
+   *
+   * @param entry the appended entry
+   */
+  public void onAppend(final Indexed<?> entry) {
+    if (!isEnabled()) {
+      return;
+    }
+
+    unflushedEntries++;
+    unflushedBytes += entry.size();
+    if (unflushedBytes >= maxBytes) {
+      flush();
+    } else {
+      scheduleFlush();
+    }
+  }
+
+  /**
+   * Returns a future which is completed once the log is flushed up to the given index, or
+   * completed exceptionally if the flush fails. If group commit is disabled, it is completed
+   * immediately.
+   *
+   * @param index the index of the last entry which must be flushed
+   * @return a future to be completed once the entry is flushed
+   */
+  public CompletableFuture<Void> awaitFlush(final long index) {
+    if (!isEnabled() || index <= getFlushedIndex()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    pendingFlushes.add(future);
+    scheduleFlush();
+    return future;
+  }
+
+  /**
+   * Returns the index up to which the log is flushed. If group commit is disabled, it is the last
+   * index of the log, as the entries are not awaited.
+   *
+   * @return the index of the last flushed entry
+   */
+  public long getFlushedIndex() {
+    return isEnabled() ? flushedIndex : writer.getLastIndex();
+  }
+
+  /**
+   * Must be called when the log was truncated or reset, such that the entries which are appended
+   * again at the truncated indexes are not reported as flushed before the next flush.
+   *
+   * @param index the index of the last entry which was kept
+   */
+  public void onTruncate(final long index) {
+    flushedIndex = Math.min(flushedIndex, index);
+  }
+
+  /**
+   * Flushes the log and completes all pending futures, since all entries appended so far are
+   * covered by the flush.
+   */
+  public void flush() {
+    threadContext.checkThread();
+    cancelScheduledFlush();
+
+    final List<CompletableFuture<Void>> flushes = pendingFlushes;
+    pendingFlushes = new ArrayList<>();
+    final int batchSize = unflushedEntries;
+    unflushedEntries = 0;
+    unflushedBytes = 0;
+
+    final long index = writer.getLastIndex();
+    final long start = System.nanoTime();
+    try {
+      writer.flush();
+    } catch (final RuntimeException e) {
+      flushes.forEach(future -> future.completeExceptionally(e));
+      return;
+    }
+
+    metrics.observeFlush(System.nanoTime() - start, batchSize);
+    flushedIndex = index;
+    flushes.forEach(future -> future.complete(null));
+  }
+
+  /**
+   * Cancels the scheduled flush and completes the pending futures exceptionally; the entries which
+   * are not flushed yet are flushed when the log is closed.
+   */
+  @Override
+  public void close() {
+    cancelScheduledFlush();
+
+    final List<CompletableFuture<Void>> flushes = pendingFlushes;
+    pendingFlushes = new ArrayList<>();
+    final IllegalStateException error =
+        new IllegalStateException("Expected to flush the log, but it was closed");
+    flushes.forEach(future -> future.completeExceptionally(error));
+  }
+
+  private void scheduleFlush() {
+    if (scheduledFlush == null) {
+      scheduledFlush = threadContext.schedule(window, this::onScheduledFlush);
+    }
+  }
+
+  private void onScheduledFlush() {
+    scheduledFlush = null;
+    flush();
+  }
+
+  private void cancelScheduledFlush() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel();
+      scheduledFlush = null;
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import io.atomix.utils.net.Address;
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Test;
+
+/** Channel pool test. */
+public class ChannelPoolTest {
+
+  private static final Address ADDRESS = Address.from("localhost", 5000);
+
+  private final List<Channel> openedChannels = new ArrayList<>();
+  private final Map<Channel, Integer> pendingRequests = new HashMap<>();
+
+  @Test
+  public void shouldSendMessageTypeOverSameChannel() {
+    // given
+    final ChannelPool pool = newChannelPool(false);
+    final Channel channel = pool.getChannel(ADDRESS, "type").join();
+    pendingRequests.put(channel, 10);
+
+    // when
+    final Channel nextChannel = pool.getChannel(ADDRESS, "type").join();
+
+    // then
+    assertEquals(channel, nextChannel);
+    assertEquals(1, openedChannels.size());
+  }
+
+  @Test
+  public void shouldReuseChannelWithoutPendingRequestsWhenStriping() {
+    // given
+    final ChannelPool pool = newChannelPool(true);
+    final Channel channel = pool.getChannel(ADDRESS, "type").join();
+
+    // when
+    final Channel nextChannel = pool.getChannel(ADDRESS, "type").join();
+
+    // then
+    assertEquals(channel, nextChannel);
+    assertEquals(1, openedChannels.size());
+  }
+
+  @Test
+  public void shouldConnectAnotherChannelIfAllHavePendingRequestsWhenStriping() {
+    // given
+    final ChannelPool pool = newChannelPool(true);
+    final Channel channel = pool.getChannel(ADDRESS, "type").join();
+    pendingRequests.put(channel, 1);
+
+    // when
+    final Channel nextChannel = pool.getChannel(ADDRESS, "type").join();
+
+    // then
+    assertNotEquals(channel, nextChannel);
+    assertEquals(2, openedChannels.size());
+  }
+
+  @Test
+  public void shouldSelectLeastLoadedChannelWhenStriping() {
+    // given
+    final ChannelPool pool = newChannelPool(true);
+    final Channel firstChannel = pool.getChannel(ADDRESS, "type").join();
+    pendingRequests.put(firstChannel, 1);
+    final Channel secondChannel = pool.getChannel(ADDRESS, "type").join();
+    pendingRequests.put(secondChannel, 3);
+
+    // when
+    final Channel leastLoadedChannel = pool.getChannel(ADDRESS, "type").join();
+    pendingRequests.put(firstChannel, 5);
+    final Channel nextLeastLoadedChannel = pool.getChannel(ADDRESS, "type").join();
+
+    // then
+    assertEquals(firstChannel, leastLoadedChannel);
+    assertEquals(secondChannel, nextLeastLoadedChannel);
+    assertEquals(2, openedChannels.size());
+  }
+
+  private ChannelPool newChannelPool(final boolean striping) {
+    return new ChannelPool(
+        this::openChannel, 2, striping, channel -> pendingRequests.getOrDefault(channel, 0));
+  }
+
+  private CompletableFuture<Channel> openChannel(final Address address) {
+    final Channel channel = new EmbeddedChannel();
+    openedChannels.add(channel);
+    return CompletableFuture.completedFuture(channel);
+  }
+}
@@ -80,4 +80,19 @@ public class MessageDecoderV1Test {
       byteBuf.release();
     }
   }
+
+  @Test
+  public void testDecodeEncodedString() throws Exception {
+    final String value = "command-api-\u00e4";
+    final ByteBuf buffer = Unpooled.buffer(1);
+    try {
+      MessageEncoderV1.writeString(buffer, value);
+      final int length = buffer.readShort();
+      assertEquals(value.getBytes(StandardCharsets.UTF_8).length, length);
+      assertEquals(value, MessageDecoderV1.readString(buffer, length));
+      assertEquals(0, buffer.readableBytes());
+    } finally {
+      buffer.release();
+    }
+  }
 }
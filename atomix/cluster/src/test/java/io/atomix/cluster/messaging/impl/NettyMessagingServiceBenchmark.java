@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.MessagingConfig.Transport;
+import io.atomix.utils.net.Address;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the request throughput between two messaging services in the same process, e.g. two
+ * brokers, with the NIO and the native epoll transport, each with and without flush consolidation.
+ * The requests are sent concurrently from a single thread, with a bounded number of requests in
+ * flight. It is not run as part of the build; run it with the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class NettyMessagingServiceBenchmark {
+
+  private static final String SUBJECT = "benchmark";
+
+  @Param({"NIO", "EPOLL"})
+  public Transport transport;
+
+  @Param({"0", "256"})
+  public int flushConsolidationLimit;
+
+  @Param("1024")
+  public int payloadSize;
+
+  @Param("128")
+  public int requestsInFlight;
+
+  private NettyMessagingService server;
+  private NettyMessagingService client;
+  private Address serverAddress;
+  private Semaphore inFlight;
+  private byte[] payload;
+
+  public static void main(final String[] args) throws Exception {
+    final var options =
+        new OptionsBuilder().include(NettyMessagingServiceBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() throws IOException {
+    final MessagingConfig config =
+        new MessagingConfig()
+            .setTransport(transport)
+            .setFlushConsolidationLimit(flushConsolidationLimit);
+    serverAddress = Address.from(findAvailablePort());
+    server = new NettyMessagingService("benchmark", serverAddress, config);
+    client = new NettyMessagingService("benchmark", Address.from(findAvailablePort()), config);
+    server.start().join();
+    client.start().join();
+    server.registerHandler(SUBJECT, (sender, bytes) -> CompletableFuture.completedFuture(bytes));
+
+    inFlight = new Semaphore(requestsInFlight);
+    payload = new byte[payloadSize];
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    try {
+      if (!inFlight.tryAcquire(requestsInFlight, 1, TimeUnit.MINUTES)) {
+        throw new IllegalStateException("Expected all requests to complete, but they did not");
+      }
+    } finally {
+      client.stop().join();
+      server.stop().join();
+    }
+  }
+
+  @Benchmark
+  public void sendAndReceive() throws InterruptedException {
+    inFlight.acquire();
+    client
+        .sendAndReceive(serverAddress, SUBJECT, payload)
+        .whenComplete((response, error) -> inFlight.release());
+  }
+
+  private static int findAvailablePort() throws IOException {
+    try (final ServerSocket socket = new ServerSocket(0)) {
+      socket.setReuseAddress(true);
+      return socket.getLocalPort();
+    }
+  }
+}
@@ -336,6 +336,38 @@ public class NettyMessagingServiceTest {
     assertArrayEquals(payload, response);
   }
 
+  @Test
+  public void testSendAndReceiveWithConfiguredEventLoops() throws Exception {
+    final MessagingConfig config =
+        new MessagingConfig()
+            .setTransport(MessagingConfig.Transport.NIO)
+            .setServerEventLoopThreads(1)
+            .setClientEventLoopThreads(2)
+            .setFlushConsolidationLimit(16);
+    final Address address = Address.from(findAvailablePort(5008));
+    final ManagedMessagingService netty =
+        (ManagedMessagingService)
+            new NettyMessagingService("test", address, config).start().join();
+
+    try {
+      final String subject = nextSubject();
+      final byte[] payload = "Hello world!".getBytes();
+      netty.registerHandler(subject, (sender, bytes) -> CompletableFuture.completedFuture(bytes));
+
+      final CompletableFuture<?>[] responses = new CompletableFuture<?>[100];
+      for (int i = 0; i < responses.length; i++) {
+        responses[i] = netty1.sendAndReceive(address, subject, payload);
+      }
+
+      CompletableFuture.allOf(responses).get(10, TimeUnit.SECONDS);
+      for (final CompletableFuture<?> response : responses) {
+        assertArrayEquals(payload, (byte[]) response.join());
+      }
+    } finally {
+      netty.stop().join();
+    }
+  }
+
   private static int findAvailablePort(final int defaultPort) {
     try {
       final ServerSocket socket = new ServerSocket(0);
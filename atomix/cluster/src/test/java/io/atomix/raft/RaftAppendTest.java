@@ -18,6 +18,7 @@ package io.atomix.raft;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.atomix.storage.journal.Indexed;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -39,7 +40,9 @@ public class RaftAppendTest {
       new Object[] {RaftRule.withBootstrappedNodes(2)},
       new Object[] {RaftRule.withBootstrappedNodes(3)},
       new Object[] {RaftRule.withBootstrappedNodes(4)},
-      new Object[] {RaftRule.withBootstrappedNodes(5)}
+      new Object[] {RaftRule.withBootstrappedNodes(5)},
+      new Object[] {RaftRule.withBootstrappedNodes(1).withGroupCommitWindow(Duration.ofMillis(5))},
+      new Object[] {RaftRule.withBootstrappedNodes(3).withGroupCommitWindow(Duration.ofMillis(5))}
     };
   }
 
@@ -52,6 +52,7 @@ import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -87,6 +88,7 @@ public final class RaftRule extends ExternalResource {
   private volatile ThreadContext context;
   private Path directory;
   private final int nodeCount;
+  private Duration groupCommitWindow = Duration.ZERO;
   private volatile long highestCommit;
   private final AtomicReference<CommitAwaiter> commitAwaiterRef = new AtomicReference<>();
   private final Map<String, AtomicReference<CountDownLatch>> compactAwaiters = new HashMap<>();
@@ -107,6 +109,11 @@ public final class RaftRule extends ExternalResource {
     return new RaftRule(-1);
   }
 
+  public RaftRule withGroupCommitWindow(final Duration groupCommitWindow) {
+    this.groupCommitWindow = groupCommitWindow;
+    return this;
+  }
+
   @Override
   public Statement apply(final Statement base, final Description description) {
     final var statement = super.apply(base, description);
@@ -457,6 +464,7 @@ public final class RaftRule extends ExternalResource {
             .withDirectory(memberDirectory)
             .withMaxEntriesPerSegment(10)
             .withMaxSegmentSize(1024 * 10)
+            .withGroupCommitWindow(groupCommitWindow)
             .withSnapshotStore(
                 new FileBasedSnapshotStoreFactory()
                     .createSnapshotStore(memberDirectory.toPath(), "1"))
@@ -532,7 +540,10 @@ public final class RaftRule extends ExternalResource {
 
   @Override
   public String toString() {
-    return "RaftRule with " + nodeCount + " nodes.";
+    if (groupCommitWindow.isZero()) {
+      return "RaftRule with " + nodeCount + " nodes.";
+    }
+    return "RaftRule with " + nodeCount + " nodes and group commit in " + groupCommitWindow + ".";
   }
 
   public void triggerDataLossOnNode(final String node) throws IOException {
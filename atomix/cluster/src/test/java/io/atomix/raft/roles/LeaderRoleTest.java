@@ -27,7 +27,9 @@ import static org.mockito.Mockito.when;
 import io.atomix.cluster.ClusterMembershipService;
 import io.atomix.raft.RaftServer.Role;
 import io.atomix.raft.impl.RaftContext;
+import io.atomix.raft.metrics.RaftLogFlushMetrics;
 import io.atomix.raft.snapshot.PersistedSnapshotStore;
+import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.atomix.raft.storage.log.RaftLogWriter;
 import io.atomix.raft.storage.log.entry.RaftLogEntry;
@@ -75,6 +77,10 @@ public class LeaderRoleTest {
               return new Indexed<>(1, zeebeEntry, 45);
             });
     when(context.getLogWriter()).thenReturn(writer);
+    when(context.getLogFlusher())
+        .thenReturn(
+            new RaftLogFlusher(
+                writer, threadContext, Duration.ZERO, 1, new RaftLogFlushMetrics("leader")));
 
     final PersistedSnapshotStore persistedSnapshotStore = mock(PersistedSnapshotStore.class);
     when(context.getPersistedSnapshotStore()).thenReturn(persistedSnapshotStore);
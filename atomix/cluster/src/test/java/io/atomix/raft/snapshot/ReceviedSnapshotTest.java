@@ -27,6 +27,8 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Rule;
@@ -276,7 +278,7 @@ public class ReceviedSnapshotTest {
   }
 
   @Test
-  public void shouldCheckForNextChunk() {
+  public void shouldPersistChunksAppliedInAnyOrder() throws Exception {
     // given
     final var index = 1L;
     final var term = 0L;
@@ -286,18 +288,23 @@ public class ReceviedSnapshotTest {
         p -> takeSnapshot(p, List.of("file3", "file1", "file2"), List.of("content", "this", "is")));
     final var persistedSnapshot = transientSnapshot.persist();
 
+    final List<SnapshotChunk> snapshotChunks = new ArrayList<>();
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.forEachRemaining(snapshotChunks::add);
+    }
+    Collections.reverse(snapshotChunks);
+
     // when
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(
             persistedSnapshot.getId().getSnapshotIdAsString());
-    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
-      receivedSnapshot.setNextExpected(snapshotChunkReader.nextId());
+    for (final var snapshotChunk : snapshotChunks) {
+      assertThat(receivedSnapshot.apply(snapshotChunk)).isTrue();
     }
+    final var snapshot = receivedSnapshot.persist();
 
     // then
-    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
-      assertThat(receivedSnapshot.isExpectedChunk(snapshotChunkReader.nextId())).isTrue();
-    }
+    assertThat(snapshot.getId()).isEqualTo(persistedSnapshot.getId());
   }
 
   @Test
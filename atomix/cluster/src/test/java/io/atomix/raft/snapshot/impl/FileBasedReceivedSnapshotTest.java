@@ -39,6 +39,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -174,6 +175,78 @@ public class FileBasedReceivedSnapshotTest {
     assertThat(snapshotFileList).isNotNull().extracting(File::getName).containsExactly("file1.txt");
   }
 
+  @Test
+  public void shouldPersistSnapshotWithFilesSplitIntoChunks() throws Exception {
+    // given
+    final var chunkedFactory = new FileBasedSnapshotStoreFactory(4);
+    final var senderStore =
+        chunkedFactory.createSnapshotStore(temporaryFolder.newFolder("chunked").toPath(), "1");
+    final var transientSnapshot =
+        senderStore.newTransientSnapshot(1L, 0L, WallClockTimestamp.from(123));
+    transientSnapshot.take(
+        p -> takeSnapshot(p, List.of("file1", "file2"), List.of("This is the content", "is")));
+    final var persistedSnapshot = transientSnapshot.persist();
+
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(
+            persistedSnapshot.getId().getSnapshotIdAsString());
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      while (snapshotChunkReader.hasNext()) {
+        assertThat(receivedSnapshot.apply(snapshotChunkReader.next())).isTrue();
+      }
+    }
+    final var snapshot = receivedSnapshot.persist();
+
+    // then
+    final var directory = ((FileBasedSnapshot) snapshot).getDirectory();
+    assertThat(directory.resolve("file1")).hasContent("This is the content");
+    assertThat(directory.resolve("file2")).hasContent("is");
+  }
+
+  @Test
+  public void shouldReuseFilesOfLatestSnapshot() throws Exception {
+    // given
+    final var chunkedFactory = new FileBasedSnapshotStoreFactory(4);
+    final var senderStore =
+        chunkedFactory.createSnapshotStore(temporaryFolder.newFolder("chunked").toPath(), "1");
+    final var firstSnapshot = senderStore.newTransientSnapshot(1L, 0L, WallClockTimestamp.from(1));
+    firstSnapshot.take(
+        p -> takeSnapshot(p, List.of("file1", "file2"), List.of("This is the content", "is")));
+    receiveSnapshot(firstSnapshot.persist()).persist();
+
+    final var secondSnapshot = senderStore.newTransientSnapshot(2L, 0L, WallClockTimestamp.from(2));
+    secondSnapshot.take(
+        p -> takeSnapshot(p, List.of("file1", "file3"), List.of("This is the content", "new")));
+    final var persistedSnapshot = secondSnapshot.persist();
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(
+            persistedSnapshot.getId().getSnapshotIdAsString());
+
+    // when
+    final List<String> skippedTo = new ArrayList<>();
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      while (snapshotChunkReader.hasNext()) {
+        assertThat(receivedSnapshot.apply(snapshotChunkReader.next())).isTrue();
+
+        final var skipToChunkId = receivedSnapshot.getSkipToChunkId();
+        if (skipToChunkId != null) {
+          skippedTo.add(
+              FileBasedSnapshotChunkReader.ID_CHARSET.decode(skipToChunkId.duplicate()).toString());
+          snapshotChunkReader.seek(skipToChunkId);
+        }
+      }
+    }
+    final var snapshot = receivedSnapshot.persist();
+
+    // then
+    assertThat(skippedTo).containsExactly("file1#16");
+    final var directory = ((FileBasedSnapshot) snapshot).getDirectory();
+    assertThat(directory.resolve("file1")).hasContent("This is the content");
+    assertThat(directory.resolve("file3")).hasContent("new");
+  }
+
   @Test
   public void shouldNotDeletePersistedSnapshotOnPurgePendingOnStore() throws Exception {
     // given
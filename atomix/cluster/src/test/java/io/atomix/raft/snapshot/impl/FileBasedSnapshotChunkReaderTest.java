@@ -8,6 +8,7 @@
 package io.atomix.raft.snapshot.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.atomix.raft.snapshot.SnapshotChunk;
 import java.io.IOException;
@@ -71,6 +72,49 @@ public final class FileBasedSnapshotChunkReaderTest {
     Assertions.assertThat(reader.hasNext()).isFalse();
   }
 
+  @Test
+  public void shouldSplitFileIntoChunks() throws IOException {
+    // given
+    final var directory = temporaryFolder.getRoot().toPath();
+    Files.writeString(directory.resolve("a"), "0123456789");
+    Files.writeString(directory.resolve("b"), "abc");
+    final var reader = new FileBasedSnapshotChunkReader(directory, 4);
+
+    // when
+    final var chunks = new ArrayList<SnapshotChunk>();
+    while (reader.hasNext()) {
+      chunks.add(reader.next());
+    }
+
+    // then
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getChunkName, SnapshotChunk::getFileBlockPosition)
+        .containsExactly(tuple("a", 0L), tuple("a", 4L), tuple("a", 8L), tuple("b", 0L));
+    assertThat(chunks).extracting(c -> new String(c.getContent())).contains("0123", "4567", "89");
+    assertThat(chunks).extracting(SnapshotChunk::getTotalCount).containsOnly(4);
+  }
+
+  @Test
+  public void shouldSeekToChunkWithinFile() throws IOException {
+    // given
+    final var directory = temporaryFolder.getRoot().toPath();
+    Files.writeString(directory.resolve("a"), "0123456789");
+    Files.writeString(directory.resolve("b"), "abc");
+    final var reader = new FileBasedSnapshotChunkReader(directory, 4);
+
+    // when
+    reader.seek(asBuffer("a#4"));
+
+    // then
+    final var chunk = reader.next();
+    assertThat(chunk.getChunkName()).isEqualTo("a");
+    assertThat(chunk.getFileBlockPosition()).isEqualTo(4L);
+    assertThat(chunk.getTotalFileSize()).isEqualTo(10L);
+    Assertions.assertThat(reader.nextId()).isEqualTo(asBuffer("a#8"));
+    reader.next();
+    Assertions.assertThat(reader.nextId()).isEqualTo(asBuffer("b"));
+  }
+
   private ByteBuffer asBuffer(final CharSequence chunk) {
     return ByteBuffer.wrap(chunk.toString().getBytes(FileBasedSnapshotChunkReader.ID_CHARSET));
   }
@@ -93,7 +137,8 @@ public final class FileBasedSnapshotChunkReaderTest {
     }
 
     try {
-      return new FileBasedSnapshotChunkReader(directory);
+      return new FileBasedSnapshotChunkReader(
+          directory, FileBasedSnapshotStoreFactory.DEFAULT_MAX_CHUNK_SIZE);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
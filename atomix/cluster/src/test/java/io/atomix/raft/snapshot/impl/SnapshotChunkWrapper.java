@@ -79,6 +79,21 @@ public final class SnapshotChunkWrapper implements SnapshotChunk {
     return wrappedChunk.getChunkName();
   }
 
+  @Override
+  public long getFileBlockPosition() {
+    return wrappedChunk.getFileBlockPosition();
+  }
+
+  @Override
+  public long getTotalFileSize() {
+    return wrappedChunk.getTotalFileSize();
+  }
+
+  @Override
+  public long getFileChecksum() {
+    return wrappedChunk.getFileChecksum();
+  }
+
   @Override
   public long getChecksum() {
     if (checksum == null) {
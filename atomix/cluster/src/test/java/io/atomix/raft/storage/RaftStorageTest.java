@@ -20,6 +20,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import io.atomix.storage.journal.ChecksumType;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.FileVisitResult;
@@ -47,6 +48,7 @@ public class RaftStorageTest {
     assertTrue(storage.dynamicCompaction());
     assertEquals(.2, storage.freeDiskBuffer(), .01);
     assertTrue(storage.isFlushOnCommit());
+    assertEquals(ChecksumType.CRC32, storage.checksumType());
     assertFalse(storage.isRetainStaleSnapshots());
     assertTrue(storage.statistics().getFreeMemory() > 0);
   }
@@ -62,6 +64,7 @@ public class RaftStorageTest {
             .withDynamicCompaction(false)
             .withFreeDiskBuffer(.5)
             .withFlushOnCommit(false)
+            .withChecksumType(ChecksumType.CRC32C)
             .withRetainStaleSnapshots()
             .build();
     assertEquals("foo", storage.prefix());
@@ -71,6 +74,7 @@ public class RaftStorageTest {
     assertFalse(storage.dynamicCompaction());
     assertEquals(.5, storage.freeDiskBuffer(), .01);
     assertFalse(storage.isFlushOnCommit());
+    assertEquals(ChecksumType.CRC32C, storage.checksumType());
     assertTrue(storage.isRetainStaleSnapshots());
   }
 
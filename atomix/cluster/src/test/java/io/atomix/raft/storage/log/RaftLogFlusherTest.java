@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.raft.metrics.RaftLogFlushMetrics;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.storage.StorageException;
+import io.atomix.storage.journal.Indexed;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.ThreadContext;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class RaftLogFlusherTest {
+
+  private static final Duration WINDOW = Duration.ofMillis(5);
+  private static final int MAX_BYTES = 100;
+
+  private final RaftLogWriter writer = mock(RaftLogWriter.class);
+  private final ThreadContext threadContext = mock(ThreadContext.class);
+  private RaftLogFlusher flusher;
+  private long lastIndex;
+
+  @Before
+  public void setUp() {
+    when(writer.getLastIndex()).then(i -> lastIndex);
+    when(threadContext.schedule(any(Duration.class), any(Runnable.class)))
+        .thenReturn(mock(Scheduled.class));
+    flusher =
+        new RaftLogFlusher(
+            writer, threadContext, WINDOW, MAX_BYTES, new RaftLogFlushMetrics("raft-1"));
+  }
+
+  @Test
+  public void shouldNotAwaitFlushIfDisabled() {
+    // given
+    flusher =
+        new RaftLogFlusher(
+            writer, threadContext, Duration.ZERO, MAX_BYTES, new RaftLogFlushMetrics("raft-1"));
+
+    // when
+    flusher.onAppend(append(10));
+    final CompletableFuture<Void> flushed = flusher.awaitFlush(lastIndex);
+
+    // then
+    assertThat(flushed).isDone();
+    assertThat(flusher.getFlushedIndex()).isEqualTo(1);
+    verify(writer, never()).flush();
+    verify(threadContext, never()).schedule(any(Duration.class), any(Runnable.class));
+  }
+
+  @Test
+  public void shouldFlushEntriesAppendedWithinWindowTogether() {
+    // given
+    flusher.onAppend(append(10));
+    final CompletableFuture<Void> firstFlushed = flusher.awaitFlush(lastIndex);
+    flusher.onAppend(append(10));
+    final CompletableFuture<Void> secondFlushed = flusher.awaitFlush(lastIndex);
+    assertThat(firstFlushed).isNotDone();
+    assertThat(flusher.getFlushedIndex()).isEqualTo(0);
+
+    // when
+    final ArgumentCaptor<Runnable> scheduledFlush = ArgumentCaptor.forClass(Runnable.class);
+    verify(threadContext, times(1)).schedule(eq(WINDOW), scheduledFlush.capture());
+    scheduledFlush.getValue().run();
+
+    // then
+    verify(writer, times(1)).flush();
+    assertThat(firstFlushed).isCompleted();
+    assertThat(secondFlushed).isCompleted();
+    assertThat(flusher.getFlushedIndex()).isEqualTo(2);
+    assertThat(flusher.awaitFlush(2)).isCompleted();
+  }
+
+  @Test
+  public void shouldFlushOnceMaxBytesAreExceeded() {
+    // given
+    flusher.onAppend(append(MAX_BYTES / 2));
+    final CompletableFuture<Void> flushed = flusher.awaitFlush(lastIndex);
+
+    // when
+    flusher.onAppend(append(MAX_BYTES / 2));
+
+    // then
+    verify(writer, times(1)).flush();
+    assertThat(flushed).isCompleted();
+    assertThat(flusher.getFlushedIndex()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldCompleteExceptionallyIfFlushFails() {
+    // given
+    final StorageException failure = new StorageException("expected");
+    doThrow(failure).when(writer).flush();
+    flusher.onAppend(append(10));
+    final CompletableFuture<Void> flushed = flusher.awaitFlush(lastIndex);
+
+    // when
+    flusher.flush();
+
+    // then
+    assertThat(flushed).hasFailedWithThrowableThat().isEqualTo(failure);
+    assertThat(flusher.getFlushedIndex()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldCompleteExceptionallyOnClose() {
+    // given
+    flusher.onAppend(append(10));
+    final CompletableFuture<Void> flushed = flusher.awaitFlush(lastIndex);
+
+    // when
+    flusher.close();
+
+    // then
+    assertThat(flushed).hasFailedWithThrowableThat().isInstanceOf(IllegalStateException.class);
+    verify(writer, never()).flush();
+  }
+
+  @Test
+  public void shouldNotReportTruncatedEntriesAsFlushed() {
+    // given
+    flusher.onAppend(append(10));
+    flusher.onAppend(append(10));
+    flusher.flush();
+
+    // when
+    lastIndex = 1;
+    flusher.onTruncate(1);
+
+    // then
+    assertThat(flusher.getFlushedIndex()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldAwaitFlushOfEntriesAppendedAgainAfterTruncation() {
+    // given
+    flusher.onAppend(append(10));
+    flusher.onAppend(append(10));
+    flusher.flush();
+    lastIndex = 1;
+    flusher.onTruncate(1);
+
+    // when
+    flusher.onAppend(append(10));
+    final CompletableFuture<Void> flushed = flusher.awaitFlush(lastIndex);
+
+    // then
+    assertThat(lastIndex).isEqualTo(2);
+    assertThat(flusher.getFlushedIndex()).isEqualTo(1);
+    assertThat(flushed).isNotDone();
+
+    flusher.flush();
+    assertThat(flushed).isCompleted();
+    assertThat(flusher.getFlushedIndex()).isEqualTo(2);
+  }
+
+  private Indexed<RaftLogEntry> append(final int size) {
+    lastIndex++;
+    return new Indexed<>(lastIndex, mock(RaftLogEntry.class), size);
+  }
+}
@@ -415,6 +415,12 @@ public class AtomixBuilder extends AtomixClusterBuilder {
     return this;
   }
 
+  @Override
+  public AtomixBuilder withConnectionStriping(final boolean connectionStriping) {
+    super.withConnectionStriping(connectionStriping);
+    return this;
+  }
+
   @Override
   public AtomixBuilder withMulticastEnabled() {
     super.withMulticastEnabled();
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import io.atomix.storage.StorageException;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+/**
+ * The algorithm used to compute the checksums of the entries of a segment. It is recorded in the
+ * segment descriptor, such that segments keep being verified with the algorithm they were written
+ * with; segments written before the algorithm was recorded have the id {@code 0}, i.e. CRC32.
+ */
+public enum ChecksumType {
+  CRC32((byte) 0) {
+    @Override
+    public Checksum newChecksum() {
+      return new CRC32();
+    }
+  },
+  CRC32C((byte) 1) {
+    @Override
+    public Checksum newChecksum() {
+      return new CRC32C();
+    }
+  };
+
+  private final byte id;
+
+  ChecksumType(final byte id) {
+    this.id = id;
+  }
+
+  /** @return the id of the algorithm, as stored in the segment descriptor */
+  public byte id() {
+    return id;
+  }
+
+  /**
+   * Returns a new checksum instance; it is not thread safe, but can be reused for many entries by
+   * resetting it before each one.
+   *
+   * @return a new checksum instance
+   */
+  public abstract Checksum newChecksum();
+
+  /**
+   * @return the algorithm with the given id
+   * @throws StorageException if there is no algorithm with the given id
+   */
+  public static ChecksumType of(final byte id) {
+    for (final ChecksumType type : values()) {
+      if (type.id == id) {
+        return type;
+      }
+    }
+
+    throw new StorageException("Unknown checksum type " + id);
+  }
+}
@@ -66,6 +66,16 @@ public class DelegatingJournalReader<E> implements JournalReader<E> {
     return delegate.next();
   }
 
+  @Override
+  public boolean hasPrevious() {
+    return delegate.hasPrevious();
+  }
+
+  @Override
+  public Indexed<E> previous() {
+    return delegate.previous();
+  }
+
   @Override
   public void reset() {
     delegate.reset();
@@ -25,7 +25,6 @@ import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.NoSuchElementException;
-import java.util.zip.CRC32;
 import java.util.zip.Checksum;
 
 /**
@@ -40,6 +39,7 @@ class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
   private final Namespace namespace;
   private final ByteBuffer memory;
   private final JournalSegment<E> segment;
+  private final Checksum crc;
   private Indexed<E> currentEntry;
   private Indexed<E> nextEntry;
 
@@ -55,6 +55,7 @@ class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
     this.namespace = namespace;
     this.memory = ByteBuffer.allocate((maxEntrySize + Integer.BYTES + Integer.BYTES) * 2);
     this.segment = segment;
+    this.crc = segment.descriptor().checksumType().newChecksum();
     reset();
   }
 
@@ -185,7 +186,7 @@ class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
         return;
       }
 
-      // we using a CRC32 - which is 32 byte checksum
+      // the checksum is stored as a 32-bit integer
       // remaining bytes need to be larger or equals to entry length + checksum length
       final var cantReadEntry = memory.remaining() < (length + Integer.BYTES);
       if (cantReadEntry) {
@@ -227,10 +228,10 @@ class FileChannelJournalSegmentReader<E> implements JournalReader<E> {
     final long checksum = memory.getInt() & 0xFFFFFFFFL;
 
     // Compute the checksum for the entry bytes.
-    final Checksum crc32 = new CRC32();
-    crc32.update(memory.array(), memory.position(), length);
+    crc.reset();
+    crc.update(memory.array(), memory.position(), length);
 
-    return checksum != crc32.getValue();
+    return checksum != crc.getValue();
   }
 
   private boolean isLengthInvalid(final int length) {
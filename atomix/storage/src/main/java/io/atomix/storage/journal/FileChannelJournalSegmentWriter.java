@@ -25,7 +25,6 @@ import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
-import java.util.zip.CRC32;
 import java.util.zip.Checksum;
 
 /**
@@ -53,6 +52,7 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
   private final Namespace namespace;
   private final ByteBuffer memory;
   private final long firstIndex;
+  private final Checksum crc;
   private Indexed<E> lastEntry;
 
   FileChannelJournalSegmentWriter(
@@ -60,7 +60,8 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
       final JournalSegment segment,
       final int maxEntrySize,
       final JournalIndex index,
-      final Namespace namespace) {
+      final Namespace namespace,
+      final JournalSegmentOffsets offsets) {
     this.channel = channel;
     this.segment = segment;
     this.maxEntrySize = maxEntrySize;
@@ -69,7 +70,10 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
     memory.limit(0);
     this.namespace = namespace;
     this.firstIndex = segment.index();
-    reset(0);
+    this.crc = segment.descriptor().checksumType().newChecksum();
+    if (offsets == null || !restore(offsets)) {
+      reset(0);
+    }
   }
 
   @Override
@@ -125,12 +129,12 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
       }
 
       // Compute the checksum for the entry.
-      final Checksum crc32 = new CRC32();
-      crc32.update(
+      crc.reset();
+      crc.update(
           memory.array(),
           Integer.BYTES + Integer.BYTES,
           memory.limit() - (Integer.BYTES + Integer.BYTES));
-      final long checksum = crc32.getValue();
+      final long checksum = crc.getValue();
 
       // Create a single byte[] in memory for the entire entry and write it as a batch to the
       // underlying buffer.
@@ -199,11 +203,11 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
         final long checksum = memory.getInt() & 0xFFFFFFFFL;
 
         // Compute the checksum for the entry bytes.
-        final Checksum crc32 = new CRC32();
-        crc32.update(memory.array(), memory.position(), length);
+        crc.reset();
+        crc.update(memory.array(), memory.position(), length);
 
         // If the stored checksum equals the computed checksum, return the entry.
-        if (checksum == crc32.getValue()) {
+        if (checksum == crc.getValue()) {
           final int limit = memory.limit();
           memory.limit(memory.position() + length);
           final E entry = namespace.deserialize(memory);
@@ -244,6 +248,80 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
     }
   }
 
+  /**
+   * Restores the writer from the offsets of a sealed segment. Only the entries which are added to
+   * the journal index and the last entry are read and verified, all others are skipped.
+   *
+   * @return false if the offsets do not match the segment, which must be scanned instead
+   */
+  private boolean restore(final JournalSegmentOffsets offsets) {
+    try {
+      if (offsets.endPosition() + Integer.BYTES <= channel.size()
+          && readLength(offsets.endPosition()) != 0) {
+        // entries were appended after the segment was sealed
+        return false;
+      }
+
+      final long lastIndex = firstIndex + offsets.size() - 1;
+      for (long nextIndex = firstIndex; nextIndex <= lastIndex; nextIndex++) {
+        final boolean indexed = this.index.isIndexed(nextIndex);
+        if (!indexed && nextIndex < lastIndex) {
+          continue;
+        }
+
+        final int position = offsets.position(nextIndex);
+        final Indexed<E> entry = readEntry(nextIndex, position);
+        if (entry == null) {
+          lastEntry = null;
+          return false;
+        }
+
+        lastEntry = entry;
+        if (indexed) {
+          this.index.index(entry, position);
+        }
+      }
+
+      channel.position(offsets.endPosition());
+      memory.clear().flip();
+      return true;
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  private int readLength(final long position) throws IOException {
+    memory.clear().limit(Integer.BYTES);
+    channel.read(memory, position);
+    memory.flip();
+    return memory.remaining() == Integer.BYTES ? memory.getInt() : 0;
+  }
+
+  /** @return the verified entry at the given position, or null if it is missing or corrupted */
+  private Indexed<E> readEntry(final long entryIndex, final int position) throws IOException {
+    final int length = readLength(position);
+    if (length <= 0 || length > maxEntrySize) {
+      return null;
+    }
+
+    memory.clear().limit(Integer.BYTES + length);
+    channel.read(memory, position + Integer.BYTES);
+    memory.flip();
+    if (memory.remaining() != Integer.BYTES + length) {
+      return null;
+    }
+
+    final long checksum = memory.getInt() & 0xFFFFFFFFL;
+    crc.reset();
+    crc.update(memory.array(), memory.position(), length);
+    if (checksum != crc.getValue()) {
+      return null;
+    }
+
+    final E entry = namespace.deserialize(memory);
+    return new Indexed<>(entryIndex, entry, length);
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public void truncate(final long index) {
@@ -17,6 +17,7 @@
 package io.atomix.storage.journal;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * Log reader.
@@ -85,6 +86,32 @@ public interface JournalReader<E> extends Iterator<Indexed<E>>, AutoCloseable {
   @Override
   Indexed<E> next();
 
+  /**
+   * Returns whether the reader has an entry before the current entry, i.e. whether it can be moved
+   * backwards.
+   *
+   * @return Whether the reader has a previous entry to read.
+   */
+  default boolean hasPrevious() {
+    return getCurrentIndex() > getFirstIndex();
+  }
+
+  /**
+   * Moves the reader backwards and returns the entry before the current entry, which becomes the
+   * current entry afterwards; the next entry is then the previously current entry.
+   *
+   * @return The previous entry in the reader.
+   * @throws NoSuchElementException if there is no previous entry
+   */
+  default Indexed<E> previous() {
+    if (!hasPrevious()) {
+      throw new NoSuchElementException();
+    }
+
+    reset(getCurrentIndex() - 1);
+    return next();
+  }
+
   /** Resets the reader to the start. */
   void reset();
 
@@ -23,6 +23,7 @@ import com.google.common.collect.Sets;
 import io.atomix.storage.StorageException;
 import io.atomix.storage.StorageLevel;
 import io.atomix.storage.journal.index.JournalIndex;
+import io.atomix.storage.journal.index.Position;
 import io.atomix.utils.serializer.Namespace;
 import java.io.File;
 import java.io.IOException;
@@ -50,6 +51,7 @@ public class JournalSegment<E> implements AutoCloseable {
   private final Set<MappableJournalSegmentReader<E>> readers = Sets.newConcurrentHashSet();
   private final AtomicInteger references = new AtomicInteger();
   private boolean open = true;
+  private volatile boolean sealed;
 
   public JournalSegment(
       final JournalSegmentFile file,
@@ -58,6 +60,21 @@ public class JournalSegment<E> implements AutoCloseable {
       final int maxEntrySize,
       final Namespace namespace,
       final JournalIndex journalIndex) {
+    this(file, descriptor, storageLevel, maxEntrySize, namespace, journalIndex, null);
+  }
+
+  /**
+   * Opens the segment; if the offsets of a sealed segment are given, the segment is restored from
+   * them instead of scanning all of its entries.
+   */
+  JournalSegment(
+      final JournalSegmentFile file,
+      final JournalSegmentDescriptor descriptor,
+      final StorageLevel storageLevel,
+      final int maxEntrySize,
+      final Namespace namespace,
+      final JournalIndex journalIndex,
+      final JournalSegmentOffsets offsets) {
     this.file = file;
     this.descriptor = descriptor;
     this.storageLevel = storageLevel;
@@ -66,7 +83,8 @@ public class JournalSegment<E> implements AutoCloseable {
     this.namespace = namespace;
     this.writer =
         new MappableJournalSegmentWriter<>(
-            openChannel(file.file()), this, maxEntrySize, index, namespace);
+            openChannel(file.file()), this, maxEntrySize, index, namespace, offsets);
+    this.sealed = offsets != null;
   }
 
   private FileChannel openChannel(final File file) {
@@ -99,6 +117,15 @@ public class JournalSegment<E> implements AutoCloseable {
     return descriptor.version();
   }
 
+  /**
+   * Resets the journal index of the segment to its first index. The journal index may be shared
+   * with the segments which were deleted before this one was created, e.g. when the journal is
+   * reset.
+   */
+  void resetIndex() {
+    index.reset(index());
+  }
+
   /**
    * Returns the segment's starting index.
    *
@@ -256,6 +283,54 @@ public class JournalSegment<E> implements AutoCloseable {
     this.index.compact(index);
   }
 
+  /**
+   * Returns the greatest index of this segment, less or equal to the given index, which is in the
+   * journal index, such that a reader can seek to it without scanning the preceding entries.
+   *
+   * @param index the index to look up
+   * @return the closest indexed index, or the first index of the segment if there is none
+   */
+  long floorIndexedIndex(final long index) {
+    final Position position = this.index.lookup(index);
+    if (position != null && position.index() >= index()) {
+      return position.index();
+    }
+    return index();
+  }
+
+  /**
+   * Returns a boolean indicating whether the segment is sealed, i.e. its entry offsets are
+   * persisted and it is not written anymore.
+   *
+   * @return indicates whether the segment is sealed
+   */
+  boolean isSealed() {
+    return sealed;
+  }
+
+  /**
+   * Seals the segment by persisting the offsets of its entries, such that it can be opened again
+   * without scanning it. The segment must not be written afterwards, unless it is unsealed.
+   */
+  void seal() {
+    if (sealed || isEmpty()) {
+      return;
+    }
+
+    try (final FileChannel channel = FileChannel.open(file.file().toPath())) {
+      JournalSegmentOffsets.collect(channel, index(), (int) length()).write(file.offsetsFile());
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+    sealed = true;
+  }
+
+  /** Unseals the segment before it is written again, which invalidates the persisted offsets. */
+  void unseal() {
+    JournalSegmentOffsets.delete(file.offsetsFile());
+    sealed = false;
+  }
+
   /** Deletes the segment. */
   public void delete() {
     try {
@@ -263,6 +338,7 @@ public class JournalSegment<E> implements AutoCloseable {
     } catch (final IOException e) {
       throw new StorageException(e);
     }
+    JournalSegmentOffsets.delete(file.offsetsFile());
   }
 
   @Override
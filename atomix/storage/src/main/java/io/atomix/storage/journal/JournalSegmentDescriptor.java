@@ -52,6 +52,9 @@ import java.nio.ByteBuffer;
  *   <li>{@code locked} (8-bit boolean) - A boolean indicating whether the segment is locked.
  *       Segments will be locked once all entries have been committed to the segment. The lock state
  *       of each segment is used to determine log compaction and recovery behavior.
+ *   <li>{@code checksumType} (8-bit integer) - The id of the {@link ChecksumType} used to compute
+ *       the checksums of the entries. Segments written before it was recorded have a {@code 0},
+ *       i.e. {@link ChecksumType#CRC32}.
  * </ul>
  *
  * The remainder of the 64 segment header bytes are reserved for future metadata.
@@ -71,6 +74,7 @@ public final class JournalSegmentDescriptor {
   private static final int MAX_SIZE_LENGTH = Integer.BYTES; // 32-bit signed integer
   private static final int MAX_ENTRIES_LENGTH = Integer.BYTES; // 32-bit signed integer
   private static final int UPDATED_LENGTH = Long.BYTES; // 64-bit signed integer
+  private static final int LOCKED_LENGTH = Byte.BYTES; // 8-bit boolean
 
   // The positions of each field in the header.
   private static final int VERSION_POSITION = 0; // 0
@@ -79,6 +83,8 @@ public final class JournalSegmentDescriptor {
   private static final int MAX_SIZE_POSITION = INDEX_POSITION + INDEX_LENGTH; // 20
   private static final int MAX_ENTRIES_POSITION = MAX_SIZE_POSITION + MAX_SIZE_LENGTH; // 24
   private static final int UPDATED_POSITION = MAX_ENTRIES_POSITION + MAX_ENTRIES_LENGTH; // 28
+  private static final int LOCKED_POSITION = UPDATED_POSITION + UPDATED_LENGTH; // 36
+  private static final int CHECKSUM_TYPE_POSITION = LOCKED_POSITION + LOCKED_LENGTH; // 37
   private final ByteBuffer buffer;
   private final int version;
   private final long id;
@@ -87,6 +93,7 @@ public final class JournalSegmentDescriptor {
   private final int maxEntries;
   private volatile long updated;
   private final boolean locked;
+  private final ChecksumType checksumType;
   /** @throws NullPointerException if {@code buffer} is null */
   public JournalSegmentDescriptor(final ByteBuffer buffer) {
     this.buffer = buffer;
@@ -97,6 +104,7 @@ public final class JournalSegmentDescriptor {
     this.maxEntries = buffer.getInt();
     this.updated = buffer.getLong();
     this.locked = buffer.get() == 1;
+    this.checksumType = ChecksumType.of(buffer.get());
   }
 
   /**
@@ -187,6 +195,15 @@ public final class JournalSegmentDescriptor {
     return updated;
   }
 
+  /**
+   * Returns the algorithm used to compute the checksums of the entries of the segment.
+   *
+   * @return The checksum type of the segment.
+   */
+  public ChecksumType checksumType() {
+    return checksumType;
+  }
+
   /** Writes an update to the descriptor. */
   public void update(final long timestamp) {
     if (!locked) {
@@ -204,6 +221,7 @@ public final class JournalSegmentDescriptor {
     buffer.putInt(maxEntries);
     buffer.putLong(updated);
     buffer.put(locked ? (byte) 1 : (byte) 0);
+    buffer.put(checksumType.id());
     return this;
   }
 
@@ -214,6 +232,7 @@ public final class JournalSegmentDescriptor {
         .add("id", id)
         .add("index", index)
         .add("updated", updated)
+        .add("checksumType", checksumType)
         .toString();
   }
 
@@ -224,6 +243,7 @@ public final class JournalSegmentDescriptor {
     private Builder(final ByteBuffer buffer) {
       this.buffer = checkNotNull(buffer, "buffer cannot be null");
       buffer.putInt(VERSION_POSITION, VERSION);
+      buffer.put(CHECKSUM_TYPE_POSITION, ChecksumType.CRC32.id());
     }
 
     /**
@@ -272,6 +292,19 @@ public final class JournalSegmentDescriptor {
       return this;
     }
 
+    /**
+     * Sets the algorithm used to compute the checksums of the entries of the segment. By default,
+     * it is {@link ChecksumType#CRC32}.
+     *
+     * @param checksumType The checksum type of the segment.
+     * @return The segment descriptor builder.
+     */
+    public Builder withChecksumType(final ChecksumType checksumType) {
+      checkNotNull(checksumType, "checksumType cannot be null");
+      buffer.put(CHECKSUM_TYPE_POSITION, checksumType.id());
+      return this;
+    }
+
     /**
      * Builds the segment descriptor.
      *
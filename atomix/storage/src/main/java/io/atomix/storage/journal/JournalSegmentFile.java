@@ -29,6 +29,7 @@ public final class JournalSegmentFile {
   private static final char PART_SEPARATOR = '-';
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
+  private static final String OFFSETS_EXTENSION = "idx";
   private final File file;
 
   /** @throws IllegalArgumentException if {@code file} is not a valid segment file */
@@ -55,6 +56,21 @@ public final class JournalSegmentFile {
    * @throws NullPointerException if {@code file} is null
    */
   public static boolean isSegmentFile(final String journalName, final String fileName) {
+    return hasFileName(journalName, fileName, EXTENSION);
+  }
+
+  /**
+   * Returns a boolean value indicating whether the given file appears to be the offsets file of a
+   * segment, see {@link #offsetsFile()}.
+   *
+   * @throws NullPointerException if {@code file} is null
+   */
+  public static boolean isOffsetsFile(final String journalName, final File file) {
+    return hasFileName(journalName, file.getName(), OFFSETS_EXTENSION);
+  }
+
+  private static boolean hasFileName(
+      final String journalName, final String fileName, final String extension) {
     checkNotNull(journalName, "journalName cannot be null");
     checkNotNull(fileName, "fileName cannot be null");
 
@@ -64,7 +80,7 @@ public final class JournalSegmentFile {
     if (extensionSeparator == -1
         || partSeparator == -1
         || extensionSeparator < partSeparator
-        || !fileName.endsWith(EXTENSION)) {
+        || !fileName.endsWith(extension)) {
       return false;
     }
 
@@ -91,4 +107,16 @@ public final class JournalSegmentFile {
   public File file() {
     return file;
   }
+
+  /**
+   * Returns the file which holds the entry offsets of the segment once it is sealed.
+   *
+   * @return The offsets file.
+   */
+  File offsetsFile() {
+    final String name = file.getName();
+    return new File(
+        file.getParentFile(),
+        name.substring(0, name.length() - EXTENSION.length()) + OFFSETS_EXTENSION);
+  }
 }
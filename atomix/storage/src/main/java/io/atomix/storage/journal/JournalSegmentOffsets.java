@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import io.atomix.storage.StorageException;
+import io.atomix.utils.memory.BufferCleaner;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The positions of the entries of a sealed segment, i.e. a segment which is not written anymore.
+ * They are persisted next to the segment when the journal rolls over to the next segment, such
+ * that the segment can be opened again without scanning and verifying all of its entries.
+ *
+ * <p>The format of the offsets file is as follows:
+ *
+ * <ul>
+ *   <li>32-bit version
+ *   <li>64-bit index of the first entry
+ *   <li>32-bit position after the last entry
+ *   <li>32-bit entry count
+ *   <li>n 32-bit entry positions
+ *   <li>64-bit CRC32 checksum of all previous bytes
+ * </ul>
+ */
+final class JournalSegmentOffsets {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JournalSegmentOffsets.class);
+  private static final int VERSION = 1;
+  private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES + Integer.BYTES * 2;
+  private static final String TMP_SUFFIX = ".tmp";
+
+  private final long firstIndex;
+  private final int endPosition;
+  private final int[] offsets;
+
+  private JournalSegmentOffsets(final long firstIndex, final int endPosition, final int[] offsets) {
+    this.firstIndex = firstIndex;
+    this.endPosition = endPosition;
+    this.offsets = offsets;
+  }
+
+  /** @return the number of entries of the segment */
+  int size() {
+    return offsets.length;
+  }
+
+  /** @return the position of the entry with the given index */
+  int position(final long index) {
+    return offsets[(int) (index - firstIndex)];
+  }
+
+  /** @return the position after the last entry, at which the segment would be appended */
+  int endPosition() {
+    return endPosition;
+  }
+
+  /**
+   * Collects the positions of the entries of the given segment file by following their lengths;
+   * the entries are expected to be written and verified before, e.g. by the segment writer.
+   */
+  static JournalSegmentOffsets collect(
+      final FileChannel channel, final long firstIndex, final int entryCount) {
+    final int[] offsets = new int[entryCount];
+    MappedByteBuffer buffer = null;
+    try {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+      int position = JournalSegmentDescriptor.BYTES;
+      for (int i = 0; i < entryCount; i++) {
+        final int length = buffer.getInt(position);
+        if (length <= 0) {
+          throw new StorageException(
+              "Expected entry " + (firstIndex + i) + " at position " + position + ", but was none");
+        }
+
+        offsets[i] = position;
+        position += Integer.BYTES + Integer.BYTES + length;
+      }
+
+      return new JournalSegmentOffsets(firstIndex, position, offsets);
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    } finally {
+      free(buffer);
+    }
+  }
+
+  /** Writes the offsets atomically to the given file, replacing an existing one. */
+  void write(final File file) {
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(HEADER_BYTES + offsets.length * Integer.BYTES + Long.BYTES);
+    buffer.putInt(VERSION);
+    buffer.putLong(firstIndex);
+    buffer.putInt(endPosition);
+    buffer.putInt(offsets.length);
+    for (final int offset : offsets) {
+      buffer.putInt(offset);
+    }
+    buffer.putLong(checksum(buffer, buffer.position()));
+    buffer.flip();
+
+    final Path path = file.toPath();
+    final Path tmpPath = path.resolveSibling(path.getFileName() + TMP_SUFFIX);
+    try (final FileChannel channel =
+        FileChannel.open(
+            tmpPath,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+
+    try {
+      Files.move(tmpPath, path, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  /**
+   * Reads the offsets of the segment with the given descriptor from the given file.
+   *
+   * @return the offsets, or null if the file does not exist or does not match the segment
+   */
+  static JournalSegmentOffsets read(final File file, final JournalSegmentDescriptor descriptor) {
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+    } catch (final NoSuchFileException e) {
+      return null;
+    } catch (final IOException e) {
+      LOG.warn("Failed to read offsets file {}, the segment will be scanned instead", file, e);
+      return null;
+    }
+
+    if (buffer.remaining() < HEADER_BYTES + Long.BYTES
+        || buffer.getLong(buffer.limit() - Long.BYTES)
+            != checksum(buffer, buffer.limit() - Long.BYTES)) {
+      LOG.warn("Offsets file {} is corrupted, the segment will be scanned instead", file);
+      return null;
+    }
+
+    final int version = buffer.getInt();
+    final long firstIndex = buffer.getLong();
+    final int endPosition = buffer.getInt();
+    final int entryCount = buffer.getInt();
+    if (version != VERSION
+        || firstIndex != descriptor.index()
+        || endPosition > descriptor.maxSegmentSize()
+        || entryCount <= 0
+        || buffer.remaining() != entryCount * Integer.BYTES + Long.BYTES) {
+      LOG.warn("Offsets file {} does not match its segment, it will be scanned instead", file);
+      return null;
+    }
+
+    final int[] offsets = new int[entryCount];
+    for (int i = 0; i < entryCount; i++) {
+      offsets[i] = buffer.getInt();
+    }
+    return new JournalSegmentOffsets(firstIndex, endPosition, offsets);
+  }
+
+  static void delete(final File file) {
+    try {
+      Files.deleteIfExists(file.toPath());
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  private static long checksum(final ByteBuffer buffer, final int length) {
+    final CRC32 crc32 = new CRC32();
+    crc32.update(buffer.array(), 0, length);
+    return crc32.getValue();
+  }
+
+  private static void free(final MappedByteBuffer buffer) {
+    if (buffer != null) {
+      try {
+        BufferCleaner.freeBuffer(buffer);
+      } catch (final IOException e) {
+        LOG.warn("Failed to unmap segment", e);
+      }
+    }
+  }
+}
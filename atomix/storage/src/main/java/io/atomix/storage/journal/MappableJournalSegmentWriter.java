@@ -38,14 +38,16 @@ class MappableJournalSegmentWriter<E> implements JournalWriter<E> {
       final JournalSegment<E> segment,
       final int maxEntrySize,
       final JournalIndex index,
-      final Namespace namespace) {
+      final Namespace namespace,
+      final JournalSegmentOffsets offsets) {
     this.channel = channel;
     this.segment = segment;
     this.maxEntrySize = maxEntrySize;
     this.index = index;
     this.namespace = namespace;
     this.writer =
-        new FileChannelJournalSegmentWriter<>(channel, segment, maxEntrySize, index, namespace);
+        new FileChannelJournalSegmentWriter<>(
+            channel, segment, maxEntrySize, index, namespace, offsets);
   }
 
   /**
@@ -76,7 +78,8 @@ class MappableJournalSegmentWriter<E> implements JournalWriter<E> {
     if (writer instanceof MappedJournalSegmentWriter) {
       final JournalWriter<E> writer = this.writer;
       this.writer =
-          new FileChannelJournalSegmentWriter<>(channel, segment, maxEntrySize, index, namespace);
+          new FileChannelJournalSegmentWriter<>(
+              channel, segment, maxEntrySize, index, namespace, null);
       writer.close();
     }
   }
@@ -22,7 +22,7 @@ import io.atomix.utils.serializer.Namespace;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.util.NoSuchElementException;
-import java.util.zip.CRC32;
+import java.util.zip.Checksum;
 
 /**
  * Log segment reader.
@@ -35,6 +35,7 @@ class MappedJournalSegmentReader<E> implements JournalReader<E> {
   private final JournalIndex index;
   private final Namespace namespace;
   private final JournalSegment<E> segment;
+  private final Checksum crc;
   private Indexed<E> currentEntry;
   private Indexed<E> nextEntry;
 
@@ -49,6 +50,7 @@ class MappedJournalSegmentReader<E> implements JournalReader<E> {
     this.index = index;
     this.namespace = namespace;
     this.segment = segment;
+    this.crc = segment.descriptor().checksumType().newChecksum();
     reset();
   }
 
@@ -168,13 +170,13 @@ class MappedJournalSegmentReader<E> implements JournalReader<E> {
       final long checksum = buffer.getInt() & 0xFFFFFFFFL;
 
       // Compute the checksum for the entry bytes.
-      final CRC32 crc32 = new CRC32();
       final ByteBuffer slice = buffer.slice();
       slice.limit(length);
-      crc32.update(slice);
+      crc.reset();
+      crc.update(slice);
 
       // If the stored checksum equals the computed checksum, return the entry.
-      if (checksum == crc32.getValue()) {
+      if (checksum == crc.getValue()) {
         slice.rewind();
         final E entry = namespace.deserialize(slice);
         nextEntry = new Indexed<>(index, entry, length);
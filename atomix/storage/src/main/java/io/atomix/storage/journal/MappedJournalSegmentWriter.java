@@ -26,7 +26,7 @@ import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
-import java.util.zip.CRC32;
+import java.util.zip.Checksum;
 
 /**
  * Segment writer.
@@ -53,6 +53,7 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
   private final JournalIndex index;
   private final Namespace namespace;
   private final long firstIndex;
+  private final Checksum crc;
   private Indexed<E> lastEntry;
 
   MappedJournalSegmentWriter(
@@ -68,6 +69,7 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
     this.index = index;
     this.namespace = namespace;
     this.firstIndex = segment.index();
+    this.crc = segment.descriptor().checksumType().newChecksum();
     reset(0);
   }
 
@@ -130,13 +132,14 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
           "Entry size " + length + " exceeds maximum allowed bytes (" + maxEntrySize + ")");
     }
 
-    // Compute the checksum for the entry.
-    final CRC32 crc32 = new CRC32();
+    // Compute the checksum for the entry, limiting the buffer to the entry bytes.
+    final int limit = buffer.limit();
     buffer.position(position + Integer.BYTES + Integer.BYTES);
-    final ByteBuffer slice = buffer.slice();
-    slice.limit(length);
-    crc32.update(slice);
-    final long checksum = crc32.getValue();
+    buffer.limit(position + Integer.BYTES + Integer.BYTES + length);
+    crc.reset();
+    crc.update(buffer);
+    buffer.limit(limit);
+    final long checksum = crc.getValue();
 
     // Create a single byte[] in memory for the entire entry and write it as a batch to the
     // underlying buffer.
@@ -195,13 +198,13 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
         final long checksum = buffer.getInt() & 0xFFFFFFFFL;
 
         // Compute the checksum for the entry bytes.
-        final CRC32 crc32 = new CRC32();
         final ByteBuffer slice = buffer.slice();
         slice.limit(length);
-        crc32.update(slice);
+        crc.reset();
+        crc.update(slice);
 
         // If the stored checksum equals the computed checksum, return the entry.
-        if (checksum == crc32.getValue()) {
+        if (checksum == crc.getValue()) {
           slice.rewind();
           final E entry = namespace.deserialize(slice);
           lastEntry = new Indexed<>(nextIndex, entry, length);
@@ -59,6 +59,7 @@ public class SegmentedJournal<E> implements Journal<E> {
   private final int maxEntrySize;
   private final int maxEntriesPerSegment;
   private final boolean flushOnCommit;
+  private final ChecksumType checksumType;
   private final SegmentedJournalWriter<E> writer;
   private volatile long commitIndex;
   private final NavigableMap<Long, JournalSegment<E>> segments = new ConcurrentSkipListMap<>();
@@ -75,7 +76,8 @@ public class SegmentedJournal<E> implements Journal<E> {
       final int maxEntrySize,
       final int maxEntriesPerSegment,
       final boolean flushOnCommit,
-      final Supplier<JournalIndex> journalIndexFactory) {
+      final Supplier<JournalIndex> journalIndexFactory,
+      final ChecksumType checksumType) {
     this.name = checkNotNull(name, "name cannot be null");
     this.storageLevel = checkNotNull(storageLevel, "storageLevel cannot be null");
     this.directory = checkNotNull(directory, "directory cannot be null");
@@ -84,6 +86,7 @@ public class SegmentedJournal<E> implements Journal<E> {
     this.maxEntrySize = maxEntrySize;
     this.maxEntriesPerSegment = maxEntriesPerSegment;
     this.flushOnCommit = flushOnCommit;
+    this.checksumType = checkNotNull(checksumType, "checksumType cannot be null");
     journalMetrics = new JournalMetrics(name);
     this.journalIndexFactory =
         journalIndexFactory == null
@@ -273,6 +276,7 @@ public class SegmentedJournal<E> implements Journal<E> {
               .withIndex(1)
               .withMaxSegmentSize(maxSegmentSize)
               .withMaxEntries(maxEntriesPerSegment)
+              .withChecksumType(checksumType)
               .build();
 
       currentSegment = createSegment(descriptor);
@@ -303,6 +307,8 @@ public class SegmentedJournal<E> implements Journal<E> {
   private synchronized void resetCurrentSegment() {
     final JournalSegment<E> lastSegment = getLastSegment();
     if (lastSegment != null) {
+      // the last segment is written again, e.g. after truncating the following segments
+      lastSegment.unseal();
       currentSegment = lastSegment;
     } else {
       final JournalSegmentDescriptor descriptor =
@@ -311,6 +317,7 @@ public class SegmentedJournal<E> implements Journal<E> {
               .withIndex(1)
               .withMaxSegmentSize(maxSegmentSize)
               .withMaxEntries(maxEntriesPerSegment)
+              .withChecksumType(checksumType)
               .build();
 
       currentSegment = createSegment(descriptor);
@@ -346,8 +353,10 @@ public class SegmentedJournal<E> implements Journal<E> {
             .withIndex(index)
             .withMaxSegmentSize(maxSegmentSize)
             .withMaxEntries(maxEntriesPerSegment)
+            .withChecksumType(checksumType)
             .build();
     currentSegment = createSegment(descriptor);
+    currentSegment.resetIndex();
     segments.put(index, currentSegment);
     return currentSegment;
   }
@@ -391,8 +400,10 @@ public class SegmentedJournal<E> implements Journal<E> {
             .withIndex(currentSegment.lastIndex() + 1)
             .withMaxSegmentSize(maxSegmentSize)
             .withMaxEntries(maxEntriesPerSegment)
+            .withChecksumType(checksumType)
             .build();
 
+    currentSegment.seal();
     currentSegment = createSegment(descriptor);
 
     segments.put(descriptor.index(), currentSegment);
@@ -487,20 +498,57 @@ public class SegmentedJournal<E> implements Journal<E> {
    */
   protected JournalSegment<E> newSegment(
       final JournalSegmentFile segmentFile, final JournalSegmentDescriptor descriptor) {
+    return newSegment(segmentFile, descriptor, null);
+  }
+
+  /**
+   * Creates a new segment instance, which is restored from the given offsets if it is sealed.
+   *
+   * @param segmentFile The segment file.
+   * @param descriptor The segment descriptor.
+   * @param offsets The offsets of the sealed segment, or null if the segment must be scanned.
+   * @return The segment instance.
+   */
+  private JournalSegment<E> newSegment(
+      final JournalSegmentFile segmentFile,
+      final JournalSegmentDescriptor descriptor,
+      final JournalSegmentOffsets offsets) {
     return new JournalSegment<>(
-        segmentFile, descriptor, storageLevel, maxEntrySize, namespace, journalIndexFactory.get());
+        segmentFile,
+        descriptor,
+        storageLevel,
+        maxEntrySize,
+        namespace,
+        journalIndexFactory.get(),
+        offsets);
   }
 
-  /** Loads a segment. */
-  private JournalSegment<E> loadSegment(final long segmentId) {
+  /**
+   * Loads a segment. Only sealed segments are restored from their offsets file, the active segment
+   * is always scanned, since its entries may not have been flushed completely.
+   */
+  private JournalSegment<E> loadSegment(final long segmentId, final boolean sealed) {
     final File segmentFile = JournalSegmentFile.createSegmentFile(name, directory, segmentId);
     final ByteBuffer buffer = ByteBuffer.allocate(JournalSegmentDescriptor.BYTES);
     try (final FileChannel channel = openChannel(segmentFile)) {
       channel.read(buffer);
       buffer.flip();
       final JournalSegmentDescriptor descriptor = new JournalSegmentDescriptor(buffer);
-      final JournalSegment<E> segment = newSegment(new JournalSegmentFile(segmentFile), descriptor);
-      log.debug("Loaded disk segment: {} ({})", descriptor.id(), segmentFile.getName());
+      final JournalSegmentFile file = new JournalSegmentFile(segmentFile);
+
+      JournalSegmentOffsets offsets = null;
+      if (sealed) {
+        offsets = JournalSegmentOffsets.read(file.offsetsFile(), descriptor);
+      } else {
+        JournalSegmentOffsets.delete(file.offsetsFile());
+      }
+
+      final JournalSegment<E> segment = newSegment(file, descriptor, offsets);
+      log.debug(
+          "Loaded disk segment: {} ({}, restored from offsets: {})",
+          descriptor.id(),
+          segmentFile.getName(),
+          offsets != null);
       return segment;
     } catch (final IOException e) {
       throw new StorageException(e);
@@ -528,14 +576,14 @@ public class SegmentedJournal<E> implements Journal<E> {
     // Ensure log directories are created.
     directory.mkdirs();
 
+    final TreeMap<Long, JournalSegmentDescriptor> descriptors = new TreeMap<>();
     final TreeMap<Long, JournalSegment<E>> segments = new TreeMap<>();
 
     // Iterate through all files in the log directory.
     for (final File file : directory.listFiles(File::isFile)) {
 
-      // If the file looks like a segment file, attempt to load the segment.
+      // If the file looks like a segment file, read its descriptor.
       if (JournalSegmentFile.isSegmentFile(name, file)) {
-        final JournalSegmentFile segmentFile = new JournalSegmentFile(file);
         final ByteBuffer buffer = ByteBuffer.allocate(JournalSegmentDescriptor.BYTES);
         try (final FileChannel channel = openChannel(file)) {
           channel.read(buffer);
@@ -545,17 +593,18 @@ public class SegmentedJournal<E> implements Journal<E> {
         }
 
         final JournalSegmentDescriptor descriptor = new JournalSegmentDescriptor(buffer);
-
-        // Load the segment.
-        final JournalSegment<E> segment = loadSegment(descriptor.id());
-
-        // Add the segment to the segments list.
-        log.debug(
-            "Found segment: {} ({})", segment.descriptor().id(), segmentFile.file().getName());
-        segments.put(segment.index(), segment);
+        log.debug("Found segment: {} ({})", descriptor.id(), file.getName());
+        descriptors.put(descriptor.index(), descriptor);
       }
     }
 
+    // Load the segments in order, such that a shared journal index is built in ascending order.
+    for (final JournalSegmentDescriptor descriptor : descriptors.values()) {
+      final boolean sealed = descriptor.index() != descriptors.lastKey();
+      final JournalSegment<E> segment = loadSegment(descriptor.id(), sealed);
+      segments.put(segment.index(), segment);
+    }
+
     // Verify that all the segments in the log align with one another.
     JournalSegment<E> previousSegment = null;
     boolean corrupted = false;
@@ -577,6 +626,16 @@ public class SegmentedJournal<E> implements Journal<E> {
       previousSegment = segment;
     }
 
+    // Seal the segments which were written before offsets were persisted, or whose offsets were
+    // not valid, such that they don't have to be scanned again on the next start.
+    if (!segments.isEmpty()) {
+      // the last segment may have been sealed before the segments following it were removed
+      segments.lastEntry().getValue().unseal();
+      for (final JournalSegment<E> segment : segments.headMap(segments.lastKey()).values()) {
+        segment.seal();
+      }
+    }
+
     return segments.values();
   }
 
@@ -709,6 +768,7 @@ public class SegmentedJournal<E> implements Journal<E> {
 
     private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
     private Supplier<JournalIndex> journalIndexFactory;
+    private ChecksumType checksumType = ChecksumType.CRC32;
 
     protected Builder() {}
 
@@ -870,6 +930,22 @@ public class SegmentedJournal<E> implements Journal<E> {
       return this;
     }
 
+    /**
+     * Sets the algorithm used to compute the checksums of the entries of new segments, returning
+     * the builder for method chaining. Existing segments keep the algorithm they were written with.
+     *
+     * <p>By default, the checksum type is {@link ChecksumType#CRC32}. Segments checksummed with
+     * {@link ChecksumType#CRC32C} can not be read by versions which do not record the checksum
+     * type, as these ignore it and fail to verify the entries.
+     *
+     * @param checksumType The checksum type of new segments.
+     * @return The storage builder.
+     */
+    public Builder<E> withChecksumType(final ChecksumType checksumType) {
+      this.checksumType = checkNotNull(checksumType, "checksumType cannot be null");
+      return this;
+    }
+
     @Override
     public SegmentedJournal<E> build() {
       return new SegmentedJournal<>(
@@ -881,7 +957,8 @@ public class SegmentedJournal<E> implements Journal<E> {
           maxEntrySize,
           maxEntriesPerSegment,
           flushOnCommit,
-          journalIndexFactory);
+          journalIndexFactory,
+          checksumType);
     }
   }
 }
@@ -17,6 +17,8 @@
 
 package io.atomix.storage.journal;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.NoSuchElementException;
 
 /** Raft log reader. */
@@ -27,6 +29,9 @@ public class SegmentedJournalReader<E> implements JournalReader<E> {
   private JournalSegment<E> currentSegment;
   private Indexed<E> previousEntry;
   private MappableJournalSegmentReader<E> currentReader;
+  // while moving backwards, the entries before the current (backward) entry which were read ahead
+  private final Deque<Indexed<E>> readBackwardEntries = new ArrayDeque<>();
+  private Indexed<E> backwardEntry;
 
   SegmentedJournalReader(final SegmentedJournal<E> journal, final long index, final Mode mode) {
     this.journal = journal;
@@ -68,6 +73,10 @@ public class SegmentedJournalReader<E> implements JournalReader<E> {
 
   @Override
   public long getCurrentIndex() {
+    if (backwardEntry != null) {
+      return backwardEntry.index();
+    }
+
     final long currentIndex = currentReader.getCurrentIndex();
     if (currentIndex != 0) {
       return currentIndex;
@@ -80,6 +89,10 @@ public class SegmentedJournalReader<E> implements JournalReader<E> {
 
   @Override
   public Indexed<E> getCurrentEntry() {
+    if (backwardEntry != null) {
+      return backwardEntry;
+    }
+
     final Indexed<E> currentEntry = currentReader.getCurrentEntry();
     if (currentEntry != null) {
       return currentEntry;
@@ -89,11 +102,17 @@ public class SegmentedJournalReader<E> implements JournalReader<E> {
 
   @Override
   public long getNextIndex() {
+    if (backwardEntry != null) {
+      return backwardEntry.index() + 1;
+    }
+
     return currentReader.getNextIndex();
   }
 
   @Override
   public boolean hasNext() {
+    stopMovingBackwards();
+
     if (mode == Mode.ALL) {
       return hasNextEntry();
     }
@@ -105,6 +124,8 @@ public class SegmentedJournalReader<E> implements JournalReader<E> {
 
   @Override
   public Indexed<E> next() {
+    stopMovingBackwards();
+
     if (!currentReader.hasNext()) {
       final JournalSegment<E> nextSegment = journal.getNextSegment(currentSegment.index());
       if (nextSegment != null && nextSegment.index() == getNextIndex()) {
@@ -120,14 +141,46 @@ public class SegmentedJournalReader<E> implements JournalReader<E> {
     }
   }
 
+  /**
+   * Moves the reader backwards. The entries are read ahead in blocks, starting at the closest entry
+   * in the journal index, and then returned in reverse order; such that every entry is read at most
+   * twice, instead of seeking for each entry.
+   *
+   * <p>{@inheritDoc}
+   */
+  @Override
+  public Indexed<E> previous() {
+    if (!hasPrevious()) {
+      throw new NoSuchElementException();
+    }
+
+    final long index = getCurrentIndex() - 1;
+    if (readBackwardEntries.isEmpty()) {
+      readAheadBackwards(index);
+    }
+
+    final Indexed<E> entry = readBackwardEntries.pollLast();
+    if (entry == null || entry.index() != index) {
+      // the entry is not available anymore, e.g. it was compacted in between
+      readBackwardEntries.clear();
+      throw new NoSuchElementException();
+    }
+
+    backwardEntry = entry;
+    return entry;
+  }
+
   @Override
   public void reset() {
+    clearBackwardEntries();
     replaceCurrentSegment(journal.getFirstSegment());
     previousEntry = null;
   }
 
   @Override
   public void reset(final long index) {
+    clearBackwardEntries();
+
     // If the current segment is not open, it has been replaced. Reset the segments.
     if (!currentSegment.isOpen()) {
       reset();
@@ -176,6 +229,28 @@ public class SegmentedJournalReader<E> implements JournalReader<E> {
     }
   }
 
+  /** Reads the entries from the closest indexed entry up to the given index. */
+  private void readAheadBackwards(final long index) {
+    final long startIndex = journal.getSegment(index).floorIndexedIndex(index);
+
+    reset(startIndex);
+    while (getNextIndex() <= index && hasNext()) {
+      readBackwardEntries.addLast(next());
+    }
+  }
+
+  /** Positions the underlying segment reader after the current entry again, to move forward. */
+  private void stopMovingBackwards() {
+    if (backwardEntry != null) {
+      reset(backwardEntry.index() + 1);
+    }
+  }
+
+  private void clearBackwardEntries() {
+    readBackwardEntries.clear();
+    backwardEntry = null;
+  }
+
   private boolean hasNextEntry() {
     if (!currentReader.hasNext()) {
       final JournalSegment<E> nextSegment = journal.getNextSegment(currentSegment.index());
@@ -29,6 +29,17 @@ public interface JournalIndex {
    */
   void index(Indexed indexed, int position);
 
+  /**
+   * Returns whether an entry with the given index would be added to the index. The journal only
+   * reads these entries when it restores the index of a sealed segment, all others are skipped.
+   *
+   * @param index the index of the entry
+   * @return true if the entry with the given index is added to the index
+   */
+  default boolean isIndexed(final long index) {
+    return true;
+  }
+
   /**
    * Looks up the position of the given index.
    *
@@ -45,6 +56,16 @@ public interface JournalIndex {
    */
   void truncate(long index);
 
+  /**
+   * Resets the index after all entries of the journal were deleted, such that the next indexed
+   * entry has the given index. Everything which was indexed before is removed from the index.
+   *
+   * @param index the index of the next entry
+   */
+  default void reset(final long index) {
+    truncate(index - 1);
+  }
+
   /**
    * Compacts the index until the next stored index (exclusively), which means everything lower then
    * the stored index will be removed.
@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal.index;
+
+import java.util.Arrays;
+
+/**
+ * An append optimized, sorted map of primitive long keys to long values, in which the values are
+ * ascending with the keys, e.g. journal indexes to positions. Entries are kept in two arrays, so
+ * they are neither boxed nor wrapped in nodes; both keys and values can be looked up with a binary
+ * search.
+ *
+ * <p>Entries are appended at the tail and removed from the tail (truncate) or the head (compact),
+ * which only moves the bounds of the used range of the arrays. The entries are addressed by their
+ * slot, where slot 0 is the entry with the lowest key.
+ *
+ * <p>This class is not thread safe.
+ */
+public final class MonotonicLongIndex {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private long[] keys = new long[INITIAL_CAPACITY];
+  private long[] values = new long[INITIAL_CAPACITY];
+  private int head;
+  private int tail;
+
+  public int size() {
+    return tail - head;
+  }
+
+  public boolean isEmpty() {
+    return head == tail;
+  }
+
+  public long keyAt(final int slot) {
+    return keys[head + slot];
+  }
+
+  public long valueAt(final int slot) {
+    return values[head + slot];
+  }
+
+  /**
+   * Appends the entry. If the key is not greater than the last key, all entries with a key greater
+   * or equal to it are removed before, i.e. an entry is never inserted in between; this matches
+   * the journal, which rewrites its tail after truncating it.
+   */
+  public void append(final long key, final long value) {
+    if (!isEmpty() && key <= keys[tail - 1]) {
+      removeAfter(key - 1);
+    }
+
+    ensureCapacity();
+    keys[tail] = key;
+    values[tail] = value;
+    tail += 1;
+  }
+
+  /** @return the slot of the entry with the greatest key less or equal to the given key, or -1 */
+  public int floorSlotOfKey(final long key) {
+    return floorSlot(keys, key);
+  }
+
+  /**
+   * @return the slot of the entry with the greatest value less or equal to the given value, or -1
+   */
+  public int floorSlotOfValue(final long value) {
+    return floorSlot(values, value);
+  }
+
+  /** Removes all entries with a key greater than the given key. */
+  public void removeAfter(final long key) {
+    final int slot = floorSlotOfKey(key);
+    tail = head + slot + 1;
+    if (isEmpty()) {
+      clear();
+    }
+  }
+
+  /** Removes all entries with a key less than the given key. */
+  public void removeBefore(final long key) {
+    int index = Arrays.binarySearch(keys, head, tail, key);
+    if (index < 0) {
+      index = -(index + 1);
+    }
+
+    head = index;
+    if (isEmpty()) {
+      clear();
+    } else if (keys.length > INITIAL_CAPACITY && size() < keys.length / 4) {
+      resize(keys.length / 2);
+    }
+  }
+
+  public void clear() {
+    head = 0;
+    tail = 0;
+  }
+
+  private int floorSlot(final long[] array, final long searched) {
+    final int index = Arrays.binarySearch(array, head, tail, searched);
+    if (index >= 0) {
+      return index - head;
+    }
+
+    // the insertion point is the first element greater than the searched one
+    return -(index + 1) - 1 - head;
+  }
+
+  private void ensureCapacity() {
+    if (tail < keys.length) {
+      return;
+    }
+
+    if (size() < keys.length / 2) {
+      // the head was compacted, reuse the free space in front
+      resize(keys.length);
+    } else {
+      resize(keys.length * 2);
+    }
+  }
+
+  private void resize(final int capacity) {
+    final int size = size();
+    final long[] newKeys = capacity == keys.length ? keys : new long[capacity];
+    final long[] newValues = capacity == values.length ? values : new long[capacity];
+    System.arraycopy(keys, head, newKeys, 0, size);
+    System.arraycopy(values, head, newValues, 0, size);
+
+    keys = newKeys;
+    values = newValues;
+    head = 0;
+    tail = size;
+  }
+}
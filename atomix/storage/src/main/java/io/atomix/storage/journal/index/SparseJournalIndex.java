@@ -17,15 +17,12 @@
 package io.atomix.storage.journal.index;
 
 import io.atomix.storage.journal.Indexed;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.TreeMap;
 
 /** Sparse index. */
 public class SparseJournalIndex implements JournalIndex {
 
   private final int density;
-  private final TreeMap<Long, Integer> positions = new TreeMap<>();
+  private final MonotonicLongIndex positions = new MonotonicLongIndex();
 
   public SparseJournalIndex(final int density) {
     this.density = density;
@@ -34,28 +31,38 @@ public class SparseJournalIndex implements JournalIndex {
   @Override
   public void index(final Indexed indexedEntry, final int position) {
     final long index = indexedEntry.index();
-    if (index % density == 0) {
-      positions.put(index, position);
+    if (isIndexed(index)) {
+      positions.append(index, position);
     }
   }
 
+  @Override
+  public boolean isIndexed(final long index) {
+    return index % density == 0;
+  }
+
   @Override
   public Position lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = positions.floorEntry(index);
-    return entry != null ? new Position(entry.getKey(), entry.getValue()) : null;
+    final int slot = positions.floorSlotOfKey(index);
+    return slot >= 0 ? new Position(positions.keyAt(slot), (int) positions.valueAt(slot)) : null;
   }
 
   @Override
   public void truncate(final long index) {
-    positions.tailMap(index, false).clear();
+    positions.removeAfter(index);
+  }
+
+  @Override
+  public void reset(final long index) {
+    positions.clear();
   }
 
   @Override
   public void compact(final long index) {
-    final Entry<Long, Integer> floorEntry = positions.floorEntry(index);
+    final int slot = positions.floorSlotOfKey(index);
 
-    if (floorEntry != null) {
-      positions.headMap(floorEntry.getKey(), false).clear();
+    if (slot >= 0) {
+      positions.removeBefore(positions.keyAt(slot));
     }
   }
 }
@@ -84,6 +84,11 @@ public abstract class AbstractJournalTest {
   }
 
   protected SegmentedJournal<TestEntry> createJournal() throws IOException {
+    return createJournal(ChecksumType.CRC32C);
+  }
+
+  protected SegmentedJournal<TestEntry> createJournal(final ChecksumType checksumType)
+      throws IOException {
     final SparseJournalIndex index = new SparseJournalIndex(5);
     return SegmentedJournal.<TestEntry>builder()
         .withName("test")
@@ -93,6 +98,7 @@ public abstract class AbstractJournalTest {
         .withMaxSegmentSize(maxSegmentSize)
         .withMaxEntrySize(48)
         .withJournalIndexFactory(() -> index)
+        .withChecksumType(checksumType)
         .build();
   }
 
@@ -378,6 +384,51 @@ public abstract class AbstractJournalTest {
     }
   }
 
+  @Test
+  public void shouldReadBackwards() {
+    // given
+    final JournalWriter<TestEntry> writer = journal.writer();
+    final JournalReader<TestEntry> reader = journal.openReader(1, Mode.ALL);
+    final int entryCount = entriesPerSegment * 3;
+    for (int i = 1; i <= entryCount; i++) {
+      writer.append(ENTRY);
+    }
+    reader.reset(entryCount);
+    assertEquals(entryCount, reader.next().index());
+
+    // when - then
+    for (int i = entryCount - 1; i >= 1; i--) {
+      assertTrue(reader.hasPrevious());
+      assertEquals(i, reader.previous().index());
+      assertEquals(i, reader.getCurrentIndex());
+      assertEquals(i + 1, reader.getNextIndex());
+    }
+    assertFalse(reader.hasPrevious());
+  }
+
+  @Test
+  public void shouldReadForwardAfterReadingBackwards() {
+    // given
+    final JournalWriter<TestEntry> writer = journal.writer();
+    final JournalReader<TestEntry> reader = journal.openReader(1, Mode.ALL);
+    final int entryCount = entriesPerSegment * 2 + 1;
+    for (int i = 1; i <= entryCount; i++) {
+      writer.append(ENTRY);
+    }
+    reader.reset(entryCount);
+    reader.next();
+
+    // when
+    reader.previous();
+    reader.previous();
+
+    // then
+    assertTrue(reader.hasNext());
+    assertEquals(entryCount - 1, reader.next().index());
+    assertEquals(entryCount, reader.next().index());
+    assertFalse(reader.hasNext());
+  }
+
   @Test
   public void testReadAfterCompact() throws Exception {
     final JournalWriter<TestEntry> writer = journal.writer();
@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import io.atomix.storage.StorageLevel;
+import io.atomix.utils.serializer.Namespace;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the time it takes to append and to read 512 MB of entries in journals whose entries are
+ * checksummed with CRC32 and CRC32C, for both the mapped and the disk storage level. It is not run
+ * as part of the build; run it with the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JournalChecksumBenchmark {
+
+  private static final int TARGET_BYTES = 512 * 1024 * 1024;
+  private static final int MAX_SEGMENT_SIZE = 64 * 1024 * 1024;
+  private static final Namespace NAMESPACE =
+      Namespace.builder().register(TestEntry.class).register(byte[].class).build();
+
+  @Param public ChecksumType checksumType;
+
+  @Param({"MAPPED", "DISK"})
+  public StorageLevel storageLevel;
+
+  @Param("1024")
+  public int entrySize;
+
+  private TestEntry entry;
+  private int entryCount;
+  private File readDirectory;
+  private SegmentedJournal<TestEntry> readJournal;
+  private File appendDirectory;
+  private SegmentedJournal<TestEntry> appendJournal;
+
+  public static void main(final String[] args) throws Exception {
+    final var options =
+        new OptionsBuilder().include(JournalChecksumBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() throws IOException {
+    entry = new TestEntry(entrySize);
+    entryCount = TARGET_BYTES / entrySize;
+
+    readDirectory = Files.createTempDirectory("journal-checksum-read").toFile();
+    readJournal = openJournal(readDirectory);
+    appendEntries(readJournal);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    readJournal.close();
+    delete(readDirectory);
+  }
+
+  /** Every iteration appends to a new journal, so that they all append the same amount. */
+  @Setup(Level.Iteration)
+  public void openAppendJournal() throws IOException {
+    appendDirectory = Files.createTempDirectory("journal-checksum-append").toFile();
+    appendJournal = openJournal(appendDirectory);
+  }
+
+  @TearDown(Level.Iteration)
+  public void closeAppendJournal() throws IOException {
+    appendJournal.close();
+    delete(appendDirectory);
+  }
+
+  @Benchmark
+  public void append() {
+    appendEntries(appendJournal);
+  }
+
+  @Benchmark
+  public void read(final Blackhole blackhole) {
+    try (final JournalReader<TestEntry> reader =
+        readJournal.openReader(1, JournalReader.Mode.ALL)) {
+      while (reader.hasNext()) {
+        blackhole.consume(reader.next());
+      }
+    }
+  }
+
+  private void appendEntries(final SegmentedJournal<TestEntry> journal) {
+    final JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 0; i < entryCount; i++) {
+      writer.append(entry);
+    }
+    writer.flush();
+  }
+
+  private SegmentedJournal<TestEntry> openJournal(final File directory) {
+    return SegmentedJournal.<TestEntry>builder()
+        .withName("benchmark")
+        .withDirectory(directory)
+        .withNamespace(NAMESPACE)
+        .withStorageLevel(storageLevel)
+        .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+        .withMaxEntrySize(entrySize * 2)
+        .withChecksumType(checksumType)
+        .build();
+  }
+
+  private static void delete(final File directory) throws IOException {
+    try (final Stream<File> files =
+        Files.walk(directory.toPath()).sorted(Comparator.reverseOrder()).map(Path::toFile)) {
+      files.forEach(File::delete);
+    }
+  }
+}
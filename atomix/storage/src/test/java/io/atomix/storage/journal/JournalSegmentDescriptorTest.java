@@ -44,6 +44,7 @@ public class JournalSegmentDescriptorTest {
     assertEquals(1025, descriptor.index());
     assertEquals(1024 * 1024, descriptor.maxSegmentSize());
     assertEquals(2048, descriptor.maxEntries());
+    assertEquals(ChecksumType.CRC32, descriptor.checksumType());
 
     assertEquals(0, descriptor.updated());
     final long time = System.currentTimeMillis();
@@ -60,6 +61,7 @@ public class JournalSegmentDescriptorTest {
             .withIndex(1025)
             .withMaxSegmentSize(1024 * 1024)
             .withMaxEntries(2048)
+            .withChecksumType(ChecksumType.CRC32C)
             .build();
 
     final long time = System.currentTimeMillis();
@@ -73,5 +75,21 @@ public class JournalSegmentDescriptorTest {
     assertEquals(1024 * 1024, descriptor.maxSegmentSize());
     assertEquals(2048, descriptor.maxEntries());
     assertEquals(time, descriptor.updated());
+    assertEquals(ChecksumType.CRC32C, descriptor.checksumType());
+  }
+
+  @Test
+  public void shouldReadChecksumTypeOfSegmentWrittenBeforeItWasRecorded() {
+    // given
+    final ByteBuffer buffer = ByteBuffer.allocate(JournalSegmentDescriptor.BYTES);
+    buffer.putInt(JournalSegmentDescriptor.VERSION).putLong(2).putLong(1025);
+    buffer.rewind();
+
+    // when
+    final JournalSegmentDescriptor descriptor = new JournalSegmentDescriptor(buffer);
+
+    // then
+    assertEquals(1025, descriptor.index());
+    assertEquals(ChecksumType.CRC32, descriptor.checksumType());
   }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.index.SparseJournalIndex;
+import io.atomix.utils.serializer.Namespace;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures how long it takes to open a journal whose sealed segments are restored from their
+ * offsets files, compared to scanning all of their entries. It is not run as part of the build; run
+ * it with the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class JournalStartupBenchmark {
+
+  private static final String NAME = "benchmark";
+  private static final int ENTRY_SIZE = 256;
+  private static final int INDEX_DENSITY = 100;
+  private static final int MAX_SEGMENT_SIZE = 64 * 1024 * 1024;
+  private static final Namespace NAMESPACE =
+      Namespace.builder().register(TestEntry.class).register(byte[].class).build();
+
+  @Param("2000000")
+  public int entryCount;
+
+  @Param({"true", "false"})
+  public boolean withOffsetsFiles;
+
+  private File directory;
+
+  public static void main(final String[] args) throws Exception {
+    final var options =
+        new OptionsBuilder().include(JournalStartupBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("journal-startup").toFile();
+
+    try (final SegmentedJournal<TestEntry> journal = openJournal()) {
+      final JournalWriter<TestEntry> writer = journal.writer();
+      final TestEntry entry = new TestEntry(ENTRY_SIZE);
+      for (int i = 0; i < entryCount; i++) {
+        writer.append(entry);
+      }
+      writer.flush();
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void deleteOffsetsFiles() {
+    if (withOffsetsFiles) {
+      return;
+    }
+
+    // opening the journal scans all segments and seals them again, which rewrites the files
+    for (final File file : directory.listFiles(f -> JournalSegmentFile.isOffsetsFile(NAME, f))) {
+      file.delete();
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    try (final Stream<File> files =
+        Files.walk(directory.toPath()).sorted(Comparator.reverseOrder()).map(Path::toFile)) {
+      files.forEach(File::delete);
+    }
+  }
+
+  @Benchmark
+  public long open() {
+    try (final SegmentedJournal<TestEntry> journal = openJournal()) {
+      final long lastIndex = journal.writer().getLastIndex();
+      if (lastIndex != entryCount) {
+        throw new IllegalStateException(
+            "Expected last index " + entryCount + ", but was " + lastIndex);
+      }
+      return lastIndex;
+    }
+  }
+
+  private SegmentedJournal<TestEntry> openJournal() {
+    final SparseJournalIndex index = new SparseJournalIndex(INDEX_DENSITY);
+    return SegmentedJournal.<TestEntry>builder()
+        .withName(NAME)
+        .withDirectory(directory)
+        .withNamespace(NAMESPACE)
+        .withStorageLevel(StorageLevel.DISK)
+        .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+        .withMaxEntrySize(ENTRY_SIZE * 2)
+        .withJournalIndexFactory(() -> index)
+        .build();
+  }
+}
@@ -17,8 +17,10 @@
 package io.atomix.storage.journal;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import org.junit.Test;
 
 /** Persistent journal test base. */
@@ -60,4 +62,119 @@ public abstract class PersistentJournalTest extends AbstractJournalTest {
     assertEquals(reader.getFirstIndex(), reader.getNextIndex());
     assertEquals(entriesPerSegment + 1, reader.next().index());
   }
+
+  @Test
+  public void shouldRestoreSealedSegmentsFromOffsets() throws Exception {
+    // given
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 0; i < entriesPerSegment * 3 + 1; i++) {
+      writer.append(ENTRY);
+    }
+    journal.close();
+
+    // when
+    journal = createJournal();
+    writer = journal.writer();
+    writer.append(ENTRY);
+
+    // then
+    assertEquals(3, countOffsetsFiles());
+    assertEquals(entriesPerSegment * 3 + 2, writer.getLastIndex());
+    final JournalReader<TestEntry> reader = journal.openReader(1, JournalReader.Mode.ALL);
+    for (int i = 1; i <= entriesPerSegment * 3 + 2; i++) {
+      assertTrue(reader.hasNext());
+      assertEquals(i, reader.next().index());
+    }
+    assertFalse(reader.hasNext());
+
+    reader.reset(entriesPerSegment * 2);
+    assertEquals(entriesPerSegment * 2, reader.next().index());
+  }
+
+  @Test
+  public void shouldScanSealedSegmentsWithoutOffsets() throws Exception {
+    // given
+    final JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 0; i < entriesPerSegment * 3 + 1; i++) {
+      writer.append(ENTRY);
+    }
+    journal.close();
+    for (final File file :
+        journal.directory().listFiles(f -> JournalSegmentFile.isOffsetsFile(journal.name(), f))) {
+      assertTrue(file.delete());
+    }
+
+    // when
+    journal = createJournal();
+
+    // then
+    assertEquals(entriesPerSegment * 3 + 1, journal.writer().getLastIndex());
+    final JournalReader<TestEntry> reader = journal.openReader(1, JournalReader.Mode.ALL);
+    for (int i = 1; i <= entriesPerSegment * 3 + 1; i++) {
+      assertTrue(reader.hasNext());
+      assertEquals(i, reader.next().index());
+    }
+    assertFalse(reader.hasNext());
+  }
+
+  @Test
+  public void shouldNotRestoreSegmentWrittenAfterTruncation() throws Exception {
+    // given
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 0; i < entriesPerSegment * 2 + 1; i++) {
+      writer.append(ENTRY);
+    }
+    writer.truncate(entriesPerSegment - 1);
+    writer.append(ENTRY);
+    writer.append(ENTRY);
+    journal.close();
+
+    // when
+    journal = createJournal();
+    writer = journal.writer();
+
+    // then
+    assertEquals(entriesPerSegment + 1, writer.getLastIndex());
+    final JournalReader<TestEntry> reader = journal.openReader(1, JournalReader.Mode.ALL);
+    for (int i = 1; i <= entriesPerSegment + 1; i++) {
+      assertTrue(reader.hasNext());
+      assertEquals(i, reader.next().index());
+    }
+    assertFalse(reader.hasNext());
+  }
+
+  @Test
+  public void shouldReadSegmentsWithTheChecksumTypeTheyWereWrittenWith() throws Exception {
+    // given
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 0; i < entriesPerSegment; i++) {
+      writer.append(ENTRY);
+    }
+    journal.close();
+    journal = createJournal(ChecksumType.CRC32);
+    writer = journal.writer();
+    for (int i = 0; i < entriesPerSegment * 2; i++) {
+      writer.append(ENTRY);
+    }
+    journal.close();
+
+    // when
+    journal = createJournal(ChecksumType.CRC32C);
+
+    // then
+    assertEquals(ChecksumType.CRC32C, journal.getFirstSegment().descriptor().checksumType());
+    assertEquals(ChecksumType.CRC32, journal.getLastSegment().descriptor().checksumType());
+    final JournalReader<TestEntry> reader = journal.openReader(1, JournalReader.Mode.ALL);
+    for (int i = 1; i <= entriesPerSegment * 3; i++) {
+      assertTrue(reader.hasNext());
+      assertEquals(i, reader.next().index());
+    }
+    assertFalse(reader.hasNext());
+  }
+
+  private int countOffsetsFiles() {
+    final File[] files =
+        journal.directory().listFiles(f -> JournalSegmentFile.isOffsetsFile(journal.name(), f));
+    return files.length;
+  }
 }
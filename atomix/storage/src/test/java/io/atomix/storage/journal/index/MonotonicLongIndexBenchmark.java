@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal.index;
+
+import java.util.Random;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the {@link MonotonicLongIndex} with the {@link ConcurrentSkipListMap} it replaces, when
+ * indexing, looking up and truncating entries. It is not run as part of the build; run it with the
+ * main method.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class MonotonicLongIndexBenchmark {
+
+  private static final int ENTRY_COUNT = 1_000_000;
+  private static final int TRUNCATE_STEP = 100;
+  private static final int TRUNCATIONS = ENTRY_COUNT / 2 / TRUNCATE_STEP;
+
+  public static void main(final String[] args) throws Exception {
+    final var options =
+        new OptionsBuilder().include(MonotonicLongIndexBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ENTRY_COUNT)
+  public ConcurrentSkipListMap<Long, Long> indexSkipListMap() {
+    final ConcurrentSkipListMap<Long, Long> map = new ConcurrentSkipListMap<>();
+    for (long i = 0; i < ENTRY_COUNT; i++) {
+      map.put(i, i * 10);
+    }
+    return map;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ENTRY_COUNT)
+  public MonotonicLongIndex indexMonotonicIndex() {
+    final MonotonicLongIndex index = new MonotonicLongIndex();
+    for (long i = 0; i < ENTRY_COUNT; i++) {
+      index.append(i, i * 10);
+    }
+    return index;
+  }
+
+  @Benchmark
+  public long lookUpSkipListMap(final FilledIndexes indexes) {
+    return indexes.map.floorEntry((long) indexes.random.nextInt(ENTRY_COUNT)).getValue();
+  }
+
+  @Benchmark
+  public long lookUpMonotonicIndex(final FilledIndexes indexes) {
+    final int slot = indexes.index.floorSlotOfKey(indexes.random.nextInt(ENTRY_COUNT));
+    return indexes.index.valueAt(slot);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TRUNCATIONS)
+  public void truncateSkipListMap(final TruncatedIndexes indexes) {
+    for (long i = ENTRY_COUNT - 1; i >= ENTRY_COUNT / 2; i -= TRUNCATE_STEP) {
+      indexes.map.tailMap(i, false).clear();
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TRUNCATIONS)
+  public void truncateMonotonicIndex(final TruncatedIndexes indexes) {
+    for (long i = ENTRY_COUNT - 1; i >= ENTRY_COUNT / 2; i -= TRUNCATE_STEP) {
+      indexes.index.removeAfter(i);
+    }
+  }
+
+  private static void fill(
+      final ConcurrentSkipListMap<Long, Long> map, final MonotonicLongIndex index) {
+    for (long i = 0; i < ENTRY_COUNT; i++) {
+      map.put(i, i * 10);
+      index.append(i, i * 10);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class FilledIndexes {
+    private final ConcurrentSkipListMap<Long, Long> map = new ConcurrentSkipListMap<>();
+    private final MonotonicLongIndex index = new MonotonicLongIndex();
+    private final Random random = new Random(1);
+
+    @Setup
+    public void setUp() {
+      fill(map, index);
+    }
+  }
+
+  /** Refills the indexes before every invocation, as every invocation truncates half of them. */
+  @State(Scope.Thread)
+  public static class TruncatedIndexes {
+    private final ConcurrentSkipListMap<Long, Long> map = new ConcurrentSkipListMap<>();
+    private final MonotonicLongIndex index = new MonotonicLongIndex();
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+      map.clear();
+      index.clear();
+      fill(map, index);
+    }
+  }
+}
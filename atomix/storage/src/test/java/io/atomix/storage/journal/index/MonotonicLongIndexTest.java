@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class MonotonicLongIndexTest {
+
+  @Test
+  public void shouldFindFloorOfKeysAndValues() {
+    // given
+    final MonotonicLongIndex index = new MonotonicLongIndex();
+    index.append(5, 50);
+    index.append(10, 100);
+
+    // then
+    assertEquals(-1, index.floorSlotOfKey(4));
+    assertEquals(0, index.floorSlotOfKey(5));
+    assertEquals(0, index.floorSlotOfKey(9));
+    assertEquals(1, index.floorSlotOfKey(11));
+    assertEquals(-1, index.floorSlotOfValue(49));
+    assertEquals(0, index.floorSlotOfValue(99));
+    assertEquals(10, index.keyAt(index.floorSlotOfValue(100)));
+  }
+
+  @Test
+  public void shouldReplaceTailOnAppendingLowerKey() {
+    // given
+    final MonotonicLongIndex index = new MonotonicLongIndex();
+    index.append(5, 50);
+    index.append(10, 100);
+    index.append(15, 150);
+
+    // when
+    index.append(10, 101);
+
+    // then
+    assertEquals(2, index.size());
+    assertEquals(101, index.valueAt(index.floorSlotOfKey(15)));
+  }
+
+  @Test
+  public void shouldRemoveAfterAndBeforeKey() {
+    // given
+    final MonotonicLongIndex index = new MonotonicLongIndex();
+    for (int i = 1; i <= 10; i++) {
+      index.append(i * 5, i * 50);
+    }
+
+    // when
+    index.removeAfter(42);
+    index.removeBefore(12);
+
+    // then
+    assertEquals(6, index.size());
+    assertEquals(15, index.keyAt(0));
+    assertEquals(40, index.keyAt(index.size() - 1));
+  }
+
+  @Test
+  public void shouldKeepEntriesWhenGrowingAfterCompaction() {
+    // given
+    final MonotonicLongIndex index = new MonotonicLongIndex();
+    for (int i = 0; i < 1_000; i++) {
+      index.append(i, i);
+    }
+
+    // when
+    index.removeBefore(990);
+    for (int i = 1_000; i < 2_000; i++) {
+      index.append(i, i);
+    }
+
+    // then
+    assertEquals(1_010, index.size());
+    for (int slot = 0; slot < index.size(); slot++) {
+      assertEquals(990 + slot, index.keyAt(slot));
+      assertEquals(990 + slot, index.valueAt(slot));
+    }
+  }
+
+  @Test
+  public void shouldBeEmptyAfterRemovingAll() {
+    // given
+    final MonotonicLongIndex index = new MonotonicLongIndex();
+    index.append(5, 50);
+
+    // when
+    index.removeAfter(4);
+
+    // then
+    assertTrue(index.isEmpty());
+    assertEquals(-1, index.floorSlotOfKey(5));
+  }
+}
@@ -23,15 +23,26 @@ import com.esotericsoftware.kryo.io.Output;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
+/**
+ * Serializes the remaining bytes of a buffer, together with whether it is direct and its byte
+ * order. The bytes are copied in bulk, directly from and into the underlying Kryo buffer, e.g. the
+ * mapped journal segment.
+ */
 public class ByteBufferSerializer extends Serializer<ByteBuffer> {
 
   @Override
   public void write(final Kryo kryo, final Output output, final ByteBuffer object) {
+    final int length = object.remaining();
     output.writeBoolean(object.isDirect());
     output.writeBoolean(ByteOrder.LITTLE_ENDIAN.equals(object.order()));
-    output.writeInt(object.remaining());
-    for (int i = object.position(); i < object.limit(); i++) {
-      output.writeByte(object.get(i));
+    output.writeInt(length);
+
+    if (object.hasArray()) {
+      output.writeBytes(object.array(), object.arrayOffset() + object.position(), length);
+    } else {
+      final byte[] bytes = new byte[length];
+      object.duplicate().get(bytes);
+      output.writeBytes(bytes);
     }
   }
 
@@ -40,12 +51,14 @@ public class ByteBufferSerializer extends Serializer<ByteBuffer> {
     final boolean isDirect = input.readBoolean();
     final boolean isLittleEndian = input.readBoolean();
     final int capacity = input.readInt();
+    final byte[] bytes = input.readBytes(capacity);
     final ByteBuffer buffer;
 
     if (isDirect) {
       buffer = ByteBuffer.allocateDirect(capacity);
+      buffer.put(bytes).flip();
     } else {
-      buffer = ByteBuffer.allocate(capacity);
+      buffer = ByteBuffer.wrap(bytes);
     }
 
     if (isLittleEndian) {
@@ -54,10 +67,6 @@ public class ByteBufferSerializer extends Serializer<ByteBuffer> {
       buffer.order(ByteOrder.BIG_ENDIAN);
     }
 
-    for (int i = 0; i < capacity; i++) {
-      buffer.put(i, input.readByte());
-    }
-
     return buffer;
   }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.utils.serializer.serializers;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.ByteBufferInput;
+import com.esotericsoftware.kryo.io.ByteBufferOutput;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the append (write) and read latency of the {@link ByteBufferSerializer} with the
+ * previous implementation, which copied the buffer byte by byte, when serializing entry payloads
+ * into a direct buffer like a mapped journal segment. It is not run as part of the build; run it
+ * with the main method.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ByteBufferSerializerBenchmark {
+
+  @Param public Implementation implementation;
+
+  @Param({"256", "4096", "65536"})
+  public int payloadSize;
+
+  private Kryo kryo;
+  private ByteBuffer payload;
+  private ByteBuffer target;
+  private ByteBuffer serialized;
+
+  public static void main(final String[] args) throws Exception {
+    final var options =
+        new OptionsBuilder().include(ByteBufferSerializerBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() {
+    final Serializer<ByteBuffer> serializer = implementation.serializer.get();
+    kryo = new Kryo();
+    kryo.register(ByteBuffer.class, serializer);
+    kryo.addDefaultSerializer(ByteBuffer.class, serializer);
+
+    payload = ByteBuffer.allocate(payloadSize);
+    for (int i = 0; i < payloadSize; i++) {
+      payload.put(i, (byte) i);
+    }
+    target = ByteBuffer.allocateDirect(payloadSize * 2);
+
+    serialized = ByteBuffer.allocateDirect(payloadSize * 2);
+    try (final Output output = new ByteBufferOutput(serialized)) {
+      kryo.writeObject(output, payload);
+    }
+  }
+
+  @Benchmark
+  public ByteBuffer append() {
+    target.clear();
+    try (final Output output = new ByteBufferOutput(target)) {
+      kryo.writeObject(output, payload);
+    }
+    return target;
+  }
+
+  @Benchmark
+  public ByteBuffer read() {
+    serialized.clear();
+    try (final Input input = new ByteBufferInput(serialized)) {
+      return kryo.readObject(input, ByteBuffer.class);
+    }
+  }
+
+  public enum Implementation {
+    PER_BYTE(PerByteSerializer::new),
+    BULK(ByteBufferSerializer::new);
+
+    private final Supplier<Serializer<ByteBuffer>> serializer;
+
+    Implementation(final Supplier<Serializer<ByteBuffer>> serializer) {
+      this.serializer = serializer;
+    }
+  }
+
+  /** The previous implementation, which copies every byte on its own. */
+  private static final class PerByteSerializer extends Serializer<ByteBuffer> {
+
+    @Override
+    public void write(final Kryo kryo, final Output output, final ByteBuffer object) {
+      output.writeBoolean(object.isDirect());
+      output.writeBoolean(false);
+      output.writeInt(object.remaining());
+      for (int i = object.position(); i < object.limit(); i++) {
+        output.writeByte(object.get(i));
+      }
+    }
+
+    @Override
+    public ByteBuffer read(final Kryo kryo, final Input input, final Class<ByteBuffer> type) {
+      input.readBoolean();
+      input.readBoolean();
+      final int capacity = input.readInt();
+      final ByteBuffer buffer = ByteBuffer.allocate(capacity);
+      for (int i = 0; i < capacity; i++) {
+        buffer.put(i, input.readByte());
+      }
+      return buffer;
+    }
+  }
+}
@@ -189,4 +189,22 @@ public class ByteBufferSerializerTest {
     assertEquals(ByteOrder.BIG_ENDIAN, deserialized.order());
     assertEquals(0, deserialized.capacity());
   }
+
+  @Test
+  public void shouldSerializeSlicedHeapBuffer() {
+    // given
+    final int value = 1;
+    final ByteBuffer original = ByteBuffer.allocate(Long.BYTES * 3).putLong(Long.BYTES, value);
+    original.position(Long.BYTES);
+    final ByteBuffer slice = original.slice();
+    slice.position(0).limit(Long.BYTES);
+
+    // when
+    KRYO.writeObject(output, slice);
+    final ByteBuffer deserialized = KRYO.readObject(input, ByteBuffer.class);
+
+    // then
+    assertEquals(Long.BYTES, deserialized.capacity());
+    assertEquals(value, deserialized.getLong(0));
+  }
 }
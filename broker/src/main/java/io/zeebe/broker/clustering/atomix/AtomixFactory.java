@@ -19,6 +19,7 @@ import io.atomix.core.AtomixConfig;
 import io.atomix.raft.partition.RaftPartitionGroup;
 import io.atomix.raft.partition.RaftPartitionGroup.Builder;
 import io.atomix.raft.snapshot.impl.FileBasedSnapshotStoreFactory;
+import io.atomix.utils.memory.MemorySize;
 import io.atomix.utils.net.Address;
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.system.configuration.BrokerCfg;
@@ -64,7 +65,8 @@ public final class AtomixFactory {
                 Address.from(
                     networkCfg.getInternalApi().getAdvertisedHost(),
                     networkCfg.getInternalApi().getAdvertisedPort()))
-            .withMembershipProvider(discoveryProvider);
+            .withMembershipProvider(discoveryProvider)
+            .withConnectionStriping(clusterCfg.isConnectionStriping());
 
     final DataCfg dataConfiguration = configuration.getData();
     final String rootDirectory = dataConfiguration.getDirectories().get(0);
@@ -92,9 +94,13 @@ public final class AtomixFactory {
             .withPartitionSize(clusterCfg.getReplicationFactor())
             .withMembers(getRaftGroupMembers(clusterCfg))
             .withDataDirectory(raftDirectory)
-            .withSnapshotStoreFactory(new FileBasedSnapshotStoreFactory())
+            .withSnapshotStoreFactory(
+                new FileBasedSnapshotStoreFactory(getSnapshotChunkSize(dataCfg, networkCfg)))
             .withStorageLevel(dataCfg.getAtomixStorageLevel())
-            .withFlushOnCommit();
+            .withFlushOnCommit()
+            .withGroupCommitWindow(dataCfg.getGroupCommitWindow())
+            .withGroupCommitMaxSize(new MemorySize(dataCfg.getGroupCommitMaxSizeInBytes()))
+            .withChecksumType(dataCfg.getLogChecksumType());
 
     // by default, the Atomix max entry size is 1 MB
     final int maxMessageSize = (int) networkCfg.getMaxMessageSizeInBytes();
@@ -113,6 +119,12 @@ public final class AtomixFactory {
     return partitionGroupBuilder.build();
   }
 
+  private static int getSnapshotChunkSize(final DataCfg dataCfg, final NetworkCfg networkCfg) {
+    // a chunk is sent in a single message, together with its headers
+    final long maxChunkSize = networkCfg.getMaxMessageSizeInBytes() / 2;
+    return (int) Math.min(dataCfg.getSnapshotChunkSizeInBytes(), maxChunkSize);
+  }
+
   private static List<String> getRaftGroupMembers(final ClusterCfg clusterCfg) {
     final int clusterSize = clusterCfg.getClusterSize();
     // node ids are always 0 to clusterSize - 1
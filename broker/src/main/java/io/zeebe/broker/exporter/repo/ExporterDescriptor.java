@@ -8,19 +8,37 @@
 package io.zeebe.broker.exporter.repo;
 
 import io.zeebe.broker.exporter.context.ExporterConfiguration;
+import io.zeebe.exporter.api.BatchExporter;
 import io.zeebe.exporter.api.Exporter;
+import java.time.Duration;
 import java.util.Map;
 
 public class ExporterDescriptor {
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+  public static final Duration DEFAULT_MAX_BATCH_DELAY = Duration.ofMillis(100);
+
   private final ExporterConfiguration configuration;
   private final Class<? extends Exporter> exporterClass;
+  private final int maxBatchSize;
+  private final Duration maxBatchDelay;
 
   public ExporterDescriptor(
       final String id,
       final Class<? extends Exporter> exporterClass,
       final Map<String, Object> args) {
+    this(id, exporterClass, args, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_BATCH_DELAY);
+  }
+
+  public ExporterDescriptor(
+      final String id,
+      final Class<? extends Exporter> exporterClass,
+      final Map<String, Object> args,
+      final int maxBatchSize,
+      final Duration maxBatchDelay) {
     this.exporterClass = exporterClass;
     this.configuration = new ExporterConfiguration(id, args);
+    this.maxBatchSize = maxBatchSize;
+    this.maxBatchDelay = maxBatchDelay;
   }
 
   public Exporter newInstance() throws ExporterInstantiationException {
@@ -38,4 +56,16 @@ public class ExporterDescriptor {
   public String getId() {
     return configuration.getId();
   }
+
+  public boolean isBatchExporter() {
+    return BatchExporter.class.isAssignableFrom(exporterClass);
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public Duration getMaxBatchDelay() {
+    return maxBatchDelay;
+  }
 }
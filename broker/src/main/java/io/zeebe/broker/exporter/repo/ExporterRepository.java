@@ -13,6 +13,7 @@ import io.zeebe.broker.exporter.jar.ExporterJarLoadException;
 import io.zeebe.broker.exporter.jar.ExporterJarRepository;
 import io.zeebe.broker.system.configuration.ExporterCfg;
 import io.zeebe.exporter.api.Exporter;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -47,16 +48,7 @@ public final class ExporterRepository {
       final Class<? extends Exporter> exporterClass,
       final Map<String, Object> args)
       throws ExporterLoadException {
-    ExporterDescriptor descriptor = exporters.get(id);
-
-    if (descriptor == null) {
-      descriptor = new ExporterDescriptor(id, exporterClass, args);
-      validate(descriptor);
-
-      exporters.put(id, descriptor);
-    }
-
-    return descriptor;
+    return load(new ExporterDescriptor(id, exporterClass, args));
   }
 
   public ExporterDescriptor load(final String id, final ExporterCfg config)
@@ -81,10 +73,35 @@ public final class ExporterRepository {
       throw new ExporterLoadException(id, "cannot load specified class", e);
     }
 
-    return load(id, exporterClass, config.getArgs());
+    return load(
+        new ExporterDescriptor(
+            id,
+            exporterClass,
+            config.getArgs(),
+            config.getMaxBatchSize(),
+            config.getMaxBatchDelay()));
+  }
+
+  private ExporterDescriptor load(final ExporterDescriptor newDescriptor)
+      throws ExporterLoadException {
+    final String id = newDescriptor.getId();
+    ExporterDescriptor descriptor = exporters.get(id);
+
+    if (descriptor == null) {
+      descriptor = newDescriptor;
+      validate(descriptor);
+
+      exporters.put(id, descriptor);
+    }
+
+    return descriptor;
   }
 
   private void validate(final ExporterDescriptor descriptor) throws ExporterLoadException {
+    if (descriptor.isBatchExporter()) {
+      validateBatching(descriptor);
+    }
+
     try {
       final Exporter instance = descriptor.newInstance();
       final ExporterContext context = new ExporterContext(LOG, descriptor.getConfiguration());
@@ -93,4 +110,19 @@ public final class ExporterRepository {
       throw new ExporterLoadException(descriptor.getId(), "failed validation", ex);
     }
   }
+
+  private void validateBatching(final ExporterDescriptor descriptor) throws ExporterLoadException {
+    if (descriptor.getMaxBatchSize() < 1) {
+      throw new ExporterLoadException(
+          descriptor.getId(),
+          "expected max batch size to be at least 1, but was " + descriptor.getMaxBatchSize());
+    }
+
+    final Duration maxBatchDelay = descriptor.getMaxBatchDelay();
+    if (maxBatchDelay == null || maxBatchDelay.isZero() || maxBatchDelay.isNegative()) {
+      throw new ExporterLoadException(
+          descriptor.getId(),
+          "expected max batch delay to be positive, but was " + maxBatchDelay);
+    }
+  }
 }
@@ -14,6 +14,7 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.engine.processor.EventFilter;
 import io.zeebe.engine.processor.RecordValues;
 import io.zeebe.engine.processor.TypedEventImpl;
+import io.zeebe.exporter.api.BatchExporter;
 import io.zeebe.exporter.api.Exporter;
 import io.zeebe.exporter.api.context.Context;
 import io.zeebe.exporter.api.context.Controller;
@@ -35,6 +36,8 @@ import io.zeebe.util.sched.SchedulingHints;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -53,6 +56,7 @@ public final class ExporterDirector extends Actor {
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
   private final List<ExporterContainer> containers;
+  private final Collection<String> configuredExporterIds;
   private final LogStream logStream;
   private final RecordExporter recordExporter;
   private final ZeebeDb zeebeDb;
@@ -69,11 +73,14 @@ public final class ExporterDirector extends Actor {
 
   public ExporterDirector(final ExporterDirectorContext context) {
     this.name = context.getName();
-    this.containers =
-        context.getDescriptors().stream().map(ExporterContainer::new).collect(Collectors.toList());
-
     this.logStream = Objects.requireNonNull(context.getLogStream());
     final int partitionId = logStream.getPartitionId();
+
+    this.containers =
+        context.getDescriptors().stream()
+            .map(descriptor -> new ExporterContainer(descriptor, partitionId))
+            .collect(Collectors.toList());
+    this.configuredExporterIds = context.getConfiguredExporterIds();
     this.recordExporter = new RecordExporter(containers, partitionId);
     this.exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
     this.recordWrapStrategy = new EndlessRetryStrategy(actor);
@@ -158,6 +165,12 @@ public final class ExporterDirector extends Actor {
   protected void onActorCloseRequested() {
     isOpened.set(false);
     for (final ExporterContainer container : containers) {
+      try {
+        container.exportPendingBatch();
+      } catch (final Exception e) {
+        container.context.getLogger().error("Error on exporting pending batch on close", e);
+      }
+
       try {
         container.exporter.close();
       } catch (final Exception e) {
@@ -169,7 +182,7 @@ public final class ExporterDirector extends Actor {
   private void recoverFromSnapshot() {
     this.state = new ExportersState(zeebeDb, zeebeDb.createContext());
 
-    final long snapshotPosition = state.getLowestPosition();
+    final long snapshotPosition = getLowestExporterPosition();
     final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
     if (failedToRecoverReader) {
       throw new IllegalStateException(
@@ -182,6 +195,20 @@ public final class ExporterDirector extends Actor {
         snapshotPosition);
   }
 
+  private long getLowestExporterPosition() {
+    final Map<String, Long> positions = new HashMap<>();
+    state.visitPositions(positions::put);
+
+    // only the exporters of this director are taken into account, such that the director doesn't
+    // have to wait on exporters which are run by another director of the same partition
+    return containers.stream()
+        .map(ExporterContainer::getId)
+        .filter(positions::containsKey)
+        .mapToLong(positions::get)
+        .min()
+        .orElseGet(state::getLowestPosition);
+  }
+
   private ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
 
     final List<Context.RecordFilter> recordFilters =
@@ -223,6 +250,11 @@ public final class ExporterDirector extends Actor {
       }
       LOG.debug("Open exporter with id '{}'", container.getId());
       container.exporter.open(container);
+
+      if (container.isBatching()) {
+        actor.runAtFixedRate(
+            container.maxBatchDelay, () -> exportPendingBatchPeriodically(container));
+      }
     }
 
     clearExporterState();
@@ -281,17 +313,29 @@ public final class ExporterDirector extends Actor {
         });
   }
 
+  private void exportPendingBatchPeriodically(final ExporterContainer container) {
+    if (isClosed()) {
+      return;
+    }
+
+    try {
+      container.exportPendingBatch();
+    } catch (final Exception e) {
+      container
+          .context
+          .getLogger()
+          .error("Error on exporting pending batch, will retry after delay", e);
+    }
+  }
+
   public ExportersState getState() {
     return state;
   }
 
   private void clearExporterState() {
-    final List<String> exporterIds =
-        containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
-
     state.visitPositions(
         (exporterId, position) -> {
-          if (!exporterIds.contains(exporterId)) {
+          if (!configuredExporterIds.contains(exporterId)) {
             state.removePosition(exporterId);
             LOG.info(
                 "The exporter '{}' is not configured anymore. Its lastExportedPosition is removed from the state.",
@@ -311,6 +355,7 @@ public final class ExporterDirector extends Actor {
     private final List<ExporterContainer> containers;
     private final TypedEventImpl typedEvent;
 
+    private LoggedEvent rawEvent;
     private boolean shouldExport;
     private int exporterIndex;
 
@@ -320,6 +365,7 @@ public final class ExporterDirector extends Actor {
     }
 
     void wrap(final LoggedEvent rawEvent) {
+      this.rawEvent = rawEvent;
       rawEvent.readMetadata(rawMetadata);
 
       final UnifiedRecordValue recordValue =
@@ -347,7 +393,7 @@ public final class ExporterDirector extends Actor {
         try {
           if (container.position < typedEvent.getPosition()
               && container.acceptRecord(rawMetadata)) {
-            container.exporter.export(typedEvent);
+            container.export(rawEvent, typedEvent);
           }
 
           exporterIndex++;
@@ -405,14 +451,21 @@ public final class ExporterDirector extends Actor {
   private class ExporterContainer implements Controller {
     private final ExporterContext context;
     private final Exporter exporter;
+    private final ExporterRecordBatch batch;
+    private final int maxBatchSize;
+    private final Duration maxBatchDelay;
     private long position;
 
-    ExporterContainer(final ExporterDescriptor descriptor) {
+    ExporterContainer(final ExporterDescriptor descriptor, final int partitionId) {
       context =
           new ExporterContext(
               Loggers.getExporterLogger(descriptor.getId()), descriptor.getConfiguration());
 
       exporter = descriptor.newInstance();
+
+      batch = descriptor.isBatchExporter() ? new ExporterRecordBatch(partitionId) : null;
+      maxBatchSize = descriptor.getMaxBatchSize();
+      maxBatchDelay = descriptor.getMaxBatchDelay();
     }
 
     @Override
@@ -433,6 +486,29 @@ public final class ExporterDirector extends Actor {
       return context.getConfiguration().getId();
     }
 
+    private boolean isBatching() {
+      return batch != null;
+    }
+
+    private void export(final LoggedEvent rawEvent, final TypedEventImpl typedEvent) {
+      if (!isBatching()) {
+        exporter.export(typedEvent);
+        return;
+      }
+
+      batch.add(rawEvent);
+      if (batch.size() >= maxBatchSize) {
+        exportPendingBatch();
+      }
+    }
+
+    private void exportPendingBatch() {
+      if (isBatching() && !batch.isEmpty()) {
+        ((BatchExporter) exporter).exportBatch(batch);
+        batch.clear();
+      }
+    }
+
     private boolean acceptRecord(final RecordMetadata metadata) {
       final Context.RecordFilter filter = context.getFilter();
       return filter.acceptType(metadata.getRecordType())
@@ -11,6 +11,7 @@ import io.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.logstreams.log.LogStream;
 import java.util.Collection;
+import java.util.stream.Collectors;
 
 public final class ExporterDirectorContext {
 
@@ -19,6 +20,7 @@ public final class ExporterDirectorContext {
   private LogStream logStream;
   private Collection<ExporterDescriptor> descriptors;
   private ZeebeDb zeebeDb;
+  private Collection<String> configuredExporterIds;
 
   public int getId() {
     return id;
@@ -40,6 +42,18 @@ public final class ExporterDirectorContext {
     return zeebeDb;
   }
 
+  /**
+   * @return the ids of all exporters which are configured on the partition; if not set explicitly,
+   *     these are the ids of the exporters of this director
+   */
+  public Collection<String> getConfiguredExporterIds() {
+    if (configuredExporterIds != null) {
+      return configuredExporterIds;
+    }
+
+    return descriptors.stream().map(ExporterDescriptor::getId).collect(Collectors.toList());
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -64,4 +78,10 @@ public final class ExporterDirectorContext {
     this.zeebeDb = zeebeDb;
     return this;
   }
+
+  public ExporterDirectorContext configuredExporterIds(
+      final Collection<String> configuredExporterIds) {
+    this.configuredExporterIds = configuredExporterIds;
+    return this;
+  }
 }
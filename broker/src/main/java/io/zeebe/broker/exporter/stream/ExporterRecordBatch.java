@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.exporter.stream;
+
+import io.zeebe.engine.processor.RecordValues;
+import io.zeebe.engine.processor.TypedEventImpl;
+import io.zeebe.exporter.api.RecordBatch;
+import io.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.record.Record;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.IntArrayList;
+
+/**
+ * Collects the raw events of a batch contiguously in a reusable buffer. On iteration, a single
+ * flyweight record is wrapped around each event in turn, such that exporting a batch doesn't
+ * allocate a record per event.
+ */
+final class ExporterRecordBatch implements RecordBatch {
+
+  private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+  private final IntArrayList eventOffsets = new IntArrayList();
+  private final LoggedEventImpl event = new LoggedEventImpl();
+  private final RecordMetadata metadata = new RecordMetadata();
+  private final RecordValues recordValues = new RecordValues();
+  private final TypedEventImpl typedEvent;
+  private final BatchIterator iterator = new BatchIterator();
+
+  private int limit;
+  private long lastPosition = -1;
+
+  ExporterRecordBatch(final int partitionId) {
+    typedEvent = new TypedEventImpl(partitionId);
+  }
+
+  /**
+   * Appends a copy of the given event, unless it was already appended before. This makes it safe to
+   * retry adding an event after the batch failed to be exported.
+   */
+  void add(final LoggedEvent rawEvent) {
+    if (rawEvent.getPosition() <= lastPosition) {
+      return;
+    }
+
+    eventOffsets.addInt(limit);
+    rawEvent.write(buffer, limit);
+    limit += rawEvent.getLength();
+    lastPosition = rawEvent.getPosition();
+  }
+
+  void clear() {
+    eventOffsets.clear();
+    limit = 0;
+    lastPosition = -1;
+  }
+
+  @Override
+  public int size() {
+    return eventOffsets.size();
+  }
+
+  @Override
+  public long getLastPosition() {
+    return lastPosition;
+  }
+
+  @Override
+  public Iterator<Record<?>> iterator() {
+    iterator.reset();
+    return iterator;
+  }
+
+  private final class BatchIterator implements Iterator<Record<?>> {
+    private int index;
+
+    private void reset() {
+      index = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index < eventOffsets.size();
+    }
+
+    @Override
+    public Record<?> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      event.wrap(buffer, eventOffsets.getInt(index));
+      event.readMetadata(metadata);
+      typedEvent.wrap(
+          event, metadata, recordValues.readRecordValue(event, metadata.getValueType()));
+      index++;
+
+      return typedEvent;
+    }
+  }
+}
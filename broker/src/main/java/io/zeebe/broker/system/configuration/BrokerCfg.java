@@ -37,6 +37,7 @@ public final class BrokerCfg {
 
   private Duration stepTimeout = Duration.ofMinutes(5);
   private boolean executionMetricsExporterEnabled;
+  private boolean parallelExportingEnabled;
 
   public void init(final String brokerBase) {
     init(brokerBase, new Environment());
@@ -142,6 +143,14 @@ public final class BrokerCfg {
     this.executionMetricsExporterEnabled = executionMetricsExporterEnabled;
   }
 
+  public boolean isParallelExportingEnabled() {
+    return parallelExportingEnabled;
+  }
+
+  public void setParallelExportingEnabled(final boolean parallelExportingEnabled) {
+    this.parallelExportingEnabled = parallelExportingEnabled;
+  }
+
   @Override
   public String toString() {
     return "BrokerCfg{"
@@ -163,6 +172,8 @@ public final class BrokerCfg {
         + stepTimeout
         + ", executionMetricsExporter="
         + executionMetricsExporterEnabled
+        + ", parallelExporting="
+        + parallelExportingEnabled
         + '}';
   }
 
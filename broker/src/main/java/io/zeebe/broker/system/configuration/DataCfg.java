@@ -10,6 +10,7 @@ package io.zeebe.broker.system.configuration;
 import static io.zeebe.util.StringUtil.LIST_SANITIZER;
 
 import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.ChecksumType;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
@@ -19,6 +20,9 @@ import org.springframework.util.unit.DataSize;
 public final class DataCfg implements ConfigurationEntry {
   public static final String DEFAULT_DIRECTORY = "data";
   private static final DataSize DEFAULT_DATA_SIZE = DataSize.ofMegabytes(512);
+  private static final DataSize DEFAULT_SNAPSHOT_CHUNK_SIZE = DataSize.ofMegabytes(1);
+  private static final DataSize DEFAULT_GROUP_COMMIT_MAX_SIZE = DataSize.ofMegabytes(4);
+  private static final ChecksumType DEFAULT_LOG_CHECKSUM_TYPE = ChecksumType.CRC32;
 
   // Hint: do not use Collections.singletonList as this does not support replaceAll
   private List<String> directories = Arrays.asList(DEFAULT_DIRECTORY);
@@ -27,14 +31,25 @@ public final class DataCfg implements ConfigurationEntry {
 
   private Duration snapshotPeriod = Duration.ofMinutes(15);
 
+  private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
+
   private int logIndexDensity = 100;
 
   private boolean useMmap = false;
 
+  private Duration groupCommitWindow = Duration.ZERO;
+
+  private DataSize groupCommitMaxSize = DEFAULT_GROUP_COMMIT_MAX_SIZE;
+
+  private ChecksumType logChecksumType = DEFAULT_LOG_CHECKSUM_TYPE;
+
+  private RocksDbCfg rocksdb = new RocksDbCfg();
+
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
 
     directories.replaceAll(d -> ConfigurationUtil.toAbsolutePath(d, brokerBase));
+    rocksdb.init(globalConfig, brokerBase);
   }
 
   public List<String> getDirectories() {
@@ -65,6 +80,18 @@ public final class DataCfg implements ConfigurationEntry {
     this.snapshotPeriod = snapshotPeriod;
   }
 
+  public long getSnapshotChunkSizeInBytes() {
+    return Optional.ofNullable(snapshotChunkSize).orElse(DEFAULT_SNAPSHOT_CHUNK_SIZE).toBytes();
+  }
+
+  public DataSize getSnapshotChunkSize() {
+    return snapshotChunkSize;
+  }
+
+  public void setSnapshotChunkSize(final DataSize snapshotChunkSize) {
+    this.snapshotChunkSize = snapshotChunkSize;
+  }
+
   public int getLogIndexDensity() {
     return logIndexDensity;
   }
@@ -81,6 +108,42 @@ public final class DataCfg implements ConfigurationEntry {
     this.useMmap = useMmap;
   }
 
+  public Duration getGroupCommitWindow() {
+    return Optional.ofNullable(groupCommitWindow).orElse(Duration.ZERO);
+  }
+
+  public void setGroupCommitWindow(final Duration groupCommitWindow) {
+    this.groupCommitWindow = groupCommitWindow;
+  }
+
+  public long getGroupCommitMaxSizeInBytes() {
+    return Optional.ofNullable(groupCommitMaxSize).orElse(DEFAULT_GROUP_COMMIT_MAX_SIZE).toBytes();
+  }
+
+  public DataSize getGroupCommitMaxSize() {
+    return groupCommitMaxSize;
+  }
+
+  public void setGroupCommitMaxSize(final DataSize groupCommitMaxSize) {
+    this.groupCommitMaxSize = groupCommitMaxSize;
+  }
+
+  public ChecksumType getLogChecksumType() {
+    return Optional.ofNullable(logChecksumType).orElse(DEFAULT_LOG_CHECKSUM_TYPE);
+  }
+
+  public void setLogChecksumType(final ChecksumType logChecksumType) {
+    this.logChecksumType = logChecksumType;
+  }
+
+  public RocksDbCfg getRocksdb() {
+    return rocksdb;
+  }
+
+  public void setRocksdb(final RocksDbCfg rocksdb) {
+    this.rocksdb = rocksdb;
+  }
+
   public StorageLevel getAtomixStorageLevel() {
     return useMmap() ? StorageLevel.MAPPED : StorageLevel.DISK;
   }
@@ -96,10 +159,21 @@ public final class DataCfg implements ConfigurationEntry {
         + ", snapshotPeriod='"
         + snapshotPeriod
         + '\''
+        + ", snapshotChunkSize='"
+        + snapshotChunkSize
+        + '\''
         + ", logIndexDensity="
         + logIndexDensity
         + ", useMmap="
         + useMmap
+        + ", groupCommitWindow="
+        + groupCommitWindow
+        + ", groupCommitMaxSize="
+        + groupCommitMaxSize
+        + ", logChecksumType="
+        + logChecksumType
+        + ", rocksdb="
+        + rocksdb
         + '}';
   }
 }
@@ -7,6 +7,8 @@
  */
 package io.zeebe.broker.system.configuration;
 
+import io.zeebe.broker.exporter.repo.ExporterDescriptor;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 
@@ -28,6 +30,15 @@ public final class ExporterCfg implements ConfigurationEntry {
   /** map of arguments to use when instantiating the exporter */
   private Map<String, Object> args;
 
+  /**
+   * maximum number of records passed at once to an exporter which implements the batch exporter
+   * interface; ignored for other exporters
+   */
+  private int maxBatchSize = ExporterDescriptor.DEFAULT_MAX_BATCH_SIZE;
+
+  /** maximum time a record is held back in an incomplete batch before it is exported */
+  private Duration maxBatchDelay = ExporterDescriptor.DEFAULT_MAX_BATCH_DELAY;
+
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
     if (isExternal()) {
@@ -63,6 +74,22 @@ public final class ExporterCfg implements ConfigurationEntry {
     this.args = args;
   }
 
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(final int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public Duration getMaxBatchDelay() {
+    return maxBatchDelay;
+  }
+
+  public void setMaxBatchDelay(final Duration maxBatchDelay) {
+    this.maxBatchDelay = maxBatchDelay;
+  }
+
   private boolean isEmpty(final String value) {
     return value == null || value.isEmpty();
   }
@@ -78,6 +105,10 @@ public final class ExporterCfg implements ConfigurationEntry {
         + '\''
         + ", args="
         + args
+        + ", maxBatchSize="
+        + maxBatchSize
+        + ", maxBatchDelay="
+        + maxBatchDelay
         + '}';
   }
 
@@ -92,11 +123,13 @@ public final class ExporterCfg implements ConfigurationEntry {
     final ExporterCfg that = (ExporterCfg) o;
     return Objects.equals(jarPath, that.jarPath)
         && Objects.equals(className, that.className)
-        && Objects.equals(args, that.args);
+        && Objects.equals(args, that.args)
+        && maxBatchSize == that.maxBatchSize
+        && Objects.equals(maxBatchDelay, that.maxBatchDelay);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(jarPath, className, args);
+    return Objects.hash(jarPath, className, args, maxBatchSize, maxBatchDelay);
   }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import io.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
+import io.zeebe.db.impl.rocksdb.TransactionMode;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.springframework.util.unit.DataSize;
+
+public final class RocksDbCfg implements ConfigurationEntry {
+  private static final DataSize DEFAULT_BLOCK_CACHE_SIZE = DataSize.ofMegabytes(32);
+  private static final DataSize DEFAULT_COLUMN_FAMILY_CACHE_SIZE = DataSize.ofMegabytes(8);
+
+  private boolean columnFamilyProfilesEnabled = false;
+  private DataSize blockCacheSize = DEFAULT_BLOCK_CACHE_SIZE;
+  private Map<String, String> columnFamilyProfiles = new HashMap<>();
+  private boolean useWriteBatch = false;
+  private boolean columnFamilyCachesEnabled = false;
+  private DataSize columnFamilyCacheSize = DEFAULT_COLUMN_FAMILY_CACHE_SIZE;
+  private List<String> cachedColumnFamilies = new ArrayList<>();
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    // validates the configured profiles eagerly, such that the broker fails on start up
+    getColumnFamilyProfileOverrides();
+    getColumnFamilyCacheSizes();
+  }
+
+  public boolean isColumnFamilyProfilesEnabled() {
+    return columnFamilyProfilesEnabled;
+  }
+
+  public void setColumnFamilyProfilesEnabled(final boolean columnFamilyProfilesEnabled) {
+    this.columnFamilyProfilesEnabled = columnFamilyProfilesEnabled;
+  }
+
+  public DataSize getBlockCacheSize() {
+    return blockCacheSize;
+  }
+
+  public void setBlockCacheSize(final DataSize blockCacheSize) {
+    this.blockCacheSize = blockCacheSize;
+  }
+
+  public Map<String, String> getColumnFamilyProfiles() {
+    return columnFamilyProfiles;
+  }
+
+  public void setColumnFamilyProfiles(final Map<String, String> columnFamilyProfiles) {
+    this.columnFamilyProfiles = columnFamilyProfiles;
+  }
+
+  public boolean useWriteBatch() {
+    return useWriteBatch;
+  }
+
+  public void setUseWriteBatch(final boolean useWriteBatch) {
+    this.useWriteBatch = useWriteBatch;
+  }
+
+  public TransactionMode getTransactionMode() {
+    return useWriteBatch ? TransactionMode.WRITE_BATCH : TransactionMode.OPTIMISTIC;
+  }
+
+  public boolean isColumnFamilyCachesEnabled() {
+    return columnFamilyCachesEnabled;
+  }
+
+  public void setColumnFamilyCachesEnabled(final boolean columnFamilyCachesEnabled) {
+    this.columnFamilyCachesEnabled = columnFamilyCachesEnabled;
+  }
+
+  public DataSize getColumnFamilyCacheSize() {
+    return columnFamilyCacheSize;
+  }
+
+  public void setColumnFamilyCacheSize(final DataSize columnFamilyCacheSize) {
+    this.columnFamilyCacheSize = columnFamilyCacheSize;
+  }
+
+  public List<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public void setCachedColumnFamilies(final List<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+  }
+
+  /**
+   * @return the cache size of each cached column family, which is empty if the caches are disabled;
+   *     if no column families are configured, the engine's default column families are cached
+   */
+  public Map<ZbColumnFamilies, Long> getColumnFamilyCacheSizes() {
+    final Map<ZbColumnFamilies, Long> cacheSizes = new EnumMap<>(ZbColumnFamilies.class);
+    if (!columnFamilyCachesEnabled) {
+      return cacheSizes;
+    }
+
+    final long cacheSize = columnFamilyCacheSize.toBytes();
+    if (cacheSize <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected column family cache size to be positive, but was %s",
+              columnFamilyCacheSize));
+    }
+
+    if (cachedColumnFamilies.isEmpty()) {
+      DefaultZeebeDbFactory.DEFAULT_CACHED_COLUMN_FAMILIES.forEach(
+          columnFamily -> cacheSizes.put(columnFamily, cacheSize));
+    } else {
+      for (final String columnFamily : cachedColumnFamilies) {
+        cacheSizes.put(parse(ZbColumnFamilies.class, columnFamily, "column family"), cacheSize);
+      }
+    }
+
+    return cacheSizes;
+  }
+
+  public Map<ZbColumnFamilies, ColumnFamilyProfile> getColumnFamilyProfileOverrides() {
+    final Map<ZbColumnFamilies, ColumnFamilyProfile> overrides =
+        new EnumMap<>(ZbColumnFamilies.class);
+
+    for (final Entry<String, String> entry : columnFamilyProfiles.entrySet()) {
+      final ZbColumnFamilies columnFamily =
+          parse(ZbColumnFamilies.class, entry.getKey(), "column family");
+      final ColumnFamilyProfile profile =
+          parse(ColumnFamilyProfile.class, entry.getValue(), "column family profile");
+      overrides.put(columnFamily, profile);
+    }
+
+    return overrides;
+  }
+
+  private static <T extends Enum<T>> T parse(
+      final Class<T> type, final String value, final String description) {
+    try {
+      return Enum.valueOf(type, value.trim().toUpperCase());
+    } catch (final IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          String.format("Expected a valid %s, but was '%s'", description, value), e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "RocksDbCfg{"
+        + "columnFamilyProfilesEnabled="
+        + columnFamilyProfilesEnabled
+        + ", blockCacheSize="
+        + blockCacheSize
+        + ", columnFamilyProfiles="
+        + columnFamilyProfiles
+        + ", useWriteBatch="
+        + useWriteBatch
+        + ", columnFamilyCachesEnabled="
+        + columnFamilyCachesEnabled
+        + ", columnFamilyCacheSize="
+        + columnFamilyCacheSize
+        + ", cachedColumnFamilies="
+        + cachedColumnFamilies
+        + '}';
+  }
+}
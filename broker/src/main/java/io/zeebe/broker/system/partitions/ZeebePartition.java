@@ -19,6 +19,7 @@ import io.atomix.storage.journal.JournalReader.Mode;
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.PartitionListener;
 import io.zeebe.broker.exporter.jar.ExporterJarLoadException;
+import io.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.zeebe.broker.exporter.repo.ExporterLoadException;
 import io.zeebe.broker.exporter.repo.ExporterRepository;
 import io.zeebe.broker.exporter.stream.ExporterDirector;
@@ -29,6 +30,7 @@ import io.zeebe.broker.logstreams.LogDeletionService;
 import io.zeebe.broker.logstreams.state.StatePositionSupplier;
 import io.zeebe.broker.system.configuration.BrokerCfg;
 import io.zeebe.broker.system.configuration.DataCfg;
+import io.zeebe.broker.system.configuration.RocksDbCfg;
 import io.zeebe.broker.system.monitoring.HealthMetrics;
 import io.zeebe.broker.system.partitions.impl.AsyncSnapshotDirector;
 import io.zeebe.broker.system.partitions.impl.AtomixRecordEntrySupplierImpl;
@@ -37,8 +39,11 @@ import io.zeebe.broker.system.partitions.impl.StateControllerImpl;
 import io.zeebe.broker.system.partitions.impl.StateReplication;
 import io.zeebe.broker.transport.commandapi.CommandApiService;
 import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.zeebe.engine.processor.StreamProcessor;
 import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.storage.atomix.AtomixLogStorage;
@@ -58,6 +63,7 @@ import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -71,6 +77,7 @@ public final class ZeebePartition extends Actor
   private static final Logger LOG = Loggers.SYSTEM_LOGGER;
   private static final int EXPORTER_PROCESSOR_ID = 1003;
   private static final String EXPORTER_NAME = "Exporter-%d";
+  private static final String PARALLEL_EXPORTER_NAME = "Exporter-%d-%s";
 
   private final PartitionMessagingService messagingService;
   private final BrokerCfg brokerCfg;
@@ -425,7 +432,7 @@ public final class ZeebePartition extends Actor
 
     return new StateControllerImpl(
         partitionId,
-        DefaultZeebeDbFactory.DEFAULT_DB_FACTORY,
+        createZeebeDbFactory(),
         persistedSnapshotStore,
         runtimeDirectory,
         stateReplication,
@@ -433,6 +440,23 @@ public final class ZeebePartition extends Actor
         StatePositionSupplier::getHighestExportedPosition);
   }
 
+  private ZeebeDbFactory<ZbColumnFamilies> createZeebeDbFactory() {
+    final RocksDbCfg rocksDbCfg = brokerCfg.getData().getRocksdb();
+    final RocksDbConfiguration<ZbColumnFamilies> configuration =
+        new RocksDbConfiguration<ZbColumnFamilies>()
+            .setTransactionMode(rocksDbCfg.getTransactionMode())
+            .setPartitionId(partitionId)
+            .setCacheSizes(rocksDbCfg.getColumnFamilyCacheSizes());
+    if (rocksDbCfg.isColumnFamilyProfilesEnabled()) {
+      configuration
+          .setProfiles(
+              DefaultZeebeDbFactory.tunedProfiles(rocksDbCfg.getColumnFamilyProfileOverrides()))
+          .setBlockCacheSize(rocksDbCfg.getBlockCacheSize().toBytes());
+    }
+
+    return DefaultZeebeDbFactory.defaultFactory(ZbColumnFamilies.class, configuration);
+  }
+
   private boolean shouldReplicateSnapshots() {
     return brokerCfg.getCluster().getReplicationFactor() > 1;
   }
@@ -506,14 +530,60 @@ public final class ZeebePartition extends Actor
       return CompletableActorFuture.completed(null);
     }
 
+    if (!brokerCfg.isParallelExportingEnabled()) {
+      return installExporterDirector(
+          zeebeDb, String.format(EXPORTER_NAME, partitionId), exporterDescriptors);
+    }
+
+    // each exporter is run by its own director, such that a slow exporter doesn't hold back the
+    // others on the same partition
+    final var exporterIds = exporterRepository.getExporters().keySet();
+    final var installFuture = new CompletableActorFuture<Void>();
+    final List<ActorFuture<Void>> startFutures = new ArrayList<>();
+    for (final var descriptor : exporterDescriptors) {
+      startFutures.add(
+          installExporterDirector(
+              zeebeDb,
+              String.format(PARALLEL_EXPORTER_NAME, partitionId, descriptor.getId()),
+              Collections.singletonList(descriptor),
+              exporterIds));
+    }
+
+    actor.runOnCompletion(
+        startFutures,
+        error -> {
+          if (error == null) {
+            installFuture.complete(null);
+          } else {
+            installFuture.completeExceptionally(error);
+          }
+        });
+
+    return installFuture;
+  }
+
+  private ActorFuture<Void> installExporterDirector(
+      final ZeebeDb zeebeDb,
+      final String name,
+      final Collection<ExporterDescriptor> exporterDescriptors) {
+    final var exporterIds =
+        exporterDescriptors.stream().map(ExporterDescriptor::getId).collect(Collectors.toList());
+    return installExporterDirector(zeebeDb, name, exporterDescriptors, exporterIds);
+  }
+
+  private ActorFuture<Void> installExporterDirector(
+      final ZeebeDb zeebeDb,
+      final String name,
+      final Collection<ExporterDescriptor> exporterDescriptors,
+      final Collection<String> configuredExporterIds) {
     final ExporterDirectorContext context =
         new ExporterDirectorContext()
             .id(EXPORTER_PROCESSOR_ID)
-            .name(
-                buildActorName(localBroker.getNodeId(), String.format(EXPORTER_NAME, partitionId)))
+            .name(buildActorName(localBroker.getNodeId(), name))
             .logStream(logStream)
             .zeebeDb(zeebeDb)
-            .descriptors(exporterDescriptors);
+            .descriptors(exporterDescriptors)
+            .configuredExporterIds(configuredExporterIds);
 
     final var exporterDirector = new ExporterDirector(context);
     closeables.add(exporterDirector);
@@ -24,6 +24,7 @@ import io.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.ToLongFunction;
@@ -35,6 +36,9 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
 
   private static final ReplicationContext INVALID_SNAPSHOT = new ReplicationContext(null, -1, null);
   private static final Logger LOG = Loggers.SNAPSHOT_LOGGER;
+  // the snapshots are RocksDB checkpoints, whose SST files are never modified but only deleted
+  private static final String IMMUTABLE_FILE_SUFFIX = ".sst";
+  private static final String NEXT_RUNTIME_SUFFIX = "-next";
 
   private final SnapshotReplication replication;
   private final Map<String, ReplicationContext> receivedSnapshots =
@@ -43,13 +47,18 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
   private final PersistedSnapshotStore store;
 
   private final Path runtimeDirectory;
+  // a runtime directory which is prepared from the latest snapshot whenever one is committed, such
+  // that recovering from it is a single move
+  private final Path nextRuntimeDirectory;
   private final ZeebeDbFactory zeebeDbFactory;
   private final ToLongFunction<ZeebeDb> exporterPositionSupplier;
   private final AtomixRecordEntrySupplier entrySupplier;
 
   private final SnapshotReplicationMetrics metrics;
+  private final StateRecoveryMetrics recoveryMetrics;
 
   private ZeebeDb db;
+  private PersistedSnapshot nextRuntimeSnapshot;
 
   public StateControllerImpl(
       final int partitionId,
@@ -61,11 +70,14 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
       final ToLongFunction<ZeebeDb> exporterPositionSupplier) {
     this.store = store;
     this.runtimeDirectory = runtimeDirectory;
+    this.nextRuntimeDirectory =
+        runtimeDirectory.resolveSibling(runtimeDirectory.getFileName() + NEXT_RUNTIME_SUFFIX);
     this.zeebeDbFactory = zeebeDbFactory;
     this.exporterPositionSupplier = exporterPositionSupplier;
     this.entrySupplier = entrySupplier;
     this.replication = replication;
     this.metrics = new SnapshotReplicationMetrics(Integer.toString(partitionId));
+    this.recoveryMetrics = new StateRecoveryMetrics(Integer.toString(partitionId));
     store.addSnapshotListener(this);
   }
 
@@ -104,6 +116,7 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
 
   @Override
   public void recover() throws Exception {
+    final long startTime = System.currentTimeMillis();
 
     if (Files.exists(runtimeDirectory)) {
       FileUtil.deleteFolder(runtimeDirectory);
@@ -114,7 +127,7 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
       final var snapshot = optLatestSnapshot.get();
       LOG.debug("Available snapshot: {}", snapshot);
 
-      FileUtil.copySnapshot(runtimeDirectory, snapshot.getPath());
+      moveOrLinkSnapshot(snapshot);
 
       try {
         // open database to verify that the snapshot is recoverable
@@ -129,9 +142,53 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
         FileUtil.deleteFolder(runtimeDirectory);
         throw new IllegalStateException("Failed to recover from snapshots", exception);
       }
+
+      recoveryMetrics.observeDuration(System.currentTimeMillis() - startTime);
     }
   }
 
+  /**
+   * Creates the runtime directory from the given snapshot, without copying the (immutable) files
+   * of the snapshot, such that the time to recover does not depend on the size of the state.
+   */
+  private synchronized void moveOrLinkSnapshot(final PersistedSnapshot snapshot) throws Exception {
+    final var isNextRuntimePrepared = snapshot.equals(nextRuntimeSnapshot);
+    nextRuntimeSnapshot = null;
+
+    if (isNextRuntimePrepared) {
+      try {
+        Files.move(nextRuntimeDirectory, runtimeDirectory, StandardCopyOption.ATOMIC_MOVE);
+        LOG.debug("Moved prepared runtime of snapshot '{}'", snapshot);
+        return;
+      } catch (final IOException e) {
+        LOG.warn("Failed to move prepared runtime of snapshot '{}'", snapshot, e);
+      }
+    }
+
+    if (Files.exists(nextRuntimeDirectory)) {
+      FileUtil.deleteFolder(nextRuntimeDirectory);
+    }
+    FileUtil.linkSnapshot(runtimeDirectory, snapshot.getPath(), StateControllerImpl::isImmutable);
+  }
+
+  private synchronized void prepareNextRuntime(final PersistedSnapshot snapshot) {
+    nextRuntimeSnapshot = null;
+    try {
+      if (Files.exists(nextRuntimeDirectory)) {
+        FileUtil.deleteFolder(nextRuntimeDirectory);
+      }
+      FileUtil.linkSnapshot(
+          nextRuntimeDirectory, snapshot.getPath(), StateControllerImpl::isImmutable);
+      nextRuntimeSnapshot = snapshot;
+    } catch (final Exception e) {
+      LOG.warn("Failed to prepare the next runtime from snapshot '{}'", snapshot, e);
+    }
+  }
+
+  private static boolean isImmutable(final Path file) {
+    return file.getFileName().toString().endsWith(IMMUTABLE_FILE_SUFFIX);
+  }
+
   @Override
   public ZeebeDb openDb() {
     if (db == null) {
@@ -189,6 +246,8 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
         replication.replicate(snapshotChunk);
       }
     }
+
+    prepareNextRuntime(newPersistedSnapshot);
   }
 
   /**
@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.partitions.impl;
+
+import io.prometheus.client.Gauge;
+
+/** Metrics of recovering the runtime state from a snapshot */
+public class StateRecoveryMetrics {
+  private static final String NAMESPACE = "zeebe";
+  private static final String PARTITION_LABEL_NAME = "partition";
+
+  private static final Gauge DURATION =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .help("Duration of the last state recovery from a snapshot in milliseconds")
+          .name("state_recovery_duration_milliseconds")
+          .register();
+
+  private final String partitionId;
+
+  public StateRecoveryMetrics(final String partitionId) {
+    this.partitionId = partitionId;
+  }
+
+  public void observeDuration(final long durationMillis) {
+    DURATION.labels(partitionId).set(durationMillis);
+  }
+}
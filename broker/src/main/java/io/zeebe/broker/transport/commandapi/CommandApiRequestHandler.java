@@ -10,7 +10,8 @@ package io.zeebe.broker.transport.commandapi;
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.transport.backpressure.BackpressureMetrics;
 import io.zeebe.broker.transport.backpressure.RequestLimiter;
-import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.impl.record.RecordMetadata;
@@ -35,9 +36,17 @@ import java.util.Queue;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
 import org.slf4j.Logger;
 
+/**
+ * Writes the commands of the requests to the log stream of their partition. The commands of
+ * requests which are received together are collected per partition and written as one batch, when
+ * the last request was handled; every command keeps its own request metadata, so each request is
+ * still answered on its own.
+ */
 final class CommandApiRequestHandler implements RequestHandler {
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
 
@@ -47,9 +56,11 @@ final class CommandApiRequestHandler implements RequestHandler {
   private final Queue<Runnable> cmdQueue = new ManyToOneConcurrentLinkedQueue<>();
   private final Consumer<Runnable> cmdConsumer = Runnable::run;
 
-  private final Int2ObjectHashMap<LogStreamRecordWriter> leadingStreams = new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<LogStreamBatchWriter> leadingStreams = new Int2ObjectHashMap<>();
   private final Int2ObjectHashMap<RequestLimiter<Intent>> partitionLimiters =
       new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<LongArrayList> batchedRequests = new Int2ObjectHashMap<>();
+  private final IntArrayList batchedPartitions = new IntArrayList();
   private final RecordMetadata eventMetadata = new RecordMetadata();
 
   private final ErrorResponseWriter errorResponseWriter = new ErrorResponseWriter();
@@ -89,7 +100,7 @@ final class CommandApiRequestHandler implements RequestHandler {
 
     final long key = executeCommandRequestDecoder.key();
 
-    final LogStreamRecordWriter logStreamWriter = leadingStreams.get(partitionId);
+    final LogStreamBatchWriter logStreamWriter = leadingStreams.get(partitionId);
 
     if (logStreamWriter == null) {
       errorResponseWriter
@@ -148,7 +159,9 @@ final class CommandApiRequestHandler implements RequestHandler {
 
     boolean written = false;
     try {
-      written = writeCommand(eventMetadata, buffer, key, logStreamWriter, eventOffset, eventLength);
+      written =
+          batchCommand(
+              partitionId, requestId, eventMetadata, buffer, key, eventOffset, eventLength);
     } catch (final Exception ex) {
       LOG.error("Unexpected error on writing {} command", eventIntent, ex);
     } finally {
@@ -158,46 +171,89 @@ final class CommandApiRequestHandler implements RequestHandler {
     }
   }
 
-  private boolean writeCommand(
+  private boolean batchCommand(
+      final int partitionId,
+      final long requestId,
       final RecordMetadata eventMetadata,
       final DirectBuffer buffer,
       final long key,
-      final LogStreamRecordWriter logStreamWriter,
       final int eventOffset,
       final int eventLength) {
-    logStreamWriter.reset();
+    final LogStreamBatchWriter logStreamWriter = leadingStreams.get(partitionId);
+    final int length = eventMetadata.getLength() + eventLength;
+    if (!logStreamWriter.canWriteAdditionalEvent(length)) {
+      writeBatch(partitionId);
+
+      if (!logStreamWriter.canWriteAdditionalEvent(length)) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Expected command to fit into max fragment length of %d bytes, but was %d bytes",
+                logStreamWriter.getMaxFragmentLength(), length));
+      }
+    }
 
+    final LogEntryBuilder event = logStreamWriter.event();
     if (key != ExecuteCommandRequestDecoder.keyNullValue()) {
-      logStreamWriter.key(key);
+      event.key(key);
     } else {
-      logStreamWriter.keyNull();
+      event.keyNull();
+    }
+    event.metadataWriter(eventMetadata).value(buffer, eventOffset, eventLength).done();
+
+    final LongArrayList requestIds = batchedRequests.get(partitionId);
+    requestIds.addLong(requestId);
+    if (!batchedPartitions.containsInt(partitionId)) {
+      batchedPartitions.addInt(partitionId);
+    }
+    return true;
+  }
+
+  private void writeBatch(final int partitionId) {
+    final LongArrayList requestIds = batchedRequests.get(partitionId);
+    if (requestIds == null || requestIds.isEmpty()) {
+      return;
     }
 
-    final long eventPosition =
-        logStreamWriter
-            .metadataWriter(eventMetadata)
-            .value(buffer, eventOffset, eventLength)
-            .tryWrite();
+    final LogStreamBatchWriter logStreamWriter = leadingStreams.get(partitionId);
+    long position = -1;
+    try {
+      position = logStreamWriter.tryWrite();
+    } catch (final Exception ex) {
+      LOG.error("Unexpected error on writing a batch of {} commands", requestIds.size(), ex);
+    }
 
-    return eventPosition >= 0;
+    if (position < 0) {
+      logStreamWriter.reset();
+
+      final RequestLimiter<Intent> limiter = partitionLimiters.get(partitionId);
+      for (int i = 0; i < requestIds.size(); i++) {
+        limiter.onIgnore(partitionId, requestIds.getLong(i));
+      }
+    }
+    requestIds.clear();
   }
 
   void addPartition(
       final int partitionId,
-      final LogStreamRecordWriter logStreamWriter,
+      final LogStreamBatchWriter logStreamWriter,
       final RequestLimiter<Intent> limiter) {
     cmdQueue.add(
         () -> {
           leadingStreams.put(partitionId, logStreamWriter);
           partitionLimiters.put(partitionId, limiter);
+          batchedRequests.put(partitionId, new LongArrayList());
         });
   }
 
   void removePartition(final int partitionId) {
     cmdQueue.add(
         () -> {
+          // the commands which were received before are still written, as without batching
+          writeBatch(partitionId);
+
           leadingStreams.remove(partitionId);
           partitionLimiters.remove(partitionId);
+          batchedRequests.remove(partitionId);
         });
   }
 
@@ -239,6 +295,14 @@ final class CommandApiRequestHandler implements RequestHandler {
         .tryWriteResponse(output, partitionId, requestId);
   }
 
+  @Override
+  public void onEndOfBatch() {
+    for (int i = 0; i < batchedPartitions.size(); i++) {
+      writeBatch(batchedPartitions.getInt(i));
+    }
+    batchedPartitions.clear();
+  }
+
   private void drainCommandQueue() {
     while (!cmdQueue.isEmpty()) {
       final Runnable runnable = cmdQueue.poll();
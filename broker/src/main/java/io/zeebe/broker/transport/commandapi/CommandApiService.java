@@ -74,13 +74,13 @@ public final class CommandApiService extends Actor implements PartitionListener
           limiter.addPartition(partitionId);
 
           logStream
-              .newLogStreamRecordWriter()
+              .newLogStreamBatchWriter()
               .onComplete(
-                  (recordWriter, error) -> {
+                  (batchWriter, error) -> {
                     if (error == null) {
 
                       final var requestLimiter = this.limiter.getLimiter(partitionId);
-                      requestHandler.addPartition(partitionId, recordWriter, requestLimiter);
+                      requestHandler.addPartition(partitionId, batchWriter, requestLimiter);
                       serverTransport.subscribe(partitionId, requestHandler);
                       future.complete(null);
                     } else {
@@ -9,10 +9,12 @@ package io.zeebe.broker.clustering.atomix;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.atomix.cluster.messaging.impl.NettyMessagingService;
 import io.atomix.core.Atomix;
 import io.atomix.raft.partition.RaftPartitionGroup;
 import io.atomix.raft.partition.RaftPartitionGroupConfig;
 import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.ChecksumType;
 import io.zeebe.broker.system.configuration.BrokerCfg;
 import io.zeebe.util.Environment;
 import org.junit.Before;
@@ -57,6 +59,60 @@ public final class AtomixFactoryTest {
     assertThat(config.getStorageConfig().getLevel()).isEqualTo(StorageLevel.DISK);
   }
 
+  @Test
+  public void shouldUseCrc32ChecksumTypeByDefault() {
+    // given
+    final var brokerConfig = newConfig();
+
+    // when
+    final var atomix = AtomixFactory.fromConfiguration(brokerConfig);
+
+    // then
+    final var config = getPartitionGroupConfig(atomix);
+    assertThat(config.getStorageConfig().getChecksumType()).isEqualTo(ChecksumType.CRC32);
+  }
+
+  @Test
+  public void shouldUseConfiguredChecksumType() {
+    // given
+    final var brokerConfig = newConfig();
+    brokerConfig.getData().setLogChecksumType(ChecksumType.CRC32C);
+
+    // when
+    final var atomix = AtomixFactory.fromConfiguration(brokerConfig);
+
+    // then
+    final var config = getPartitionGroupConfig(atomix);
+    assertThat(config.getStorageConfig().getChecksumType()).isEqualTo(ChecksumType.CRC32C);
+  }
+
+  @Test
+  public void shouldNotStripeConnectionsByDefault() {
+    // given
+    final var brokerConfig = newConfig();
+
+    // when
+    final var atomix = AtomixFactory.fromConfiguration(brokerConfig);
+
+    // then
+    final var messagingService = (NettyMessagingService) atomix.getMessagingService();
+    assertThat(messagingService.isConnectionStriping()).isFalse();
+  }
+
+  @Test
+  public void shouldStripeConnections() {
+    // given
+    final var brokerConfig = newConfig();
+    brokerConfig.getCluster().setConnectionStriping(true);
+
+    // when
+    final var atomix = AtomixFactory.fromConfiguration(brokerConfig);
+
+    // then
+    final var messagingService = (NettyMessagingService) atomix.getMessagingService();
+    assertThat(messagingService.isConnectionStriping()).isTrue();
+  }
+
   private RaftPartitionGroup getPartitionGroup(final Atomix atomix) {
     return (RaftPartitionGroup)
         atomix.getPartitionService().getPartitionGroup(AtomixFactory.GROUP_NAME);
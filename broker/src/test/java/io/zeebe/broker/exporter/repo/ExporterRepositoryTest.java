@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.zeebe.broker.exporter.jar.ExporterJarLoadException;
+import io.zeebe.broker.exporter.util.ControlledTestBatchExporter;
 import io.zeebe.broker.exporter.util.ControlledTestExporter;
 import io.zeebe.broker.exporter.util.JarCreatorRule;
 import io.zeebe.broker.exporter.util.TestJarExporter;
@@ -20,6 +21,7 @@ import io.zeebe.exporter.api.context.Context;
 import io.zeebe.protocol.record.Record;
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Rule;
@@ -141,6 +143,55 @@ public final class ExporterRepositoryTest {
         .hasCauseInstanceOf(ClassNotFoundException.class);
   }
 
+  @Test
+  public void shouldFailToLoadBatchExporterWithoutMaxBatchDelay() {
+    // given
+    final ExporterCfg config = newBatchExporterConfig();
+
+    // when
+    config.setMaxBatchDelay(null);
+
+    // then
+    assertThatThrownBy(() -> repository.load("batching", config))
+        .isInstanceOf(ExporterLoadException.class)
+        .hasMessageContaining("expected max batch delay to be positive, but was null");
+  }
+
+  @Test
+  public void shouldFailToLoadBatchExporterWithZeroMaxBatchDelay() {
+    // given
+    final ExporterCfg config = newBatchExporterConfig();
+
+    // when
+    config.setMaxBatchDelay(Duration.ZERO);
+
+    // then
+    assertThatThrownBy(() -> repository.load("batching", config))
+        .isInstanceOf(ExporterLoadException.class)
+        .hasMessageContaining("expected max batch delay to be positive, but was PT0S");
+  }
+
+  @Test
+  public void shouldFailToLoadBatchExporterWithNegativeMaxBatchDelay() {
+    // given
+    final ExporterCfg config = newBatchExporterConfig();
+
+    // when
+    config.setMaxBatchDelay(Duration.ofMillis(-1));
+
+    // then
+    assertThatThrownBy(() -> repository.load("batching", config))
+        .isInstanceOf(ExporterLoadException.class)
+        .hasMessageContaining("expected max batch delay to be positive, but was PT-0.001S");
+  }
+
+  private ExporterCfg newBatchExporterConfig() {
+    final ExporterCfg config = new ExporterCfg();
+    config.setClassName(ControlledTestBatchExporter.class.getCanonicalName());
+    config.setJarPath(null);
+    return config;
+  }
+
   static class InvalidExporter implements Exporter {
     @Override
     public void configure(final Context context) {
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 import io.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.zeebe.broker.exporter.util.ControlledTestBatchExporter;
 import io.zeebe.broker.exporter.util.ControlledTestExporter;
 import io.zeebe.broker.exporter.util.PojoConfigurationExporter;
 import io.zeebe.broker.exporter.util.PojoConfigurationExporter.PojoExporterConfiguration;
@@ -349,6 +350,61 @@ public final class ExporterDirectorTest {
     waitUntil(() -> exportersState.getPosition(EXPORTER_ID_2) == -1);
   }
 
+  @Test
+  public void shouldKeepPositionOfExporterRunByAnotherDirector() throws Exception {
+    // given
+    startExporterDirector(exporterDescriptors);
+
+    final long eventPosition = writeEvent();
+    waitUntil(() -> exporters.get(0).getExportedRecords().size() == 1);
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 1);
+
+    exporters.get(0).getController().updateLastExportedRecordPosition(eventPosition);
+    exporters.get(1).getController().updateLastExportedRecordPosition(eventPosition);
+
+    rule.closeExporterDirector();
+
+    // when
+    rule.startExporterDirector(
+        Collections.singletonList(exporterDescriptors.get(0)),
+        Arrays.asList(EXPORTER_ID_1, EXPORTER_ID_2));
+
+    verify(exporters.get(0), TIMEOUT.times(2)).open(any());
+
+    // then
+    final ExportersState exportersState = rule.getExportersState();
+    assertThat(exportersState.getPosition(EXPORTER_ID_1)).isEqualTo(eventPosition);
+    assertThat(exportersState.getPosition(EXPORTER_ID_2)).isEqualTo(eventPosition);
+  }
+
+  @Test
+  public void shouldRecoverFromOwnPositionIfRunBySeparateDirector() throws Exception {
+    // given
+    startExporterDirector(exporterDescriptors);
+
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+    waitUntil(() -> exporters.get(0).getExportedRecords().size() == 2);
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 2);
+
+    exporters.get(0).getController().updateLastExportedRecordPosition(eventPosition1);
+    // the second exporter never acknowledged anything, but is run by another director
+
+    rule.closeExporterDirector();
+    exporters.get(0).getExportedRecords().clear();
+
+    // when
+    rule.startExporterDirector(
+        Collections.singletonList(exporterDescriptors.get(0)),
+        Arrays.asList(EXPORTER_ID_1, EXPORTER_ID_2));
+
+    // then
+    waitUntil(() -> exporters.get(0).getExportedRecords().size() >= 1);
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition2);
+  }
+
   @Test
   public void shouldRecoverFromStartWithNonUpdatingExporter() throws Exception {
     // given
@@ -374,6 +430,90 @@ public final class ExporterDirectorTest {
     assertThat(exporters.get(1).getExportedRecords()).isEmpty();
   }
 
+  @Test
+  public void shouldExportBatchesOfMaxSize() {
+    // given
+    final ControlledTestBatchExporter batchExporter = new ControlledTestBatchExporter();
+    startExporterDirector(
+        Collections.singletonList(
+            createBatchExporterDescriptor(batchExporter, 2, Duration.ofMinutes(1))));
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+    final long eventPosition3 = writeEvent();
+    final long eventPosition4 = writeEvent();
+
+    // then
+    waitUntil(() -> batchExporter.getExportedBatches().size() == 2);
+    assertThat(batchExporter.getExportedBatches().get(0))
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+    assertThat(batchExporter.getExportedBatches().get(1))
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition3, eventPosition4);
+    assertThat(batchExporter.getExportedRecords()).isEmpty();
+  }
+
+  @Test
+  public void shouldExportIncompleteBatchAfterDelay() {
+    // given
+    final Duration maxBatchDelay = Duration.ofSeconds(1);
+    final ControlledTestBatchExporter batchExporter = new ControlledTestBatchExporter();
+    startExporterDirector(
+        Collections.singletonList(
+            createBatchExporterDescriptor(batchExporter, 100, maxBatchDelay)));
+
+    // when
+    final long eventPosition = writeEvent();
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(maxBatchDelay))
+        .until(r -> batchExporter.getExportedBatches().size() == 1);
+    assertThat(batchExporter.getExportedBatches().get(0))
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition);
+  }
+
+  @Test
+  public void shouldRetryExportingBatchOnException() {
+    // given
+    final AtomicLong failCount = new AtomicLong(2);
+    final ControlledTestBatchExporter batchExporter = new ControlledTestBatchExporter();
+    batchExporter.onExportBatch(
+        batch -> {
+          if (failCount.getAndDecrement() > 0) {
+            throw new RuntimeException("Export failed (expected)");
+          }
+        });
+    startExporterDirector(
+        Collections.singletonList(
+            createBatchExporterDescriptor(batchExporter, 2, Duration.ofMinutes(1))));
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until(r -> batchExporter.getExportedBatches().size() == 1);
+    assertThat(batchExporter.getExportedBatches().get(0))
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+  }
+
+  private ExporterDescriptor createBatchExporterDescriptor(
+      final ControlledTestBatchExporter exporter,
+      final int maxBatchSize,
+      final Duration maxBatchDelay) {
+    final ExporterDescriptor descriptor =
+        spy(
+            new ExporterDescriptor(
+                "batch-exporter", exporter.getClass(), null, maxBatchSize, maxBatchDelay));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+    return descriptor;
+  }
+
   private long writeEvent() {
     final DeploymentRecord event = new DeploymentRecord();
     return rule.writeEvent(DeploymentIntent.CREATED, event);
@@ -21,7 +21,9 @@ import io.zeebe.protocol.record.intent.Intent;
 import io.zeebe.test.util.AutoCloseableRule;
 import io.zeebe.util.sched.clock.ControlledActorClock;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.rules.ExternalResource;
 import org.junit.rules.RuleChain;
 import org.junit.rules.TemporaryFolder;
@@ -65,8 +67,16 @@ public final class ExporterRule implements TestRule {
     return chain.apply(base, description);
   }
 
-  @SuppressWarnings("unchecked")
   public void startExporterDirector(final List<ExporterDescriptor> exporterDescriptors) {
+    startExporterDirector(
+        exporterDescriptors,
+        exporterDescriptors.stream().map(ExporterDescriptor::getId).collect(Collectors.toList()));
+  }
+
+  @SuppressWarnings("unchecked")
+  public void startExporterDirector(
+      final List<ExporterDescriptor> exporterDescriptors,
+      final Collection<String> configuredExporterIds) {
     final var stream = streams.getLogStream(STREAM_NAME);
     final var runtimeFolder = streams.createRuntimeFolder(stream);
     capturedZeebeDb = spy(zeebeDbFactory.createDb(runtimeFolder.toFile()));
@@ -77,7 +87,8 @@ public final class ExporterRule implements TestRule {
             .name(PROCESSOR_NAME)
             .logStream(stream.getAsyncLogStream())
             .zeebeDb(capturedZeebeDb)
-            .descriptors(exporterDescriptors);
+            .descriptors(exporterDescriptors)
+            .configuredExporterIds(configuredExporterIds);
 
     director = new ExporterDirector(context);
     director.startAsync(actorSchedulerRule.get()).join();
@@ -0,0 +1,45 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.exporter.util;
+
+import io.zeebe.exporter.api.BatchExporter;
+import io.zeebe.exporter.api.RecordBatch;
+import io.zeebe.protocol.record.Record;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class ControlledTestBatchExporter extends ControlledTestExporter implements BatchExporter {
+  private final List<List<Record>> exportedBatches = new CopyOnWriteArrayList<>();
+
+  private Consumer<List<Record>> onExportBatch;
+
+  public ControlledTestBatchExporter onExportBatch(final Consumer<List<Record>> callback) {
+    onExportBatch = callback;
+    return this;
+  }
+
+  public List<List<Record>> getExportedBatches() {
+    return exportedBatches;
+  }
+
+  @Override
+  public void exportBatch(final RecordBatch batch) {
+    final List<Record> copiedRecords = new ArrayList<>(batch.size());
+    for (final Record<?> record : batch) {
+      copiedRecords.add(record.clone());
+    }
+
+    if (onExportBatch != null) {
+      onExportBatch.accept(copiedRecords);
+    }
+
+    exportedBatches.add(copiedRecords);
+  }
+}
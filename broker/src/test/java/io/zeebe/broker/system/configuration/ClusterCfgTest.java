@@ -30,4 +30,13 @@ public final class ClusterCfgTest {
 
     assertThat(actual).isEqualTo(expected);
   }
+
+  @Test
+  public void shouldNotStripeConnectionsByDefault() {
+    // given
+    final ClusterCfg sutClusterConfig = new ClusterCfg();
+
+    // then
+    assertThat(sutClusterConfig.isConnectionStriping()).isFalse();
+  }
 }
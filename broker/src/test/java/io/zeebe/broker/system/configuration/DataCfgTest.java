@@ -8,11 +8,16 @@
 package io.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.atomix.storage.StorageLevel;
+import io.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
+import io.zeebe.engine.state.ZbColumnFamilies;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import org.junit.Test;
+import org.springframework.util.unit.DataSize;
 
 public class DataCfgTest {
 
@@ -67,4 +72,67 @@ public class DataCfgTest {
     final var actual = sutDataCfg.getAtomixStorageLevel();
     assertThat(actual).isEqualTo(StorageLevel.DISK);
   }
+
+  @Test
+  public void shouldUseDefaultSnapshotChunkSizeIfNotSet() {
+    // given
+    final var sutDataCfg = new DataCfg();
+
+    // when
+    sutDataCfg.setSnapshotChunkSize(null);
+
+    // then
+    assertThat(sutDataCfg.getSnapshotChunkSizeInBytes()).isEqualTo(1024 * 1024);
+  }
+
+  @Test
+  public void shouldParseColumnFamilyProfileOverrides() {
+    // given
+    final var sutDataCfg = new DataCfg();
+
+    // when
+    sutDataCfg.getRocksdb().setColumnFamilyProfiles(Map.of("variables", "point_lookup"));
+
+    // then
+    assertThat(sutDataCfg.getRocksdb().getColumnFamilyProfileOverrides())
+        .containsExactly(Map.entry(ZbColumnFamilies.VARIABLES, ColumnFamilyProfile.POINT_LOOKUP));
+  }
+
+  @Test
+  public void shouldRejectUnknownColumnFamilyProfile() {
+    // given
+    final var sutDataCfg = new DataCfg();
+
+    // when
+    sutDataCfg.getRocksdb().setColumnFamilyProfiles(Map.of("variables", "fast"));
+
+    // then
+    assertThatThrownBy(() -> sutDataCfg.getRocksdb().getColumnFamilyProfileOverrides())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("fast");
+  }
+
+  @Test
+  public void shouldNotCacheColumnFamiliesByDefault() {
+    // given
+    final var sutDataCfg = new DataCfg();
+
+    // then
+    assertThat(sutDataCfg.getRocksdb().getColumnFamilyCacheSizes()).isEmpty();
+  }
+
+  @Test
+  public void shouldCacheConfiguredColumnFamilies() {
+    // given
+    final var sutDataCfg = new DataCfg();
+
+    // when
+    sutDataCfg.getRocksdb().setColumnFamilyCachesEnabled(true);
+    sutDataCfg.getRocksdb().setColumnFamilyCacheSize(DataSize.ofMegabytes(1));
+    sutDataCfg.getRocksdb().setCachedColumnFamilies(List.of("jobs"));
+
+    // then
+    assertThat(sutDataCfg.getRocksdb().getColumnFamilyCacheSizes())
+        .containsExactly(Map.entry(ZbColumnFamilies.JOBS, DataSize.ofMegabytes(1).toBytes()));
+  }
 }
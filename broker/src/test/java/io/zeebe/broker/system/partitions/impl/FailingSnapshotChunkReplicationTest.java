@@ -184,6 +184,21 @@ public final class FailingSnapshotChunkReplicationTest {
       return snapshotChunk.getChunkName();
     }
 
+    @Override
+    public long getFileBlockPosition() {
+      return snapshotChunk.getFileBlockPosition();
+    }
+
+    @Override
+    public long getTotalFileSize() {
+      return snapshotChunk.getTotalFileSize();
+    }
+
+    @Override
+    public long getFileChecksum() {
+      return snapshotChunk.getFileChecksum();
+    }
+
     @Override
     public long getChecksum() {
       return 0;
@@ -23,9 +23,11 @@ import io.zeebe.test.util.AutoCloseableRule;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Comparator;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.agrona.collections.MutableLong;
 import org.junit.Before;
 import org.junit.Rule;
@@ -40,18 +42,20 @@ public final class StateControllerImplTest {
   private final MutableLong exporterPosition = new MutableLong(Long.MAX_VALUE);
   private StateControllerImpl snapshotController;
   private PersistedSnapshotStore store;
+  private Path runtimeDirectory;
 
   @Before
   public void setup() throws IOException {
     final var rootDirectory = tempFolderRule.newFolder("state").toPath();
     store = new FileBasedSnapshotStoreFactory().createSnapshotStore(rootDirectory, "1");
+    runtimeDirectory = rootDirectory.resolve("runtime");
 
     snapshotController =
         new StateControllerImpl(
             1,
             ZeebeRocksDbFactory.newFactory(DefaultColumnFamily.class),
             store,
-            rootDirectory.resolve("runtime"),
+            runtimeDirectory,
             new NoneSnapshotReplication(),
             l ->
                 Optional.ofNullable(
@@ -198,6 +202,32 @@ public final class StateControllerImplTest {
     assertThat(wrapper.getInt("x")).isEqualTo(3);
   }
 
+  @Test
+  public void shouldRecoverWithoutCopyingSnapshotFiles() throws Exception {
+    // given
+    final RocksDBWrapper wrapper = new RocksDBWrapper();
+    wrapper.wrap(snapshotController.openDb());
+    wrapper.putInt("x", 1);
+    final var snapshotDirectory = takeSnapshot(1).toPath();
+    snapshotController.close();
+
+    // when
+    snapshotController.recover();
+    wrapper.wrap(snapshotController.openDb());
+
+    // then
+    assertThat(wrapper.getInt("x")).isEqualTo(1);
+    try (final var files = Files.list(snapshotDirectory)) {
+      final var sstFiles =
+          files.filter(p -> p.toString().endsWith(".sst")).collect(Collectors.toList());
+      assertThat(sstFiles).isNotEmpty();
+      for (final Path sstFile : sstFiles) {
+        assertThat(Files.isSameFile(sstFile, runtimeDirectory.resolve(sstFile.getFileName())))
+            .isTrue();
+      }
+    }
+  }
+
   @Test
   public void shouldFailToRecoverIfAllSnapshotsAreCorrupted() throws Exception {
     // given two snapshots
@@ -42,6 +42,7 @@ public class StandaloneGateway {
   public StandaloneGateway(
       final GatewayCfg gatewayCfg, final SpringGatewayBridge springGatewayBridge) {
     atomixCluster = createAtomixCluster(gatewayCfg.getCluster());
+    atomixCluster.start();
     actorScheduler = createActorScheduler(gatewayCfg);
     final Function<GatewayCfg, BrokerClient> brokerClientFactory =
         cfg -> new BrokerClientImpl(cfg, atomixCluster, actorScheduler, false);
@@ -52,20 +53,17 @@ public class StandaloneGateway {
         () -> gateway.getBrokerClient().getTopologyManager().getTopology());
   }
 
-  private AtomixCluster createAtomixCluster(final ClusterCfg clusterCfg) {
-    final var atomix =
-        Atomix.builder()
-            .withMemberId(clusterCfg.getMemberId())
-            .withAddress(Address.from(clusterCfg.getHost(), clusterCfg.getPort()))
-            .withClusterId(clusterCfg.getClusterName())
-            .withMembershipProvider(
-                BootstrapDiscoveryProvider.builder()
-                    .withNodes(Address.from(clusterCfg.getContactPoint()))
-                    .build())
-            .build();
-
-    atomix.start();
-    return atomix;
+  static AtomixCluster createAtomixCluster(final ClusterCfg clusterCfg) {
+    return Atomix.builder()
+        .withMemberId(clusterCfg.getMemberId())
+        .withAddress(Address.from(clusterCfg.getHost(), clusterCfg.getPort()))
+        .withClusterId(clusterCfg.getClusterName())
+        .withMembershipProvider(
+            BootstrapDiscoveryProvider.builder()
+                .withNodes(Address.from(clusterCfg.getContactPoint()))
+                .build())
+        .withConnectionStriping(clusterCfg.isConnectionStriping())
+        .build();
   }
 
   private ActorScheduler createActorScheduler(final GatewayCfg configuration) {
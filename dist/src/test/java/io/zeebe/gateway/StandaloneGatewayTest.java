@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.messaging.impl.NettyMessagingService;
+import io.zeebe.gateway.impl.configuration.ClusterCfg;
+import org.junit.Test;
+
+public final class StandaloneGatewayTest {
+
+  @Test
+  public void shouldNotStripeConnectionsByDefault() {
+    // given
+    final var clusterCfg = new ClusterCfg();
+
+    // when
+    final var atomixCluster = StandaloneGateway.createAtomixCluster(clusterCfg);
+
+    // then
+    final var messagingService = (NettyMessagingService) atomixCluster.getMessagingService();
+    assertThat(messagingService.isConnectionStriping()).isFalse();
+  }
+
+  @Test
+  public void shouldStripeConnections() {
+    // given
+    final var clusterCfg = new ClusterCfg().setConnectionStriping(true);
+
+    // when
+    final var atomixCluster = StandaloneGateway.createAtomixCluster(clusterCfg);
+
+    // then
+    final var messagingService = (NettyMessagingService) atomixCluster.getMessagingService();
+    assertThat(messagingService.isConnectionStriping()).isTrue();
+  }
+}
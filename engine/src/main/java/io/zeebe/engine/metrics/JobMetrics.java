@@ -9,6 +9,7 @@ package io.zeebe.engine.metrics;
 
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 public final class JobMetrics {
 
@@ -28,6 +29,14 @@ public final class JobMetrics {
           .labelNames("partition", "type")
           .register();
 
+  private static final Histogram JOB_ACTIVATION_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("job_activation_latency_seconds")
+          .help("Latency of finding the activatable jobs of a job batch in seconds")
+          .labelNames("partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public JobMetrics(final int partitionId) {
@@ -51,6 +60,10 @@ public final class JobMetrics {
     jobEvent("activated", type);
   }
 
+  public void jobActivationLatency(final long durationNanos) {
+    JOB_ACTIVATION_LATENCY.labels(partitionIdLabel).observe(durationNanos / 1e9);
+  }
+
   public void jobTimedOut(final String type) {
     jobEvent("timed out", type);
   }
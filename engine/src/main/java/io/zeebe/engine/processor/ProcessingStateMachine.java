@@ -293,6 +293,7 @@ public final class ProcessingStateMachine {
         updateStateRetryStrategy.runWithRetry(
             () -> {
               zeebeDbTransaction.rollback();
+              zeebeState.onRollback();
               return true;
             },
             abortCondition);
@@ -257,6 +257,7 @@ public final class ReProcessingStateMachine {
               final boolean onRetry = zeebeDbTransaction != null;
               if (onRetry) {
                 zeebeDbTransaction.rollback();
+                zeebeState.onRollback();
               }
               zeebeDbTransaction = dbContext.getCurrentTransaction();
               zeebeDbTransaction.run(operationOnProcessing);
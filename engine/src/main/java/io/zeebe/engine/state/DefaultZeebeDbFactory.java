@@ -8,10 +8,29 @@
 package io.zeebe.engine.state;
 
 import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 public final class DefaultZeebeDbFactory {
 
+  /**
+   * The column families which are cached if the column family caches are enabled. These are looked
+   * up repeatedly by key while processing; deployed workflows are not part of it, since they are
+   * already cached by the workflow state.
+   */
+  public static final Set<ZbColumnFamilies> DEFAULT_CACHED_COLUMN_FAMILIES =
+      Collections.unmodifiableSet(
+          EnumSet.of(
+              ZbColumnFamilies.ELEMENT_INSTANCE_KEY,
+              ZbColumnFamilies.ELEMENT_INSTANCE_CHILD_PARENT,
+              ZbColumnFamilies.JOBS));
+
   /**
    * The default zeebe database factory, which is used in most of the places except for the
    * exporters.
@@ -29,7 +48,96 @@ public final class DefaultZeebeDbFactory {
   public static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
       ZeebeDbFactory<ColumnFamilyNames> defaultFactory(
           final Class<ColumnFamilyNames> columnFamilyNamesClass) {
+    return defaultFactory(columnFamilyNamesClass, new RocksDbConfiguration<>());
+  }
+
+  /**
+   * Returns the default zeebe database factory, which creates databases as configured.
+   *
+   * @param columnFamilyNamesClass the enum class, which contains the column family names
+   * @param configuration configures the created databases
+   * @param <ColumnFamilyNames> the type of the enum
+   * @return the created zeebe database factory
+   */
+  public static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
+      ZeebeDbFactory<ColumnFamilyNames> defaultFactory(
+          final Class<ColumnFamilyNames> columnFamilyNamesClass,
+          final RocksDbConfiguration<ColumnFamilyNames> configuration) {
     // one place to replace the zeebe database implementation
-    return ZeebeRocksDbFactory.newFactory(columnFamilyNamesClass);
+    return ZeebeRocksDbFactory.newFactory(columnFamilyNamesClass, configuration);
+  }
+
+  /**
+   * Returns the profiles which tune each column family according to the way the engine accesses
+   * it, to be set on the {@link RocksDbConfiguration}.
+   *
+   * @param profileOverrides profiles which replace the {@link #defaultProfile(ZbColumnFamilies)
+   *     default profile} of the given column families
+   * @return the profile of each column family
+   */
+  public static Function<ZbColumnFamilies, ColumnFamilyProfile> tunedProfiles(
+      final Map<ZbColumnFamilies, ColumnFamilyProfile> profileOverrides) {
+    return columnFamily ->
+        profileOverrides.getOrDefault(columnFamily, defaultProfile(columnFamily));
+  }
+
+  /**
+   * Returns the profile which matches the way the engine accesses the given column family.
+   *
+   * @param columnFamily the column family
+   * @return the profile of the column family
+   */
+  public static ColumnFamilyProfile defaultProfile(final ZbColumnFamilies columnFamily) {
+    switch (columnFamily) {
+      case ELEMENT_INSTANCE_PARENT_CHILD:
+      case STORED_INSTANCE_EVENTS_PARENT_CHILD:
+      case VARIABLES:
+      case TIMERS:
+      case JOB_ACTIVATABLE:
+      case MESSAGES:
+      case MESSAGE_CORRELATED:
+      case MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY:
+      case MESSAGE_START_EVENT_SUBSCRIPTION_BY_NAME_AND_KEY:
+      case MESSAGE_START_EVENT_SUBSCRIPTION_BY_KEY_AND_NAME:
+      case WORKFLOW_SUBSCRIPTION_BY_KEY:
+      case EVENT_TRIGGER:
+        return ColumnFamilyProfile.PREFIX_SCAN;
+
+      case TIMER_DUE_DATES:
+      case JOB_DEADLINES:
+      case MESSAGE_DEADLINES:
+      case MESSAGE_SUBSCRIPTION_BY_SENT_TIME:
+      case WORKFLOW_SUBSCRIPTION_BY_SENT_TIME:
+      case PENDING_DEPLOYMENT:
+        return ColumnFamilyProfile.ORDERED_SCAN;
+
+      case STORED_INSTANCE_EVENTS:
+      case TEMPORARY_VARIABLE_STORE:
+        return ColumnFamilyProfile.WRITE_HEAVY;
+
+      case ELEMENT_INSTANCE_KEY:
+      case ELEMENT_INSTANCE_CHILD_PARENT:
+      case JOBS:
+      case JOB_STATES:
+      case MESSAGE_KEY:
+      case MESSAGE_IDS:
+      case MESSAGE_WORKFLOWS_ACTIVE_BY_CORRELATION_KEY:
+      case MESSAGE_WORKFLOW_INSTANCE_CORRELATION_KEYS:
+      case MESSAGE_SUBSCRIPTION_BY_KEY:
+      case INCIDENTS:
+      case INCIDENT_WORKFLOW_INSTANCES:
+      case INCIDENT_JOBS:
+      case EVENT_SCOPE:
+      case BLACKLIST:
+      case WORKFLOW_VERSION:
+      case WORKFLOW_CACHE:
+      case WORKFLOW_CACHE_BY_ID_AND_VERSION:
+      case WORKFLOW_CACHE_LATEST_KEY:
+      case WORKFLOW_CACHE_DIGEST_BY_ID:
+        return ColumnFamilyProfile.POINT_LOOKUP;
+
+      default:
+        return ColumnFamilyProfile.DEFAULT;
+    }
   }
 }
@@ -149,6 +149,11 @@ public class ZeebeState {
     }
   }
 
+  /** Resets the in-memory parts of the state after the current transaction was rolled back. */
+  public void onRollback() {
+    jobState.onRollback();
+  }
+
   public void markAsProcessed(final long position) {
     lastProcessedPositionState.setPosition(position);
   }
@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.instance;
+
+import io.zeebe.util.buffer.BufferUtil;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.LongHashSet;
+
+/**
+ * An in-memory index of the activatable job keys per job type, ordered by job key (i.e. in
+ * creation order). A type is only indexed after it was loaded from the state once, see {@link
+ * #isLoaded(DirectBuffer)}.
+ *
+ * <p>Keys are removed when their jobs stop being activatable, see {@link #remove(DirectBuffer,
+ * long)}. The index is still only a hint: it can contain keys of jobs which were removed from the
+ * state without it. Such keys must be verified against the state and removed with {@link
+ * JobKeys#removeFirst()} when they are at the head. Since keys are added and removed inside
+ * transactions which can be rolled back afterwards, the index must be cleared on rollback, see
+ * {@link #clear()}.
+ */
+final class ActivatableJobsIndex {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final Map<DirectBuffer, JobKeys> jobKeysByType = new HashMap<>();
+
+  boolean isLoaded(final DirectBuffer type) {
+    return jobKeysByType.containsKey(type);
+  }
+
+  /** @return the (empty) job keys of the type, which is marked as loaded afterwards */
+  JobKeys load(final DirectBuffer type) {
+    final JobKeys jobKeys = new JobKeys();
+    jobKeysByType.put(BufferUtil.cloneBuffer(type), jobKeys);
+    return jobKeys;
+  }
+
+  /** @return the job keys of the type, or {@code null} if the type is not loaded */
+  JobKeys get(final DirectBuffer type) {
+    return jobKeysByType.get(type);
+  }
+
+  /** Unloads all types, such that they are loaded again from the state on the next access. */
+  void clear() {
+    jobKeysByType.clear();
+  }
+
+  /** Adds the job key if the type is loaded, otherwise it is picked up when loading the type. */
+  void add(final DirectBuffer type, final long key) {
+    final JobKeys jobKeys = jobKeysByType.get(type);
+    if (jobKeys != null) {
+      jobKeys.add(key);
+    }
+  }
+
+  /** Removes the job key if the type is loaded. */
+  void remove(final DirectBuffer type, final long key) {
+    final JobKeys jobKeys = jobKeysByType.get(type);
+    if (jobKeys != null) {
+      jobKeys.remove(key);
+    }
+  }
+
+  static final class JobKeys {
+    private final LongHashSet containedKeys = new LongHashSet();
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int head = 0;
+    private int tail = 0;
+
+    int size() {
+      return tail - head;
+    }
+
+    long get(final int index) {
+      return keys[head + index];
+    }
+
+    void add(final long key) {
+      if (!containedKeys.add(key)) {
+        return;
+      }
+
+      ensureCapacity();
+
+      // keys are usually added in ascending order, only jobs which become activatable again are
+      // inserted in between
+      int index = tail;
+      if (index > head && keys[index - 1] > key) {
+        index = Arrays.binarySearch(keys, head, tail, key);
+        index = -(index + 1);
+        System.arraycopy(keys, index, keys, index + 1, tail - index);
+      }
+
+      keys[index] = key;
+      tail += 1;
+    }
+
+    void removeFirst() {
+      containedKeys.remove(keys[head]);
+      head += 1;
+      resetIfEmpty();
+    }
+
+    void remove(final long key) {
+      if (!containedKeys.remove(key)) {
+        return;
+      }
+
+      // jobs are usually activated in the order of their keys, so mostly the head is removed
+      if (keys[head] == key) {
+        head += 1;
+      } else {
+        final int index = Arrays.binarySearch(keys, head, tail, key);
+        System.arraycopy(keys, index + 1, keys, index, tail - index - 1);
+        tail -= 1;
+      }
+      resetIfEmpty();
+    }
+
+    private void resetIfEmpty() {
+      if (head == tail) {
+        head = 0;
+        tail = 0;
+      }
+    }
+
+    private void ensureCapacity() {
+      if (tail < keys.length) {
+        return;
+      }
+
+      final int size = size();
+      if (size < keys.length / 2) {
+        System.arraycopy(keys, head, keys, 0, size);
+      } else {
+        keys = Arrays.copyOfRange(keys, head, head + keys.length * 2);
+      }
+
+      head = 0;
+      tail = size;
+    }
+  }
+}
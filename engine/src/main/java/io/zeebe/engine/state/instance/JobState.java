@@ -17,6 +17,7 @@ import io.zeebe.db.impl.DbString;
 import io.zeebe.engine.Loggers;
 import io.zeebe.engine.metrics.JobMetrics;
 import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.engine.state.instance.ActivatableJobsIndex.JobKeys;
 import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.util.EnsureUtil;
 import io.zeebe.util.buffer.BufferUtil;
@@ -46,6 +47,8 @@ public final class JobState {
   private final DbString jobTypeKey;
   private final DbCompositeKey<DbString, DbLong> typeJobKey;
   private final ColumnFamily<DbCompositeKey<DbString, DbLong>, DbNil> activatableColumnFamily;
+  // type => [key] in memory, to find activatable jobs without creating an iterator
+  private final ActivatableJobsIndex activatableJobsIndex = new ActivatableJobsIndex();
 
   // timeout => key
   private final DbLong deadlineKey;
@@ -109,7 +112,7 @@ public final class JobState {
 
     updateJobState(State.ACTIVATED);
 
-    makeJobNotActivatable(type);
+    makeJobNotActivatable(type, key);
 
     deadlineKey.wrapLong(deadline);
     deadlinesColumnFamily.put(deadlineJobKey, DbNil.INSTANCE);
@@ -142,7 +145,7 @@ public final class JobState {
 
   public void throwError(final long key, final JobRecord updatedValue) {
     updateJob(key, updatedValue, State.ERROR_THROWN);
-    makeJobNotActivatable(updatedValue.getTypeBuffer());
+    makeJobNotActivatable(updatedValue.getTypeBuffer(), key);
 
     metrics.jobErrorThrown(updatedValue.getType());
   }
@@ -156,7 +159,7 @@ public final class JobState {
 
     statesJobColumnFamily.delete(jobKey);
 
-    makeJobNotActivatable(type);
+    makeJobNotActivatable(type, key);
 
     removeJobDeadline(deadline);
   }
@@ -231,16 +234,57 @@ public final class JobState {
     return getState(key) == state;
   }
 
+  /**
+   * Drops the in-memory index of activatable jobs, because it may contain changes of the rolled
+   * back transaction. The index is loaded again from the state on the next access.
+   */
+  public void onRollback() {
+    activatableJobsIndex.clear();
+  }
+
   public void forEachActivatableJobs(
       final DirectBuffer type, final BiFunction<Long, JobRecord, Boolean> callback) {
-    jobTypeKey.wrapBuffer(type);
+    final long startTime = System.nanoTime();
+
+    JobKeys jobKeys = activatableJobsIndex.get(type);
+    if (jobKeys == null) {
+      jobKeys = loadActivatableJobs(type);
+    }
+
+    int index = 0;
+    boolean shouldContinue = true;
+    while (shouldContinue && index < jobKeys.size()) {
+      final long key = jobKeys.get(index);
+
+      jobTypeKey.wrapBuffer(type);
+      jobKey.wrapLong(key);
+
+      if (!activatableColumnFamily.exists(typeJobKey)) {
+        // the index can contain jobs which are not activatable anymore
+        if (index == 0) {
+          jobKeys.removeFirst();
+        } else {
+          index += 1;
+        }
+        continue;
+      }
+
+      shouldContinue =
+          visitJob(key, callback, () -> activatableColumnFamily.delete(typeJobKey));
+      index += 1;
+    }
+
+    metrics.jobActivationLatency(System.nanoTime() - startTime);
+  }
+
+  private JobKeys loadActivatableJobs(final DirectBuffer type) {
+    final JobKeys jobKeys = activatableJobsIndex.load(type);
 
+    jobTypeKey.wrapBuffer(type);
     activatableColumnFamily.whileEqualPrefix(
-        jobTypeKey,
-        ((compositeKey, zbNil) -> {
-          final long jobKey = compositeKey.getSecond().getValue();
-          return visitJob(jobKey, callback, () -> activatableColumnFamily.delete(compositeKey));
-        }));
+        jobTypeKey, (compositeKey, zbNil) -> jobKeys.add(compositeKey.getSecond().getValue()));
+
+    return jobKeys;
   }
 
   boolean visitJob(
@@ -301,16 +345,20 @@ public final class JobState {
 
     jobKey.wrapLong(key);
     activatableColumnFamily.put(typeJobKey, DbNil.INSTANCE);
+    activatableJobsIndex.add(type, key);
 
     // always notify
     notifyJobAvailable(type);
   }
 
-  private void makeJobNotActivatable(final DirectBuffer type) {
+  private void makeJobNotActivatable(final DirectBuffer type, final long key) {
     EnsureUtil.ensureNotNullOrEmpty("type", type);
 
     jobTypeKey.wrapBuffer(type);
+
+    jobKey.wrapLong(key);
     activatableColumnFamily.delete(typeJobKey);
+    activatableJobsIndex.remove(type, key);
   }
 
   private void removeJobDeadline(final long deadline) {
@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.instance;
+
+import io.zeebe.db.DbValue;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/** A MsgPack document of variables, which is stored as it is without any additional encoding. */
+public final class VariablesDocument implements DbValue {
+
+  private final DirectBuffer document = new UnsafeBuffer(0, 0);
+
+  public DirectBuffer get() {
+    return document;
+  }
+
+  public void set(final DirectBuffer buffer, final int offset, final int length) {
+    document.wrap(buffer, offset, length);
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    document.wrap(buffer, offset, length);
+  }
+
+  @Override
+  public int getLength() {
+    return document.capacity();
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    buffer.putBytes(offset, document, 0, document.capacity());
+  }
+}
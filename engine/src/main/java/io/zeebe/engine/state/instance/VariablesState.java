@@ -26,7 +26,6 @@ import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
-import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Int2IntHashMap;
 import org.agrona.collections.Int2IntHashMap.EntryIterator;
 import org.agrona.collections.ObjectHashSet;
@@ -36,6 +35,9 @@ public class VariablesState {
 
   public static final int NO_PARENT = -1;
 
+  // length of a map header which is written by MsgPackWriter#reserveMapHeader()
+  private static final int RESERVED_MAP_HEADER_LENGTH = 5;
+
   private final MsgPackReader reader = new MsgPackReader();
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
@@ -53,6 +55,14 @@ public class VariablesState {
   private final DbLong scopeKey;
   private final DbString variableName;
 
+  // (scope key) => (document of all local variables of the scope)
+  // the document is rewritten whenever a variable of the scope is set, such that reading the
+  // variables of a scope requires a single lookup
+  private final ColumnFamily<DbLong, VariablesDocument> scopeDocumentColumnFamily;
+  private final VariablesDocument scopeDocument = new VariablesDocument();
+  private final MsgPackWriter scopeDocumentWriter = new MsgPackWriter();
+  private final ExpandableArrayBuffer scopeDocumentBuffer = new ExpandableArrayBuffer();
+
   // (scope key) => (temporaryVariables)
   private final ColumnFamily<DbLong, TemporaryVariables> temporaryVariableStoreColumnFamily;
   private final TemporaryVariables temporaryVariables = new TemporaryVariables();
@@ -92,6 +102,10 @@ public class VariablesState {
     temporaryVariableStoreColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.TEMPORARY_VARIABLE_STORE, dbContext, scopeKey, temporaryVariables);
+
+    scopeDocumentColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.VARIABLE_DOCUMENTS, dbContext, scopeKey, scopeDocument);
   }
 
   public void setVariablesLocalFromDocument(
@@ -99,6 +113,7 @@ public class VariablesState {
     reader.wrap(document, 0, document.capacity());
 
     final int variables = reader.readMapHeader();
+    boolean changed = false;
 
     for (int i = 0; i < variables; i++) {
       final MsgPackToken variableName = reader.readToken();
@@ -109,15 +124,20 @@ public class VariablesState {
       reader.skipValue();
       final int valueLength = reader.getOffset() - valueOffset;
 
-      setVariableLocal(
-          scopeKey,
-          workflowKey,
-          document,
-          nameOffset,
-          nameLength,
-          document,
-          valueOffset,
-          valueLength);
+      changed |=
+          writeVariableLocal(
+              scopeKey,
+              workflowKey,
+              document,
+              nameOffset,
+              nameLength,
+              document,
+              valueOffset,
+              valueLength);
+    }
+
+    if (changed) {
+      updateScopeDocument(scopeKey);
     }
   }
 
@@ -150,6 +170,27 @@ public class VariablesState {
       final int valueOffset,
       final int valueLength) {
 
+    if (writeVariableLocal(
+        scopeKey, workflowKey, name, nameOffset, nameLength, value, valueOffset, valueLength)) {
+      updateScopeDocument(scopeKey);
+    }
+  }
+
+  /**
+   * Creates or updates the variable without updating the document of the scope.
+   *
+   * @return true if the variable was created or updated
+   */
+  private boolean writeVariableLocal(
+      final long scopeKey,
+      final long workflowKey,
+      final DirectBuffer name,
+      final int nameOffset,
+      final int nameLength,
+      final DirectBuffer value,
+      final int valueOffset,
+      final int valueLength) {
+
     newVariable.reset();
     newVariable.setValue(value, valueOffset, valueLength);
 
@@ -170,6 +211,7 @@ public class VariablesState {
             scopeKey,
             rootScopeKey);
       }
+      return true;
 
     } else if (!BufferUtil.equals(currentVariable.getValue(), newVariable.getValue())) {
       newVariable.setKey(currentVariable.getKey());
@@ -185,9 +227,11 @@ public class VariablesState {
             scopeKey,
             rootScopeKey);
       }
+      return true;
 
     } else {
       // not updated
+      return false;
     }
   }
 
@@ -273,6 +317,7 @@ public class VariablesState {
     // 2. overwrite any variables in the scope hierarchy
     while ((parentScope = getParent(currentScope)) > 0) {
       final DocumentEntryIterator entryIterator = indexedDocument.iterator();
+      boolean changed = false;
 
       while (entryIterator.hasNext()) {
         entryIterator.next();
@@ -285,37 +330,48 @@ public class VariablesState {
                 entryIterator.getNameLength());
 
         if (hasVariable) {
-          setVariableLocal(
-              currentScope,
-              workflowKey,
-              document,
-              entryIterator.getNameOffset(),
-              entryIterator.getNameLength(),
-              document,
-              entryIterator.getValueOffset(),
-              entryIterator.getValueLength());
+          changed |=
+              writeVariableLocal(
+                  currentScope,
+                  workflowKey,
+                  document,
+                  entryIterator.getNameOffset(),
+                  entryIterator.getNameLength(),
+                  document,
+                  entryIterator.getValueOffset(),
+                  entryIterator.getValueLength());
 
           entryIterator.remove();
         }
       }
+
+      if (changed) {
+        updateScopeDocument(currentScope);
+      }
       currentScope = parentScope;
     }
 
     // 3. set remaining variables on top scope
     final DocumentEntryIterator entryIterator = indexedDocument.iterator();
+    boolean changed = false;
 
     while (entryIterator.hasNext()) {
       entryIterator.next();
 
-      setVariableLocal(
-          currentScope,
-          workflowKey,
-          document,
-          entryIterator.getNameOffset(),
-          entryIterator.getNameLength(),
-          document,
-          entryIterator.getValueOffset(),
-          entryIterator.getValueLength());
+      changed |=
+          writeVariableLocal(
+              currentScope,
+              workflowKey,
+              document,
+              entryIterator.getNameOffset(),
+              entryIterator.getNameLength(),
+              document,
+              entryIterator.getValueOffset(),
+              entryIterator.getValueLength());
+    }
+
+    if (changed) {
+      updateScopeDocument(currentScope);
     }
   }
 
@@ -333,22 +389,47 @@ public class VariablesState {
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> !collectedVariables.contains(name.getBuffer()),
-        (name, value) -> {
-          final DirectBuffer variableNameBuffer = name.getBuffer();
-          writer.writeString(variableNameBuffer);
-          writer.writeRaw(value.getValue());
-
-          // must create a new name wrapper, because we keep them all in the hashset at the same
-          // time
-          final MutableDirectBuffer nameView = new UnsafeBuffer(variableNameBuffer);
-          collectedVariables.add(nameView);
-        },
-        () -> false);
+    int collectedVariableCount = 0;
+    long currentScope = scopeKey;
+    do {
+      final long parentScope = getParent(currentScope);
+      final DirectBuffer document = getScopeDocument(currentScope);
+
+      reader.wrap(document, 0, document.capacity());
+      final int variables = reader.readMapHeader();
 
-    writer.writeReservedMapHeader(0, collectedVariables.size());
+      if (collectedVariables.isEmpty() && parentScope < 0) {
+        // no other scope can shadow the variables, so the document can be copied as it is
+        writer.writeRaw(document, reader.getOffset(), document.capacity() - reader.getOffset());
+        collectedVariableCount += variables;
+        break;
+      }
+
+      for (int i = 0; i < variables; i++) {
+        final int nameLength = reader.readStringLength();
+        final int nameOffset = reader.getOffset();
+        reader.skipBytes(nameLength);
+        variableNameView.wrap(document, nameOffset, nameLength);
+
+        final int valueOffset = reader.getOffset();
+        reader.skipValue();
+
+        if (!collectedVariables.contains(variableNameView)) {
+          writer.writeString(variableNameView);
+          writer.writeRaw(document, valueOffset, reader.getOffset() - valueOffset);
+
+          // the name is kept in the result buffer, which is not overwritten until the next call
+          final int writtenNameOffset = writer.getOffset() - (reader.getOffset() - valueOffset);
+          collectedVariables.add(
+              new UnsafeBuffer(documentResultBuffer, writtenNameOffset - nameLength, nameLength));
+          collectedVariableCount += 1;
+        }
+      }
+
+      currentScope = parentScope;
+    } while (currentScope >= 0);
+
+    writer.writeReservedMapHeader(0, collectedVariableCount);
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
     return resultView;
@@ -364,16 +445,30 @@ public class VariablesState {
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+    long currentScope = scopeKey;
+    do {
+      final DirectBuffer document = getScopeDocument(currentScope);
 
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+      reader.wrap(document, 0, document.capacity());
+      final int variables = reader.readMapHeader();
+
+      for (int i = 0; i < variables && !variablesToCollect.isEmpty(); i++) {
+        final int nameLength = reader.readStringLength();
+        final int nameOffset = reader.getOffset();
+        reader.skipBytes(nameLength);
+        variableNameView.wrap(document, nameOffset, nameLength);
+
+        final int valueOffset = reader.getOffset();
+        reader.skipValue();
+
+        if (variablesToCollect.remove(variableNameView)) {
+          writer.writeString(variableNameView);
+          writer.writeRaw(document, valueOffset, reader.getOffset() - valueOffset);
+        }
+      }
+
+      currentScope = getParent(currentScope);
+    } while (!variablesToCollect.isEmpty() && currentScope >= 0);
 
     writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
 
@@ -382,48 +477,72 @@ public class VariablesState {
   }
 
   public DirectBuffer getVariablesLocalAsDocument(final long scopeKey) {
+    final DirectBuffer document = getScopeDocument(scopeKey);
 
-    writer.wrap(documentResultBuffer, 0);
+    // copy the document, such that it stays valid if another scope document is built
+    documentResultBuffer.putBytes(0, document, 0, document.capacity());
+    resultView.wrap(documentResultBuffer, 0, document.capacity());
+    return resultView;
+  }
 
-    writer.reserveMapHeader();
+  /**
+   * Returns the document of all local variables of the given scope. If the scope has no stored
+   * document, e.g. because it has no variables, then the document is built from the variables
+   * without storing it.
+   *
+   * @return the document, which is only valid until the next call
+   */
+  private DirectBuffer getScopeDocument(final long scopeKey) {
+    this.scopeKey.wrapLong(scopeKey);
+    final VariablesDocument storedDocument = scopeDocumentColumnFamily.get(this.scopeKey);
+    if (storedDocument != null) {
+      return storedDocument.get();
+    }
+
+    return buildScopeDocument(scopeKey);
+  }
 
+  /** Rebuilds the stored document of the scope after its variables were set. */
+  private void updateScopeDocument(final long scopeKey) {
+    buildScopeDocument(scopeKey);
+
+    this.scopeKey.wrapLong(scopeKey);
+    scopeDocumentColumnFamily.put(this.scopeKey, scopeDocument);
+  }
+
+  private DirectBuffer buildScopeDocument(final long scopeKey) {
+    scopeDocumentWriter.wrap(scopeDocumentBuffer, 0);
+    scopeDocumentWriter.reserveMapHeader();
     variableCount = 0;
 
     visitVariablesLocal(
         scopeKey,
         name -> true,
         (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+          scopeDocumentWriter.writeString(name.getBuffer());
+          scopeDocumentWriter.writeRaw(value.getValue());
 
           variableCount += 1;
         },
         () -> false);
 
-    writer.writeReservedMapHeader(0, variableCount);
+    final int documentEnd = scopeDocumentWriter.getOffset();
 
-    resultView.wrap(documentResultBuffer, 0, writer.getOffset());
-    return resultView;
-  }
+    // write the map header with its minimal length right before the variables, the reserved header
+    // is always the longest
+    final int headerLength = MsgPackWriter.getEncodedMapHeaderLenght(variableCount);
+    final int documentOffset = RESERVED_MAP_HEADER_LENGTH - headerLength;
+    scopeDocumentWriter.wrap(scopeDocumentBuffer, documentOffset);
+    scopeDocumentWriter.writeMapHeader(variableCount);
+    final int documentLength = documentEnd - documentOffset;
 
-  /**
-   * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
-   * the scope hierarchy.
-   */
-  private void visitVariables(
-      final long scopeKey,
-      final Predicate<DbString> filter,
-      final BiConsumer<DbString, VariableInstance> variableConsumer,
-      final BooleanSupplier completionCondition) {
-    long currentScope = scopeKey;
-
-    boolean completed;
-    do {
-      completed = visitVariablesLocal(currentScope, filter, variableConsumer, completionCondition);
-
-      currentScope = getParent(currentScope);
+    scopeDocument.set(scopeDocumentBuffer, documentOffset, documentLength);
+    return scopeDocument.get();
+  }
 
-    } while (!completed && currentScope >= 0);
+  private void removeScopeDocument(final long scopeKey) {
+    this.scopeKey.wrapLong(scopeKey);
+    scopeDocumentColumnFamily.delete(this.scopeKey);
   }
 
   /**
@@ -478,6 +597,8 @@ public class VariablesState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.delete(scopeKeyVariableNameKey),
         () -> false);
+
+    removeScopeDocument(scopeKey);
   }
 
   public void setTemporaryVariables(final long scopeKey, final DirectBuffer variables) {
@@ -501,7 +622,8 @@ public class VariablesState {
   public boolean isEmpty() {
     return variablesColumnFamily.isEmpty()
         && childParentColumnFamily.isEmpty()
-        && temporaryVariableStoreColumnFamily.isEmpty();
+        && temporaryVariableStoreColumnFamily.isEmpty()
+        && scopeDocumentColumnFamily.isEmpty();
   }
 
   public void setListener(final VariableListener listener) {
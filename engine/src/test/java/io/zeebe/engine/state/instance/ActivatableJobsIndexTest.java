@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.instance;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.engine.state.instance.ActivatableJobsIndex.JobKeys;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.junit.Test;
+
+public final class ActivatableJobsIndexTest {
+
+  private static final DirectBuffer TYPE = wrapString("test");
+
+  private final ActivatableJobsIndex index = new ActivatableJobsIndex();
+
+  @Test
+  public void shouldRemoveKeyAtHead() {
+    // given
+    final JobKeys jobKeys = index.load(TYPE);
+    index.add(TYPE, 1);
+    index.add(TYPE, 2);
+    index.add(TYPE, 3);
+
+    // when
+    index.remove(TYPE, 1);
+
+    // then
+    assertThat(keys(jobKeys)).containsExactly(2L, 3L);
+  }
+
+  @Test
+  public void shouldRemoveKeyInBetween() {
+    // given
+    final JobKeys jobKeys = index.load(TYPE);
+    index.add(TYPE, 1);
+    index.add(TYPE, 2);
+    index.add(TYPE, 3);
+
+    // when
+    index.remove(TYPE, 2);
+
+    // then
+    assertThat(keys(jobKeys)).containsExactly(1L, 3L);
+  }
+
+  @Test
+  public void shouldAddRemovedKeyAgain() {
+    // given
+    final JobKeys jobKeys = index.load(TYPE);
+    index.add(TYPE, 1);
+    index.add(TYPE, 2);
+    index.remove(TYPE, 1);
+
+    // when
+    index.add(TYPE, 1);
+
+    // then
+    assertThat(keys(jobKeys)).containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldIgnoreRemovalOfUnknownKey() {
+    // given
+    final JobKeys jobKeys = index.load(TYPE);
+    index.add(TYPE, 1);
+
+    // when
+    index.remove(TYPE, 2);
+    index.remove(wrapString("other"), 1);
+
+    // then
+    assertThat(keys(jobKeys)).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldBeEmptyWhenAllKeysAreRemoved() {
+    // given
+    final JobKeys jobKeys = index.load(TYPE);
+
+    // when
+    for (long key = 0; key < 10_000; key++) {
+      index.add(TYPE, key);
+      index.remove(TYPE, key);
+    }
+
+    // then
+    assertThat(jobKeys.size()).isZero();
+  }
+
+  private static List<Long> keys(final JobKeys jobKeys) {
+    final List<Long> keys = new ArrayList<>();
+    for (int i = 0; i < jobKeys.size(); i++) {
+      keys.add(jobKeys.get(i));
+    }
+    return keys;
+  }
+}
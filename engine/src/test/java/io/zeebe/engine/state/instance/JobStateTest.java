@@ -11,6 +11,7 @@ import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.zeebe.db.ZeebeDbTransaction;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.state.instance.JobState.State;
 import io.zeebe.engine.util.ZeebeStateRule;
@@ -455,6 +456,61 @@ public final class JobStateTest {
     assertThat(jobKeys).containsExactly(256L, 65536L);
   }
 
+  @Test
+  public void shouldListActivatableJobsAddedAfterFirstLookup() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(256L, newJobRecord().setType(type));
+    getActivatableKeys(type);
+
+    // when
+    jobState.create(65536L, newJobRecord().setType(type));
+    createAndActivateJobRecord(1024L, newJobRecord().setType(type));
+    jobState.activate(256L, newJobRecord().setType(type));
+
+    // then
+    assertThat(getActivatableKeys(type)).containsExactly(65536L);
+  }
+
+  @Test
+  public void shouldListActivatableJobsInOrderAfterTimeout() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final JobRecord jobRecord = newJobRecord().setType(type);
+    createAndActivateJobRecord(256L, jobRecord);
+    jobState.create(512L, newJobRecord().setType(type));
+    getActivatableKeys(type);
+
+    // when
+    jobState.timeout(256L, jobRecord);
+
+    // then
+    assertThat(getActivatableKeys(type)).containsExactly(256L, 512L);
+  }
+
+  @Test
+  public void shouldListActivatableJobsAfterRollback() throws Exception {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final JobRecord jobRecord = newJobRecord().setType(type);
+    jobState.create(256L, jobRecord);
+    getActivatableKeys(type);
+
+    final ZeebeDbTransaction transaction = stateRule.getDbContext().getCurrentTransaction();
+    transaction.run(
+        () -> {
+          jobState.activate(256L, jobRecord);
+          getActivatableKeys(type);
+        });
+
+    // when
+    transaction.rollback();
+    zeebeState.onRollback();
+
+    // then
+    assertThat(getActivatableKeys(type)).containsExactly(256L);
+  }
+
   @Test
   public void shouldNotDoAnythingIfNoActivatableJobs() {
     // given
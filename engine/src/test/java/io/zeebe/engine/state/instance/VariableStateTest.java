@@ -20,6 +20,7 @@ import io.zeebe.engine.processor.TypedRecord;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.state.instance.VariablesState.VariableListener;
 import io.zeebe.engine.util.ZeebeStateRule;
+import io.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
 import io.zeebe.test.util.MsgPackUtil;
@@ -192,6 +193,76 @@ public final class VariableStateTest {
     assertEquality(variablesState.getVariablesLocalAsDocument(child), "{'b': 3}");
   }
 
+  @Test
+  public void shouldCollectUpdatedVariablesAfterRead() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("2"));
+    variablesState.getVariablesAsDocument(child);
+
+    // when
+    setVariableLocal(parent, wrapString("a"), asMsgPack("3"));
+    setVariableLocal(child, wrapString("c"), asMsgPack("4"));
+
+    // then
+    assertEquality(variablesState.getVariablesAsDocument(child), "{'a': 3, 'b': 2, 'c': 4}");
+    assertEquality(variablesState.getVariablesLocalAsDocument(parent), "{'a': 3}");
+  }
+
+  @Test
+  public void shouldNotCollectRemovedVariablesAfterRead() {
+    // given
+    declareScope(parent);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variablesState.getVariablesAsDocument(parent);
+
+    // when
+    variablesState.removeAllVariables(parent);
+
+    // then
+    assertEquality(variablesState.getVariablesAsDocument(parent), "{}");
+  }
+
+  @Test
+  public void shouldCollectVariablesPropagatedFromDocument() {
+    // given
+    declareScope(child);
+    declareScope(child, child2);
+
+    setVariableLocal(child, wrapString("a"), asMsgPack("1"));
+    variablesState.getVariablesAsDocument(child2);
+
+    // when
+    setVariablesFromDocument(child2, asMsgPack("{'a': 2, 'b': 3}"));
+
+    // then
+    assertEquality(variablesState.getVariablesLocalAsDocument(child), "{'a': 2, 'b': 3}");
+    assertEquality(variablesState.getVariablesLocalAsDocument(child2), "{}");
+    assertEquality(variablesState.getVariablesAsDocument(child2), "{'a': 2, 'b': 3}");
+  }
+
+  @Test
+  public void shouldCollectManyVariables() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    for (int i = 0; i < 20; i++) {
+      setVariableLocal(parent, wrapString("p" + i), asMsgPack(String.valueOf(i)));
+      setVariableLocal(child, wrapString("c" + i), asMsgPack(String.valueOf(i)));
+    }
+
+    // when
+    final DirectBuffer variablesDocument = variablesState.getVariablesAsDocument(child);
+
+    // then
+    assertThat(MsgPackConverter.convertToMap(variablesDocument)).hasSize(40);
+  }
+
   @Test
   public void shouldCollectVariablesByName() {
     // given
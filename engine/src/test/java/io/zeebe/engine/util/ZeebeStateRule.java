@@ -7,6 +7,7 @@
  */
 package io.zeebe.engine.util;
 
+import io.zeebe.db.DbContext;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.engine.processor.KeyGenerator;
 import io.zeebe.engine.state.DefaultZeebeDbFactory;
@@ -21,6 +22,7 @@ public final class ZeebeStateRule extends ExternalResource {
   private final TemporaryFolder tempFolder = new TemporaryFolder();
   private final int partition;
   private ZeebeDb<ZbColumnFamilies> db;
+  private DbContext dbContext;
   private ZeebeState zeebeState;
 
   public ZeebeStateRule() {
@@ -36,7 +38,8 @@ public final class ZeebeStateRule extends ExternalResource {
     tempFolder.create();
     db = createNewDb();
 
-    zeebeState = new ZeebeState(partition, db, db.createContext());
+    dbContext = db.createContext();
+    zeebeState = new ZeebeState(partition, db, dbContext);
   }
 
   @Override
@@ -53,6 +56,10 @@ public final class ZeebeStateRule extends ExternalResource {
     return zeebeState;
   }
 
+  public DbContext getDbContext() {
+    return dbContext;
+  }
+
   public KeyGenerator getKeyGenerator() {
     return zeebeState.getKeyGenerator();
   }
@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.exporter.api;
+
+import io.zeebe.exporter.api.context.Controller;
+
+/**
+ * An exporter which receives records in batches instead of one by one, which allows it to amortize
+ * the costs per call, e.g. to serialize all records of a batch at once.
+ *
+ * <p>The broker collects the records which are accepted by the exporter's filter into a batch, and
+ * passes it to {@link #exportBatch(RecordBatch)} either when the batch reached its configured
+ * maximum size, or when the configured maximum delay elapsed. For batch exporters the broker
+ * doesn't call {@link #export(io.zeebe.protocol.record.Record)}.
+ */
+public interface BatchExporter extends Exporter {
+
+  /**
+   * Called at least once for every batch of records to be exported. Once the records of a batch are
+   * guaranteed to have been exported, implementations should call {@link
+   * Controller#updateLastExportedRecordPosition(long)} with {@link RecordBatch#getLastPosition()}.
+   *
+   * <p>Should the method throw an unexpected {@link RuntimeException}, it will be called again with
+   * the same records, possibly followed by further ones, until it terminates without any exception.
+   *
+   * @param batch the records to export
+   */
+  void exportBatch(RecordBatch batch);
+}
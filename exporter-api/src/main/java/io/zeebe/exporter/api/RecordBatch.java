@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.exporter.api;
+
+import io.zeebe.protocol.record.Record;
+
+/**
+ * A contiguous run of committed records, in log order, which is passed to a {@link BatchExporter}.
+ *
+ * <p>The batch is a view over an internal buffer which is reused by the broker. While iterating,
+ * the same {@link Record} instance is returned for every element and wraps the current record only.
+ * This means if the implementation needs to keep a record beyond the current iteration step it
+ * either has to call {@link Record#toJson()} to get the serialized version of the record or {@link
+ * Record#clone()} to get a deep copy. The batch itself must not be used after {@link
+ * BatchExporter#exportBatch(RecordBatch)} returned.
+ */
+public interface RecordBatch extends Iterable<Record<?>> {
+
+  /** @return the number of records in this batch */
+  int size();
+
+  /** @return true if the batch doesn't contain any record */
+  default boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /** @return the position of the last record in this batch, or -1 if the batch is empty */
+  long getLastPosition();
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.exporter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.entity.NByteArrayEntity;
+
+/**
+ * Accumulates the NDJSON body of a bulk index request in a single reusable buffer. The index
+ * command of each record is streamed with a {@link JsonGenerator} directly into the buffer, which
+ * avoids building an intermediate map and string per record. The buffer is kept between flushes,
+ * such that a steady-state exporter does not allocate a new request body for every bulk.
+ */
+final class BulkIndexRequest {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final byte NEW_LINE = '\n';
+
+  private final BulkBuffer buffer;
+  private final JsonGenerator generator;
+  private int size;
+
+  BulkIndexRequest(final int initialCapacity) {
+    buffer = new BulkBuffer(initialCapacity);
+
+    try {
+      generator = JSON_FACTORY.createGenerator(buffer);
+      // each command is terminated with a new line, no separator is required between them
+      generator.setRootValueSeparator(null);
+    } catch (final IOException e) {
+      throw new ElasticsearchExporterException("Failed to create bulk request generator", e);
+    }
+  }
+
+  /**
+   * Appends an index command for the given document, followed by the document itself.
+   *
+   * @param index the index to write the document to
+   * @param type the document type
+   * @param id the document id
+   * @param routing the routing key of the document
+   * @param document the JSON representation of the document
+   */
+  void index(
+      final String index,
+      final String type,
+      final String id,
+      final String routing,
+      final String document) {
+    try {
+      generator.writeStartObject();
+      generator.writeObjectFieldStart("index");
+      generator.writeStringField("_index", index);
+      generator.writeStringField("_type", type);
+      generator.writeStringField("_id", id);
+      generator.writeStringField("routing", routing);
+      generator.writeEndObject();
+      generator.writeEndObject();
+      generator.flush();
+    } catch (final IOException e) {
+      throw new ElasticsearchExporterException(
+          "Failed to serialize bulk request command to JSON", e);
+    }
+
+    buffer.write(NEW_LINE);
+    final byte[] documentBytes = document.getBytes(StandardCharsets.UTF_8);
+    buffer.write(documentBytes, 0, documentBytes.length);
+    buffer.write(NEW_LINE);
+
+    size++;
+  }
+
+  /** @return the number of documents in the bulk request */
+  int size() {
+    return size;
+  }
+
+  /** @return the size of the request body in bytes */
+  int memoryUsage() {
+    return buffer.size();
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns an entity which is backed by the internal buffer; it is only valid until the next call
+   * to {@link #reset()} or {@link #index(String, String, String, String, String)}.
+   */
+  HttpEntity toEntity(final ContentType contentType) {
+    return buffer.toEntity(contentType);
+  }
+
+  /** Clears the request, but keeps the underlying buffer to be reused by the next bulk. */
+  void reset() {
+    buffer.reset();
+    size = 0;
+  }
+
+  private static final class BulkBuffer extends ByteArrayOutputStream {
+
+    private BulkBuffer(final int initialCapacity) {
+      super(initialCapacity);
+    }
+
+    private HttpEntity toEntity(final ContentType contentType) {
+      return new NByteArrayEntity(buf, 0, count, contentType);
+    }
+  }
+}
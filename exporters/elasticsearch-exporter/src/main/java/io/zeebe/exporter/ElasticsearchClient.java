@@ -24,11 +24,12 @@ import java.net.URISyntaxException;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Deque;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
@@ -37,8 +38,9 @@ import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.apache.http.impl.nio.reactor.IOReactorConfig;
-import org.apache.http.nio.entity.NStringEntity;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.common.xcontent.DeprecationHandler;
@@ -55,12 +57,15 @@ public class ElasticsearchClient {
   public static final String ALIAS_DELIMITER = "-";
   private static final ObjectMapper MAPPER = new ObjectMapper();
   private static final ContentType CONTENT_TYPE_NDJSON = ContentType.create("application/x-ndjson");
+  private static final int INITIAL_BULK_CAPACITY = 64 * 1024;
 
   protected final RestClient client;
   private final ElasticsearchExporterConfiguration configuration;
   private final Logger log;
   private final DateTimeFormatter formatter;
-  private List<String> bulkRequest;
+  private final Deque<BulkIndexRequest> bulkRequestPool = new ArrayDeque<>();
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
+  private BulkIndexRequest bulkRequest;
   private ElasticsearchMetrics metrics;
 
   public ElasticsearchClient(
@@ -68,7 +73,7 @@ public class ElasticsearchClient {
     this.configuration = configuration;
     this.log = log;
     client = createClient();
-    bulkRequest = new ArrayList<>();
+    bulkRequest = new BulkIndexRequest(INITIAL_BULK_CAPACITY);
     formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneOffset.UTC);
   }
 
@@ -82,7 +87,7 @@ public class ElasticsearchClient {
     }
 
     checkRecord(record);
-    bulk(newIndexCommand(record), record);
+    bulk(record);
   }
 
   private void checkRecord(final Record<?> record) {
@@ -107,25 +112,23 @@ public class ElasticsearchClient {
     }
   }
 
-  public void bulk(final Map<String, Object> command, final Record<?> record) {
-    final String serializedCommand;
-
-    try {
-      serializedCommand = MAPPER.writeValueAsString(command);
-    } catch (final IOException e) {
-      throw new ElasticsearchExporterException(
-          "Failed to serialize bulk request command to JSON", e);
+  private void bulk(final Record<?> record) {
+    try (final Histogram.Timer timer = metrics.measureEncodeDuration()) {
+      bulkRequest.index(
+          indexFor(record),
+          typeFor(record),
+          idFor(record),
+          String.valueOf(record.getPartitionId()),
+          record.toJson());
     }
-
-    bulkRequest.add(serializedCommand + "\n" + record.toJson());
   }
 
   /** @return true if all bulk records where flushed successfully */
   public boolean flush() {
     boolean success = true;
-    final int bulkSize = bulkRequest.size();
-    if (bulkSize > 0) {
-      metrics.recordBulkSize(bulkSize);
+    if (!bulkRequest.isEmpty()) {
+      metrics.recordBulkSize(bulkRequest.size());
+      metrics.recordBulkMemorySize(bulkRequest.memoryUsage());
 
       try {
         final var bulkResponse = exportBulk();
@@ -136,8 +139,8 @@ public class ElasticsearchClient {
       }
 
       if (success) {
-        // all records where flushed, create new bulk request, otherwise retry next time
-        bulkRequest = new ArrayList<>();
+        // all records where flushed, reuse the bulk request, otherwise retry next time
+        bulkRequest.reset();
       }
     }
     return success;
@@ -163,9 +166,7 @@ public class ElasticsearchClient {
   private BulkResponse exportBulk() throws IOException {
     try (final Histogram.Timer timer = metrics.measureFlushDuration()) {
       final var request = new Request("POST", "/_bulk");
-      final var body =
-          new NStringEntity(String.join("\n", bulkRequest) + "\n", CONTENT_TYPE_NDJSON);
-      request.setEntity(body);
+      request.setEntity(bulkRequest.toEntity(CONTENT_TYPE_NDJSON));
 
       final var response = client.performRequest(request);
 
@@ -173,8 +174,148 @@ public class ElasticsearchClient {
     }
   }
 
+  /**
+   * Sends the current bulk to Elasticsearch without waiting for the response. The bulk is
+   * acknowledged asynchronously, see {@link #pollAcknowledgedPosition()}. If the configured maximum
+   * of in-flight bulk requests is already reached, this blocks until the oldest one is completed.
+   *
+   * @param position the position of the last record in the current bulk
+   * @return the position of the last record of the newest bulk which was acknowledged while waiting
+   *     for a free slot, or -1 if no bulk was acknowledged
+   */
+  public long flushAsync(final long position) {
+    long acknowledgedPosition = -1;
+    if (bulkRequest.isEmpty()) {
+      return acknowledgedPosition;
+    }
+
+    while (inFlightBulks.size() >= configuration.bulk.maxInFlightRequests) {
+      awaitOldestBulk();
+      acknowledgedPosition = Math.max(acknowledgedPosition, pollAcknowledgedPosition());
+    }
+
+    metrics.recordBulkSize(bulkRequest.size());
+    metrics.recordBulkMemorySize(bulkRequest.memoryUsage());
+
+    final InFlightBulk bulk = new InFlightBulk(bulkRequest, position);
+    inFlightBulks.add(bulk);
+    metrics.setInFlightBulks(inFlightBulks.size());
+    exportBulkAsync(bulk);
+
+    final BulkIndexRequest pooledRequest = bulkRequestPool.poll();
+    bulkRequest =
+        pooledRequest != null ? pooledRequest : new BulkIndexRequest(INITIAL_BULK_CAPACITY);
+    return acknowledgedPosition;
+  }
+
+  /**
+   * Completes the in-flight bulk requests which received a response, in the order in which they
+   * were sent. A failed bulk request is sent again, and all bulks sent after it stay in-flight
+   * until it succeeded.
+   *
+   * @return the position of the last record of the newest acknowledged bulk, or -1 if no bulk was
+   *     acknowledged since the last call
+   */
+  public long pollAcknowledgedPosition() {
+    long acknowledgedPosition = -1;
+
+    while (!inFlightBulks.isEmpty() && inFlightBulks.peek().isDone()) {
+      final InFlightBulk bulk = inFlightBulks.peek();
+      if (bulk.isSuccessful()) {
+        acknowledgedPosition = bulk.position;
+        releaseOldestBulk();
+      } else {
+        log.warn("Failed to flush bulk completely, will retry", bulk.getFailure());
+        exportBulkAsync(bulk);
+        break;
+      }
+    }
+
+    return acknowledgedPosition;
+  }
+
+  /**
+   * Waits until all in-flight bulk requests are completed, without retrying failed ones.
+   *
+   * @return the position of the last record of the newest bulk which was acknowledged, in order, or
+   *     -1 if no bulk was acknowledged
+   */
+  public long awaitInFlightBulks() {
+    long acknowledgedPosition = -1;
+
+    while (!inFlightBulks.isEmpty()) {
+      final InFlightBulk bulk = inFlightBulks.peek();
+      bulk.await();
+
+      if (!bulk.isSuccessful()) {
+        log.warn("Failed to flush bulk completely", bulk.getFailure());
+        break;
+      }
+
+      acknowledgedPosition = bulk.position;
+      releaseOldestBulk();
+    }
+
+    return acknowledgedPosition;
+  }
+
+  public boolean hasInFlightBulks() {
+    return !inFlightBulks.isEmpty();
+  }
+
+  private void awaitOldestBulk() {
+    final InFlightBulk bulk = inFlightBulks.peek();
+    bulk.await();
+
+    if (!bulk.isSuccessful()) {
+      // retry it, but let the caller back off before waiting for it again
+      exportBulkAsync(bulk);
+      throw new ElasticsearchExporterException("Failed to flush bulk", bulk.getFailure());
+    }
+  }
+
+  private void releaseOldestBulk() {
+    final InFlightBulk bulk = inFlightBulks.poll();
+    metrics.setInFlightBulks(inFlightBulks.size());
+
+    bulk.request.reset();
+    bulkRequestPool.add(bulk.request);
+  }
+
+  private void exportBulkAsync(final InFlightBulk bulk) {
+    final var request = new Request("POST", "/_bulk");
+    request.setEntity(bulk.request.toEntity(CONTENT_TYPE_NDJSON));
+
+    final Histogram.Timer timer = metrics.measureFlushDuration();
+    final CompletableFuture<Boolean> response = new CompletableFuture<>();
+    bulk.response = response;
+
+    client.performRequestAsync(
+        request,
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response result) {
+            timer.observeDuration();
+            try {
+              final var bulkResponse =
+                  MAPPER.readValue(result.getEntity().getContent(), BulkResponse.class);
+              response.complete(checkBulkResponse(bulkResponse));
+            } catch (final Exception e) {
+              response.completeExceptionally(e);
+            }
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            timer.observeDuration();
+            response.completeExceptionally(exception);
+          }
+        });
+  }
+
   public boolean shouldFlush() {
-    return bulkRequest.size() >= configuration.bulk.size;
+    return bulkRequest.size() >= configuration.bulk.size
+        || bulkRequest.memoryUsage() >= configuration.bulk.memoryLimit;
   }
 
   /** @return true if request was acknowledged */
@@ -317,15 +458,41 @@ public class ElasticsearchClient {
     }
   }
 
-  private Map<String, Object> newIndexCommand(final Record<?> record) {
-    final Map<String, Object> command = new HashMap<>();
-    final Map<String, Object> contents = new HashMap<>();
-    contents.put("_index", indexFor(record));
-    contents.put("_type", typeFor(record));
-    contents.put("_id", idFor(record));
-    contents.put("routing", String.valueOf(record.getPartitionId()));
+  private static final class InFlightBulk {
+    private final BulkIndexRequest request;
+    private final long position;
+    private CompletableFuture<Boolean> response;
+
+    private InFlightBulk(final BulkIndexRequest request, final long position) {
+      this.request = request;
+      this.position = position;
+    }
+
+    private boolean isDone() {
+      return response.isDone();
+    }
+
+    private void await() {
+      try {
+        response.get();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ElasticsearchExporterException("Interrupted while waiting for bulk response", e);
+      } catch (final ExecutionException e) {
+        // handled by the caller through isSuccessful()
+      }
+    }
+
+    private boolean isSuccessful() {
+      return !response.isCompletedExceptionally() && response.join();
+    }
 
-    command.put("index", contents);
-    return command;
+    private Throwable getFailure() {
+      if (response.isCompletedExceptionally()) {
+        return response.handle((result, failure) -> failure).join();
+      }
+
+      return new ElasticsearchExporterException("Bulk request contained failed items");
+    }
   }
 }
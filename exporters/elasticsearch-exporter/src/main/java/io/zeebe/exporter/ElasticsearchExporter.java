@@ -58,6 +58,9 @@ public class ElasticsearchExporter implements Exporter {
 
     try {
       flush();
+      if (configuration.bulk.isAsync()) {
+        updateLastExportedPosition(client.awaitInFlightBulks());
+      }
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -77,6 +80,10 @@ public class ElasticsearchExporter implements Exporter {
       createIndexTemplates();
     }
 
+    if (configuration.bulk.isAsync()) {
+      updateLastExportedPosition(client.pollAcknowledgedPosition());
+    }
+
     client.index(record);
     lastPosition = record.getPosition();
 
@@ -92,6 +99,13 @@ public class ElasticsearchExporter implements Exporter {
               "Elasticsearch prefix must not contain underscore. Current value: %s",
               configuration.index.prefix));
     }
+
+    if (configuration.bulk.maxInFlightRequests < 0) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk maxInFlightRequests must not be negative. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
   }
 
   protected ElasticsearchClient createClient() {
@@ -113,13 +127,26 @@ public class ElasticsearchExporter implements Exporter {
   }
 
   private void flush() {
-    if (client.flush()) {
+    if (configuration.bulk.isAsync()) {
+      flushAsync();
+    } else if (client.flush()) {
       controller.updateLastExportedRecordPosition(lastPosition);
     } else {
       log.warn("Failed to flush bulk completely");
     }
   }
 
+  private void flushAsync() {
+    updateLastExportedPosition(client.flushAsync(lastPosition));
+    updateLastExportedPosition(client.pollAcknowledgedPosition());
+  }
+
+  private void updateLastExportedPosition(final long acknowledgedPosition) {
+    if (acknowledgedPosition >= 0) {
+      controller.updateLastExportedRecordPosition(acknowledgedPosition);
+    }
+  }
+
   private void createIndexTemplates() {
     final IndexConfiguration index = configuration.index;
 
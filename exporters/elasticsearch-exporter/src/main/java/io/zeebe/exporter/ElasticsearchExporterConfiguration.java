@@ -166,10 +166,27 @@ public class ElasticsearchExporterConfiguration {
     public int delay = 5;
     // bulk size before flush
     public int size = 1_000;
+    // memory limit of the bulk in bytes before flush
+    public int memoryLimit = 10 * 1024 * 1024;
+    // maximum number of bulks sent without waiting for their response; 0 flushes synchronously
+    public int maxInFlightRequests = 0;
+
+    public boolean isAsync() {
+      return maxInFlightRequests > 0;
+    }
 
     @Override
     public String toString() {
-      return "BulkConfiguration{" + "delay=" + delay + ", size=" + size + '}';
+      return "BulkConfiguration{"
+          + "delay="
+          + delay
+          + ", size="
+          + size
+          + ", memoryLimit="
+          + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
+          + '}';
     }
   }
 
@@ -7,6 +7,7 @@
  */
 package io.zeebe.exporter;
 
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
 public class ElasticsearchMetrics {
@@ -28,6 +29,33 @@ public class ElasticsearchMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Histogram BULK_MEMORY_SIZE =
+      Histogram.build()
+          .namespace("zeebe_elasticsearch_exporter")
+          .name("bulk_memory_size")
+          .help("Exporter bulk memory size in bytes")
+          .buckets(
+              10 * 1024, 100 * 1024, 512 * 1024, 1024 * 1024, 5 * 1024 * 1024, 10 * 1024 * 1024)
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram ENCODE_DURATION =
+      Histogram.build()
+          .namespace("zeebe_elasticsearch_exporter")
+          .name("record_encode_duration_seconds")
+          .help("Duration of encoding a record into the bulk request in seconds")
+          .buckets(0.00001, 0.00005, 0.0001, 0.0005, 0.001, 0.005, 0.01)
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge IN_FLIGHT_BULKS =
+      Gauge.build()
+          .namespace("zeebe_elasticsearch_exporter")
+          .name("in_flight_bulks")
+          .help("Number of bulk requests which were sent asynchronously but not yet acknowledged")
+          .labelNames("partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public ElasticsearchMetrics(final int partitionId) {
@@ -38,7 +66,19 @@ public class ElasticsearchMetrics {
     return FLUSH_DURATION.labels(partitionIdLabel).startTimer();
   }
 
+  public Histogram.Timer measureEncodeDuration() {
+    return ENCODE_DURATION.labels(partitionIdLabel).startTimer();
+  }
+
   public void recordBulkSize(final int bulkSize) {
     BULK_SIZE.labels(partitionIdLabel).observe(bulkSize);
   }
+
+  public void recordBulkMemorySize(final int bulkMemorySize) {
+    BULK_MEMORY_SIZE.labels(partitionIdLabel).observe(bulkMemorySize);
+  }
+
+  public void setInFlightBulks(final int inFlightBulks) {
+    IN_FLIGHT_BULKS.labels(partitionIdLabel).set(inFlightBulks);
+  }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.apache.http.entity.ContentType;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+
+public class BulkIndexRequestTest {
+
+  private static final ContentType CONTENT_TYPE = ContentType.create("application/x-ndjson");
+
+  private final BulkIndexRequest request = new BulkIndexRequest(16);
+
+  @Test
+  public void shouldWriteIndexCommandsAsNdJson() throws IOException {
+    // when
+    request.index("index-a", "_doc", "1-1", "1", "{\"foo\":1}");
+    request.index("index-b", "_doc", "1-2", "1", "{\"foo\":2}");
+
+    // then
+    assertThat(request.size()).isEqualTo(2);
+    assertThat(EntityUtils.toString(request.toEntity(CONTENT_TYPE), StandardCharsets.UTF_8))
+        .isEqualTo(
+            "{\"index\":{\"_index\":\"index-a\",\"_type\":\"_doc\",\"_id\":\"1-1\",\"routing\":\"1\"}}\n"
+                + "{\"foo\":1}\n"
+                + "{\"index\":{\"_index\":\"index-b\",\"_type\":\"_doc\",\"_id\":\"1-2\",\"routing\":\"1\"}}\n"
+                + "{\"foo\":2}\n");
+  }
+
+  @Test
+  public void shouldTrackMemoryUsage() {
+    // when
+    request.index("index", "_doc", "1-1", "1", "{}");
+
+    // then
+    final int expectedSize =
+        ("{\"index\":{\"_index\":\"index\",\"_type\":\"_doc\",\"_id\":\"1-1\",\"routing\":\"1\"}}\n"
+                + "{}\n")
+            .getBytes(StandardCharsets.UTF_8)
+            .length;
+    assertThat(request.memoryUsage()).isEqualTo(expectedSize);
+  }
+
+  @Test
+  public void shouldBeReusableAfterReset() throws IOException {
+    // given
+    request.index("index-a", "_doc", "1-1", "1", "{\"foo\":1}");
+
+    // when
+    request.reset();
+    request.index("index-b", "_doc", "1-2", "1", "{\"foo\":2}");
+
+    // then
+    assertThat(request.size()).isEqualTo(1);
+    assertThat(EntityUtils.toString(request.toEntity(CONTENT_TYPE), StandardCharsets.UTF_8))
+        .isEqualTo(
+            "{\"index\":{\"_index\":\"index-b\",\"_type\":\"_doc\",\"_id\":\"1-2\",\"routing\":\"1\"}}\n"
+                + "{\"foo\":2}\n");
+  }
+
+  @Test
+  public void shouldBeEmptyAfterReset() {
+    // given
+    request.index("index", "_doc", "1-1", "1", "{}");
+
+    // when
+    request.reset();
+
+    // then
+    assertThat(request.isEmpty()).isTrue();
+    assertThat(request.memoryUsage()).isZero();
+  }
+}
@@ -128,4 +128,34 @@ public class ElasticsearchClientTest extends AbstractElasticsearchExporterIntegr
             "mapper_parsing_exception",
             "failed to parse");
   }
+
+  @Test(timeout = 30_000)
+  public void shouldAcknowledgeOldestBulkWhenInFlightRequestsAreExhausted() {
+    // given
+    configuration.bulk.maxInFlightRequests = 1;
+    client = new ElasticsearchClient(configuration, logSpy);
+
+    client.index(newWorkflowInstanceRecord(1));
+    final long acknowledgedOnFirstFlush = client.flushAsync(1);
+
+    // when
+    client.index(newWorkflowInstanceRecord(2));
+    final long acknowledgedOnSecondFlush = client.flushAsync(2);
+
+    // then
+    assertThat(acknowledgedOnFirstFlush).isEqualTo(-1);
+    assertThat(acknowledgedOnSecondFlush).isEqualTo(1);
+    assertThat(client.awaitInFlightBulks()).isEqualTo(2);
+    assertThat(client.hasInFlightBulks()).isFalse();
+  }
+
+  private Record<VariableRecordValue> newWorkflowInstanceRecord(final long position) {
+    final Record<VariableRecordValue> recordMock = mock(Record.class);
+    when(recordMock.getPartitionId()).thenReturn(1);
+    when(recordMock.getPosition()).thenReturn(position);
+    when(recordMock.getKey()).thenReturn(RECORD_KEY);
+    when(recordMock.getValueType()).thenReturn(ValueType.WORKFLOW_INSTANCE);
+    when(recordMock.toJson()).thenReturn("{}");
+    return recordMock;
+  }
 }
@@ -11,8 +11,10 @@ import static io.zeebe.exporter.ElasticsearchExporter.ZEEBE_RECORD_TEMPLATE_JSON
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -314,6 +316,117 @@ public class ElasticsearchExporterTest {
     verify(esClient, times(1)).flush();
   }
 
+  @Test
+  public void shouldFlushAsynchronouslyIfConfigured() {
+    // given
+    config.bulk.maxInFlightRequests = 2;
+    when(esClient.shouldFlush()).thenReturn(true);
+    when(esClient.pollAcknowledgedPosition()).thenReturn(-1L);
+    when(esClient.flushAsync(anyLong())).thenReturn(-1L);
+
+    // when
+    createAndOpenExporter();
+    final Record record =
+        testHarness.export(
+            r ->
+                r.getMetadata()
+                    .setValueType(ValueType.WORKFLOW_INSTANCE)
+                    .setRecordType(RecordType.EVENT));
+
+    // then
+    verify(esClient).flushAsync(record.getPosition());
+    verify(esClient, never()).flush();
+    assertThat(testHarness.getController().getPosition()).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldUpdatePositionWhenAsyncBulkIsAcknowledged() {
+    // given
+    config.bulk.maxInFlightRequests = 2;
+    when(esClient.shouldFlush()).thenReturn(true);
+    createAndOpenExporter();
+
+    final List<Record> exported =
+        testHarness.stream(
+                r ->
+                    r.getMetadata()
+                        .setValueType(ValueType.WORKFLOW_INSTANCE)
+                        .setRecordType(RecordType.EVENT))
+            .export(2);
+    when(esClient.pollAcknowledgedPosition()).thenReturn(exported.get(1).getPosition());
+
+    // when
+    testHarness.getController().runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+
+    // then
+    assertThat(testHarness.getController().getPosition()).isEqualTo(exported.get(1).getPosition());
+  }
+
+  @Test
+  public void shouldUpdatePositionWhenBulkIsAcknowledgedOnAsyncFlush() {
+    // given
+    config.bulk.maxInFlightRequests = 1;
+    when(esClient.shouldFlush()).thenReturn(true);
+    when(esClient.pollAcknowledgedPosition()).thenReturn(-1L);
+    when(esClient.flushAsync(anyLong())).thenReturn(-1L);
+    createAndOpenExporter();
+    final Record first =
+        testHarness.export(
+            r ->
+                r.getMetadata()
+                    .setValueType(ValueType.WORKFLOW_INSTANCE)
+                    .setRecordType(RecordType.EVENT));
+
+    // when
+    when(esClient.flushAsync(anyLong())).thenReturn(first.getPosition());
+    testHarness.export(
+        r ->
+            r.getMetadata()
+                .setValueType(ValueType.WORKFLOW_INSTANCE)
+                .setRecordType(RecordType.EVENT));
+
+    // then
+    assertThat(testHarness.getController().getPosition()).isEqualTo(first.getPosition());
+  }
+
+  @Test
+  public void shouldAwaitInFlightBulksOnClose() {
+    // given
+    config.bulk.maxInFlightRequests = 2;
+    when(esClient.pollAcknowledgedPosition()).thenReturn(-1L);
+    when(esClient.flushAsync(anyLong())).thenReturn(-1L);
+    createAndOpenExporter();
+    final Record record =
+        testHarness.export(
+            r ->
+                r.getMetadata()
+                    .setValueType(ValueType.WORKFLOW_INSTANCE)
+                    .setRecordType(RecordType.EVENT));
+    when(esClient.awaitInFlightBulks()).thenReturn(record.getPosition());
+
+    // when
+    testHarness.close();
+
+    // then
+    verify(esClient).flushAsync(record.getPosition());
+    verify(esClient).awaitInFlightBulks();
+    assertThat(testHarness.getController().getPosition()).isEqualTo(record.getPosition());
+  }
+
+  @Test
+  public void shouldFailOnNegativeMaxInFlightRequests() {
+    // given
+    config.bulk.maxInFlightRequests = -1;
+
+    createExporterAndTestHarness();
+
+    // then
+    assertThatThrownBy(() -> testHarness.configure("els", config))
+        .isInstanceOf(ExporterException.class)
+        .withFailMessage(
+            "Elasticsearch bulk maxInFlightRequests must not be negative. Current value: -1");
+  }
+
   @Test
   public void shouldFailOnWrongPrefix() {
     // given
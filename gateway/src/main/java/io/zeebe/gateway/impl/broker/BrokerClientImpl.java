@@ -93,7 +93,7 @@ public final class BrokerClientImpl implements BrokerClient {
         new BrokerRequestManager(
             atomixTransportAdapter,
             topologyManager,
-            new RoundRobinDispatchStrategy(topologyManager),
+            new LoadAwareDispatchStrategy(topologyManager),
             clusterCfg.getRequestTimeout());
     actorScheduler.submitActor(requestManager);
   }
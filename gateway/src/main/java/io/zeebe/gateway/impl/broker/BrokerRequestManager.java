@@ -18,6 +18,7 @@ import io.zeebe.gateway.cmd.PartitionNotFoundException;
 import io.zeebe.gateway.impl.ErrorResponseHandler;
 import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManagerImpl;
+import io.zeebe.gateway.impl.broker.request.BrokerCreateWorkflowInstanceWithResultRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
@@ -111,6 +112,8 @@ final class BrokerRequestManager extends Actor {
       final TransportRequestSender sender,
       final Duration requestTimeout) {
 
+    // the partition is determined by the dispatch strategy, which is notified about the response
+    final boolean reportsLoad = isDispatchedByStrategy(request) && !awaitsResult(request);
     final BrokerAddressProvider nodeIdProvider;
     try {
       nodeIdProvider = determineBrokerNodeIdProvider(request);
@@ -119,22 +122,34 @@ final class BrokerRequestManager extends Actor {
       return;
     }
 
+    final long startTime = System.nanoTime();
     final ActorFuture<DirectBuffer> responseFuture =
         sender.send(clientTransport, nodeIdProvider, request, requestTimeout);
 
     if (responseFuture != null) {
+      if (reportsLoad) {
+        dispatchStrategy.onRequestSent(request.getPartitionId());
+      }
+
       actor.runOnCompletion(
           responseFuture,
           (clientResponse, error) -> {
+            boolean backpressured = false;
             try {
               if (error == null) {
                 final BrokerResponse<T> response = request.getResponse(clientResponse);
+                backpressured = isBackpressured(response);
                 handleResponse(response, returnFuture);
               } else {
                 returnFuture.completeExceptionally(error);
               }
             } catch (final RuntimeException e) {
               returnFuture.completeExceptionally(new ClientResponseException(e));
+            } finally {
+              if (reportsLoad) {
+                dispatchStrategy.onRequestCompleted(
+                    request.getPartitionId(), System.nanoTime() - startTime, backpressured);
+              }
             }
           });
     } else {
@@ -142,6 +157,24 @@ final class BrokerRequestManager extends Actor {
     }
   }
 
+  private static boolean isDispatchedByStrategy(final BrokerRequest<?> request) {
+    return !request.addressesSpecificPartition()
+        && request.requiresPartitionId()
+        && !(request instanceof BrokerPublishMessageRequest);
+  }
+
+  /**
+   * The response to a request which awaits the result of a workflow instance is delayed until the
+   * instance is completed, so its latency does not reflect the load of the partition.
+   */
+  private static boolean awaitsResult(final BrokerRequest<?> request) {
+    return request instanceof BrokerCreateWorkflowInstanceWithResultRequest;
+  }
+
+  private static boolean isBackpressured(final BrokerResponse<?> response) {
+    return response.isError() && response.getError().getCode() == ErrorCode.RESOURCE_EXHAUSTED;
+  }
+
   private <T> void handleResponse(
       final BrokerResponse<T> response, final CompletableFuture<BrokerResponse<T>> responseFuture) {
     try {
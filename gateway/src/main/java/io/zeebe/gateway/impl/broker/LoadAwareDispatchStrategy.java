@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.broker;
+
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.zeebe.gateway.metrics.DispatchMetrics;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Chooses the next partition from two candidates: the next partition of a round robin, and a
+ * random one. The candidate with the lower load is returned; on the same load, the round robin
+ * candidate is returned, such that the requests are spread evenly if all partitions are healthy.
+ * Partitions without a leader are skipped.
+ *
+ * <p>The load of a partition is estimated from the requests which are sent to it: the number of
+ * requests in flight, weighted by the average latency of its responses. A partition which rejected
+ * a request recently because of backpressure is only chosen if the other candidate did the same.
+ */
+public final class LoadAwareDispatchStrategy implements RequestDispatchStrategy {
+
+  static final String REASON_ROUND_ROBIN = "round_robin";
+  static final String REASON_LESS_LOADED = "less_loaded";
+
+  private static final Duration BACKPRESSURE_PENALTY = Duration.ofSeconds(1);
+  // the weight of a new latency in the average; the average follows the last ~8 responses
+  private static final double LATENCY_WEIGHT = 0.125;
+
+  private final BrokerTopologyManager topologyManager;
+  private final LongSupplier nanoClock;
+  private final AtomicInteger partitions = new AtomicInteger(0);
+  private final Map<Integer, PartitionLoad> partitionLoads = new ConcurrentHashMap<>();
+  private final DispatchMetrics metrics = new DispatchMetrics();
+
+  public LoadAwareDispatchStrategy(final BrokerTopologyManager topologyManager) {
+    this(topologyManager, System::nanoTime);
+  }
+
+  LoadAwareDispatchStrategy(
+      final BrokerTopologyManager topologyManager, final LongSupplier nanoClock) {
+    this.topologyManager = topologyManager;
+    this.nanoClock = nanoClock;
+  }
+
+  @Override
+  public int determinePartition() {
+    final BrokerClusterState topology = topologyManager.getTopology();
+    if (topology == null) {
+      return BrokerClusterState.PARTITION_ID_NULL;
+    }
+
+    final int partitionsCount = topology.getPartitionsCount();
+    int roundRobinPartition = BrokerClusterState.PARTITION_ID_NULL;
+    for (int i = 0; i < partitionsCount; i++) {
+      final int partition = topology.getPartition(partitions.getAndIncrement());
+      if (hasLeader(topology, partition)) {
+        roundRobinPartition = partition;
+        break;
+      }
+    }
+
+    if (roundRobinPartition == BrokerClusterState.PARTITION_ID_NULL || partitionsCount < 2) {
+      return roundRobinPartition;
+    }
+
+    final int randomPartition =
+        topology.getPartition(ThreadLocalRandom.current().nextInt(partitionsCount));
+    if (randomPartition != roundRobinPartition && hasLeader(topology, randomPartition)) {
+      final long now = nanoClock.getAsLong();
+      if (getLoad(randomPartition).compareTo(getLoad(roundRobinPartition), now) < 0) {
+        metrics.dispatched(randomPartition, REASON_LESS_LOADED);
+        return randomPartition;
+      }
+    }
+
+    metrics.dispatched(roundRobinPartition, REASON_ROUND_ROBIN);
+    return roundRobinPartition;
+  }
+
+  @Override
+  public void onRequestSent(final int partitionId) {
+    getLoad(partitionId).inFlight.incrementAndGet();
+  }
+
+  @Override
+  public void onRequestCompleted(
+      final int partitionId, final long latencyNanos, final boolean backpressured) {
+    final PartitionLoad load = getLoad(partitionId);
+    load.inFlight.decrementAndGet();
+    load.updateLatency(latencyNanos);
+    if (backpressured) {
+      load.backpressuredUntil = nanoClock.getAsLong() + BACKPRESSURE_PENALTY.toNanos();
+    }
+
+    metrics.setPartitionLoad(partitionId, load.score());
+  }
+
+  private PartitionLoad getLoad(final int partitionId) {
+    return partitionLoads.computeIfAbsent(
+        partitionId, id -> new PartitionLoad(nanoClock.getAsLong()));
+  }
+
+  private static boolean hasLeader(final BrokerClusterState topology, final int partition) {
+    return topology.getLeaderForPartition(partition) != BrokerClusterState.NODE_ID_NULL;
+  }
+
+  /**
+   * The load is updated concurrently without locking; a lost update of the average latency only
+   * makes the estimate less precise.
+   */
+  private static final class PartitionLoad {
+
+    private final AtomicInteger inFlight = new AtomicInteger(0);
+    private volatile double averageLatencyNanos;
+    private volatile long backpressuredUntil;
+
+    private PartitionLoad(final long now) {
+      backpressuredUntil = now;
+    }
+
+    private void updateLatency(final long latencyNanos) {
+      final double average = averageLatencyNanos;
+      averageLatencyNanos =
+          average == 0 ? latencyNanos : average + LATENCY_WEIGHT * (latencyNanos - average);
+    }
+
+    private double score() {
+      // every partition is assumed to respond within a millisecond until it is known otherwise
+      return (inFlight.get() + 1) * Math.max(averageLatencyNanos, 1_000_000);
+    }
+
+    private boolean isBackpressured(final long now) {
+      return now - backpressuredUntil < 0;
+    }
+
+    private int compareTo(final PartitionLoad other, final long now) {
+      final boolean backpressured = isBackpressured(now);
+      if (backpressured != other.isBackpressured(now)) {
+        return backpressured ? 1 : -1;
+      }
+
+      return Double.compare(score(), other.score());
+    }
+  }
+}
@@ -14,4 +14,17 @@ public interface RequestDispatchStrategy {
 
   /** @return {@link BrokerClusterState#PARTITION_ID_NULL} if no partition can be determined */
   int determinePartition();
+
+  /** Called when a request was sent to the partition which was determined before. */
+  default void onRequestSent(final int partitionId) {}
+
+  /**
+   * Called when the request which was sent to the partition is completed, with the time from
+   * sending the request until the response or the failure.
+   *
+   * @param backpressured whether the request was rejected by the partition because it is
+   *     overloaded; a request which failed without response, e.g. on timeout, is not backpressured
+   */
+  default void onRequestCompleted(
+      final int partitionId, final long latencyNanos, final boolean backpressured) {}
 }
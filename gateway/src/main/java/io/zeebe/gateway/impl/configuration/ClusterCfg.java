@@ -7,6 +7,7 @@
  */
 package io.zeebe.gateway.impl.configuration;
 
+import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CLUSTER_CONNECTION_STRIPING;
 import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CLUSTER_HOST;
 import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CLUSTER_MEMBER_ID;
 import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CLUSTER_NAME;
@@ -26,6 +27,7 @@ public final class ClusterCfg {
   private String memberId = DEFAULT_CLUSTER_MEMBER_ID;
   private String host = DEFAULT_CLUSTER_HOST;
   private int port = DEFAULT_CLUSTER_PORT;
+  private boolean connectionStriping = DEFAULT_CLUSTER_CONNECTION_STRIPING;
 
   public String getMemberId() {
     return memberId;
@@ -81,9 +83,19 @@ public final class ClusterCfg {
     return this;
   }
 
+  public boolean isConnectionStriping() {
+    return connectionStriping;
+  }
+
+  public ClusterCfg setConnectionStriping(final boolean connectionStriping) {
+    this.connectionStriping = connectionStriping;
+    return this;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(contactPoint, requestTimeout, clusterName, memberId, host, port);
+    return Objects.hash(
+        contactPoint, requestTimeout, clusterName, memberId, host, port, connectionStriping);
   }
 
   @Override
@@ -96,6 +108,7 @@ public final class ClusterCfg {
     }
     final ClusterCfg that = (ClusterCfg) o;
     return port == that.port
+        && connectionStriping == that.connectionStriping
         && Objects.equals(contactPoint, that.contactPoint)
         && Objects.equals(requestTimeout, that.requestTimeout)
         && Objects.equals(clusterName, that.clusterName)
@@ -123,6 +136,8 @@ public final class ClusterCfg {
         + '\''
         + ", port="
         + port
+        + ", connectionStriping="
+        + connectionStriping
         + '}';
   }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class DispatchMetrics {
+  private static final Counter DISPATCHED_REQUESTS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("gateway_dispatched_requests_total")
+          .help("Number of requests dispatched to a partition, by the reason it was chosen")
+          .labelNames("partition", "reason")
+          .register();
+
+  private static final Gauge PARTITION_LOAD =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("gateway_dispatch_partition_load")
+          .help("Load score of the partition which is used to dispatch requests")
+          .labelNames("partition")
+          .register();
+
+  public void dispatched(final int partitionId, final String reason) {
+    DISPATCHED_REQUESTS.labels(Integer.toString(partitionId), reason).inc();
+  }
+
+  public void setPartitionLoad(final int partitionId, final double load) {
+    PARTITION_LOAD.labels(Integer.toString(partitionId)).set(load);
+  }
+}
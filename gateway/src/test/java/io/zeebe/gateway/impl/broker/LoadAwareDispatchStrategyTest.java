@@ -0,0 +1,162 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.broker;
+
+import static io.zeebe.protocol.Protocol.START_PARTITION_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterStateImpl;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.collections.Int2IntCounterMap;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class LoadAwareDispatchStrategyTest {
+
+  private static final int FIRST_PARTITION = START_PARTITION_ID;
+  private static final int SECOND_PARTITION = START_PARTITION_ID + 1;
+  private static final int REQUEST_COUNT = 1_200;
+
+  private final AtomicLong clock = new AtomicLong();
+  private BrokerClusterStateImpl topology;
+  private LoadAwareDispatchStrategy strategy;
+
+  @Before
+  public void setUp() {
+    topology = new BrokerClusterStateImpl();
+    topology.addBrokerIfAbsent(0);
+    strategy = new LoadAwareDispatchStrategy(() -> topology, clock::get);
+  }
+
+  @Test
+  public void shouldSpreadRequestsEvenlyWithoutLoad() {
+    // given
+    addPartitions(3);
+
+    // when
+    final Int2IntCounterMap dispatched = dispatchRequests();
+
+    // then
+    assertThat(dispatched.get(FIRST_PARTITION)).isEqualTo(REQUEST_COUNT / 3);
+    assertThat(dispatched.get(SECOND_PARTITION)).isEqualTo(REQUEST_COUNT / 3);
+    assertThat(dispatched.get(START_PARTITION_ID + 2)).isEqualTo(REQUEST_COUNT / 3);
+  }
+
+  @Test
+  public void shouldPreferLessLoadedPartition() {
+    // given
+    addPartitions(2);
+    for (int i = 0; i < 10; i++) {
+      strategy.onRequestSent(FIRST_PARTITION);
+    }
+
+    // when
+    final Int2IntCounterMap dispatched = dispatchRequests();
+
+    // then the loaded partition is only chosen if it is the round robin and the random candidate
+    assertThat(dispatched.get(SECOND_PARTITION)).isGreaterThan(REQUEST_COUNT * 6 / 10);
+  }
+
+  @Test
+  public void shouldPreferPartitionWithLowerLatency() {
+    // given
+    addPartitions(2);
+    completeRequest(FIRST_PARTITION, Duration.ofMillis(100), false);
+    completeRequest(SECOND_PARTITION, Duration.ofMillis(5), false);
+
+    // when
+    final Int2IntCounterMap dispatched = dispatchRequests();
+
+    // then
+    assertThat(dispatched.get(SECOND_PARTITION)).isGreaterThan(REQUEST_COUNT * 6 / 10);
+  }
+
+  @Test
+  public void shouldAvoidBackpressuredPartition() {
+    // given
+    addPartitions(2);
+    completeRequest(FIRST_PARTITION, Duration.ofMillis(1), true);
+    for (int i = 0; i < 10; i++) {
+      strategy.onRequestSent(SECOND_PARTITION);
+    }
+
+    // when
+    final Int2IntCounterMap dispatched = dispatchRequests();
+
+    // then
+    assertThat(dispatched.get(SECOND_PARTITION)).isGreaterThan(REQUEST_COUNT * 6 / 10);
+  }
+
+  @Test
+  public void shouldNotAvoidPartitionAfterBackpressurePenalty() {
+    // given
+    addPartitions(2);
+    completeRequest(FIRST_PARTITION, Duration.ofMillis(1), true);
+    for (int i = 0; i < 10; i++) {
+      strategy.onRequestSent(SECOND_PARTITION);
+    }
+
+    // when
+    clock.addAndGet(Duration.ofSeconds(2).toNanos());
+    final Int2IntCounterMap dispatched = dispatchRequests();
+
+    // then
+    assertThat(dispatched.get(FIRST_PARTITION)).isGreaterThan(REQUEST_COUNT * 6 / 10);
+  }
+
+  @Test
+  public void shouldSkipPartitionsWithoutLeader() {
+    // given
+    topology.addPartitionIfAbsent(FIRST_PARTITION);
+    topology.addPartitionIfAbsent(SECOND_PARTITION);
+    topology.setPartitionLeader(SECOND_PARTITION, 0, 1);
+    topology.setPartitionsCount(2);
+
+    // when
+    final Int2IntCounterMap dispatched = dispatchRequests();
+
+    // then
+    assertThat(dispatched.get(SECOND_PARTITION)).isEqualTo(REQUEST_COUNT);
+  }
+
+  @Test
+  public void shouldReturnNullPartitionWithoutTopology() {
+    // given
+    strategy = new LoadAwareDispatchStrategy(() -> null, clock::get);
+
+    // when
+    final int partition = strategy.determinePartition();
+
+    // then
+    assertThat(partition).isEqualTo(BrokerClusterState.PARTITION_ID_NULL);
+  }
+
+  private void addPartitions(final int partitionsCount) {
+    for (int i = 0; i < partitionsCount; i++) {
+      topology.setPartitionLeader(START_PARTITION_ID + i, 0, 1);
+      topology.addPartitionIfAbsent(START_PARTITION_ID + i);
+    }
+    topology.setPartitionsCount(partitionsCount);
+  }
+
+  private void completeRequest(
+      final int partitionId, final Duration latency, final boolean backpressured) {
+    strategy.onRequestSent(partitionId);
+    strategy.onRequestCompleted(partitionId, latency.toNanos(), backpressured);
+  }
+
+  private Int2IntCounterMap dispatchRequests() {
+    final Int2IntCounterMap dispatched = new Int2IntCounterMap(0);
+    for (int i = 0; i < REQUEST_COUNT; i++) {
+      dispatched.incrementAndGet(strategy.determinePartition());
+    }
+    return dispatched;
+  }
+}
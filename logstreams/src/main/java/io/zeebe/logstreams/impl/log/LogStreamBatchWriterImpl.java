@@ -86,6 +86,12 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     return logWriteBuffer.getMaxFragmentLength();
   }
 
+  @Override
+  public boolean canWriteAdditionalEvent(final int length) {
+    final int batchLength = eventLength + length + (eventCount + 1) * HEADER_BLOCK_LENGTH;
+    return batchLength < getMaxFragmentLength();
+  }
+
   @Override
   public void reset() {
     eventBufferOffset = 0;
@@ -25,6 +25,15 @@ public interface LogStreamBatchWriter extends LogStreamWriter {
 
   int getMaxFragmentLength();
 
+  /**
+   * Returns whether an additional event fits into the batch, such that the whole batch can still be
+   * written with the max fragment length.
+   *
+   * @param length the length of the metadata and the value of the additional event
+   * @return {@code true} if the event can be added to the batch
+   */
+  boolean canWriteAdditionalEvent(int length);
+
   /** Discard all non-written batch data. */
   void reset();
 
@@ -66,30 +66,45 @@ public final class AtomixLogStorageReader implements LogStorageReader {
   }
 
   /**
-   * This is currently a quite slow implementation as Atomix does not support navigating backwards;
-   * it would require a refactor there if this is ever too slow.
+   * Reads the last ZeebeEntry directly if the index mapping knows it, otherwise moves backwards
+   * from the last entry until a ZeebeEntry is found.
    *
    * <p>{@inheritDoc}
    */
   @Override
   public long readLastBlock(final DirectBuffer readBuffer) {
     final var firstIndex = reader.getFirstIndex();
-    var index = reader.getLastIndex();
+    final var lastIndex = reader.getLastIndex();
+    if (lastIndex < firstIndex) {
+      return LogStorage.OP_RESULT_NO_DATA;
+    }
 
-    do {
-      reader.reset(index);
-      if (!reader.hasNext()) {
-        break;
+    final var lastZeebeEntryIndex = zeebeIndexMapping.lookupLastZeebeEntryIndex();
+    if (lastZeebeEntryIndex >= firstIndex && lastZeebeEntryIndex <= lastIndex) {
+      reader.reset(lastZeebeEntryIndex);
+      if (reader.hasNext()) {
+        final var indexed = reader.next();
+        if (indexed.index() == lastZeebeEntryIndex && indexed.type() == ZeebeEntry.class) {
+          wrapEntryData(indexed.cast(), readBuffer);
+          return reader.getNextIndex();
+        }
       }
+    }
 
-      final var indexed = reader.next();
-      if (indexed.type() == ZeebeEntry.class) {
-        wrapEntryData(indexed.cast(), readBuffer);
-        return reader.getNextIndex();
-      }
+    reader.reset(lastIndex);
+    if (!reader.hasNext()) {
+      return LogStorage.OP_RESULT_NO_DATA;
+    }
 
-      index--;
-    } while (index >= firstIndex);
+    var indexed = reader.next();
+    while (indexed.type() != ZeebeEntry.class && reader.hasPrevious()) {
+      indexed = reader.previous();
+    }
+
+    if (indexed.type() == ZeebeEntry.class) {
+      wrapEntryData(indexed.cast(), readBuffer);
+      return reader.getNextIndex();
+    }
 
     return LogStorage.OP_RESULT_NO_DATA;
   }
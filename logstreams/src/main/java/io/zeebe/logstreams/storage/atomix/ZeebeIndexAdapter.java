@@ -10,19 +10,27 @@ package io.zeebe.logstreams.storage.atomix;
 import io.atomix.raft.zeebe.ZeebeEntry;
 import io.atomix.storage.journal.Indexed;
 import io.atomix.storage.journal.index.JournalIndex;
+import io.atomix.storage.journal.index.MonotonicLongIndex;
 import io.atomix.storage.journal.index.Position;
 import io.atomix.storage.journal.index.SparseJournalIndex;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping {
 
-  private final ConcurrentNavigableMap<Long, Long> positionIndexMapping =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> indexPositionMapping =
-      new ConcurrentSkipListMap<>();
+  private static final long UNKNOWN_INDEX = -1L;
+
+  // maps indexes to the lowest position of their entries; since positions are ascending with the
+  // indexes, the same entries are used to look up the index of a position
+  private final MonotonicLongIndex indexPositionMapping = new MonotonicLongIndex();
+  // the mapping is written by the journal, but read by the log stream readers
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
   private final SparseJournalIndex sparseJournalIndex;
   private final int density;
+  // the last ZeebeEntry is only known if all entries after it were indexed; it is read by the log
+  // stream readers, while the last indexed index is only accessed by the journal
+  private volatile long lastZeebeEntryIndex = UNKNOWN_INDEX;
+  private long lastIndexedIndex = UNKNOWN_INDEX;
 
   private ZeebeIndexAdapter(final int density) {
     this.density = density;
@@ -36,19 +44,30 @@ public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping
   @Override
   public void index(final Indexed indexedEntry, final int position) {
     final var index = indexedEntry.index();
-    if (index % density == 0) {
+    updateLastZeebeEntry(indexedEntry);
+
+    if (isIndexed(index)) {
       if (indexedEntry.type() == ZeebeEntry.class) {
         final ZeebeEntry zeebeEntry = (ZeebeEntry) indexedEntry.entry();
         final var lowestPosition = zeebeEntry.lowestPosition();
 
-        positionIndexMapping.put(lowestPosition, index);
-        indexPositionMapping.put(index, lowestPosition);
+        lock.writeLock().lock();
+        try {
+          indexPositionMapping.append(index, lowestPosition);
+        } finally {
+          lock.writeLock().unlock();
+        }
       }
     }
 
     sparseJournalIndex.index(indexedEntry, position);
   }
 
+  @Override
+  public boolean isIndexed(final long index) {
+    return index % density == 0;
+  }
+
   @Override
   public Position lookup(final long index) {
     return sparseJournalIndex.lookup(index);
@@ -56,45 +75,90 @@ public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping
 
   @Override
   public void truncate(final long index) {
-    final var higherEntry = indexPositionMapping.higherEntry(index);
-
-    if (higherEntry != null) {
-
-      final var higherIndex = higherEntry.getKey();
-      final var higherPosition = higherEntry.getValue();
+    if (lastIndexedIndex > index) {
+      lastIndexedIndex = index;
+    }
+    if (lastZeebeEntryIndex > index) {
+      lastZeebeEntryIndex = UNKNOWN_INDEX;
+    }
 
-      indexPositionMapping.tailMap(higherIndex).clear();
-      positionIndexMapping.tailMap(higherPosition).clear();
+    lock.writeLock().lock();
+    try {
+      indexPositionMapping.removeAfter(index);
+    } finally {
+      lock.writeLock().unlock();
     }
 
     sparseJournalIndex.truncate(index);
   }
 
   @Override
-  public void compact(final long index) {
-    final var lowerEntry = indexPositionMapping.lowerEntry(index);
-
-    if (lowerEntry != null) {
+  public void reset(final long index) {
+    lastIndexedIndex = index - 1;
+    lastZeebeEntryIndex = UNKNOWN_INDEX;
+
+    lock.writeLock().lock();
+    try {
+      indexPositionMapping.clear();
+    } finally {
+      lock.writeLock().unlock();
+    }
 
-      final var lowerIndex = lowerEntry.getKey();
-      final var lowerPosition = lowerEntry.getValue();
+    sparseJournalIndex.reset(index);
+  }
 
-      indexPositionMapping.headMap(lowerIndex).clear();
-      positionIndexMapping.headMap(lowerPosition).clear();
+  @Override
+  public void compact(final long index) {
+    lock.writeLock().lock();
+    try {
+      // keeps the greatest index lower than the given one
+      final int lowerSlot = indexPositionMapping.floorSlotOfKey(index - 1);
+      if (lowerSlot >= 0) {
+        indexPositionMapping.removeBefore(indexPositionMapping.keyAt(lowerSlot));
+      }
+    } finally {
+      lock.writeLock().unlock();
     }
 
     sparseJournalIndex.compact(index);
   }
 
+  @Override
+  public long lookupLastZeebeEntryIndex() {
+    return lastZeebeEntryIndex;
+  }
+
   @Override
   public long lookupPosition(final long position) {
     long index = -1L;
 
-    final var lowerEntry = positionIndexMapping.floorEntry(position);
-    if (lowerEntry != null) {
-      index = lowerEntry.getValue();
+    lock.readLock().lock();
+    try {
+      final int slot = indexPositionMapping.floorSlotOfValue(position);
+      if (slot >= 0) {
+        index = indexPositionMapping.keyAt(slot);
+      }
+    } finally {
+      lock.readLock().unlock();
     }
 
     return index;
   }
+
+  private void updateLastZeebeEntry(final Indexed indexedEntry) {
+    final var index = indexedEntry.index();
+    if (index <= lastIndexedIndex) {
+      // the entry is indexed again, e.g. when its segment is reset
+      return;
+    }
+
+    if (indexedEntry.type() == ZeebeEntry.class) {
+      lastZeebeEntryIndex = index;
+    } else if (index != lastIndexedIndex + 1) {
+      // entries were not indexed, e.g. when a sealed segment was restored, any could be a
+      // ZeebeEntry
+      lastZeebeEntryIndex = UNKNOWN_INDEX;
+    }
+    lastIndexedIndex = index;
+  }
 }
@@ -17,4 +17,12 @@ public interface ZeebeIndexMapping {
    * @return
    */
   long lookupPosition(long position);
+
+  /**
+   * Returns the index of the last {@link io.atomix.raft.zeebe.ZeebeEntry} in the log, if it is
+   * known; it is not known if entries after it were not indexed, e.g. after truncating the log.
+   *
+   * @return the index of the last ZeebeEntry, or -1 if it is not known
+   */
+  long lookupLastZeebeEntryIndex();
 }
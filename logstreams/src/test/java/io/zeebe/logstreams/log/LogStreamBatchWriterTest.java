@@ -415,6 +415,16 @@ public final class LogStreamBatchWriterTest {
     assertThat(pos).isEqualTo(0);
   }
 
+  @Test
+  public void shouldNotAddEventWhichExceedsMaxFragmentLength() {
+    // given
+    writer.event().keyNull().value(EVENT_VALUE_1).done();
+
+    // then
+    assertThat(writer.canWriteAdditionalEvent(EVENT_VALUE_2.capacity())).isTrue();
+    assertThat(writer.canWriteAdditionalEvent(writer.getMaxFragmentLength())).isFalse();
+  }
+
   @Test
   public void shouldFailToWriteOnClosedLogStream() {
     // given
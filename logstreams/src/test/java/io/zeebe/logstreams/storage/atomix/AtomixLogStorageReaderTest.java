@@ -140,6 +140,46 @@ public final class AtomixLogStorageReaderTest {
     assertThat(buffer.getInt(0, BYTE_ORDER)).isEqualTo(1);
   }
 
+  @Test
+  public void shouldReadLastZeebeEntryAfterTruncation() {
+    // given
+    final var reader = storageRule.get().newReader();
+    final var expected = append(1, 4, allocateData(1));
+    final var writer = storageRule.getRaftLog().writer();
+    final var configuration =
+        writer.append(
+            new ConfigurationEntry(1, System.currentTimeMillis(), Collections.emptyList()));
+    writer.append(new ZeebeEntry(1, System.currentTimeMillis(), 5, 8, allocateData(2)));
+    writer.truncate(configuration.index());
+    writer.commit(configuration.index());
+
+    // when
+    final var address = reader.readLastBlock(buffer);
+
+    // then
+    assertThat(address).isEqualTo(expected.index() + 1);
+    assertThat(buffer.getInt(0, BYTE_ORDER)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReadLastZeebeEntryAfterReset() {
+    // given
+    final var reader = storageRule.get().newReader();
+    final var first = append(1, 4, allocateData(1));
+    append(5, 8, allocateData(2));
+    storageRule.getRaftLog().writer().reset(first.index() + 10);
+
+    // when
+    final var expected = append(9, 12, allocateData(3));
+    final var address = reader.readLastBlock(buffer);
+
+    // then
+    assertThat(expected.index()).isEqualTo(first.index() + 10);
+    assertThat(address).isEqualTo(expected.index() + 1);
+    assertThat(buffer.getInt(0, BYTE_ORDER)).isEqualTo(3);
+    assertThat(reader.lookUpApproximateAddress(10)).isEqualTo(expected.index());
+  }
+
   @Test
   public void shouldReturnEmptyIfLogIsEmpty() {
     // given
@@ -220,6 +220,49 @@ public class ZeebeIndexTest {
     assertThat(zeebeIndexAdapter.lookupPosition(46)).isEqualTo(10);
   }
 
+  @Test
+  public void shouldLookUpLastZeebeEntry() {
+    // given
+    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    zeebeIndexAdapter.index(asZeebeEntry(1, 1), 2);
+    zeebeIndexAdapter.index(asZeebeEntry(2, 5), 4);
+
+    // when
+    zeebeIndexAdapter.index(
+        new Indexed<>(3, new InitializeEntry(0, System.currentTimeMillis()), 10), 6);
+
+    // then
+    assertThat(zeebeIndexAdapter.lookupLastZeebeEntryIndex()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotKnowLastZeebeEntryIfEntriesWereNotIndexed() {
+    // given
+    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    zeebeIndexAdapter.index(asZeebeEntry(1, 1), 2);
+
+    // when
+    zeebeIndexAdapter.index(
+        new Indexed<>(5, new InitializeEntry(0, System.currentTimeMillis()), 10), 10);
+
+    // then
+    assertThat(zeebeIndexAdapter.lookupLastZeebeEntryIndex()).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldNotKnowLastZeebeEntryAfterTruncatingIt() {
+    // given
+    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    zeebeIndexAdapter.index(asZeebeEntry(1, 1), 2);
+    zeebeIndexAdapter.index(asZeebeEntry(2, 5), 4);
+
+    // when
+    zeebeIndexAdapter.truncate(1);
+
+    // then
+    assertThat(zeebeIndexAdapter.lookupLastZeebeEntryIndex()).isEqualTo(-1);
+  }
+
   private static Indexed asZeebeEntry(final long index, final long lowestPos) {
     return new Indexed(
         index,
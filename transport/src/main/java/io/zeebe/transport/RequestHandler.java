@@ -29,4 +29,11 @@ public interface RequestHandler {
       DirectBuffer buffer,
       int offset,
       int length);
+
+  /**
+   * Called after the last of the requests, which were received together, was handled; e.g. to
+   * write the requests which were collected on {@link #onRequest} at once. It is called at least
+   * once after each call of {@link #onRequest}, on the same thread.
+   */
+  default void onEndOfBatch() {}
 }
@@ -13,7 +13,10 @@ import io.zeebe.transport.ServerResponse;
 import io.zeebe.transport.ServerTransport;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.future.ActorFuture;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
@@ -25,6 +28,8 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
 
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
   private static final String API_TOPIC_FORMAT = "command-api-%d";
+  // bounds the latency of the first request of a batch, if requests are received continuously
+  private static final int MAX_BATCH_REQUEST_COUNT = 128;
   private static final String ERROR_MSG_MISSING_PARTITON_MAP =
       "Node already unsubscribed from partition %d, this can only happen when atomix does not cleanly remove its handlers.";
 
@@ -32,6 +37,11 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
   private final Int2ObjectHashMap<Long2ObjectHashMap<CompletableFuture<byte[]>>>
       partitionsRequestMap;
   private final AtomicLong requestCount;
+  // the received requests which are not handled yet; together with the handlers of the handled
+  // requests, it is used to notify the handlers after the last request of a batch was handled
+  private final AtomicInteger queuedRequestCount;
+  private final List<RequestHandler> batchRequestHandlers;
+  private int batchRequestCount;
   private final DirectBuffer reusableRequestBuffer;
   private final MessagingService messagingService;
   private final String actorName;
@@ -42,6 +52,8 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
 
     this.partitionsRequestMap = new Int2ObjectHashMap<>();
     this.requestCount = new AtomicLong(0);
+    this.queuedRequestCount = new AtomicInteger(0);
+    this.batchRequestHandlers = new ArrayList<>();
     this.reusableRequestBuffer = new UnsafeBuffer(0, 0);
     this.actorName = buildActorName(nodeId, "ServerTransport");
   }
@@ -92,35 +104,68 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
   private CompletableFuture<byte[]> handleAtomixRequest(
       final byte[] requestBytes, final int partitionId, final RequestHandler requestHandler) {
     final var completableFuture = new CompletableFuture<byte[]>();
+    queuedRequestCount.incrementAndGet();
     actor.call(
         () -> {
-          final var requestId = requestCount.getAndIncrement();
-          final var requestMap = partitionsRequestMap.get(partitionId);
-          if (requestMap == null) {
-            final var errorMsg = String.format(ERROR_MSG_MISSING_PARTITON_MAP, partitionId);
-            completableFuture.completeExceptionally(new IllegalStateException(errorMsg));
-            return;
-          }
-
           try {
-            reusableRequestBuffer.wrap(requestBytes);
-            requestHandler.onRequest(
-                this, partitionId, requestId, reusableRequestBuffer, 0, requestBytes.length);
-
-            // we only add the request to the map after successful handling
-            requestMap.put(requestId, completableFuture);
-          } catch (final Exception exception) {
-            LOG.error(
-                "Unexpected exception on handling request for partition {}.",
-                partitionId,
-                exception);
-            completableFuture.completeExceptionally(exception);
+            handleRequest(requestBytes, partitionId, requestHandler, completableFuture);
+          } finally {
+            onRequestHandled(requestHandler);
           }
         });
 
     return completableFuture;
   }
 
+  private void handleRequest(
+      final byte[] requestBytes,
+      final int partitionId,
+      final RequestHandler requestHandler,
+      final CompletableFuture<byte[]> completableFuture) {
+    final var requestId = requestCount.getAndIncrement();
+    final var requestMap = partitionsRequestMap.get(partitionId);
+    if (requestMap == null) {
+      final var errorMsg = String.format(ERROR_MSG_MISSING_PARTITON_MAP, partitionId);
+      completableFuture.completeExceptionally(new IllegalStateException(errorMsg));
+      return;
+    }
+
+    try {
+      reusableRequestBuffer.wrap(requestBytes);
+      requestHandler.onRequest(
+          this, partitionId, requestId, reusableRequestBuffer, 0, requestBytes.length);
+
+      // we only add the request to the map after successful handling
+      requestMap.put(requestId, completableFuture);
+    } catch (final Exception exception) {
+      LOG.error(
+          "Unexpected exception on handling request for partition {}.", partitionId, exception);
+      completableFuture.completeExceptionally(exception);
+    }
+  }
+
+  private void onRequestHandled(final RequestHandler requestHandler) {
+    if (!batchRequestHandlers.contains(requestHandler)) {
+      batchRequestHandlers.add(requestHandler);
+    }
+
+    batchRequestCount++;
+    if (queuedRequestCount.decrementAndGet() > 0 && batchRequestCount < MAX_BATCH_REQUEST_COUNT) {
+      // the next request is already received, the handlers are notified after the last one
+      return;
+    }
+
+    for (final RequestHandler handler : batchRequestHandlers) {
+      try {
+        handler.onEndOfBatch();
+      } catch (final Exception exception) {
+        LOG.error("Unexpected exception on ending a batch of requests.", exception);
+      }
+    }
+    batchRequestHandlers.clear();
+    batchRequestCount = 0;
+  }
+
   @Override
   public void sendResponse(final ServerResponse response) {
     final var requestId = response.getRequestId();
@@ -23,7 +23,7 @@ final class RequestContext {
 
   private final CompletableActorFuture<DirectBuffer> currentFuture;
   private final Supplier<String> nodeAddressSupplier;
-  private final int partitionId;
+  private final String topicName;
   private final byte[] requestBytes;
   private final boolean shouldRetry;
   private final long startTime;
@@ -42,7 +42,7 @@ final class RequestContext {
       final Duration timeout) {
     this.currentFuture = currentFuture;
     this.nodeAddressSupplier = nodeAddressSupplier;
-    this.partitionId = partitionId;
+    this.topicName = topicName(partitionId);
     this.requestBytes = requestBytes;
     this.shouldRetry = shouldRetry;
     this.startTime = ActorClock.currentTimeMillis();
@@ -60,7 +60,7 @@ final class RequestContext {
   }
 
   String getTopicName() {
-    return topicName(partitionId);
+    return topicName;
   }
 
   byte[] getRequestBytes() {
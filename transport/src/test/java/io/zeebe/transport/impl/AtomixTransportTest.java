@@ -22,11 +22,14 @@ import io.zeebe.transport.RequestHandler;
 import io.zeebe.transport.ServerOutput;
 import io.zeebe.transport.ServerTransport;
 import io.zeebe.transport.TransportFactory;
+import io.zeebe.util.buffer.BufferUtil;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.net.ConnectException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -171,6 +174,21 @@ public class AtomixTransportTest {
     assertThat(incomingRequestFuture.join()).isEqualTo("messageABC".getBytes());
   }
 
+  @Test
+  public void shouldNotifyHandlerAtEndOfBatch() {
+    // given
+    serverTransport.subscribe(0, new EndOfBatchResponder()).join();
+
+    // when
+    final var requestFuture =
+        clientTransport.sendRequestWithRetry(
+            nodeAddressSupplier, new Request("messageABC"), Duration.ofSeconds(1));
+
+    // then
+    final var response = requestFuture.join();
+    assertThat(response.byteArray()).isEqualTo("messageABC".getBytes());
+  }
+
   @Test
   public void shouldRetryOnInvalidResponse() throws Exception {
     // given
@@ -388,4 +406,32 @@ public class AtomixTransportTest {
       serverOutput.sendResponse(serverResponse);
     }
   }
+
+  private static final class EndOfBatchResponder implements RequestHandler {
+
+    private final List<ServerResponseImpl> responses = new ArrayList<>();
+    private ServerOutput serverOutput;
+
+    @Override
+    public void onRequest(
+        final ServerOutput serverOutput,
+        final int partitionId,
+        final long requestId,
+        final DirectBuffer buffer,
+        final int offset,
+        final int length) {
+      this.serverOutput = serverOutput;
+      responses.add(
+          new ServerResponseImpl()
+              .buffer(BufferUtil.cloneBuffer(buffer, offset, length))
+              .setRequestId(requestId)
+              .setPartitionId(partitionId));
+    }
+
+    @Override
+    public void onEndOfBatch() {
+      responses.forEach(serverOutput::sendResponse);
+      responses.clear();
+    }
+  }
 }
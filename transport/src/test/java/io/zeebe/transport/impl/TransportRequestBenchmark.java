@@ -0,0 +1,165 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.transport.impl;
+
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.impl.NettyMessagingService;
+import io.atomix.utils.net.Address;
+import io.zeebe.test.util.socket.SocketUtil;
+import io.zeebe.transport.ClientRequest;
+import io.zeebe.transport.ClientTransport;
+import io.zeebe.transport.RequestHandler;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.transport.ServerTransport;
+import io.zeebe.transport.TransportFactory;
+import io.zeebe.util.sched.ActorScheduler;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the latency distribution of commands which are sent from a client transport to a server
+ * transport, which echoes them, over two Netty messaging services. The main method runs it with
+ * the GC profiler, which reports the bytes allocated per command. It is not run as part of the
+ * build; run it with the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TransportRequestBenchmark {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  @Param({"128", "1024", "16384"})
+  public int payloadSize;
+
+  private ActorScheduler scheduler;
+  private NettyMessagingService serverMessaging;
+  private NettyMessagingService clientMessaging;
+  private ServerTransport serverTransport;
+  private ClientTransport clientTransport;
+  private String nodeAddress;
+  private Request request;
+
+  public static void main(final String[] args) throws Exception {
+    final var options =
+        new OptionsBuilder()
+            .include(TransportRequestBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    scheduler.start();
+
+    final Address serverAddress = nextAddress();
+    serverMessaging = new NettyMessagingService("benchmark", serverAddress, new MessagingConfig());
+    clientMessaging = new NettyMessagingService("benchmark", nextAddress(), new MessagingConfig());
+    serverMessaging.start().join();
+    clientMessaging.start().join();
+
+    final TransportFactory transportFactory = new TransportFactory(scheduler);
+    serverTransport = transportFactory.createServerTransport(0, serverMessaging);
+    clientTransport = transportFactory.createClientTransport(clientMessaging);
+    serverTransport.subscribe(0, new EchoHandler()).join();
+
+    nodeAddress = serverAddress.toString();
+    request = new Request(payloadSize);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    clientTransport.close();
+    serverTransport.close();
+    clientMessaging.stop().join();
+    serverMessaging.stop().join();
+    scheduler.stop().get();
+  }
+
+  @Benchmark
+  public DirectBuffer sendRequest() {
+    return clientTransport.sendRequest(() -> nodeAddress, request, TIMEOUT).join();
+  }
+
+  private static Address nextAddress() {
+    final InetSocketAddress socketAddress = SocketUtil.getNextAddress();
+    return Address.from(socketAddress.getHostName(), socketAddress.getPort());
+  }
+
+  private static final class Request implements ClientRequest {
+
+    private final byte[] payload;
+
+    private Request(final int payloadSize) {
+      payload = new byte[payloadSize];
+    }
+
+    @Override
+    public int getPartitionId() {
+      return 0;
+    }
+
+    @Override
+    public int getLength() {
+      return payload.length;
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      buffer.putBytes(offset, payload);
+    }
+  }
+
+  private static final class EchoHandler implements RequestHandler {
+
+    private final ServerResponseImpl response = new ServerResponseImpl();
+
+    @Override
+    public void onRequest(
+        final ServerOutput serverOutput,
+        final int partitionId,
+        final long requestId,
+        final DirectBuffer buffer,
+        final int offset,
+        final int length) {
+      response
+          .reset()
+          .buffer(buffer, offset, length)
+          .setRequestId(requestId)
+          .setPartitionId(partitionId);
+      serverOutput.sendResponse(response);
+    }
+  }
+}
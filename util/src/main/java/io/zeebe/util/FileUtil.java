@@ -25,6 +25,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.function.Predicate;
 import org.agrona.LangUtil;
 import org.slf4j.Logger;
 
@@ -118,17 +119,33 @@ public final class FileUtil {
 
   public static void copySnapshot(final Path runtimeDirectory, final Path snapshotDirectory)
       throws Exception {
-    Files.walkFileTree(snapshotDirectory, new SnapshotCopier(snapshotDirectory, runtimeDirectory));
+    Files.walkFileTree(
+        snapshotDirectory, new SnapshotCopier(snapshotDirectory, runtimeDirectory, file -> false));
+  }
+
+  /**
+   * Copies the snapshot into the runtime directory like {@link #copySnapshot(Path, Path)}, but
+   * creates hard links for the files matching the given predicate instead of copying them. Such
+   * files are shared with the snapshot, so they must never be modified in place. If a link can't be
+   * created, e.g. because the directories are on different file stores, the file is copied.
+   */
+  public static void linkSnapshot(
+      final Path runtimeDirectory, final Path snapshotDirectory, final Predicate<Path> linkFile)
+      throws Exception {
+    Files.walkFileTree(
+        snapshotDirectory, new SnapshotCopier(snapshotDirectory, runtimeDirectory, linkFile));
   }
 
   public static final class SnapshotCopier extends SimpleFileVisitor<Path> {
 
     private final Path targetPath;
     private final Path sourcePath;
+    private final Predicate<Path> linkFile;
 
-    SnapshotCopier(final Path sourcePath, final Path targetPath) {
+    SnapshotCopier(final Path sourcePath, final Path targetPath, final Predicate<Path> linkFile) {
       this.sourcePath = sourcePath;
       this.targetPath = targetPath;
+      this.linkFile = linkFile;
     }
 
     @Override
@@ -150,7 +167,11 @@ public final class FileUtil {
       final Path newFile = targetPath.resolve(sourcePath.relativize(file));
 
       try {
-        Files.copy(file, newFile);
+        if (linkFile.test(file)) {
+          linkOrCopy(file, newFile);
+        } else {
+          Files.copy(file, newFile);
+        }
       } catch (final IOException ioException) {
         LOG.error("Problem on copying {} to {}.", file, newFile, ioException);
       }
@@ -158,6 +179,15 @@ public final class FileUtil {
       return CONTINUE;
     }
 
+    private void linkOrCopy(final Path file, final Path newFile) throws IOException {
+      try {
+        Files.createLink(newFile, file);
+      } catch (final IOException | UnsupportedOperationException e) {
+        LOG.debug("Failed to link {} to {}, copying it instead.", file, newFile, e);
+        Files.copy(file, newFile);
+      }
+    }
+
     @Override
     public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
       LOG.error("Problem on copying snapshot to runtime.", exc);
@@ -9,8 +9,10 @@ package io.zeebe.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.zip.CRC32;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -39,6 +41,19 @@ public class ChecksumUtilTest {
     assertThat(actual).isEqualTo(expectedChecksum);
   }
 
+  @Test
+  public void shouldGenerateChecksumOfFileContent() throws Exception {
+    // given
+    final var crc32 = new CRC32();
+    crc32.update(Files.readAllBytes(exampleFile));
+
+    // when
+    final var actual = ChecksumUtil.createChecksum(exampleFile);
+
+    // then
+    assertThat(actual).isEqualTo(crc32.getValue());
+  }
+
   @Test
   public void shouldGenerateTheSameChecksumForMultipleFiles() throws Exception {
     // given
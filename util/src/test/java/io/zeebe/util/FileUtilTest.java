@@ -12,7 +12,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -47,6 +49,26 @@ public final class FileUtilTest {
         .isInstanceOf(NoSuchFileException.class);
   }
 
+  @Test
+  public void shouldLinkMatchingFilesOfSnapshot() throws Exception {
+    // given
+    final Path snapshot = tempFolder.newFolder("snapshot").toPath();
+    Files.write(snapshot.resolve("file.sst"), "immutable".getBytes());
+    Files.write(snapshot.resolve("file.log"), "mutable".getBytes());
+    final Path runtime = tempFolder.getRoot().toPath().resolve("runtime");
+
+    // when
+    FileUtil.linkSnapshot(runtime, snapshot, file -> file.toString().endsWith(".sst"));
+
+    // then
+    assertThat(runtime.resolve("file.sst")).hasContent("immutable");
+    assertThat(runtime.resolve("file.log")).hasContent("mutable");
+    assertThat(Files.isSameFile(runtime.resolve("file.sst"), snapshot.resolve("file.sst")))
+        .isTrue();
+    assertThat(Files.isSameFile(runtime.resolve("file.log"), snapshot.resolve("file.log")))
+        .isFalse();
+  }
+
   @Test
   public void shouldCreateParentDirectory() {
     // given
@@ -0,0 +1,157 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import java.util.List;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompactionPriority;
+import org.rocksdb.Filter;
+
+/**
+ * Describes how a column family is accessed, such that its RocksDB options can be tuned
+ * accordingly. All profiles except {@link #DEFAULT} share the block cache of the database they
+ * belong to.
+ */
+public enum ColumnFamilyProfile {
+
+  /** Keeps the RocksDB defaults; this is what every column family used before profiles existed. */
+  DEFAULT {
+    @Override
+    void configure(
+        final ColumnFamilyOptions options,
+        final Cache blockCache,
+        final List<AutoCloseable> closeables) {
+      // nothing to tune
+    }
+  },
+
+  /**
+   * The column family is mostly read by its full key, e.g. a job or element instance by its key. A
+   * whole key bloom filter lets RocksDB skip files which do not contain the key.
+   */
+  POINT_LOOKUP {
+    @Override
+    void configure(
+        final ColumnFamilyOptions options,
+        final Cache blockCache,
+        final List<AutoCloseable> closeables) {
+      options.setTableFormatConfig(
+          newTableConfig(blockCache).setFilterPolicy(newBloomFilter(closeables)));
+    }
+  },
+
+  /**
+   * The column family is iterated by a prefix of its key, e.g. all variables of a scope. The first
+   * {@link #PREFIX_LENGTH} bytes of the key are used as prefix, which is the length of the leading
+   * long of most composite keys. Prefix bloom filters on the files and the memtable let prefix
+   * seeks skip data which cannot contain the prefix.
+   */
+  PREFIX_SCAN {
+    @Override
+    void configure(
+        final ColumnFamilyOptions options,
+        final Cache blockCache,
+        final List<AutoCloseable> closeables) {
+      options
+          .useFixedLengthPrefixExtractor(PREFIX_LENGTH)
+          .setMemtablePrefixBloomSizeRatio(MEMTABLE_BLOOM_SIZE_RATIO)
+          .setTableFormatConfig(
+              newTableConfig(blockCache).setFilterPolicy(newBloomFilter(closeables)));
+    }
+
+    @Override
+    public int getPrefixLength() {
+      return PREFIX_LENGTH;
+    }
+  },
+
+  /**
+   * The column family is iterated in key order from the start, e.g. timers by due date. Bloom
+   * filters are of no use for such scans, so only the shared block cache is configured.
+   */
+  ORDERED_SCAN {
+    @Override
+    void configure(
+        final ColumnFamilyOptions options,
+        final Cache blockCache,
+        final List<AutoCloseable> closeables) {
+      options.setTableFormatConfig(newTableConfig(blockCache));
+    }
+  },
+
+  /**
+   * Entries of the column family are written and deleted shortly after, e.g. temporary stores. More
+   * write buffers are kept, such that short-lived entries are more likely to be dropped before they
+   * reach a file.
+   */
+  WRITE_HEAVY {
+    @Override
+    void configure(
+        final ColumnFamilyOptions options,
+        final Cache blockCache,
+        final List<AutoCloseable> closeables) {
+      options
+          .setMaxWriteBufferNumber(WRITE_HEAVY_MAX_WRITE_BUFFER_NUMBER)
+          .setMinWriteBufferNumberToMerge(WRITE_HEAVY_MIN_WRITE_BUFFER_NUMBER_TO_MERGE)
+          .setTableFormatConfig(newTableConfig(blockCache));
+    }
+  };
+
+  private static final int PREFIX_LENGTH = Long.BYTES;
+  private static final double BLOOM_FILTER_BITS_PER_KEY = 10;
+  private static final double MEMTABLE_BLOOM_SIZE_RATIO = 0.1;
+  private static final int WRITE_HEAVY_MAX_WRITE_BUFFER_NUMBER = 4;
+  private static final int WRITE_HEAVY_MIN_WRITE_BUFFER_NUMBER_TO_MERGE = 2;
+
+  /**
+   * Creates the column family options of this profile. The created options and all resources they
+   * depend on are added to the given closeables, such that they are closed together with the
+   * database.
+   *
+   * @param blockCache the block cache shared by all column families of the database
+   * @param closeables the resources which are closed with the database
+   * @return the created options
+   */
+  ColumnFamilyOptions createColumnFamilyOptions(
+      final Cache blockCache, final List<AutoCloseable> closeables) {
+    final ColumnFamilyOptions options =
+        new ColumnFamilyOptions().setCompactionPriority(CompactionPriority.OldestSmallestSeqFirst);
+    configure(options, blockCache, closeables);
+
+    // the options have to be closed before the resources they depend on
+    closeables.add(options);
+    return options;
+  }
+
+  abstract void configure(
+      ColumnFamilyOptions options, Cache blockCache, List<AutoCloseable> closeables);
+
+  /**
+   * @return the length of the fixed key prefix which is used for prefix bloom filters, or {@code 0}
+   *     if the profile does not configure a prefix extractor
+   */
+  public int getPrefixLength() {
+    return 0;
+  }
+
+  private static BlockBasedTableConfig newTableConfig(final Cache blockCache) {
+    return new BlockBasedTableConfig()
+        .setBlockCache(blockCache)
+        .setCacheIndexAndFilterBlocks(true)
+        .setPinL0FilterAndIndexBlocksInCache(true);
+  }
+
+  private static Filter newBloomFilter(final List<AutoCloseable> closeables) {
+    final Filter filter = new BloomFilter(BLOOM_FILTER_BITS_PER_KEY, false);
+    closeables.add(filter);
+    return filter;
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Configures the databases which are created by a {@link ZeebeRocksDbFactory}. Without changes, all
+ * column families use the default options, the transactions are optimistic and no column family is
+ * cached.
+ *
+ * @param <ColumnFamilyType> the enum type, which contains the column family names
+ */
+public final class RocksDbConfiguration<ColumnFamilyType extends Enum<ColumnFamilyType>> {
+
+  public static final long DEFAULT_BLOCK_CACHE_SIZE = 32 * 1024 * 1024;
+
+  // only labels the metrics of the column family caches, which are not created without caches
+  private static final int NO_PARTITION_ID = -1;
+
+  private Function<ColumnFamilyType, ColumnFamilyProfile> profiles =
+      columnFamily -> ColumnFamilyProfile.DEFAULT;
+  private long blockCacheSize = DEFAULT_BLOCK_CACHE_SIZE;
+  private TransactionMode transactionMode = TransactionMode.OPTIMISTIC;
+  private int partitionId = NO_PARTITION_ID;
+  private Map<ColumnFamilyType, Long> cacheSizes = Collections.emptyMap();
+
+  public Function<ColumnFamilyType, ColumnFamilyProfile> getProfiles() {
+    return profiles;
+  }
+
+  /**
+   * Tunes every column family according to its {@link ColumnFamilyProfile}. All column families
+   * which do not use the default profile share one block cache.
+   *
+   * @param profiles resolves the profile of each column family
+   * @return this configuration
+   */
+  public RocksDbConfiguration<ColumnFamilyType> setProfiles(
+      final Function<ColumnFamilyType, ColumnFamilyProfile> profiles) {
+    this.profiles = Objects.requireNonNull(profiles);
+    return this;
+  }
+
+  public long getBlockCacheSize() {
+    return blockCacheSize;
+  }
+
+  /**
+   * @param blockCacheSize the size of the block cache in bytes, which is shared by the column
+   *     families with a profile
+   * @return this configuration
+   */
+  public RocksDbConfiguration<ColumnFamilyType> setBlockCacheSize(final long blockCacheSize) {
+    if (blockCacheSize <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected block cache size to be positive, but was %d", blockCacheSize));
+    }
+
+    this.blockCacheSize = blockCacheSize;
+    return this;
+  }
+
+  public TransactionMode getTransactionMode() {
+    return transactionMode;
+  }
+
+  /**
+   * @param transactionMode defines how the transactions of the created databases work
+   * @return this configuration
+   */
+  public RocksDbConfiguration<ColumnFamilyType> setTransactionMode(
+      final TransactionMode transactionMode) {
+    this.transactionMode = Objects.requireNonNull(transactionMode);
+    return this;
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  /**
+   * @param partitionId the partition of the created databases, which labels the cache metrics
+   * @return this configuration
+   */
+  public RocksDbConfiguration<ColumnFamilyType> setPartitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  public Map<ColumnFamilyType, Long> getCacheSizes() {
+    return cacheSizes;
+  }
+
+  /**
+   * Caches point lookups in the given column families.
+   *
+   * @param cacheSizes the maximum cache size in bytes of each cached column family
+   * @return this configuration
+   */
+  public RocksDbConfiguration<ColumnFamilyType> setCacheSizes(
+      final Map<ColumnFamilyType, Long> cacheSizes) {
+    this.cacheSizes = Objects.requireNonNull(cacheSizes);
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "RocksDbConfiguration{"
+        + "blockCacheSize="
+        + blockCacheSize
+        + ", transactionMode="
+        + transactionMode
+        + ", partitionId="
+        + partitionId
+        + ", cacheSizes="
+        + cacheSizes
+        + '}';
+  }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+/** Defines how the transactions of a database created by {@link ZeebeRocksDbFactory} work. */
+public enum TransactionMode {
+
+  /**
+   * Every transaction is an optimistic RocksDB transaction, which detects on commit whether the
+   * keys it wrote were changed concurrently by another transaction.
+   */
+  OPTIMISTIC,
+
+  /**
+   * Every transaction collects its writes in an indexed write batch, which is written atomically on
+   * commit. Reads see the writes of the batch, but no conflicts are detected, which is cheaper but
+   * requires that keys are only written by a single writer, e.g. the stream processor.
+   */
+  WRITE_BATCH
+}
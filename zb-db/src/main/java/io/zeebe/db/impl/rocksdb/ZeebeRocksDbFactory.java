@@ -12,12 +12,14 @@ import io.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyOptions;
-import org.rocksdb.CompactionPriority;
 import org.rocksdb.DBOptions;
+import org.rocksdb.LRUCache;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 
@@ -29,39 +31,52 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
   }
 
   private final Class<ColumnFamilyType> columnFamilyTypeClass;
+  private final RocksDbConfiguration<ColumnFamilyType> configuration;
 
-  private ZeebeRocksDbFactory(final Class<ColumnFamilyType> columnFamilyTypeClass) {
+  private ZeebeRocksDbFactory(
+      final Class<ColumnFamilyType> columnFamilyTypeClass,
+      final RocksDbConfiguration<ColumnFamilyType> configuration) {
     this.columnFamilyTypeClass = columnFamilyTypeClass;
+    this.configuration = configuration;
   }
 
   public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
       ZeebeDbFactory<ColumnFamilyType> newFactory(
           final Class<ColumnFamilyType> columnFamilyTypeClass) {
-    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass);
+    return newFactory(columnFamilyTypeClass, new RocksDbConfiguration<>());
+  }
+
+  /**
+   * Returns a factory which creates databases as configured. The configuration is read whenever a
+   * database is created.
+   *
+   * @param columnFamilyTypeClass the enum class, which contains the column family names
+   * @param configuration configures the created databases
+   * @param <ColumnFamilyType> the type of the enum
+   * @return the created zeebe database factory
+   */
+  public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
+      ZeebeDbFactory<ColumnFamilyType> newFactory(
+          final Class<ColumnFamilyType> columnFamilyTypeClass,
+          final RocksDbConfiguration<ColumnFamilyType> configuration) {
+    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, configuration);
   }
 
   @Override
   public ZeebeTransactionDb<ColumnFamilyType> createDb(final File pathName) {
-    return open(
-        pathName,
-        Arrays.stream(columnFamilyTypeClass.getEnumConstants())
-            .map(c -> c.name().toLowerCase().getBytes())
-            .collect(Collectors.toList()));
+    return open(pathName);
   }
 
-  private ZeebeTransactionDb<ColumnFamilyType> open(
-      final File dbDirectory, final List<byte[]> columnFamilyNames) {
+  private ZeebeTransactionDb<ColumnFamilyType> open(final File dbDirectory) {
 
     final ZeebeTransactionDb<ColumnFamilyType> db;
     try {
       final List<AutoCloseable> closeables = new ArrayList<>();
+      final EnumMap<ColumnFamilyType, Integer> prefixLengths = new EnumMap<>(columnFamilyTypeClass);
 
       // column family options have to be closed as last
-      final ColumnFamilyOptions columnFamilyOptions = createColumnFamilyOptions();
-      closeables.add(columnFamilyOptions);
-
       final List<ColumnFamilyDescriptor> columnFamilyDescriptors =
-          createFamilyDescriptors(columnFamilyNames, columnFamilyOptions);
+          createFamilyDescriptors(closeables, prefixLengths);
       final DBOptions dbOptions =
           new DBOptions()
               .setCreateMissingColumnFamilies(true)
@@ -70,37 +85,73 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
               .setParanoidChecks(true);
       closeables.add(dbOptions);
 
-      db =
-          ZeebeTransactionDb.openTransactionalDb(
-              dbOptions,
-              dbDirectory.getAbsolutePath(),
-              columnFamilyDescriptors,
-              closeables,
-              columnFamilyTypeClass);
+      if (configuration.getTransactionMode() == TransactionMode.WRITE_BATCH) {
+        db =
+            ZeebeTransactionDb.openWriteBatchDb(
+                dbOptions,
+                dbDirectory.getAbsolutePath(),
+                columnFamilyDescriptors,
+                closeables,
+                columnFamilyTypeClass,
+                prefixLengths);
+      } else {
+        db =
+            ZeebeTransactionDb.openTransactionalDb(
+                dbOptions,
+                dbDirectory.getAbsolutePath(),
+                columnFamilyDescriptors,
+                closeables,
+                columnFamilyTypeClass,
+                prefixLengths);
+      }
 
     } catch (final RocksDBException e) {
       throw new RuntimeException("Unexpected error occurred trying to open the database", e);
     }
+
+    configuration
+        .getCacheSizes()
+        .forEach(
+            (columnFamily, size) ->
+                db.enableCache(columnFamily, size, configuration.getPartitionId()));
     return db;
   }
 
   private List<ColumnFamilyDescriptor> createFamilyDescriptors(
-      final List<byte[]> columnFamilyNames, final ColumnFamilyOptions columnFamilyOptions) {
-    final List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
+      final List<AutoCloseable> closeables,
+      final EnumMap<ColumnFamilyType, Integer> prefixLengths) {
+    final ColumnFamilyType[] columnFamilies = columnFamilyTypeClass.getEnumConstants();
+    final Function<ColumnFamilyType, ColumnFamilyProfile> profiles = configuration.getProfiles();
+    final boolean useDefaultOptionsOnly =
+        Arrays.stream(columnFamilies)
+            .allMatch(columnFamily -> profiles.apply(columnFamily) == ColumnFamilyProfile.DEFAULT);
+
+    final Cache blockCache;
+    if (useDefaultOptionsOnly) {
+      blockCache = null;
+    } else {
+      blockCache = new LRUCache(configuration.getBlockCacheSize());
+      closeables.add(blockCache);
+    }
 
-    if (columnFamilyNames != null && !columnFamilyNames.isEmpty()) {
-      for (final byte[] name : columnFamilyNames) {
-        final ColumnFamilyDescriptor columnFamilyDescriptor =
-            new ColumnFamilyDescriptor(name, columnFamilyOptions);
-        columnFamilyDescriptors.add(columnFamilyDescriptor);
-      }
+    // Options which are used on all column families without a dedicated profile
+    final ColumnFamilyOptions defaultOptions =
+        ColumnFamilyProfile.DEFAULT.createColumnFamilyOptions(blockCache, closeables);
+    final EnumMap<ColumnFamilyProfile, ColumnFamilyOptions> optionsByProfile =
+        new EnumMap<>(ColumnFamilyProfile.class);
+    optionsByProfile.put(ColumnFamilyProfile.DEFAULT, defaultOptions);
+
+    final List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
+    for (final ColumnFamilyType columnFamily : columnFamilies) {
+      final ColumnFamilyProfile profile = profiles.apply(columnFamily);
+      final ColumnFamilyOptions options =
+          optionsByProfile.computeIfAbsent(
+              profile, p -> p.createColumnFamilyOptions(blockCache, closeables));
+      prefixLengths.put(columnFamily, profile.getPrefixLength());
+
+      final byte[] name = columnFamily.name().toLowerCase().getBytes();
+      columnFamilyDescriptors.add(new ColumnFamilyDescriptor(name, options));
     }
     return columnFamilyDescriptors;
   }
-
-  private static ColumnFamilyOptions createColumnFamilyOptions() {
-    // Options which are used on all column families
-    return new ColumnFamilyOptions()
-        .setCompactionPriority(CompactionPriority.OldestSmallestSeqFirst);
-  }
 }
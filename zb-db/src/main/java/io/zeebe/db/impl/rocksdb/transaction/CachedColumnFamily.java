@@ -0,0 +1,192 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.DbContext;
+import io.zeebe.db.DbKey;
+import io.zeebe.db.DbValue;
+import io.zeebe.db.KeyValuePairVisitor;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Decorates a column family with a read-through {@link ColumnFamilyCache}. Point lookups are served
+ * from the cache, while iterations always go to the decorated column family.
+ *
+ * <p>The cache only contains committed values. A key which is written or deleted is removed from
+ * the cache and bypasses it until the transaction of the context ends, such that the cache never
+ * sees uncommitted values and nothing has to be undone on rollback.
+ *
+ * <p>Only lookups with the context of the column family use the cache. Writes with another context
+ * remove the key from the cache, but the cache is not aware of the transaction of the other
+ * context, so a column family with a cache should only be written with its own context.
+ */
+final class CachedColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
+    implements ColumnFamily<KeyType, ValueType> {
+
+  private final ColumnFamily<KeyType, ValueType> delegate;
+  private final DbContext context;
+  private final ValueType valueInstance;
+  private final ColumnFamilyCache cache;
+
+  private final ExpandableArrayBuffer keyBuffer = new ExpandableArrayBuffer();
+  private final UnsafeBuffer keyView = new UnsafeBuffer(0, 0);
+  private final Set<DirectBuffer> keysWrittenInTransaction = new HashSet<>();
+
+  CachedColumnFamily(
+      final ColumnFamily<KeyType, ValueType> delegate,
+      final DbContext context,
+      final ZeebeTransaction transaction,
+      final ValueType valueInstance,
+      final ColumnFamilyCache cache) {
+    this.delegate = delegate;
+    this.context = context;
+    this.valueInstance = valueInstance;
+    this.cache = cache;
+
+    transaction.addEndListener(keysWrittenInTransaction::clear);
+  }
+
+  @Override
+  public void put(final KeyType key, final ValueType value) {
+    put(context, key, value);
+  }
+
+  @Override
+  public void put(final DbContext context, final KeyType key, final ValueType value) {
+    invalidate(context, key);
+    delegate.put(context, key, value);
+  }
+
+  @Override
+  public ValueType get(final KeyType key) {
+    return get(context, key, valueInstance);
+  }
+
+  @Override
+  public ValueType get(final DbContext context, final KeyType key, final ValueType value) {
+    if (context != this.context) {
+      return delegate.get(context, key, value);
+    }
+
+    final int keyLength = writeKey(key);
+    if (isWrittenInTransaction(keyLength)) {
+      return delegate.get(context, key, value);
+    }
+
+    final DirectBuffer cachedValue = cache.get(keyBuffer.byteArray(), keyLength);
+    if (cachedValue != null) {
+      value.wrap(cachedValue, 0, cachedValue.capacity());
+      return value;
+    }
+
+    final ValueType storedValue = delegate.get(context, key, value);
+    if (storedValue != null) {
+      cache.put(keyBuffer.byteArray(), keyLength, storedValue);
+    }
+    return storedValue;
+  }
+
+  @Override
+  public void forEach(final Consumer<ValueType> consumer) {
+    delegate.forEach(consumer);
+  }
+
+  @Override
+  public void forEach(final BiConsumer<KeyType, ValueType> consumer) {
+    delegate.forEach(consumer);
+  }
+
+  @Override
+  public void whileTrue(final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    delegate.whileTrue(visitor);
+  }
+
+  @Override
+  public void whileTrue(
+      final DbContext context,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor,
+      final KeyType key,
+      final ValueType value) {
+    delegate.whileTrue(context, visitor, key, value);
+  }
+
+  @Override
+  public void whileEqualPrefix(
+      final DbKey keyPrefix, final BiConsumer<KeyType, ValueType> visitor) {
+    delegate.whileEqualPrefix(keyPrefix, visitor);
+  }
+
+  @Override
+  public void whileEqualPrefix(
+      final DbKey keyPrefix, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    delegate.whileEqualPrefix(keyPrefix, visitor);
+  }
+
+  @Override
+  public void delete(final KeyType key) {
+    delete(context, key);
+  }
+
+  @Override
+  public void delete(final DbContext context, final KeyType key) {
+    invalidate(context, key);
+    delegate.delete(context, key);
+  }
+
+  @Override
+  public boolean exists(final KeyType key) {
+    final int keyLength = writeKey(key);
+    if (!isWrittenInTransaction(keyLength) && cache.get(keyBuffer.byteArray(), keyLength) != null) {
+      return true;
+    }
+
+    return delegate.exists(key);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return delegate.isEmpty();
+  }
+
+  @Override
+  public boolean isEmpty(final DbContext context) {
+    return delegate.isEmpty(context);
+  }
+
+  private void invalidate(final DbContext context, final KeyType key) {
+    final int keyLength = writeKey(key);
+    cache.invalidate(keyBuffer.byteArray(), keyLength);
+
+    if (context == this.context && !isWrittenInTransaction(keyLength)) {
+      final byte[] keyCopy = new byte[keyLength];
+      keyBuffer.getBytes(0, keyCopy);
+      keysWrittenInTransaction.add(new UnsafeBuffer(keyCopy));
+    }
+  }
+
+  private boolean isWrittenInTransaction(final int keyLength) {
+    if (keysWrittenInTransaction.isEmpty()) {
+      return false;
+    }
+
+    keyView.wrap(keyBuffer, 0, keyLength);
+    return keysWrittenInTransaction.contains(keyView);
+  }
+
+  private int writeKey(final KeyType key) {
+    key.write(keyBuffer, 0);
+    return key.getLength();
+  }
+}
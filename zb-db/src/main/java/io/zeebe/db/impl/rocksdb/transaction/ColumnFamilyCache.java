@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import io.zeebe.db.DbValue;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A bounded least-recently-used cache of serialized values, keyed on the serialized keys. The
+ * values are stored on the heap, in one array per entry, such that evicted entries are freed by the
+ * garbage collector like any other short-lived object. An entry array is never overwritten: a value
+ * which was wrapped around a cached buffer stays valid, even if the entry is evicted or replaced
+ * afterwards.
+ *
+ * <p>The size of the cache is bounded by the summed length of the keys and values.
+ */
+final class ColumnFamilyCache {
+
+  private final LinkedHashMap<DirectBuffer, DirectBuffer> entries =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private final UnsafeBuffer lookupKey = new UnsafeBuffer(0, 0);
+  private final long maxSize;
+  private final ColumnFamilyCacheMetrics metrics;
+  private long size;
+
+  ColumnFamilyCache(final long maxSize, final ColumnFamilyCacheMetrics metrics) {
+    this.maxSize = maxSize;
+    this.metrics = metrics;
+  }
+
+  /**
+   * @return the cached value of the given key, or {@code null} if the key is not cached; the
+   *     returned buffer must not be modified
+   */
+  DirectBuffer get(final byte[] key, final int keyLength) {
+    lookupKey.wrap(key, 0, keyLength);
+    final DirectBuffer value = entries.get(lookupKey);
+
+    if (value != null) {
+      metrics.hit();
+    } else {
+      metrics.miss();
+    }
+
+    return value;
+  }
+
+  /**
+   * Caches the serialized form of the given value. Values which are larger than the cache are not
+   * cached at all.
+   */
+  void put(final byte[] key, final int keyLength, final DbValue value) {
+    final int valueLength = value.getLength();
+    final long entrySize = (long) keyLength + valueLength;
+    if (entrySize > maxSize) {
+      return;
+    }
+
+    invalidate(key, keyLength);
+    evict(entrySize);
+
+    final byte[] keyCopy = new byte[keyLength];
+    System.arraycopy(key, 0, keyCopy, 0, keyLength);
+
+    final UnsafeBuffer valueBuffer = new UnsafeBuffer(new byte[valueLength]);
+    value.write(valueBuffer, 0);
+
+    entries.put(new UnsafeBuffer(keyCopy), valueBuffer);
+    size += entrySize;
+  }
+
+  void invalidate(final byte[] key, final int keyLength) {
+    lookupKey.wrap(key, 0, keyLength);
+    final DirectBuffer value = entries.remove(lookupKey);
+
+    if (value != null) {
+      size -= keyLength + value.capacity();
+    }
+  }
+
+  void clear() {
+    entries.clear();
+    size = 0;
+  }
+
+  long size() {
+    return size;
+  }
+
+  private void evict(final long requiredSize) {
+    final Iterator<Entry<DirectBuffer, DirectBuffer>> iterator = entries.entrySet().iterator();
+    while (size + requiredSize > maxSize && iterator.hasNext()) {
+      final Entry<DirectBuffer, DirectBuffer> eldest = iterator.next();
+      size -= eldest.getKey().capacity() + eldest.getValue().capacity();
+      iterator.remove();
+      metrics.evicted();
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import io.prometheus.client.Counter;
+
+final class ColumnFamilyCacheMetrics {
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("db_cache_lookups_total")
+          .help("Number of lookups in the column family caches, by result (hit or miss)")
+          .labelNames("partition", "columnFamily", "result")
+          .register();
+
+  private static final Counter EVICTIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("db_cache_evictions_total")
+          .help("Number of values which were evicted from the column family caches")
+          .labelNames("partition", "columnFamily")
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Counter.Child evictions;
+
+  ColumnFamilyCacheMetrics(final int partitionId, final String columnFamilyName) {
+    final String partitionLabel = String.valueOf(partitionId);
+    hits = LOOKUPS.labels(partitionLabel, columnFamilyName, "hit");
+    misses = LOOKUPS.labels(partitionLabel, columnFamilyName, "miss");
+    evictions = EVICTIONS.labels(partitionLabel, columnFamilyName);
+  }
+
+  void hit() {
+    hits.inc();
+  }
+
+  void miss() {
+    misses.inc();
+  }
+
+  void evicted() {
+    evictions.inc();
+  }
+}
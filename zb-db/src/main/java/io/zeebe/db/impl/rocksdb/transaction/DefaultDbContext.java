@@ -49,6 +49,10 @@ public final class DefaultDbContext implements DbContext {
     prefixKeyBuffers.add(new ExpandableArrayBuffer());
   }
 
+  ZeebeTransaction getTransaction() {
+    return transaction;
+  }
+
   @Override
   public void writeKey(final DbKey key) {
     key.write(keyBuffer, 0);
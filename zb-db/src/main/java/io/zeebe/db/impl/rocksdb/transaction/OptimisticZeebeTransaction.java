@@ -0,0 +1,81 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.Transaction;
+
+/** A transaction which is backed by a transaction of an optimistic transaction database. */
+public class OptimisticZeebeTransaction extends ZeebeTransaction {
+
+  private final Transaction transaction;
+  private final long nativeHandle;
+
+  public OptimisticZeebeTransaction(final Transaction transaction) {
+    this.transaction = transaction;
+    try {
+      nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
+    } catch (final Exception ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+
+  @Override
+  protected void putInternal(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength)
+      throws Exception {
+    RocksDbInternal.putWithHandle.invoke(
+        transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle, false);
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength)
+      throws Exception {
+    return (byte[])
+        RocksDbInternal.getWithHandle.invoke(
+            transaction, nativeHandle, readOptionsHandle, key, keyLength, columnFamilyHandle);
+  }
+
+  @Override
+  protected void deleteInternal(
+      final long columnFamilyHandle, final byte[] key, final int keyLength) throws Exception {
+    RocksDbInternal.removeWithHandle.invoke(
+        transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    return transaction.getIterator(options, handle);
+  }
+
+  @Override
+  protected void commitWrites() throws RocksDBException {
+    transaction.commit();
+  }
+
+  @Override
+  protected void rollbackWrites() throws RocksDBException {
+    transaction.rollback();
+  }
+
+  @Override
+  protected void closeResources() {
+    transaction.close();
+  }
+}
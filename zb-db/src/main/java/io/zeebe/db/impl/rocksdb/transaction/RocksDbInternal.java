@@ -27,6 +27,7 @@ import org.rocksdb.RocksObject;
 import org.rocksdb.Status;
 import org.rocksdb.Status.Code;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatchWithIndex;
 
 public final class RocksDbInternal {
   static final EnumSet<Code> RECOVERABLE_ERROR_CODES =
@@ -40,6 +41,10 @@ public final class RocksDbInternal {
 
   static Method seekMethod;
 
+  static Method batchPutWithHandle;
+  static Method batchGetWithHandle;
+  static Method batchRemoveWithHandle;
+
   static {
     RocksDB.loadLibrary();
 
@@ -58,6 +63,10 @@ public final class RocksDbInternal {
     removeWithHandle();
 
     seekWithHandle();
+
+    batchPutWithHandle();
+    batchGetWithHandle();
+    batchRemoveWithHandle();
   }
 
   private static void nativeHandles() throws NoSuchFieldException {
@@ -109,6 +118,44 @@ public final class RocksDbInternal {
     seekMethod.setAccessible(true);
   }
 
+  //    final native void put(final long handle, final byte[] key,
+  //      final int keyLength, final byte[] value, final int valueLength,
+  //      final long columnFamilyHandle)
+
+  private static void batchPutWithHandle() throws NoSuchMethodException {
+    batchPutWithHandle =
+        WriteBatchWithIndex.class.getDeclaredMethod(
+            "put", Long.TYPE, byte[].class, Integer.TYPE, byte[].class, Integer.TYPE, Long.TYPE);
+    batchPutWithHandle.setAccessible(true);
+  }
+
+  //    private native byte[] getFromBatchAndDB(final long handle, final long dbHandle,
+  //      final long readOptionsHandle, final byte[] key, final int keyLength,
+  //      final long columnFamilyHandle)
+
+  private static void batchGetWithHandle() throws NoSuchMethodException {
+    batchGetWithHandle =
+        WriteBatchWithIndex.class.getDeclaredMethod(
+            "getFromBatchAndDB",
+            Long.TYPE,
+            Long.TYPE,
+            Long.TYPE,
+            byte[].class,
+            Integer.TYPE,
+            Long.TYPE);
+    batchGetWithHandle.setAccessible(true);
+  }
+
+  //    final native void delete(final long handle, final byte[] key,
+  //      final int keyLength, final long columnFamilyHandle)
+
+  private static void batchRemoveWithHandle() throws NoSuchMethodException {
+    batchRemoveWithHandle =
+        WriteBatchWithIndex.class.getDeclaredMethod(
+            "delete", Long.TYPE, byte[].class, Integer.TYPE, Long.TYPE);
+    batchRemoveWithHandle.setAccessible(true);
+  }
+
   public static void seek(
       final RocksIterator iterator,
       final long nativeHandle,
@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
+
+/**
+ * A transaction which collects its writes in an indexed write batch and writes the batch atomically
+ * to the database on commit. Reads see the writes of the batch on top of the database, but unlike
+ * an optimistic transaction no conflicts with other writers are tracked or detected. This is only
+ * safe as long as every key is written by a single writer, which is the case for the stream
+ * processor of a partition.
+ */
+public class WriteBatchZeebeTransaction extends ZeebeTransaction {
+
+  private final RocksDB db;
+  private final long dbHandle;
+  private final WriteOptions writeOptions;
+  private final WriteBatchWithIndex batch;
+  private final long batchHandle;
+
+  public WriteBatchZeebeTransaction(final RocksDB db, final WriteOptions writeOptions) {
+    this.db = db;
+    this.writeOptions = writeOptions;
+    // overwriting keys in the index is required to iterate over the batch and the database
+    batch = new WriteBatchWithIndex(true);
+    try {
+      dbHandle = RocksDbInternal.nativeHandle.getLong(db);
+      batchHandle = RocksDbInternal.nativeHandle.getLong(batch);
+    } catch (final Exception ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+
+  @Override
+  protected void putInternal(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength)
+      throws Exception {
+    RocksDbInternal.batchPutWithHandle.invoke(
+        batch, batchHandle, key, keyLength, value, valueLength, columnFamilyHandle);
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyLength)
+      throws Exception {
+    return (byte[])
+        RocksDbInternal.batchGetWithHandle.invoke(
+            batch, batchHandle, dbHandle, readOptionsHandle, key, keyLength, columnFamilyHandle);
+  }
+
+  @Override
+  protected void deleteInternal(
+      final long columnFamilyHandle, final byte[] key, final int keyLength) throws Exception {
+    RocksDbInternal.batchRemoveWithHandle.invoke(
+        batch, batchHandle, key, keyLength, columnFamilyHandle);
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    // the returned iterator takes over the base iterator and closes it together with itself
+    return batch.newIteratorWithBase(handle, db.newIterator(handle, options));
+  }
+
+  @Override
+  protected void commitWrites() throws RocksDBException {
+    if (batch.count() > 0) {
+      db.write(writeOptions, batch);
+      batch.clear();
+    }
+  }
+
+  @Override
+  protected void rollbackWrites() {
+    batch.clear();
+  }
+
+  @Override
+  protected void closeResources() {
+    batch.close();
+  }
+}
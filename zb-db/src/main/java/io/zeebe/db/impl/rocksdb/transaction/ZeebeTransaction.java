@@ -12,27 +12,31 @@ import static io.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExce
 import io.zeebe.db.TransactionOperation;
 import io.zeebe.db.ZeebeDbException;
 import io.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
-import org.rocksdb.Transaction;
 
-public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
+/**
+ * Base of the transactions which are used by {@link ZeebeTransactionDb}. Implementations write
+ * either into an optimistic RocksDB transaction or into a write batch, but share the handling of
+ * the transaction state, errors and reusable iterators.
+ */
+public abstract class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
-  private final Transaction transaction;
-  private final long nativeHandle;
+  private final Map<ReadOptions, Long2ObjectHashMap<ReusableIterator>> reusableIterators =
+      new IdentityHashMap<>();
+  private final List<Runnable> endListeners = new ArrayList<>();
   private boolean inCurrentTransaction;
 
-  public ZeebeTransaction(final Transaction transaction) {
-    this.transaction = transaction;
-    try {
-      nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
-    } catch (final Exception ex) {
-      throw new RuntimeException(ex);
-    }
-  }
-
   public void put(
       final long columnFamilyHandle,
       final byte[] key,
@@ -40,29 +44,114 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] value,
       final int valueLength)
       throws Exception {
-    RocksDbInternal.putWithHandle.invoke(
-        transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle, false);
+    invalidateIterators();
+    putInternal(columnFamilyHandle, key, keyLength, value, valueLength);
   }
 
-  public byte[] get(
+  public abstract byte[] get(
       final long columnFamilyHandle,
       final long readOptionsHandle,
       final byte[] key,
       final int keyLength)
-      throws Exception {
-    return (byte[])
-        RocksDbInternal.getWithHandle.invoke(
-            transaction, nativeHandle, readOptionsHandle, key, keyLength, columnFamilyHandle);
-  }
+      throws Exception;
 
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
-    RocksDbInternal.removeWithHandle.invoke(
-        transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
+    invalidateIterators();
+    deleteInternal(columnFamilyHandle, key, keyLength);
+  }
+
+  public abstract RocksIterator newIterator(
+      final ReadOptions options, final ColumnFamilyHandle handle);
+
+  /**
+   * Runs the given consumer with an iterator over the given column family. The iterator is kept
+   * open until the next write, commit or rollback of the transaction, such that further scans of
+   * the column family in the same transaction only have to seek instead of creating a new iterator.
+   * A write invalidates the iterators of the transaction, so they are not reused afterwards. A scan
+   * which is nested into another scan of the same column family gets its own iterator, which is
+   * closed right after the scan.
+   *
+   * @param columnFamilyHandle the native handle of the column family
+   * @param options the read options the iterator is created with
+   * @param iteratorFactory creates a new iterator over the column family
+   * @param consumer uses the iterator; it must not keep a reference to it
+   */
+  void withIterator(
+      final long columnFamilyHandle,
+      final ReadOptions options,
+      final Supplier<RocksIterator> iteratorFactory,
+      final Consumer<RocksIterator> consumer) {
+    final Long2ObjectHashMap<ReusableIterator> iterators =
+        reusableIterators.computeIfAbsent(options, o -> new Long2ObjectHashMap<>());
+
+    ReusableIterator reusableIterator = iterators.get(columnFamilyHandle);
+    if (reusableIterator == null) {
+      reusableIterator = new ReusableIterator(iteratorFactory.get());
+      iterators.put(columnFamilyHandle, reusableIterator);
+    } else if (reusableIterator.inUse) {
+      try (final RocksIterator iterator = iteratorFactory.get()) {
+        consumer.accept(iterator);
+      }
+      return;
+    }
+
+    reusableIterator.inUse = true;
+    try {
+      consumer.accept(reusableIterator.iterator);
+    } finally {
+      reusableIterator.inUse = false;
+      if (reusableIterator.invalidated) {
+        iterators.remove(columnFamilyHandle);
+        reusableIterator.iterator.close();
+      }
+    }
   }
 
-  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
-    return transaction.getIterator(options, handle);
+  /**
+   * Drops the reusable iterators, since writes of the transaction invalidate its existing
+   * iterators. An iterator which is currently used by a scan is dropped when the scan is done.
+   */
+  private void invalidateIterators() {
+    for (final Long2ObjectHashMap<ReusableIterator> iterators : reusableIterators.values()) {
+      if (iterators.isEmpty()) {
+        continue;
+      }
+
+      final Iterator<ReusableIterator> values = iterators.values().iterator();
+      while (values.hasNext()) {
+        final ReusableIterator reusableIterator = values.next();
+        if (reusableIterator.inUse) {
+          reusableIterator.invalidated = true;
+        } else {
+          values.remove();
+          reusableIterator.iterator.close();
+        }
+      }
+    }
+  }
+
+  private void closeIterators() {
+    for (final Long2ObjectHashMap<ReusableIterator> iterators : reusableIterators.values()) {
+      if (!iterators.isEmpty()) {
+        iterators.values().forEach(reusableIterator -> reusableIterator.iterator.close());
+        iterators.clear();
+      }
+    }
+  }
+
+  /**
+   * Registers a listener which is called whenever the transaction is committed or rolled back,
+   * after the changes are written or discarded.
+   */
+  void addEndListener(final Runnable listener) {
+    endListeners.add(listener);
+  }
+
+  private void notifyEndListeners() {
+    for (int i = 0; i < endListeners.size(); i++) {
+      endListeners.get(i).run();
+    }
   }
 
   void resetTransaction() {
@@ -114,15 +203,48 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.commit();
+    // iterators must not outlive the write batch of the transaction
+    closeIterators();
+    commitWrites();
+    notifyEndListeners();
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.rollback();
+    closeIterators();
+    rollbackWrites();
+    notifyEndListeners();
   }
 
+  @Override
   public void close() {
-    transaction.close();
+    closeIterators();
+    closeResources();
+  }
+
+  protected abstract void putInternal(
+      long columnFamilyHandle, byte[] key, int keyLength, byte[] value, int valueLength)
+      throws Exception;
+
+  protected abstract void deleteInternal(long columnFamilyHandle, byte[] key, int keyLength)
+      throws Exception;
+
+  /** Writes all changes of the transaction atomically to the database. */
+  protected abstract void commitWrites() throws RocksDBException;
+
+  /** Discards all changes of the transaction. */
+  protected abstract void rollbackWrites() throws RocksDBException;
+
+  /** Releases the native resources of the transaction. */
+  protected abstract void closeResources();
+
+  private static final class ReusableIterator {
+    private final RocksIterator iterator;
+    private boolean inUse;
+    private boolean invalidated;
+
+    private ReusableIterator(final RocksIterator iterator) {
+      this.iterator = iterator;
+    }
   }
 }
@@ -21,11 +21,14 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
@@ -33,10 +36,10 @@ import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.DBOptions;
 import org.rocksdb.OptimisticTransactionDB;
 import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.RocksObject;
-import org.rocksdb.Transaction;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -46,26 +49,38 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
-  private final OptimisticTransactionDB optimisticTransactionDB;
+  private final RocksDB db;
+  private final TransactionFactory transactionFactory;
   private final List<AutoCloseable> closables;
   private final EnumMap<ColumnFamilyNames, Long> columnFamilyMap;
   private final Long2ObjectHashMap<ColumnFamilyHandle> handelToEnumMap;
+  private final Long2LongHashMap prefixLengths;
   private final ReadOptions prefixReadOptions;
+  private final ReadOptions totalOrderReadOptions;
   private final ReadOptions defaultReadOptions;
   private final WriteOptions defaultWriteOptions;
+  private final Map<ColumnFamilyNames, Long> cacheSizes = new HashMap<>();
+  private int cachePartitionId;
 
   protected ZeebeTransactionDb(
-      final OptimisticTransactionDB optimisticTransactionDB,
+      final RocksDB db,
+      final TransactionFactory transactionFactory,
       final EnumMap<ColumnFamilyNames, Long> columnFamilyMap,
       final Long2ObjectHashMap<ColumnFamilyHandle> handelToEnumMap,
+      final Long2LongHashMap prefixLengths,
       final List<AutoCloseable> closables) {
-    this.optimisticTransactionDB = optimisticTransactionDB;
+    this.db = db;
+    this.transactionFactory = transactionFactory;
     this.columnFamilyMap = columnFamilyMap;
     this.handelToEnumMap = handelToEnumMap;
+    this.prefixLengths = prefixLengths;
     this.closables = closables;
 
     prefixReadOptions = new ReadOptions().setPrefixSameAsStart(true).setTotalOrderSeek(false);
     closables.add(prefixReadOptions);
+    // iterations which are not bound to a prefix must not be filtered by prefix bloom filters
+    totalOrderReadOptions = new ReadOptions().setTotalOrderSeek(true);
+    closables.add(totalOrderReadOptions);
     defaultReadOptions = new ReadOptions();
     closables.add(defaultReadOptions);
     defaultWriteOptions = new WriteOptions();
@@ -80,24 +95,101 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
           final List<AutoCloseable> closables,
           final Class<ColumnFamilyNames> columnFamilyTypeClass)
           throws RocksDBException {
-    final EnumMap<ColumnFamilyNames, Long> columnFamilyMap = new EnumMap<>(columnFamilyTypeClass);
+    return openTransactionalDb(
+        options,
+        path,
+        columnFamilyDescriptors,
+        closables,
+        columnFamilyTypeClass,
+        new EnumMap<>(columnFamilyTypeClass));
+  }
 
+  /**
+   * Opens the database, where the given prefix lengths are the lengths of the fixed prefix
+   * extractors which are configured on the column families. A column family without a prefix
+   * extractor has no entry or a length of {@code 0}.
+   */
+  public static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
+      ZeebeTransactionDb<ColumnFamilyNames> openTransactionalDb(
+          final DBOptions options,
+          final String path,
+          final List<ColumnFamilyDescriptor> columnFamilyDescriptors,
+          final List<AutoCloseable> closables,
+          final Class<ColumnFamilyNames> columnFamilyTypeClass,
+          final EnumMap<ColumnFamilyNames, Integer> prefixLengths)
+          throws RocksDBException {
     final List<ColumnFamilyHandle> handles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
         OptimisticTransactionDB.open(options, path, columnFamilyDescriptors, handles);
     closables.add(optimisticTransactionDB);
 
+    return newDb(
+        optimisticTransactionDB,
+        writeOptions ->
+            new OptimisticZeebeTransaction(optimisticTransactionDB.beginTransaction(writeOptions)),
+        handles,
+        closables,
+        columnFamilyTypeClass,
+        prefixLengths);
+  }
+
+  /**
+   * Opens a plain database, where every transaction collects its writes in a write batch, which is
+   * written atomically on commit. Compared to {@link #openTransactionalDb} this avoids the overhead
+   * of tracking conflicts between transactions, so it must only be used if no two transactions
+   * write the same keys concurrently.
+   *
+   * @see #openTransactionalDb(DBOptions, String, List, List, Class, EnumMap)
+   */
+  public static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
+      ZeebeTransactionDb<ColumnFamilyNames> openWriteBatchDb(
+          final DBOptions options,
+          final String path,
+          final List<ColumnFamilyDescriptor> columnFamilyDescriptors,
+          final List<AutoCloseable> closables,
+          final Class<ColumnFamilyNames> columnFamilyTypeClass,
+          final EnumMap<ColumnFamilyNames, Integer> prefixLengths)
+          throws RocksDBException {
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    final RocksDB db = RocksDB.open(options, path, columnFamilyDescriptors, handles);
+    closables.add(db);
+
+    return newDb(
+        db,
+        writeOptions -> new WriteBatchZeebeTransaction(db, writeOptions),
+        handles,
+        closables,
+        columnFamilyTypeClass,
+        prefixLengths);
+  }
+
+  private static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
+      ZeebeTransactionDb<ColumnFamilyNames> newDb(
+          final RocksDB db,
+          final TransactionFactory transactionFactory,
+          final List<ColumnFamilyHandle> handles,
+          final List<AutoCloseable> closables,
+          final Class<ColumnFamilyNames> columnFamilyTypeClass,
+          final EnumMap<ColumnFamilyNames, Integer> prefixLengths) {
+    final EnumMap<ColumnFamilyNames, Long> columnFamilyMap = new EnumMap<>(columnFamilyTypeClass);
+
     final ColumnFamilyNames[] enumConstants = columnFamilyTypeClass.getEnumConstants();
     final Long2ObjectHashMap<ColumnFamilyHandle> handleToEnumMap = new Long2ObjectHashMap<>();
+    final Long2LongHashMap prefixLengthByHandle = new Long2LongHashMap(0);
     for (int i = 0; i < handles.size(); i++) {
       final ColumnFamilyHandle columnFamilyHandle = handles.get(i);
       closables.add(columnFamilyHandle);
       columnFamilyMap.put(enumConstants[i], getNativeHandle(columnFamilyHandle));
       handleToEnumMap.put(getNativeHandle(handles.get(i)), handles.get(i));
+
+      final Integer prefixLength = prefixLengths.get(enumConstants[i]);
+      if (prefixLength != null && prefixLength > 0) {
+        prefixLengthByHandle.put(getNativeHandle(columnFamilyHandle), prefixLength);
+      }
     }
 
     return new ZeebeTransactionDb<>(
-        optimisticTransactionDB, columnFamilyMap, handleToEnumMap, closables);
+        db, transactionFactory, columnFamilyMap, handleToEnumMap, prefixLengthByHandle, closables);
   }
 
   private static long getNativeHandle(final RocksObject object) {
@@ -113,6 +205,24 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return columnFamilyMap.get(columnFamily);
   }
 
+  /**
+   * Enables a read-through cache for point lookups in the given column family. Only column family
+   * instances which are created afterwards use the cache; every instance has its own cache.
+   *
+   * @param columnFamily the column family to cache
+   * @param maxSize the maximum size of the cache in bytes, i.e. of the cached keys and values
+   * @param partitionId the partition of the database, which labels the metrics of the cache
+   */
+  public void enableCache(
+      final ColumnFamilyNames columnFamily, final long maxSize, final int partitionId) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected cache size to be positive, but was %d", maxSize));
+    }
+    cacheSizes.put(columnFamily, maxSize);
+    cachePartitionId = partitionId;
+  }
+
   @Override
   public <KeyType extends DbKey, ValueType extends DbValue>
       ColumnFamily<KeyType, ValueType> createColumnFamily(
@@ -120,12 +230,29 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
           final DbContext context,
           final KeyType keyInstance,
           final ValueType valueInstance) {
-    return new TransactionalColumnFamily<>(this, columnFamily, context, keyInstance, valueInstance);
+    final TransactionalColumnFamily<ColumnFamilyNames, KeyType, ValueType>
+        transactionalColumnFamily =
+            new TransactionalColumnFamily<>(
+                this, columnFamily, context, keyInstance, valueInstance);
+
+    final Long cacheSize = cacheSizes.get(columnFamily);
+    if (cacheSize == null || !(context instanceof DefaultDbContext)) {
+      return transactionalColumnFamily;
+    }
+
+    final ColumnFamilyCacheMetrics metrics =
+        new ColumnFamilyCacheMetrics(cachePartitionId, columnFamily.name().toLowerCase());
+    return new CachedColumnFamily<>(
+        transactionalColumnFamily,
+        context,
+        ((DefaultDbContext) context).getTransaction(),
+        valueInstance,
+        new ColumnFamilyCache(cacheSize, metrics));
   }
 
   @Override
   public void createSnapshot(final File snapshotDir) {
-    try (final Checkpoint checkpoint = Checkpoint.create(optimisticTransactionDB)) {
+    try (final Checkpoint checkpoint = Checkpoint.create(db)) {
       try {
         checkpoint.createCheckpoint(snapshotDir.getAbsolutePath());
       } catch (final RocksDBException rocksException) {
@@ -137,8 +264,8 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
 
   @Override
   public DbContext createContext() {
-    final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction);
+    final ZeebeTransaction zeebeTransaction =
+        transactionFactory.newTransaction(defaultWriteOptions);
     closables.add(zeebeTransaction);
     return new DefaultDbContext(zeebeTransaction);
   }
@@ -231,6 +358,19 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return context.newIterator(options, handle);
   }
 
+  private void withIterator(
+      final long columnFamilyHandle,
+      final DbContext context,
+      final ZeebeTransaction transaction,
+      final ReadOptions options,
+      final Consumer<RocksIterator> consumer) {
+    transaction.withIterator(
+        columnFamilyHandle,
+        options,
+        () -> newIterator(columnFamilyHandle, context, options),
+        consumer);
+  }
+
   public <ValueType extends DbValue> void foreach(
       final long columnFamilyHandle,
       final DbContext context,
@@ -267,16 +407,19 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
       final BiConsumer<DirectBuffer, DirectBuffer> keyValuePairConsumer) {
     ensureInOpenTransaction(
         context,
-        transaction -> {
-          try (final RocksIterator iterator =
-              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
-            for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
-              context.wrapKeyView(iterator.key());
-              context.wrapValueView(iterator.value());
-              keyValuePairConsumer.accept(context.getKeyView(), context.getValueView());
-            }
-          }
-        });
+        transaction ->
+            withIterator(
+                columnFamilyHandle,
+                context,
+                transaction,
+                totalOrderReadOptions,
+                iterator -> {
+                  for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+                    context.wrapKeyView(iterator.key());
+                    context.wrapValueView(iterator.value());
+                    keyValuePairConsumer.accept(context.getKeyView(), context.getValueView());
+                  }
+                }));
   }
 
   public <KeyType extends DbKey, ValueType extends DbValue> void whileTrue(
@@ -287,15 +430,20 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
       final KeyValuePairVisitor<KeyType, ValueType> visitor) {
     ensureInOpenTransaction(
         context,
-        transaction -> {
-          try (final RocksIterator iterator =
-              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
-            boolean shouldVisitNext = true;
-            for (iterator.seekToFirst(); iterator.isValid() && shouldVisitNext; iterator.next()) {
-              shouldVisitNext = visit(context, keyInstance, valueInstance, visitor, iterator);
-            }
-          }
-        });
+        transaction ->
+            withIterator(
+                columnFamilyHandle,
+                context,
+                transaction,
+                totalOrderReadOptions,
+                iterator -> {
+                  boolean shouldVisitNext = true;
+                  for (iterator.seekToFirst();
+                      iterator.isValid() && shouldVisitNext;
+                      iterator.next()) {
+                    shouldVisitNext = visit(context, keyInstance, valueInstance, visitor, iterator);
+                  }
+                }));
   }
 
   protected <KeyType extends DbKey, ValueType extends DbValue> void whileEqualPrefix(
@@ -338,38 +486,55 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
             ensureInOpenTransaction(
                 context,
                 transaction -> {
-                  try (final RocksIterator iterator =
-                      newIterator(columnFamilyHandle, context, prefixReadOptions)) {
-                    prefix.write(prefixKeyBuffer, 0);
-                    final int prefixLength = prefix.getLength();
-
-                    boolean shouldVisitNext = true;
-
-                    for (RocksDbInternal.seek(
-                            iterator,
-                            getNativeHandle(iterator),
-                            prefixKeyBuffer.byteArray(),
-                            prefixLength);
-                        iterator.isValid() && shouldVisitNext;
-                        iterator.next()) {
-                      final byte[] keyBytes = iterator.key();
-                      if (!startsWith(
-                          prefixKeyBuffer.byteArray(),
-                          0,
-                          prefix.getLength(),
-                          keyBytes,
-                          0,
-                          keyBytes.length)) {
-                        break;
-                      }
-
-                      shouldVisitNext =
-                          visit(context, keyInstance, valueInstance, visitor, iterator);
-                    }
-                  }
+                  final int prefixLength = prefix.getLength();
+                  withIterator(
+                      columnFamilyHandle,
+                      context,
+                      transaction,
+                      getPrefixReadOptions(columnFamilyHandle, prefixLength),
+                      iterator -> {
+                        prefix.write(prefixKeyBuffer, 0);
+
+                        boolean shouldVisitNext = true;
+
+                        for (RocksDbInternal.seek(
+                                iterator,
+                                getNativeHandle(iterator),
+                                prefixKeyBuffer.byteArray(),
+                                prefixLength);
+                            iterator.isValid() && shouldVisitNext;
+                            iterator.next()) {
+                          final byte[] keyBytes = iterator.key();
+                          if (!startsWith(
+                              prefixKeyBuffer.byteArray(),
+                              0,
+                              prefixLength,
+                              keyBytes,
+                              0,
+                              keyBytes.length)) {
+                            break;
+                          }
+
+                          shouldVisitNext =
+                              visit(context, keyInstance, valueInstance, visitor, iterator);
+                        }
+                      });
                 }));
   }
 
+  /**
+   * Returns the read options for an iteration over the given prefix. The iteration can only be
+   * bound to the prefix if the column family has a prefix extractor which covers at most the given
+   * prefix, otherwise keys which share the prefix could be skipped.
+   */
+  private ReadOptions getPrefixReadOptions(final long columnFamilyHandle, final int prefixLength) {
+    final long extractorLength = prefixLengths.get(columnFamilyHandle);
+    if (extractorLength > 0 && prefixLength < extractorLength) {
+      return totalOrderReadOptions;
+    }
+    return prefixReadOptions;
+  }
+
   private <KeyType extends DbKey, ValueType extends DbValue> boolean visit(
       final DbContext context,
       final KeyType keyInstance,
@@ -391,14 +556,17 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     final AtomicBoolean isEmpty = new AtomicBoolean(false);
     ensureInOpenTransaction(
         context,
-        transaction -> {
-          try (final RocksIterator iterator =
-              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
-            iterator.seekToFirst();
-            final boolean hasEntry = iterator.isValid();
-            isEmpty.set(!hasEntry);
-          }
-        });
+        transaction ->
+            withIterator(
+                columnFamilyHandle,
+                context,
+                transaction,
+                totalOrderReadOptions,
+                iterator -> {
+                  iterator.seekToFirst();
+                  final boolean hasEntry = iterator.isValid();
+                  isEmpty.set(!hasEntry);
+                }));
     return isEmpty.get();
   }
 
@@ -423,6 +591,11 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         });
   }
 
+  @FunctionalInterface
+  interface TransactionFactory {
+    ZeebeTransaction newTransaction(WriteOptions writeOptions);
+  }
+
   @FunctionalInterface
   interface TransactionConsumer {
     void run(ZeebeTransaction transaction) throws Exception;
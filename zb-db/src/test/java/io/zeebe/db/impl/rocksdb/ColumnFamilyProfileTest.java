@@ -0,0 +1,195 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.DbCompositeKey;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DbString;
+import io.zeebe.db.impl.DefaultColumnFamily;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.LRUCache;
+
+@RunWith(Parameterized.class)
+public final class ColumnFamilyProfileTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Parameter public ColumnFamilyProfile profile;
+
+  private final DbString firstKey = new DbString();
+  private final DbLong secondKey = new DbLong();
+  private final DbCompositeKey<DbString, DbLong> compositeKey =
+      new DbCompositeKey<>(firstKey, secondKey);
+  private final DbLong value = new DbLong();
+
+  private File dbDirectory;
+  private ZeebeDbFactory<DefaultColumnFamily> dbFactory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private ColumnFamily<DbCompositeKey<DbString, DbLong>, DbLong> columnFamily;
+
+  @Parameters(name = "{0}")
+  public static Object[] profiles() {
+    return ColumnFamilyProfile.values();
+  }
+
+  @Before
+  public void setup() throws Exception {
+    dbDirectory = temporaryFolder.newFolder();
+    dbFactory =
+        ZeebeRocksDbFactory.newFactory(
+            DefaultColumnFamily.class,
+            new RocksDbConfiguration<DefaultColumnFamily>()
+                .setProfiles(columnFamily -> profile)
+                .setBlockCacheSize(8 * 1024 * 1024));
+    openDb();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldOnlyUseMemtableBloomFilterWithPrefixExtractor() throws Exception {
+    // given
+    final List<AutoCloseable> closeables = new ArrayList<>();
+    final LRUCache blockCache = new LRUCache(1024 * 1024);
+
+    try {
+      // when
+      final ColumnFamilyOptions options = profile.createColumnFamilyOptions(blockCache, closeables);
+
+      // then - without a prefix extractor, the memtable prefix bloom filter is never used
+      if (options.memtablePrefixBloomSizeRatio() > 0) {
+        assertThat(profile.getPrefixLength()).isPositive();
+      }
+    } finally {
+      // the options are added last and have to be closed before the resources they depend on
+      for (int i = closeables.size() - 1; i >= 0; i--) {
+        closeables.get(i).close();
+      }
+      blockCache.close();
+    }
+  }
+
+  @Test
+  public void shouldIterateOverPrefixLongerThanExtractor() throws Exception {
+    // given
+    put("first-prefix", 1);
+    put("first-prefix", 2);
+    put("second-prefix", 3);
+    reopenDb();
+
+    // when
+    firstKey.wrapString("first-prefix");
+    final List<Long> visited = new ArrayList<>();
+    columnFamily.whileEqualPrefix(
+        firstKey,
+        (key, value) -> {
+          visited.add(value.getValue());
+        });
+
+    // then
+    assertThat(visited).containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldIterateOverPrefixShorterThanExtractor() throws Exception {
+    // given - the serialized prefix is shorter than a fixed prefix of eight bytes
+    put("a", 1);
+    put("a", 2);
+    put("ab", 3);
+    reopenDb();
+
+    // when
+    firstKey.wrapString("a");
+    final List<Long> visited = new ArrayList<>();
+    columnFamily.whileEqualPrefix(
+        firstKey,
+        (key, value) -> {
+          visited.add(value.getValue());
+        });
+
+    // then
+    assertThat(visited).containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldGetValueByKey() throws Exception {
+    // given
+    put("first-prefix", 1);
+    put("second-prefix", 2);
+    reopenDb();
+
+    // when
+    firstKey.wrapString("second-prefix");
+    secondKey.wrapLong(2);
+    final DbLong result = columnFamily.get(compositeKey);
+
+    // then
+    assertThat(result.getValue()).isEqualTo(2L);
+    firstKey.wrapString("third-prefix");
+    assertThat(columnFamily.exists(compositeKey)).isFalse();
+  }
+
+  @Test
+  public void shouldIterateOverAllKeys() throws Exception {
+    // given
+    put("a", 1);
+    put("first-prefix", 2);
+    put("second-prefix", 3);
+    reopenDb();
+
+    // when
+    final List<Long> visited = new ArrayList<>();
+    columnFamily.forEach(
+        (key, value) -> {
+          visited.add(value.getValue());
+        });
+
+    // then
+    assertThat(visited).containsExactly(1L, 2L, 3L);
+  }
+
+  private void put(final String prefix, final long suffix) {
+    firstKey.wrapString(prefix);
+    secondKey.wrapLong(suffix);
+    value.wrapLong(suffix);
+    columnFamily.put(compositeKey, value);
+  }
+
+  /** Reopening flushes the recovered writes into files, which are then read with the filters. */
+  private void reopenDb() throws Exception {
+    zeebeDb.close();
+    openDb();
+  }
+
+  private void openDb() {
+    zeebeDb = dbFactory.createDb(dbDirectory);
+    columnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), compositeKey, value);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.impl.DbCompositeKey;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DefaultColumnFamily;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.agrona.IoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the latency of {@link ColumnFamily#whileEqualPrefix} when every scan runs in its own
+ * transaction, and therefore creates a new iterator, with scans which run in one transaction and
+ * reuse the iterator of the column family. The latency is reported per scan. It is not run as part
+ * of the build; run it with the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(IteratorReuseBenchmark.SCANS_PER_TRANSACTION)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class IteratorReuseBenchmark {
+
+  static final int SCANS_PER_TRANSACTION = 50;
+
+  @Param("100000")
+  public int prefixCount;
+
+  @Param("5")
+  public int entriesPerPrefix;
+
+  private final DbLong prefix = new DbLong();
+  private final DbLong suffix = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> key = new DbCompositeKey<>(prefix, suffix);
+  private final DbLong value = new DbLong();
+  private final Random random = new Random(1);
+
+  private File directory;
+  private ZeebeDb<DefaultColumnFamily> db;
+  private DbContext context;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+
+  public static void main(final String[] args) throws Exception {
+    final var options =
+        new OptionsBuilder().include(IteratorReuseBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("iterator-reuse").toFile();
+    db = ZeebeRocksDbFactory.newFactory(DefaultColumnFamily.class).createDb(directory);
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+    fill();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    IoUtil.delete(directory, true);
+  }
+
+  @Benchmark
+  public void newIteratorPerScan(final Blackhole blackhole) {
+    scan(blackhole);
+  }
+
+  @Benchmark
+  public void reusedIterator(final Blackhole blackhole) throws Exception {
+    context.getCurrentTransaction().run(() -> scan(blackhole));
+    context.getCurrentTransaction().commit();
+  }
+
+  private void fill() {
+    for (int i = 0; i < prefixCount; i++) {
+      prefix.wrapLong(i);
+      for (int j = 0; j < entriesPerPrefix; j++) {
+        suffix.wrapLong(j);
+        value.wrapLong(j);
+        columnFamily.put(key, value);
+      }
+    }
+  }
+
+  private void scan(final Blackhole blackhole) {
+    for (int i = 0; i < SCANS_PER_TRANSACTION; i++) {
+      prefix.wrapLong(random.nextInt(prefixCount));
+      columnFamily.whileEqualPrefix(prefix, (k, v) -> blackhole.consume(v.getValue()));
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.DbCompositeKey;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DefaultColumnFamily;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.agrona.IoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the latency of {@link ColumnFamily#whileEqualPrefix} between the column family profiles,
+ * for prefixes which exist and for prefixes which do not, e.g. scopes without variables. It is not
+ * run as part of the build; run it with the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class WhileEqualPrefixBenchmark {
+
+  private static final long BLOCK_CACHE_SIZE = 64 * 1024 * 1024;
+
+  @Param public ColumnFamilyProfile profile;
+
+  @Param("100000")
+  public int prefixCount;
+
+  @Param("5")
+  public int entriesPerPrefix;
+
+  private final DbLong prefix = new DbLong();
+  private final DbLong suffix = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> key = new DbCompositeKey<>(prefix, suffix);
+  private final DbLong value = new DbLong();
+  private final Random random = new Random(1);
+
+  private File directory;
+  private ZeebeDb<DefaultColumnFamily> db;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+
+  public static void main(final String[] args) throws Exception {
+    final var options =
+        new OptionsBuilder().include(WhileEqualPrefixBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("while-equal-prefix").toFile();
+    final ZeebeDbFactory<DefaultColumnFamily> factory =
+        ZeebeRocksDbFactory.newFactory(
+            DefaultColumnFamily.class,
+            new RocksDbConfiguration<DefaultColumnFamily>()
+                .setProfiles(type -> profile)
+                .setBlockCacheSize(BLOCK_CACHE_SIZE));
+
+    try (final ZeebeDb<DefaultColumnFamily> db = factory.createDb(directory)) {
+      fill(createColumnFamily(db));
+    }
+
+    // reopening flushes all entries into files, which is where the filters take effect
+    db = factory.createDb(directory);
+    columnFamily = createColumnFamily(db);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    IoUtil.delete(directory, true);
+  }
+
+  @Benchmark
+  public void existingPrefix(final Blackhole blackhole) {
+    prefix.wrapLong(random.nextInt(prefixCount) * 2L);
+    columnFamily.whileEqualPrefix(prefix, (k, v) -> blackhole.consume(v.getValue()));
+  }
+
+  @Benchmark
+  public void missingPrefix(final Blackhole blackhole) {
+    prefix.wrapLong(random.nextInt(prefixCount) * 2L + 1);
+    columnFamily.whileEqualPrefix(prefix, (k, v) -> blackhole.consume(v.getValue()));
+  }
+
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> createColumnFamily(
+      final ZeebeDb<DefaultColumnFamily> db) {
+    return db.createColumnFamily(DefaultColumnFamily.DEFAULT, db.createContext(), key, value);
+  }
+
+  private void fill(final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily) {
+    for (int i = 0; i < prefixCount; i++) {
+      prefix.wrapLong(i * 2L);
+      for (int j = 0; j < entriesPerPrefix; j++) {
+        suffix.wrapLong(j);
+        value.wrapLong(j);
+        columnFamily.put(key, value);
+      }
+    }
+  }
+}
@@ -8,6 +8,7 @@
 package io.zeebe.db.impl.rocksdb;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
@@ -58,4 +59,31 @@ public final class ZeebeRocksDbFactoryTest {
     firstDb.close();
     secondDb.close();
   }
+
+  @Test
+  public void shouldCreateNewDbWithColumnFamilyProfiles() throws Exception {
+    // given
+    final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+        ZeebeRocksDbFactory.newFactory(
+            DefaultColumnFamily.class,
+            new RocksDbConfiguration<DefaultColumnFamily>()
+                .setProfiles(columnFamily -> ColumnFamilyProfile.PREFIX_SCAN)
+                .setBlockCacheSize(1024));
+
+    final File pathName = temporaryFolder.newFolder();
+
+    // when
+    final ZeebeDb<DefaultColumnFamily> db = dbFactory.createDb(pathName);
+
+    // then
+    assertThat(pathName.listFiles()).isNotEmpty();
+    db.close();
+  }
+
+  @Test
+  public void shouldRejectNonPositiveBlockCacheSize() {
+    // when - then
+    assertThatThrownBy(() -> new RocksDbConfiguration<DefaultColumnFamily>().setBlockCacheSize(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
 }
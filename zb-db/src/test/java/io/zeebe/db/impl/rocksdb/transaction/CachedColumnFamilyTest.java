@@ -0,0 +1,204 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.prometheus.client.CollectorRegistry;
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbTransaction;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DefaultColumnFamily;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.io.File;
+import java.util.Collections;
+import org.agrona.ExpandableArrayBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class CachedColumnFamilyTest {
+
+  private static final long CACHE_SIZE = 1024;
+  private static final int PARTITION_ID = 1;
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private DbContext dbContext;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+
+  @Before
+  public void setup() throws Exception {
+    final File pathName = temporaryFolder.newFolder();
+    zeebeDb =
+        ZeebeRocksDbFactory.newFactory(
+                DefaultColumnFamily.class,
+                new RocksDbConfiguration<DefaultColumnFamily>()
+                    .setPartitionId(PARTITION_ID)
+                    .setCacheSizes(
+                        Collections.singletonMap(DefaultColumnFamily.DEFAULT, CACHE_SIZE)))
+            .createDb(pathName);
+    dbContext = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, dbContext, key, value);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldCreateCachedColumnFamily() {
+    assertThat(columnFamily).isInstanceOf(CachedColumnFamily.class);
+  }
+
+  @Test
+  public void shouldServeRepeatedLookupsFromCache() {
+    // given
+    put(1, 10);
+    final double hitsBefore = getLookups("hit");
+
+    // when
+    assertThat(get(1)).isEqualTo(10L);
+    assertThat(get(1)).isEqualTo(10L);
+    assertThat(exists(1)).isTrue();
+
+    // then
+    assertThat(getLookups("hit") - hitsBefore).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldReturnValueOfLatestPut() {
+    // given
+    put(1, 10);
+    get(1);
+
+    // when
+    put(1, 20);
+
+    // then
+    assertThat(get(1)).isEqualTo(20L);
+  }
+
+  @Test
+  public void shouldNotReturnDeletedValue() {
+    // given
+    put(1, 10);
+    get(1);
+
+    // when
+    key.wrapLong(1);
+    columnFamily.delete(key);
+
+    // then
+    assertThat(get(1)).isNull();
+    assertThat(exists(1)).isFalse();
+  }
+
+  @Test
+  public void shouldNotCacheUncommittedValues() throws Exception {
+    // given
+    put(1, 10);
+    get(1);
+
+    // when
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          put(1, 20);
+          assertThat(get(1)).isEqualTo(20L);
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(get(1)).isEqualTo(10L);
+  }
+
+  @Test
+  public void shouldCacheValuesAgainAfterCommit() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(() -> put(1, 20));
+    transaction.commit();
+    get(1);
+    final double hitsBefore = getLookups("hit");
+
+    // when
+    assertThat(get(1)).isEqualTo(20L);
+
+    // then
+    assertThat(getLookups("hit") - hitsBefore).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedValues() {
+    // given
+    final int entrySize = 2 * Long.BYTES;
+    final ColumnFamilyCache cache =
+        new ColumnFamilyCache(2 * entrySize, new ColumnFamilyCacheMetrics(PARTITION_ID, "test"));
+    cache.put(serialize(1), Long.BYTES, value(10));
+    cache.put(serialize(2), Long.BYTES, value(20));
+    cache.get(serialize(1), Long.BYTES);
+
+    // when
+    cache.put(serialize(3), Long.BYTES, value(30));
+
+    // then
+    assertThat(cache.size()).isEqualTo(2 * entrySize);
+    assertThat(cache.get(serialize(1), Long.BYTES)).isNotNull();
+    assertThat(cache.get(serialize(2), Long.BYTES)).isNull();
+    assertThat(cache.get(serialize(3), Long.BYTES)).isNotNull();
+  }
+
+  private static byte[] serialize(final long key) {
+    final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer(Long.BYTES);
+    value(key).write(buffer, 0);
+    return buffer.byteArray();
+  }
+
+  private static DbLong value(final long value) {
+    final DbLong dbLong = new DbLong();
+    dbLong.wrapLong(value);
+    return dbLong;
+  }
+
+  private static double getLookups(final String result) {
+    final Double lookups =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_db_cache_lookups_total",
+            new String[] {"partition", "columnFamily", "result"},
+            new String[] {String.valueOf(PARTITION_ID), "default", result});
+    return lookups == null ? 0 : lookups;
+  }
+
+  private void put(final long key, final long value) {
+    this.key.wrapLong(key);
+    this.value.wrapLong(value);
+    columnFamily.put(this.key, this.value);
+  }
+
+  private Long get(final long key) {
+    this.key.wrapLong(key);
+    final DbLong value = columnFamily.get(this.key);
+    return value != null ? value.getValue() : null;
+  }
+
+  private boolean exists(final long key) {
+    this.key.wrapLong(key);
+    return columnFamily.exists(this.key);
+  }
+}
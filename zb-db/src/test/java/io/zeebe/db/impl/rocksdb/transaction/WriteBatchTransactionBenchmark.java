@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbTransaction;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DefaultColumnFamily;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.zeebe.db.impl.rocksdb.TransactionMode;
+import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.agrona.IoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the throughput of the {@link TransactionMode}s for transactions like the ones of the
+ * stream processor, where every processed command reads and writes a few keys and is committed on
+ * its own. It is not run as part of the build; run it with the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class WriteBatchTransactionBenchmark {
+
+  @Param public TransactionMode transactionMode;
+
+  @Param("10")
+  public int writesPerTransaction;
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  private File directory;
+  private ZeebeDb<DefaultColumnFamily> db;
+  private DbContext context;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private long nextKey;
+
+  public static void main(final String[] args) throws Exception {
+    final var options =
+        new OptionsBuilder().include(WriteBatchTransactionBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("write-batch-transaction").toFile();
+    db =
+        ZeebeRocksDbFactory.newFactory(
+                DefaultColumnFamily.class,
+                new RocksDbConfiguration<DefaultColumnFamily>().setTransactionMode(transactionMode))
+            .createDb(directory);
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    db.close();
+    IoUtil.delete(directory, true);
+  }
+
+  @Benchmark
+  public void processCommand(final Blackhole blackhole) throws Exception {
+    final ZeebeDbTransaction transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          final long firstKey = nextKey;
+          for (int i = 0; i < writesPerTransaction; i++) {
+            key.wrapLong(nextKey);
+            value.wrapLong(nextKey);
+            columnFamily.put(key, value);
+            nextKey++;
+          }
+
+          // read the own writes and remove the entries of the previous command, like completed
+          // element instances are removed
+          key.wrapLong(firstKey);
+          blackhole.consume(columnFamily.get(key));
+          final long previousFirstKey = Math.max(0, firstKey - writesPerTransaction);
+          for (long previousKey = previousFirstKey; previousKey < firstKey; previousKey++) {
+            key.wrapLong(previousKey);
+            columnFamily.delete(key);
+          }
+        });
+    transaction.commit();
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbTransaction;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DefaultColumnFamily;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.zeebe.db.impl.rocksdb.TransactionMode;
+import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class WriteBatchTransactionTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private DbContext dbContext;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+
+  @Before
+  public void setup() throws Exception {
+    final File pathName = temporaryFolder.newFolder();
+    zeebeDb =
+        ZeebeRocksDbFactory.newFactory(
+                DefaultColumnFamily.class,
+                new RocksDbConfiguration<DefaultColumnFamily>()
+                    .setTransactionMode(TransactionMode.WRITE_BATCH))
+            .createDb(pathName);
+    dbContext = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, dbContext, key, value);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldReadOwnWritesBeforeCommit() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          put(1, 10);
+          put(2, 20);
+          delete(2);
+        });
+
+    // then
+    transaction.run(
+        () -> {
+          assertThat(get(1)).isEqualTo(10L);
+          assertThat(exists(2)).isFalse();
+        });
+    transaction.commit();
+  }
+
+  @Test
+  public void shouldNotExposeWritesToOtherContextsBeforeCommit() throws Exception {
+    // given
+    final DbContext otherContext = zeebeDb.createContext();
+    final DbLong otherKey = new DbLong();
+    final ColumnFamily<DbLong, DbLong> otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, otherContext, otherKey, new DbLong());
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(() -> put(1, 10));
+    otherKey.wrapLong(1);
+
+    // when - then
+    assertThat(otherColumnFamily.exists(otherKey)).isFalse();
+    transaction.commit();
+    assertThat(otherColumnFamily.exists(otherKey)).isTrue();
+  }
+
+  @Test
+  public void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    put(1, 10);
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          put(1, 11);
+          put(2, 20);
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(get(1)).isEqualTo(10L);
+    assertThat(exists(2)).isFalse();
+  }
+
+  @Test
+  public void shouldIterateOverBatchAndDatabase() throws Exception {
+    // given
+    put(1, 10);
+    put(3, 30);
+    final List<Long> values = new ArrayList<>();
+
+    // when
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          put(2, 20);
+          delete(3);
+          columnFamily.forEach((k, v) -> values.add(v.getValue()));
+        });
+    transaction.commit();
+
+    // then
+    assertThat(values).containsExactly(10L, 20L);
+  }
+
+  @Test
+  public void shouldSeeWritesAfterScanInSameTransaction() throws Exception {
+    // given
+    put(1, 10);
+    final List<Long> values = new ArrayList<>();
+
+    // when
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          columnFamily.forEach((k, v) -> {});
+          put(2, 20);
+          columnFamily.forEach((k, v) -> values.add(v.getValue()));
+        });
+    transaction.commit();
+
+    // then
+    assertThat(values).containsExactly(10L, 20L);
+  }
+
+  @Test
+  public void shouldCreateSnapshot() throws Exception {
+    // given
+    put(1, 10);
+    final File snapshotDir = new File(temporaryFolder.newFolder(), "snapshot");
+
+    // when
+    zeebeDb.createSnapshot(snapshotDir);
+
+    // then
+    try (final ZeebeDb<DefaultColumnFamily> snapshotDb =
+        ZeebeRocksDbFactory.newFactory(
+                DefaultColumnFamily.class,
+                new RocksDbConfiguration<DefaultColumnFamily>()
+                    .setTransactionMode(TransactionMode.WRITE_BATCH))
+            .createDb(snapshotDir)) {
+      final DbLong snapshotKey = new DbLong();
+      final ColumnFamily<DbLong, DbLong> snapshotColumnFamily =
+          snapshotDb.createColumnFamily(
+              DefaultColumnFamily.DEFAULT, snapshotDb.createContext(), snapshotKey, new DbLong());
+      snapshotKey.wrapLong(1);
+      assertThat(snapshotColumnFamily.get(snapshotKey).getValue()).isEqualTo(10L);
+    }
+  }
+
+  private void put(final long k, final long v) {
+    key.wrapLong(k);
+    value.wrapLong(v);
+    columnFamily.put(key, value);
+  }
+
+  private void delete(final long k) {
+    key.wrapLong(k);
+    columnFamily.delete(key);
+  }
+
+  private long get(final long k) {
+    key.wrapLong(k);
+    return columnFamily.get(key).getValue();
+  }
+
+  private boolean exists(final long k) {
+    key.wrapLong(k);
+    return columnFamily.exists(key);
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.zeebe.db.ColumnFamily;
 import io.zeebe.db.DbContext;
 import io.zeebe.db.ZeebeDbFactory;
@@ -16,6 +18,8 @@ import io.zeebe.db.impl.DbNil;
 import io.zeebe.db.impl.DefaultColumnFamily;
 import io.zeebe.db.impl.DefaultZeebeDbFactory;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Before;
 import org.junit.Rule;
@@ -35,6 +39,7 @@ public final class ZeebeRocksDbIterationTest {
   private DbLong firstKey;
   private DbLong secondKey;
   private DbCompositeKey<DbLong, DbLong> compositeKey;
+  private DbContext dbContext;
 
   @Before
   public void setup() throws Exception {
@@ -44,9 +49,10 @@ public final class ZeebeRocksDbIterationTest {
     firstKey = new DbLong();
     secondKey = new DbLong();
     compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+    dbContext = zeebeDb.createContext();
     columnFamily =
         zeebeDb.createColumnFamily(
-            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), compositeKey, DbNil.INSTANCE);
+            DefaultColumnFamily.DEFAULT, dbContext, compositeKey, DbNil.INSTANCE);
   }
 
   @Test
@@ -81,4 +87,169 @@ public final class ZeebeRocksDbIterationTest {
     // then
     Mockito.verify(spyIterator.get(), Mockito.times((int) suffixes)).next();
   }
+
+  @Test
+  public void shouldReuseIteratorWithinTransaction() throws Exception {
+    // given
+    put(1, 1);
+    put(2, 1);
+
+    // when
+    dbContext
+        .getCurrentTransaction()
+        .run(
+            () -> {
+              firstKey.wrapLong(1);
+              columnFamily.whileEqualPrefix(firstKey, (key, value) -> {});
+              firstKey.wrapLong(2);
+              columnFamily.whileEqualPrefix(firstKey, (key, value) -> {});
+              columnFamily.forEach((key, value) -> {});
+            });
+    dbContext.getCurrentTransaction().commit();
+
+    // then - one iterator for the prefix scans and one for the total order scan
+    Mockito.verify(zeebeDb, Mockito.times(2))
+        .newIterator(
+            Mockito.anyLong(), Mockito.any(DbContext.class), Mockito.any(ReadOptions.class));
+  }
+
+  @Test
+  public void shouldSeeWritesOfTransactionWithReusedIterator() throws Exception {
+    // given
+    put(1, 1);
+    final List<Long> suffixes = new ArrayList<>();
+
+    // when
+    dbContext
+        .getCurrentTransaction()
+        .run(
+            () -> {
+              firstKey.wrapLong(1);
+              columnFamily.whileEqualPrefix(firstKey, (key, value) -> {});
+
+              put(1, 2);
+              firstKey.wrapLong(1);
+              columnFamily.whileEqualPrefix(
+                  firstKey,
+                  (key, value) -> {
+                    suffixes.add(key.getSecond().getValue());
+                  });
+            });
+    dbContext.getCurrentTransaction().commit();
+
+    // then
+    assertThat(suffixes).containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldNotReuseIteratorAfterWriteInTransaction() throws Exception {
+    // given
+    put(1, 1);
+
+    // when
+    dbContext
+        .getCurrentTransaction()
+        .run(
+            () -> {
+              firstKey.wrapLong(1);
+              columnFamily.whileEqualPrefix(firstKey, (key, value) -> {});
+              put(1, 2);
+              firstKey.wrapLong(1);
+              columnFamily.whileEqualPrefix(firstKey, (key, value) -> {});
+            });
+    dbContext.getCurrentTransaction().commit();
+
+    // then
+    Mockito.verify(zeebeDb, Mockito.times(2))
+        .newIterator(
+            Mockito.anyLong(), Mockito.any(DbContext.class), Mockito.any(ReadOptions.class));
+  }
+
+  @Test
+  public void shouldSeeWritesOfScanInNextScan() throws Exception {
+    // given
+    put(1, 1);
+    put(1, 2);
+    final List<Long> suffixes = new ArrayList<>();
+
+    // when
+    dbContext
+        .getCurrentTransaction()
+        .run(
+            () -> {
+              firstKey.wrapLong(1);
+              columnFamily.whileEqualPrefix(firstKey, (key, value) -> columnFamily.delete(key));
+
+              put(1, 3);
+              firstKey.wrapLong(1);
+              columnFamily.whileEqualPrefix(
+                  firstKey, (key, value) -> suffixes.add(key.getSecond().getValue()));
+            });
+    dbContext.getCurrentTransaction().commit();
+
+    // then
+    assertThat(suffixes).containsExactly(3L);
+  }
+
+  @Test
+  public void shouldSeeCommittedWritesInNextTransaction() throws Exception {
+    // given
+    put(1, 1);
+    dbContext
+        .getCurrentTransaction()
+        .run(
+            () -> {
+              firstKey.wrapLong(1);
+              columnFamily.whileEqualPrefix(firstKey, (key, value) -> {});
+            });
+    dbContext.getCurrentTransaction().commit();
+    put(1, 2);
+
+    // when
+    final List<Long> suffixes = new ArrayList<>();
+    firstKey.wrapLong(1);
+    columnFamily.whileEqualPrefix(
+        firstKey,
+        (key, value) -> {
+          suffixes.add(key.getSecond().getValue());
+        });
+
+    // then
+    assertThat(suffixes).containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldNotShareIteratorWithNestedScan() throws Exception {
+    // given
+    put(1, 1);
+    put(1, 2);
+    put(2, 1);
+    final List<Long> visited = new ArrayList<>();
+
+    // when
+    dbContext
+        .getCurrentTransaction()
+        .run(
+            () ->
+                columnFamily.forEach(
+                    (key, value) -> {
+                      final long prefix = key.getFirst().getValue();
+                      visited.add(prefix);
+
+                      final DbLong nestedPrefix = new DbLong();
+                      nestedPrefix.wrapLong(prefix);
+                      columnFamily.whileEqualPrefix(nestedPrefix, (k, v) -> {});
+                      columnFamily.forEach((k, v) -> {});
+                    }));
+    dbContext.getCurrentTransaction().commit();
+
+    // then
+    assertThat(visited).containsExactly(1L, 1L, 2L);
+  }
+
+  private void put(final long prefix, final long suffix) {
+    firstKey.wrapLong(prefix);
+    secondKey.wrapLong(suffix);
+    columnFamily.put(compositeKey, DbNil.INSTANCE);
+  }
 }